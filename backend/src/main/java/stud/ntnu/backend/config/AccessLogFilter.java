@@ -0,0 +1,148 @@
+package stud.ntnu.backend.config;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes one structured access log line per HTTP request, with the endpoint the request was mapped
+ * to, its status and its latency:
+ * <pre>
+ * method=GET endpoint=/api/public/poi/{id} path=/api/public/poi/3 status=200 latency_ms=4.218
+ *     reason=sampled
+ * </pre>
+ * Failed requests (status 500 and above, or an exception escaping the handler) and requests slower
+ * than the slow threshold are always logged. The remaining requests are sampled, so that the access
+ * log stays cheap under load. The {@code reason} field tells which rule selected the line, and the
+ * sampled lines are to be weighted by the inverse of the sample rate when aggregated.
+ * <p>
+ * The line is only built once a request is selected, and written at INFO through the asynchronous
+ * appender, so the request thread never waits for the console.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(AccessLogFilter.class);
+
+  /**
+   * Whether access logging is enabled.
+   */
+  private final boolean enabled;
+
+  /**
+   * Fraction of successful requests, faster than the slow threshold, that are logged.
+   */
+  private final double sampleRate;
+
+  /**
+   * Latency in nanoseconds from which a request is always logged.
+   */
+  private final long slowThresholdNanos;
+
+  /**
+   * Constructs the access log filter.
+   *
+   * @param enabled         whether access logging is enabled
+   * @param sampleRate      fraction of successful requests, faster than the slow threshold, that
+   *                        are logged, between 0 and 1
+   * @param slowThresholdMs latency in milliseconds from which a request is always logged
+   */
+  public AccessLogFilter(
+      @Value("${access-log.enabled:true}") boolean enabled,
+      @Value("${access-log.sample-rate:1.0}") double sampleRate,
+      @Value("${access-log.slow-threshold-ms:1000}") long slowThresholdMs) {
+    this.enabled = enabled;
+    this.sampleRate = sampleRate;
+    this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    // Scrapes and health checks would otherwise dominate the log
+    return !enabled || !log.isInfoEnabled() || request.getRequestURI().startsWith("/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    long start = System.nanoTime();
+    Throwable failure = null;
+    try {
+      filterChain.doFilter(request, response);
+    } catch (IOException | ServletException | RuntimeException e) {
+      failure = e;
+      throw e;
+    } finally {
+      long latencyNanos = System.nanoTime() - start;
+      int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+          : response.getStatus();
+      String reason = reason(status, latencyNanos, failure);
+      if (reason != null) {
+        log.info(line(request, status, latencyNanos, reason, failure));
+      }
+    }
+  }
+
+  /**
+   * Decides whether a request is logged.
+   *
+   * @param status       the response status
+   * @param latencyNanos the latency of the request in nanoseconds
+   * @param failure      the exception escaping the handler, or null
+   * @return "error", "slow" or "sampled" if the request is logged, otherwise null
+   */
+  String reason(int status, long latencyNanos, Throwable failure) {
+    if (failure != null || status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+      return "error";
+    }
+    if (latencyNanos >= slowThresholdNanos) {
+      return "slow";
+    }
+    if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+      return "sampled";
+    }
+    return null;
+  }
+
+  /**
+   * Builds the access log line of a request. The query string is left out, since it may carry
+   * tokens.
+   *
+   * @param request      the handled request
+   * @param status       the response status
+   * @param latencyNanos the latency of the request in nanoseconds
+   * @param reason       the rule that selected the request
+   * @param failure      the exception escaping the handler, or null
+   * @return the access log line
+   */
+  private static String line(HttpServletRequest request, int status, long latencyNanos,
+      String reason, Throwable failure) {
+    Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    StringBuilder line = new StringBuilder(160)
+        .append("method=").append(request.getMethod())
+        .append(" endpoint=").append(endpoint != null ? endpoint : "UNKNOWN")
+        .append(" path=").append(request.getRequestURI())
+        .append(" status=").append(status)
+        .append(" latency_ms=").append(TimeUnit.NANOSECONDS.toMicros(latencyNanos) / 1000.0)
+        .append(" reason=").append(reason);
+    if (failure != null) {
+      line.append(" error=").append(failure.getClass().getName());
+    }
+    return line.toString();
+  }
+}
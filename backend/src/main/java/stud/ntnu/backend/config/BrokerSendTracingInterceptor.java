@@ -0,0 +1,68 @@
+package stud.ntnu.backend.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Traces the messages the application sends to the message broker, such as the crisis area
+ * updates and notifications sent with {@code SimpMessagingTemplate}. Each send made within a trace
+ * gets a {@code stomp send} span tagged with its destination, covering the hand-off to the simple
+ * broker or the broker relay. Sends made outside a trace are not traced.
+ * <p>
+ * The broker channel has no executor, so a send is handled on the sending thread and its span is
+ * kept in a thread local between {@link #preSend} and {@link #afterSendCompletion}.
+ */
+@Component
+public class BrokerSendTracingInterceptor implements ChannelInterceptor {
+
+  /**
+   * Span of the send in progress on the current thread.
+   */
+  private final ThreadLocal<Span> sendSpan = new ThreadLocal<>();
+
+  /**
+   * Tracer creating the send spans.
+   */
+  private final Tracer tracer;
+
+  /**
+   * Constructs the broker send tracing interceptor.
+   *
+   * @param tracer tracer creating the send spans
+   */
+  public BrokerSendTracingInterceptor(Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    if (tracer.currentSpan() != null) {
+      String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+      sendSpan.set(tracer.nextSpan()
+          .name("stomp send")
+          .tag("messaging.destination", destination != null ? destination : "UNKNOWN")
+          .start());
+    }
+    return message;
+  }
+
+  @Override
+  public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent,
+      Exception ex) {
+    Span span = sendSpan.get();
+    if (span == null) {
+      return;
+    }
+    sendSpan.remove();
+    if (ex != null) {
+      span.error(ex);
+    }
+    span.end();
+  }
+}
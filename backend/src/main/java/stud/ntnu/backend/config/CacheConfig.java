@@ -0,0 +1,80 @@
+package stud.ntnu.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Configuration class for the application's in-memory caches. Each cache is registered by name with
+ * its own size bound and expiry, so that entries which are not explicitly evicted are still
+ * refreshed eventually.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  /**
+   * Cache of group readiness metrics, keyed by group ID.
+   */
+  public static final String GROUP_READINESS_CACHE = "groupReadiness";
+
+  /**
+   * Cache of group membership checks, keyed by group ID and user email. Entries expire quickly so
+   * that membership changes not announced by an event are picked up soon.
+   */
+  public static final String GROUP_MEMBERSHIP_CACHE = "groupMembership";
+
+  /**
+   * Cache of the households whose shared content is visible to a household, keyed by household ID.
+   */
+  public static final String VISIBLE_HOUSEHOLDS_CACHE = "visibleHouseholds";
+
+  /**
+   * Cache of the answer key of a quiz, mapping each question to the correctness of its answers,
+   * keyed by quiz ID.
+   */
+  public static final String QUIZ_ANSWER_KEY_CACHE = "quizAnswerKey";
+
+  /**
+   * Cache of the content snapshot of a quiz, with its questions and answers, keyed by quiz ID.
+   */
+  public static final String QUIZ_CONTENT_CACHE = "quizContent";
+
+  /**
+   * Creates the cache manager with all named caches of the application.
+   *
+   * @return the cache manager
+   */
+  @Bean
+  public CacheManager cacheManager() {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.setAllowNullValues(false);
+    cacheManager.registerCustomCache(GROUP_READINESS_CACHE, Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .build());
+    cacheManager.registerCustomCache(GROUP_MEMBERSHIP_CACHE, Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(Duration.ofSeconds(30))
+        .build());
+    cacheManager.registerCustomCache(VISIBLE_HOUSEHOLDS_CACHE, Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .build());
+    cacheManager.registerCustomCache(QUIZ_ANSWER_KEY_CACHE, Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build());
+    cacheManager.registerCustomCache(QUIZ_CONTENT_CACHE, Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build());
+    return cacheManager;
+  }
+}
@@ -0,0 +1,193 @@
+package stud.ntnu.backend.config;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.Principal;
+import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.Model;
+import org.springframework.validation.Errors;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * Renders controller arguments and results for the debug logs. Objects are rendered as JSON with
+ * the values of sensitive fields replaced, and every rendered value is truncated to a maximum
+ * length. A field, or a scalar argument, is sensitive if its name is one of the redacted names,
+ * ignoring case. The names are matched exactly, so {@code code} does not cover {@code postalCode}
+ * and every sensitive variant, such as {@code newPassword}, has to be listed.
+ * <p>
+ * Rendering builds a JSON tree of the whole value, so callers must only render once the log level
+ * is known to be enabled.
+ */
+@Component
+public class LogPayloadRenderer {
+
+  /**
+   * Replacement of the values of sensitive fields.
+   */
+  static final String REDACTED = "***";
+
+  /**
+   * Mapper used to render objects as JSON.
+   */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Maximum number of characters of a rendered value.
+   */
+  private final int maxLength;
+
+  /**
+   * Lower-case names whose fields and arguments are redacted.
+   */
+  private final Set<String> redactedNames;
+
+  /**
+   * Constructs the payload renderer.
+   *
+   * @param objectMapper  mapper used to render objects as JSON
+   * @param maxLength     maximum number of characters of a rendered value
+   * @param redactedNames names whose fields and arguments are redacted
+   */
+  public LogPayloadRenderer(ObjectMapper objectMapper,
+      @Value("${access-log.payload.max-length:512}") int maxLength,
+      @Value("${access-log.payload.redacted-fields:password,oldPassword,newPassword,"
+          + "confirmNewPassword,token,resetToken,refreshToken,recaptchaToken,secret,code,"
+          + "verificationCode,resetCode}")
+      List<String> redactedNames) {
+    this.objectMapper = objectMapper;
+    this.maxLength = maxLength;
+    this.redactedNames = redactedNames.stream()
+        .map(name -> name.trim().toLowerCase(Locale.ROOT))
+        .filter(name -> !name.isEmpty())
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Renders the arguments of a method call as {@code [name=value, ...]}.
+   *
+   * @param names the parameter names, or null if they are not known
+   * @param args  the arguments
+   * @return the rendered arguments
+   */
+  public String renderArguments(String[] names, Object[] args) {
+    StringBuilder rendered = new StringBuilder("[");
+    for (int i = 0; i < args.length; i++) {
+      String name = names != null && i < names.length ? names[i] : "arg" + i;
+      if (i > 0) {
+        rendered.append(", ");
+      }
+      rendered.append(name).append('=').append(render(name, args[i]));
+    }
+    return rendered.append(']').toString();
+  }
+
+  /**
+   * Renders a value. Framework objects are reduced to a short description, scalars are rendered as
+   * text and other objects as JSON, with sensitive fields redacted.
+   *
+   * @param name  the name of the argument or field holding the value
+   * @param value the value
+   * @return the rendered value
+   */
+  public String render(String name, Object value) {
+    if (value == null) {
+      return "null";
+    }
+    if (isRedacted(name)) {
+      return REDACTED;
+    }
+    if (value instanceof Principal principal) {
+      return "Principal[" + principal.getName() + "]";
+    }
+    if (value instanceof MultipartFile file) {
+      return "MultipartFile[" + file.getOriginalFilename() + ", " + file.getSize() + " bytes]";
+    }
+    if (value instanceof ResponseEntity<?> entity) {
+      return "ResponseEntity[" + entity.getStatusCode().value() + ", "
+          + render("body", entity.getBody()) + "]";
+    }
+    if (value instanceof ServletRequest || value instanceof ServletResponse
+        || value instanceof Errors || value instanceof Model
+        || value instanceof InputStream || value instanceof OutputStream) {
+      return value.getClass().getSimpleName();
+    }
+    if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+        || value instanceof Enum<?> || value instanceof TemporalAccessor
+        || value instanceof Pageable) {
+      return truncate(value.toString());
+    }
+    try {
+      JsonNode tree = objectMapper.valueToTree(value);
+      redact(tree);
+      return truncate(tree.toString());
+    } catch (RuntimeException e) {
+      // Entities with lazy or circular associations cannot always be serialized
+      return value.getClass().getSimpleName();
+    }
+  }
+
+  /**
+   * Truncates a text to the maximum length, noting the length of the full text.
+   *
+   * @param text the text, may be null
+   * @return the truncated text
+   */
+  public String truncate(String text) {
+    if (text == null) {
+      return "null";
+    }
+    if (text.length() <= maxLength) {
+      return text;
+    }
+    return text.substring(0, maxLength) + "...(" + text.length() + " chars)";
+  }
+
+  /**
+   * Replaces the values of the sensitive fields of a JSON tree.
+   *
+   * @param node the JSON tree
+   */
+  private void redact(JsonNode node) {
+    if (node.isObject()) {
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        if (isRedacted(field.getKey())) {
+          field.setValue(TextNode.valueOf(REDACTED));
+        } else {
+          redact(field.getValue());
+        }
+      }
+    } else if (node.isArray()) {
+      node.forEach(this::redact);
+    }
+  }
+
+  /**
+   * Checks whether the value of an argument or field is sensitive.
+   *
+   * @param name the name of the argument or field, may be null
+   * @return true if the value must be redacted
+   */
+  private boolean isRedacted(String name) {
+    return name != null && redactedNames.contains(name.toLowerCase(Locale.ROOT));
+  }
+}
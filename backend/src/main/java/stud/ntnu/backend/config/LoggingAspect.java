@@ -1,25 +1,22 @@
 package stud.ntnu.backend.config;
 
-import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.bind.annotation.RequestBody;
-
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
-import java.util.stream.Collectors;
 
 /**
- * Aspect for logging execution of all Spring MVC controller methods. This aspect logs: 1. All API
- * requests received from the frontend 2. All responses sent back to the frontend, including error
- * information 3. All errors that occur during request processing
+ * Aspect for logging the calls of all Spring MVC controller methods at debug level: the arguments
+ * of each call at DEBUG, and its result at TRACE. Arguments and results are rendered by
+ * {@link LogPayloadRenderer}, which redacts sensitive fields and truncates long payloads.
+ * <p>
+ * Nothing is rendered unless the level of this logger is enabled, so with the default INFO level
+ * the aspect costs a single level check per call. The status and latency of every request are
+ * logged by {@link AccessLogFilter}.
  */
 @Aspect
 @Component
@@ -27,6 +24,20 @@ public class LoggingAspect {
 
   private final Logger log = LoggerFactory.getLogger(this.getClass());
 
+  /**
+   * Renderer of the arguments and results of the controller methods.
+   */
+  private final LogPayloadRenderer payloadRenderer;
+
+  /**
+   * Constructs the logging aspect.
+   *
+   * @param payloadRenderer renderer of the arguments and results of the controller methods
+   */
+  public LoggingAspect(LogPayloadRenderer payloadRenderer) {
+    this.payloadRenderer = payloadRenderer;
+  }
+
   /**
    * Pointcut that matches all REST controllers in the application.
    */
@@ -36,135 +47,34 @@ public class LoggingAspect {
   }
 
   /**
-   * Advice that logs when a controller method is entered and exited. This logs both the request and
-   * the response.
+   * Advice that logs the arguments of a controller method at DEBUG, and its result or exception
+   * once it returns.
    *
    * @param joinPoint join point for advice
    * @return result
-   * @throws Throwable throws IllegalArgumentException
+   * @throws Throwable the exception thrown by the controller method
    */
   @Around("controllerPointcut()")
   public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-    // Log the request
-    logRequest(joinPoint);
+    if (!log.isDebugEnabled()) {
+      return joinPoint.proceed();
+    }
+
+    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    String endpoint = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+    log.debug("controller={} args={}", endpoint,
+        payloadRenderer.renderArguments(signature.getParameterNames(), joinPoint.getArgs()));
 
     try {
-      // Execute the method and get the result
       Object result = joinPoint.proceed();
-
-      // Log the response
-      logResponse(joinPoint, result);
-
+      if (log.isTraceEnabled()) {
+        log.trace("controller={} result={}", endpoint, payloadRenderer.render("result", result));
+      }
       return result;
     } catch (Exception e) {
-      // Log the error and rethrow
-      String className = joinPoint.getSignature().getDeclaringTypeName();
-      String methodName = joinPoint.getSignature().getName();
-
-      log.error(
-          "\n┌─────────────────────────────────────────────────────────────────────────────┐" +
-              "\n│ API PROCESSING ERROR                                                         │" +
-              "\n├─────────────────────────────────────────────────────────────────────────────┤" +
-              "\n│ Endpoint: {}.{}()                                                           " +
-              "\n│ Error: {}                                                                   " +
-              "\n└─────────────────────────────────────────────────────────────────────────────┘",
-          className, methodName, e.getMessage());
+      log.debug("controller={} error={} message={}", endpoint, e.getClass().getName(),
+          payloadRenderer.truncate(e.getMessage()));
       throw e;
     }
   }
-
-  /**
-   * Advice that logs when a controller method throws an exception.
-   *
-   * @param joinPoint join point for advice
-   * @param e         exception
-   */
-  @AfterThrowing(pointcut = "controllerPointcut()", throwing = "e")
-  public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-    String className = joinPoint.getSignature().getDeclaringTypeName();
-    String methodName = joinPoint.getSignature().getName();
-    String cause = e.getCause() != null ? e.getCause().toString() : "NULL";
-
-    log.error("\n┌─────────────────────────────────────────────────────────────────────────────┐" +
-            "\n│ API EXCEPTION THROWN                                                         │" +
-            "\n├─────────────────────────────────────────────────────────────────────────────┤" +
-            "\n│ Endpoint: {}.{}()                                                           " +
-            "\n│ Exception: {}                                                               " +
-            "\n│ Cause: {}                                                                   " +
-            "\n└─────────────────────────────────────────────────────────────────────────────┘",
-        className, methodName, e.getClass().getName(), cause);
-  }
-
-  /**
-   * Log the request details.
-   *
-   * @param joinPoint the join point
-   */
-  private void logRequest(JoinPoint joinPoint) {
-    String className = joinPoint.getSignature().getDeclaringTypeName();
-    String methodName = joinPoint.getSignature().getName();
-
-    // Extract request body parameters if available
-    String requestParams = extractRequestParams(joinPoint);
-
-    log.info("\n┌─────────────────────────────────────────────────────────────────────────────┐" +
-            "\n│ API REQUEST RECEIVED                                                         │" +
-            "\n├─────────────────────────────────────────────────────────────────────────────┤" +
-            "\n│ Endpoint: {}.{}()                                                           " +
-            "\n│ Parameters: [{}]                                                            " +
-            "\n└─────────────────────────────────────────────────────────────────────────────┘",
-        className, methodName, requestParams);
-  }
-
-  /**
-   * Log the response details.
-   *
-   * @param joinPoint the join point
-   * @param result    the result of the method execution
-   */
-  private void logResponse(JoinPoint joinPoint, Object result) {
-    String className = joinPoint.getSignature().getDeclaringTypeName();
-    String methodName = joinPoint.getSignature().getName();
-
-    boolean isError = false;
-    String status = "SUCCESS";
-    String statusCode = "";
-
-    if (result instanceof ResponseEntity) {
-      ResponseEntity<?> responseEntity = (ResponseEntity<?>) result;
-      isError = responseEntity.getStatusCode().isError();
-      statusCode = responseEntity.getStatusCode().toString();
-      status = isError ? "ERROR" : "SUCCESS";
-    }
-
-    String headerTitle = isError ? "API RESPONSE ERROR" : "API RESPONSE SUCCESS";
-
-    log.info("\n┌─────────────────────────────────────────────────────────────────────────────┐" +
-            "\n│ {}{}│" +
-            "\n├─────────────────────────────────────────────────────────────────────────────┤" +
-            "\n│ Endpoint: {}.{}()                                                           " +
-            "\n│ Status: {}                                                                  " +
-            (statusCode.isEmpty() ? ""
-                : "\n│ Status Code: {}                                                             ") +
-            "\n└─────────────────────────────────────────────────────────────────────────────┘",
-        headerTitle, " ".repeat(Math.max(0, 75 - headerTitle.length())),
-        className, methodName, status, statusCode);
-  }
-
-  /**
-   * Extract request parameters from the join point.
-   *
-   * @param joinPoint the join point
-   * @return a string representation of the request parameters
-   */
-  private String extractRequestParams(JoinPoint joinPoint) {
-    Object[] args = joinPoint.getArgs();
-    if (args == null || args.length == 0) {
-      return "no parameters";
-    }
-
-    return Arrays.stream(args)
-        .map(arg -> arg == null ? "null" : arg.toString())
-        .collect(Collectors.joining(", "));
-  }
 }
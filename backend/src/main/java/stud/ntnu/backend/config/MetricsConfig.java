@@ -0,0 +1,53 @@
+package stud.ntnu.backend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of the application metrics beyond those bound by Spring Boot: the number of
+ * repository calls made per HTTP request. The metrics are listed in {@code docs/metrics.md}.
+ */
+@Configuration
+public class MetricsConfig {
+
+  /**
+   * Registers the filter recording the repository calls per request ahead of the security filters,
+   * so that the user lookups made during authentication are counted.
+   *
+   * @param meterRegistry registry the calls per request are recorded in
+   * @return the registration of the filter
+   */
+  @Bean
+  public FilterRegistrationBean<RepositoryCallMetricsFilter> repositoryCallMetricsFilter(
+      MeterRegistry meterRegistry) {
+    FilterRegistrationBean<RepositoryCallMetricsFilter> registration =
+        new FilterRegistrationBean<>(new RepositoryCallMetricsFilter(meterRegistry));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+    return registration;
+  }
+
+  /**
+   * Adds the listener counting the repository calls of each request to every repository.
+   *
+   * @return the post processor adding the listener to the repository factories
+   */
+  @Bean
+  public static BeanPostProcessor repositoryCallCountingPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+          factoryBean.addRepositoryFactoryCustomizer(factory ->
+              factory.addInvocationListener(RepositoryCallMetricsFilter.CALL_COUNTER));
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,84 @@
+package stud.ntnu.backend.config;
+
+import java.io.IOException;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the number of repository calls made while handling each HTTP request, tagged with the
+ * method and URI template of the request. A request calling repositories far more often than its
+ * peers is usually loading an association per row of a result.
+ * <p>
+ * The calls are counted by a repository invocation listener on the thread handling the request, so
+ * calls made by {@code @Async} listeners or other threads on behalf of the request are not included.
+ */
+public class RepositoryCallMetricsFilter extends OncePerRequestFilter {
+
+  /**
+   * Number of repository calls made by the request handled on the current thread, if any.
+   */
+  private static final ThreadLocal<int[]> CALLS = new ThreadLocal<>();
+
+  /**
+   * Listener counting the repository calls of the request handled on the current thread.
+   */
+  static final RepositoryMethodInvocationListener CALL_COUNTER = invocation -> {
+    int[] calls = CALLS.get();
+    if (calls != null) {
+      calls[0]++;
+    }
+  };
+
+  /**
+   * Registry the calls per request are recorded in.
+   */
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructs the filter.
+   *
+   * @param meterRegistry registry the calls per request are recorded in
+   */
+  public RepositoryCallMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    int[] calls = new int[1];
+    CALLS.set(calls);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      CALLS.remove();
+      DistributionSummary.builder("http.server.requests.repository.calls")
+          .description("Repository calls made while handling an HTTP request")
+          .tag("method", request.getMethod())
+          .tag("uri", uri(request))
+          .register(meterRegistry)
+          .record(calls[0]);
+    }
+  }
+
+  /**
+   * Returns the URI template the request was mapped to, so that requests for different resources
+   * of the same endpoint share their metrics.
+   *
+   * @param request the handled request
+   * @return the URI template, or "UNKNOWN" if the request was not mapped to a handler
+   */
+  private static String uri(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern != null ? pattern.toString() : "UNKNOWN";
+  }
+}
@@ -0,0 +1,81 @@
+package stud.ntnu.backend.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Wraps each call of a repository in a span named after the repository and the method, such as
+ * {@code UserRepository.findByEmail}, so that a trace shows the time spent in each query. Calls
+ * made outside a trace, such as those of the startup loaders, are not traced.
+ * <p>
+ * The tracer is looked up on the first call, since repositories are created before the tracing
+ * infrastructure.
+ */
+public class RepositoryTracingInterceptor implements MethodInterceptor {
+
+  /**
+   * Simple name of the repository interface.
+   */
+  private final String repositoryName;
+
+  /**
+   * Provider of the tracer creating the repository spans.
+   */
+  private final ObjectProvider<Tracer> tracerProvider;
+
+  /**
+   * Tracer creating the repository spans, once looked up.
+   */
+  private volatile Tracer tracer;
+
+  /**
+   * Constructs the repository tracing interceptor.
+   *
+   * @param repositoryName simple name of the repository interface
+   * @param tracerProvider provider of the tracer creating the repository spans
+   */
+  public RepositoryTracingInterceptor(String repositoryName,
+      ObjectProvider<Tracer> tracerProvider) {
+    this.repositoryName = repositoryName;
+    this.tracerProvider = tracerProvider;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Tracer currentTracer = tracer();
+    if (currentTracer.currentSpan() == null) {
+      return invocation.proceed();
+    }
+
+    Span span = currentTracer.nextSpan()
+        .name(repositoryName + "." + invocation.getMethod().getName())
+        .tag("repository", repositoryName)
+        .start();
+    try (Tracer.SpanInScope scope = currentTracer.withSpan(span)) {
+      return invocation.proceed();
+    } catch (Throwable e) {
+      span.error(e);
+      throw e;
+    } finally {
+      span.end();
+    }
+  }
+
+  /**
+   * Returns the tracer, looking it up on the first call.
+   *
+   * @return the tracer, or a no-op tracer if tracing is not configured
+   */
+  private Tracer tracer() {
+    Tracer currentTracer = tracer;
+    if (currentTracer == null) {
+      currentTracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+      tracer = currentTracer;
+    }
+    return currentTracer;
+  }
+}
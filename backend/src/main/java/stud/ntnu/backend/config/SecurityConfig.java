@@ -2,6 +2,7 @@ package stud.ntnu.backend.config;
 
 import java.util.Arrays;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -50,10 +51,18 @@ public class SecurityConfig {
   private final UserDetailsService userDetailsService;
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+  /**
+   * <h3>Management Port</h3>
+   * <p>The internal port serving the actuator endpoints, or -1 if they share the server port.</p>
+   */
+  private final int managementPort;
+
   public SecurityConfig(UserDetailsService userDetailsService,
-      JwtAuthenticationFilter jwtAuthenticationFilter) {
+      JwtAuthenticationFilter jwtAuthenticationFilter,
+      @Value("${management.server.port:-1}") int managementPort) {
     this.userDetailsService = userDetailsService;
     this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+    this.managementPort = managementPort;
   }
 
   /**
@@ -117,6 +126,11 @@ public class SecurityConfig {
                 // Specific public endpoints
                 .requestMatchers("/api/user/confirm-safety").permitAll()
 
+                // Metrics, scraped without credentials on the internal management port only
+                .requestMatchers(request -> request.getLocalPort() == managementPort
+                    && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                .requestMatchers("/actuator/**").hasRole("SUPERADMIN")
+
                 // Authenticated user endpoints
                 .requestMatchers("/api/user/**").authenticated()
                 .requestMatchers("/topic/**", "/app/**").authenticated()
@@ -0,0 +1,133 @@
+package stud.ntnu.backend.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import stud.ntnu.backend.service.user.NotificationDeliveryService;
+
+/**
+ * Detects the notification subscribers that cannot keep up with the messages sent to them. A
+ * session whose send exceeds the limits configured in {@link WebSocketConfig} is closed with
+ * {@link CloseStatus#SESSION_NOT_RELIABLE}, losing the messages buffered for it. When that happens
+ * to a session subscribed to the notification topics of a user, the user is marked for resync in
+ * {@link NotificationDeliveryService}, and is sent a resync hint once a session subscribes to the
+ * user's batch topic again.
+ * <p>
+ * The sessions are matched to users through their subscriptions to
+ * {@code /topic/notifications/{userId}}, since clients connect without a principal. The
+ * subscriptions and resync marks are kept on the node holding the session.
+ */
+@Component
+public class SlowConsumerTracker {
+
+  /**
+   * Prefix of the notification topics of the users.
+   */
+  private static final String NOTIFICATION_TOPIC_PREFIX = "/topic/notifications/";
+
+  /**
+   * IDs of the users whose notification topics each session is subscribed to, keyed by session ID.
+   */
+  private final Map<String, Integer> sessionUsers = new ConcurrentHashMap<>();
+
+  /**
+   * Provider of the delivery service, which is created after the WebSocket configuration that
+   * depends on this component.
+   */
+  private final ObjectProvider<NotificationDeliveryService> notificationDeliveryService;
+
+  /**
+   * Constructs the slow consumer tracker.
+   *
+   * @param notificationDeliveryService provider of the service delivering the notifications
+   */
+  public SlowConsumerTracker(
+      ObjectProvider<NotificationDeliveryService> notificationDeliveryService) {
+    this.notificationDeliveryService = notificationDeliveryService;
+  }
+
+  /**
+   * Creates an interceptor for the client inbound channel that records the notification
+   * subscriptions of each session. A resync hint pending for the user is enqueued once the broker
+   * has registered the subscription to the batch topic, so that the hint is not sent before the
+   * client listens for it.
+   *
+   * @return the channel interceptor
+   */
+  public ChannelInterceptor channelInterceptor() {
+    return new ExecutorChannelInterceptor() {
+      @Override
+      public void afterMessageHandled(Message<?> message, MessageChannel channel,
+          MessageHandler handler, Exception ex) {
+        if (ex != null || !(handler instanceof AbstractBrokerMessageHandler)
+            || SimpMessageHeaderAccessor.getMessageType(message.getHeaders())
+            != SimpMessageType.SUBSCRIBE) {
+          return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        Integer userId = notificationUserId(destination);
+        if (userId == null || sessionId == null) {
+          return;
+        }
+        sessionUsers.put(sessionId, userId);
+        if (destination.equals(NOTIFICATION_TOPIC_PREFIX + userId + "/batch")) {
+          notificationDeliveryService.getObject().resyncIfMarked(userId);
+        }
+      }
+    };
+  }
+
+  /**
+   * Creates a decorator of the WebSocket handler that marks the user of a session for resync when
+   * the session is closed for exceeding the send limits.
+   *
+   * @return the WebSocket handler decorator factory
+   */
+  public WebSocketHandlerDecoratorFactory handlerDecoratorFactory() {
+    return handler -> new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionClosed(WebSocketSession session, CloseStatus status)
+          throws Exception {
+        Integer userId = sessionUsers.remove(session.getId());
+        if (userId != null && status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) {
+          notificationDeliveryService.getObject().markForResync(userId);
+        }
+        super.afterConnectionClosed(session, status);
+      }
+    };
+  }
+
+  /**
+   * Returns the ID of the user whose notification topic a destination is.
+   *
+   * @param destination the subscribed destination, such as {@code /topic/notifications/1/batch}
+   * @return the ID of the user, or null if the destination is not a notification topic
+   */
+  private static Integer notificationUserId(String destination) {
+    if (destination == null || !destination.startsWith(NOTIFICATION_TOPIC_PREFIX)) {
+      return null;
+    }
+    String userId = destination.substring(NOTIFICATION_TOPIC_PREFIX.length()).split("/", 2)[0];
+    try {
+      return Integer.valueOf(userId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package stud.ntnu.backend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.tracing.Tracer;
+import stud.ntnu.backend.service.user.NotificationDeliveryService;
+
+/**
+ * Configuration of the distributed tracing beyond the HTTP requests and scheduled tasks traced by
+ * Spring Boot: the propagation of the trace to the application task executor, a span per repository
+ * call, and the exclusion of the idle notification flushes. The messages sent to the broker are
+ * traced by {@link BrokerSendTracingInterceptor}. The resulting spans are listed in
+ * {@code docs/metrics.md}.
+ */
+@Configuration
+public class TracingConfig {
+
+  /**
+   * Carries the trace and the other thread local context of the submitting thread over to the tasks
+   * of the application task executor, which runs {@code @Async} methods and asynchronous requests.
+   *
+   * @return the task decorator applied by Spring Boot to the application task executor
+   */
+  @Bean
+  public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+    return new ContextPropagatingTaskDecorator();
+  }
+
+  /**
+   * Leaves the scheduled notification flushes out of the scheduled task observations, since they
+   * run ten times a second. The flushes that find messages pending are observed by
+   * {@link NotificationDeliveryService} itself.
+   *
+   * @return the predicate rejecting the scheduled flush observations
+   */
+  @Bean
+  public ObservationPredicate notificationFlushObservationPredicate() {
+    return (name, context) -> !(context instanceof ScheduledTaskObservationContext scheduled
+        && NotificationDeliveryService.class.isAssignableFrom(scheduled.getTargetClass()));
+  }
+
+  /**
+   * Adds the interceptor tracing the repository calls to every repository.
+   *
+   * @param tracerProvider provider of the tracer creating the repository spans
+   * @return the post processor adding the interceptor to the repository factories
+   */
+  @Bean
+  public static BeanPostProcessor repositoryTracingPostProcessor(
+      ObjectProvider<Tracer> tracerProvider) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+          factoryBean.addRepositoryFactoryCustomizer(factory ->
+              factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                  proxyFactory.addAdvice(new RepositoryTracingInterceptor(
+                      repositoryInformation.getRepositoryInterface().getSimpleName(),
+                      tracerProvider))));
+        }
+        return bean;
+      }
+    };
+  }
+}
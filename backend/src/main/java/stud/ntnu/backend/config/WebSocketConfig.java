@@ -1,10 +1,17 @@
 package stud.ntnu.backend.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * Configuration class for WebSocket messaging in the application. This class configures the
@@ -13,29 +20,273 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  *
  * <p>The configuration includes:
  * <ul>
- *   <li>Message broker setup for pub/sub messaging</li>
+ *   <li>Message broker setup for pub/sub messaging, either in-process or relayed</li>
+ *   <li>Sizing of the executors of the client inbound and outbound channels</li>
+ *   <li>Tracing of the messages the application sends to the broker</li>
+ *   <li>Per-session send limits that close the sessions of slow clients, whose users are told to
+ *       reload their notifications when they subscribe again</li>
  *   <li>STOMP endpoint registration for client connections</li>
  *   <li>CORS configuration for allowed origins</li>
  *   <li>SockJS fallback support for older browsers</li>
  * </ul>
+ *
+ * <p>The broker is selected with {@code websocket.broker.mode}. The default {@code simple} mode
+ * keeps subscriptions in memory, so messages only reach clients connected to the same node. The
+ * {@code relay} mode forwards subscriptions and messages to an external STOMP broker such as
+ * RabbitMQ or ActiveMQ Artemis, so that several nodes behind a load balancer share their topics.
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+  /**
+   * Broker mode: {@code simple} for the in-process broker or {@code relay} for an external STOMP
+   * broker.
+   */
+  @Value("${websocket.broker.mode:simple}")
+  private String brokerMode;
+
+  /**
+   * Host of the external STOMP broker.
+   */
+  @Value("${websocket.broker.relay.host:localhost}")
+  private String relayHost;
+
+  /**
+   * STOMP port of the external broker.
+   */
+  @Value("${websocket.broker.relay.port:61613}")
+  private int relayPort;
+
+  /**
+   * Login used for the broker connections of clients.
+   */
+  @Value("${websocket.broker.relay.client-login:guest}")
+  private String relayClientLogin;
+
+  /**
+   * Passcode used for the broker connections of clients.
+   */
+  @Value("${websocket.broker.relay.client-passcode:guest}")
+  private String relayClientPasscode;
+
+  /**
+   * Login used for the shared broker connection that the application sends messages on.
+   */
+  @Value("${websocket.broker.relay.system-login:guest}")
+  private String relaySystemLogin;
+
+  /**
+   * Passcode used for the shared broker connection that the application sends messages on.
+   */
+  @Value("${websocket.broker.relay.system-passcode:guest}")
+  private String relaySystemPasscode;
+
+  /**
+   * Virtual host of the external broker, or empty to use the relay host.
+   */
+  @Value("${websocket.broker.relay.virtual-host:}")
+  private String relayVirtualHost;
+
+  /**
+   * Interval in milliseconds at which the server sends heartbeats.
+   */
+  @Value("${websocket.heartbeat.send-interval-ms:10000}")
+  private long heartbeatSendInterval;
+
+  /**
+   * Interval in milliseconds at which the server expects heartbeats.
+   */
+  @Value("${websocket.heartbeat.receive-interval-ms:10000}")
+  private long heartbeatReceiveInterval;
+
+  /**
+   * Number of threads kept for handling messages from clients.
+   */
+  @Value("${websocket.channel.inbound.core-pool-size:8}")
+  private int inboundCorePoolSize;
+
+  /**
+   * Maximum number of threads for handling messages from clients.
+   */
+  @Value("${websocket.channel.inbound.max-pool-size:16}")
+  private int inboundMaxPoolSize;
+
+  /**
+   * Number of messages from clients queued before the pool grows beyond its core size.
+   */
+  @Value("${websocket.channel.inbound.queue-capacity:1000}")
+  private int inboundQueueCapacity;
+
+  /**
+   * Number of threads kept for writing messages to clients.
+   */
+  @Value("${websocket.channel.outbound.core-pool-size:16}")
+  private int outboundCorePoolSize;
+
+  /**
+   * Maximum number of threads for writing messages to clients.
+   */
+  @Value("${websocket.channel.outbound.max-pool-size:64}")
+  private int outboundMaxPoolSize;
+
+  /**
+   * Number of messages to clients queued before the pool grows beyond its core size.
+   */
+  @Value("${websocket.channel.outbound.queue-capacity:10000}")
+  private int outboundQueueCapacity;
+
+  /**
+   * Maximum time in milliseconds a single send to a client may take before the session is closed.
+   */
+  @Value("${websocket.transport.send-time-limit-ms:5000}")
+  private int sendTimeLimit;
+
+  /**
+   * Maximum number of bytes buffered for a client while a send is in progress before the session
+   * is closed.
+   */
+  @Value("${websocket.transport.send-buffer-size-limit:262144}")
+  private int sendBufferSizeLimit;
+
+  /**
+   * Maximum size in bytes of a message received from a client.
+   */
+  @Value("${websocket.transport.message-size-limit:65536}")
+  private int messageSizeLimit;
+
+  /**
+   * Metrics of the message broker, recorded by interceptors on the client channels.
+   */
+  private final WebSocketMetrics webSocketMetrics;
+
+  /**
+   * Interceptor tracing the messages the application sends to the broker.
+   */
+  private final BrokerSendTracingInterceptor brokerSendTracingInterceptor;
+
+  /**
+   * Tracker of the notification subscribers whose sessions are closed for being too slow.
+   */
+  private final SlowConsumerTracker slowConsumerTracker;
+
+  /**
+   * Scheduler sending the heartbeats of the simple broker.
+   */
+  private TaskScheduler messageBrokerTaskScheduler;
+
+  /**
+   * Constructs the WebSocket configuration.
+   *
+   * @param webSocketMetrics             metrics of the message broker
+   * @param brokerSendTracingInterceptor interceptor tracing the messages sent to the broker
+   * @param slowConsumerTracker          tracker of the subscribers closed for being too slow
+   */
+  public WebSocketConfig(WebSocketMetrics webSocketMetrics,
+      BrokerSendTracingInterceptor brokerSendTracingInterceptor,
+      SlowConsumerTracker slowConsumerTracker) {
+    this.webSocketMetrics = webSocketMetrics;
+    this.brokerSendTracingInterceptor = brokerSendTracingInterceptor;
+    this.slowConsumerTracker = slowConsumerTracker;
+  }
+
+  /**
+   * Sets the scheduler of the message broker, used to send heartbeats. It is injected lazily since
+   * it is created by the broker configuration that this class contributes to.
+   *
+   * @param messageBrokerTaskScheduler the message broker scheduler
+   */
+  @Autowired
+  public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+    this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+  }
+
   /**
    * Configures the message broker for WebSocket communication. Sets up the following:
    * <ul>
-   *   <li>Simple broker for pub/sub messaging on "/topic"</li>
+   *   <li>Simple broker or STOMP broker relay for pub/sub messaging on "/topic"</li>
+   *   <li>Heartbeats, so that dead connections are detected behind load balancers</li>
    *   <li>Application destination prefix for client-to-server messages on "/app"</li>
+   *   <li>Tracing of the sends on the broker channel</li>
    * </ul>
    *
    * @param config the MessageBrokerRegistry to configure
+   * @throws IllegalStateException if the broker mode is unknown
    */
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
-    config.enableSimpleBroker("/topic"); // where messages go out
+    switch (brokerMode) {
+      case "simple" -> config.enableSimpleBroker("/topic") // where messages go out
+          .setHeartbeatValue(new long[]{heartbeatSendInterval, heartbeatReceiveInterval})
+          .setTaskScheduler(messageBrokerTaskScheduler);
+      case "relay" -> {
+        StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+            .setRelayHost(relayHost)
+            .setRelayPort(relayPort)
+            .setClientLogin(relayClientLogin)
+            .setClientPasscode(relayClientPasscode)
+            .setSystemLogin(relaySystemLogin)
+            .setSystemPasscode(relaySystemPasscode)
+            .setSystemHeartbeatSendInterval(heartbeatSendInterval)
+            .setSystemHeartbeatReceiveInterval(heartbeatReceiveInterval);
+        if (!relayVirtualHost.isBlank()) {
+          relay.setVirtualHost(relayVirtualHost);
+        }
+      }
+      default -> throw new IllegalStateException(
+          "Unknown websocket.broker.mode '" + brokerMode + "', expected simple or relay");
+    }
     config.setApplicationDestinationPrefixes("/app"); // where messages come in
+    config.configureBrokerChannel().interceptors(brokerSendTracingInterceptor);
+  }
+
+  /**
+   * Sizes the executor handling messages from clients, records its handling times and the
+   * notification subscriptions of each session.
+   *
+   * @param registration the registration of the client inbound channel
+   */
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor()
+        .corePoolSize(inboundCorePoolSize)
+        .maxPoolSize(inboundMaxPoolSize)
+        .queueCapacity(inboundQueueCapacity);
+    registration.interceptors(webSocketMetrics.channelInterceptor("inbound"),
+        slowConsumerTracker.channelInterceptor());
+  }
+
+  /**
+   * Sizes the executor writing messages to clients and records its send latency. The pool is larger
+   * than the inbound one since a crisis alert fans out to every subscribed session.
+   *
+   * @param registration the registration of the client outbound channel
+   */
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor()
+        .corePoolSize(outboundCorePoolSize)
+        .maxPoolSize(outboundMaxPoolSize)
+        .queueCapacity(outboundQueueCapacity);
+    registration.interceptors(webSocketMetrics.channelInterceptor("outbound"));
+  }
+
+  /**
+   * Limits the time and memory a single client session may hold up. Messages for a session are
+   * buffered while a send to it is in progress; a session whose send takes longer than the send time
+   * limit, or whose buffer grows beyond the buffer size limit, is closed with status
+   * {@code SESSION_NOT_RELIABLE} (4500) so that other sessions are not starved. The messages
+   * buffered for it are lost, so {@link SlowConsumerTracker} marks its user for a resync hint,
+   * telling the client to reload its notifications once it reconnects.
+   *
+   * @param registration the registration of the WebSocket transport
+   */
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setSendTimeLimit(sendTimeLimit)
+        .setSendBufferSizeLimit(sendBufferSizeLimit)
+        .setMessageSizeLimit(messageSizeLimit)
+        .addDecoratorFactory(slowConsumerTracker.handlerDecoratorFactory());
   }
 
   /**
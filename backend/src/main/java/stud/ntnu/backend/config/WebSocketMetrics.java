@@ -0,0 +1,175 @@
+package stud.ntnu.backend.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes metrics of the WebSocket message broker of this node: the open sessions per transport,
+ * the broker relay connections, the backlog of the client channel executors and the time spent
+ * handling each message on the client channels. The outbound handling time is the time taken to
+ * write a message to a client session, so it is the send latency seen by subscribers.
+ * <p>
+ * The broker infrastructure is looked up when the metrics are read, since it is created after the
+ * channel interceptors that depend on this component.
+ */
+@Component
+public class WebSocketMetrics {
+
+  /**
+   * Registry the metrics are registered with.
+   */
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Statistics of the WebSocket sessions and the broker relay.
+   */
+  private final ObjectProvider<WebSocketMessageBrokerStats> brokerStats;
+
+  /**
+   * Executor of the channel carrying messages from clients.
+   */
+  private final ObjectProvider<Executor> inboundExecutor;
+
+  /**
+   * Executor of the channel carrying messages to clients.
+   */
+  private final ObjectProvider<Executor> outboundExecutor;
+
+  /**
+   * Constructs the WebSocket metrics and registers the session, relay and executor gauges.
+   *
+   * @param meterRegistry    registry the metrics are registered with
+   * @param brokerStats      statistics of the WebSocket sessions and the broker relay
+   * @param inboundExecutor  executor of the channel carrying messages from clients
+   * @param outboundExecutor executor of the channel carrying messages to clients
+   */
+  public WebSocketMetrics(MeterRegistry meterRegistry,
+      ObjectProvider<WebSocketMessageBrokerStats> brokerStats,
+      @Qualifier("clientInboundChannelExecutor") ObjectProvider<Executor> inboundExecutor,
+      @Qualifier("clientOutboundChannelExecutor") ObjectProvider<Executor> outboundExecutor) {
+    this.meterRegistry = meterRegistry;
+    this.brokerStats = brokerStats;
+    this.inboundExecutor = inboundExecutor;
+    this.outboundExecutor = outboundExecutor;
+
+    sessionGauge("websocket", SubProtocolWebSocketHandler.Stats::getWebSocketSessions);
+    sessionGauge("http_streaming", SubProtocolWebSocketHandler.Stats::getHttpStreamingSessions);
+    sessionGauge("http_polling", SubProtocolWebSocketHandler.Stats::getHttpPollingSessions);
+    FunctionCounter.builder("websocket.sessions.limit.exceeded", this, metrics ->
+            metrics.sessionStats(SubProtocolWebSocketHandler.Stats::getLimitExceededSessions))
+        .description("Sessions closed because they exceeded the send time or buffer limits")
+        .register(meterRegistry);
+    Gauge.builder("websocket.relay.connections", this, WebSocketMetrics::relayConnections)
+        .description("Open TCP connections to the STOMP broker relay")
+        .register(meterRegistry);
+    executorGauges("inbound", inboundExecutor);
+    executorGauges("outbound", outboundExecutor);
+  }
+
+  /**
+   * Creates an interceptor that records the time spent handling each message of a client channel
+   * as the {@code websocket.channel.handle} timer.
+   *
+   * @param channel the name of the channel, used as the {@code channel} tag
+   * @return the channel interceptor
+   */
+  public ChannelInterceptor channelInterceptor(String channel) {
+    Timer timer = Timer.builder("websocket.channel.handle")
+        .description("Time spent handling a message on a client channel")
+        .tag("channel", channel)
+        .register(meterRegistry);
+    return new ExecutorChannelInterceptor() {
+
+      private final ThreadLocal<Long> handleStart = new ThreadLocal<>();
+
+      @Override
+      public Message<?> beforeHandle(Message<?> message, MessageChannel messageChannel,
+          MessageHandler handler) {
+        handleStart.set(System.nanoTime());
+        return message;
+      }
+
+      @Override
+      public void afterMessageHandled(Message<?> message, MessageChannel messageChannel,
+          MessageHandler handler, Exception ex) {
+        Long start = handleStart.get();
+        if (start != null) {
+          timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          handleStart.remove();
+        }
+      }
+    };
+  }
+
+  private void sessionGauge(String transport,
+      ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+    Gauge.builder("websocket.sessions.active", this, metrics -> metrics.sessionStats(value))
+        .description("Open WebSocket sessions on this node")
+        .tag("transport", transport)
+        .register(meterRegistry);
+  }
+
+  private void executorGauges(String channel, ObjectProvider<Executor> executor) {
+    Gauge.builder("websocket.channel.queued", executor, provider -> {
+          ThreadPoolTaskExecutor threadPool = threadPool(provider);
+          return threadPool == null ? 0 : threadPool.getThreadPoolExecutor().getQueue().size();
+        })
+        .description("Messages waiting for a thread of a client channel executor")
+        .tag("channel", channel)
+        .register(meterRegistry);
+    Gauge.builder("websocket.channel.active.threads", executor, provider -> {
+          ThreadPoolTaskExecutor threadPool = threadPool(provider);
+          return threadPool == null ? 0 : threadPool.getActiveCount();
+        })
+        .description("Threads of a client channel executor that are handling a message")
+        .tag("channel", channel)
+        .register(meterRegistry);
+  }
+
+  private double sessionStats(ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+    WebSocketMessageBrokerStats stats = brokerStats.getIfAvailable();
+    if (stats == null || stats.getWebSocketSessionStats() == null) {
+      return 0;
+    }
+    return value.applyAsInt(stats.getWebSocketSessionStats());
+  }
+
+  private double relayConnections() {
+    WebSocketMessageBrokerStats stats = brokerStats.getIfAvailable();
+    if (stats == null || stats.getStompBrokerRelayStats() == null) {
+      return 0;
+    }
+    return stats.getStompBrokerRelayStats().getTotalHandlers();
+  }
+
+  private static ThreadPoolTaskExecutor threadPool(ObjectProvider<Executor> executor) {
+    if (executor.getIfAvailable() instanceof ThreadPoolTaskExecutor threadPool) {
+      try {
+        threadPool.getThreadPoolExecutor();
+        return threadPool;
+      } catch (IllegalStateException e) {
+        // Not initialized yet
+        return null;
+      }
+    }
+    return null;
+  }
+}
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.security.Principal;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -21,6 +22,7 @@ import stud.ntnu.backend.dto.map.UpdateCrisisEventDto;
 import stud.ntnu.backend.model.map.CrisisEvent;
 import stud.ntnu.backend.model.user.User;
 import stud.ntnu.backend.security.AdminChecker;
+import stud.ntnu.backend.service.crisis.CrisisAreaTopicService;
 import stud.ntnu.backend.service.crisis.CrisisEventService;
 import stud.ntnu.backend.service.user.UserService;
 import org.springframework.data.web.PageableDefault;
@@ -38,16 +40,20 @@ public class CrisisEventController {
 
   private final CrisisEventService crisisEventService;
   private final UserService userService;
+  private final CrisisAreaTopicService crisisAreaTopicService;
 
   /**
    * Constructs a new CrisisEventController with required services.
    *
-   * @param crisisEventService service for managing crisis events
-   * @param userService        service for managing users
+   * @param crisisEventService     service for managing crisis events
+   * @param userService            service for managing users
+   * @param crisisAreaTopicService service mapping positions to geographic crisis topics
    */
-  public CrisisEventController(CrisisEventService crisisEventService, UserService userService) {
+  public CrisisEventController(CrisisEventService crisisEventService, UserService userService,
+      CrisisAreaTopicService crisisAreaTopicService) {
     this.crisisEventService = crisisEventService;
     this.userService = userService;
+    this.crisisAreaTopicService = crisisAreaTopicService;
   }
 
   /**
@@ -329,6 +335,30 @@ public class CrisisEventController {
     }
   }
 
+  /**
+   * Gets the geographic WebSocket topics the current user should subscribe to for live crisis
+   * updates. The topics are derived from the user's home and household positions, and change when
+   * either position changes.
+   *
+   * @param principal the Principal object representing the current user
+   * @return ResponseEntity with the destinations of the user's area topics
+   */
+  @Operation(summary = "Get crisis area topics of current user", description = "Gets the geographic WebSocket topics covering the current user's home and household positions. Crisis creations, updates and deactivations are pushed to these topics, and clients check the epicenter and radius of each update against their own positions.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved area topics"),
+      @ApiResponse(responseCode = "400", description = "Bad request - user not found")
+  })
+  @GetMapping("/user/crisis-events/area-topics")
+  public ResponseEntity<Set<String>> getCrisisAreaTopicsOfCurrentUser(Principal principal) {
+    try {
+      User currentUser = userService.getUserByEmail(principal.getName())
+          .orElseThrow(() -> new IllegalStateException("User not found"));
+      return ResponseEntity.ok(crisisAreaTopicService.topicsForUser(currentUser));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
   /**
    * Search for crisis events by name.
    *
@@ -13,6 +13,7 @@ import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,11 +24,17 @@ import stud.ntnu.backend.dto.quiz.CreateQuizQuestionDto;
 import stud.ntnu.backend.dto.quiz.CreateUserQuizAnswerDto;
 import stud.ntnu.backend.dto.quiz.QuizAnswerDto;
 import stud.ntnu.backend.dto.quiz.QuizAnswerResponseDto;
+import stud.ntnu.backend.dto.quiz.QuizAttemptResultDto;
 import stud.ntnu.backend.dto.quiz.QuizAttemptSummaryDto;
+import stud.ntnu.backend.dto.quiz.QuizContentDto;
+import stud.ntnu.backend.dto.quiz.QuizLeaderboardEntryDto;
 import stud.ntnu.backend.dto.quiz.QuizPreviewDto;
 import stud.ntnu.backend.dto.quiz.QuizQuestionResponseDto;
+import stud.ntnu.backend.dto.quiz.QuizStatisticsDto;
+import stud.ntnu.backend.dto.quiz.SubmitQuizAttemptDto;
 import stud.ntnu.backend.security.AdminChecker;
 import stud.ntnu.backend.service.gamification.quiz.QuizService;
+import stud.ntnu.backend.service.gamification.quiz.QuizStatisticsService;
 import stud.ntnu.backend.service.user.UserService;
 
 /**
@@ -40,16 +47,20 @@ import stud.ntnu.backend.service.user.UserService;
 public class QuizController {
 
   private final QuizService quizService;
+  private final QuizStatisticsService quizStatisticsService;
   private final UserService userService;
 
   /**
    * Constructs a new QuizController with the required services.
    *
-   * @param quizService service handling quiz-related operations
-   * @param userService service handling user-related operations
+   * @param quizService           service handling quiz-related operations
+   * @param quizStatisticsService service handling quiz statistics and leaderboards
+   * @param userService           service handling user-related operations
    */
-  public QuizController(QuizService quizService, UserService userService) {
+  public QuizController(QuizService quizService, QuizStatisticsService quizStatisticsService,
+      UserService userService) {
     this.quizService = quizService;
+    this.quizStatisticsService = quizStatisticsService;
     this.userService = userService;
   }
 
@@ -89,17 +100,21 @@ public class QuizController {
   }
 
   /**
-   * Deletes a quiz and all its associated questions and answers. This endpoint is restricted to
-   * admin users only.
+   * Deletes a quiz and all its associated questions, answers and attempts. With {@code async} set,
+   * the quiz is archived immediately and its data is purged in the background. This endpoint is
+   * restricted to admin users only.
    *
    * @param quizId    the ID of the quiz to delete
+   * @param async     whether to purge the quiz in the background
    * @param principal the authenticated user's principal
-   * @return ResponseEntity with 200 OK if successful, or an error message
+   * @return ResponseEntity with 200 OK if deleted, 202 Accepted if the purge was scheduled, or an
+   *     error message
    * @throws IllegalArgumentException if the quiz doesn't exist
    */
-  @Operation(summary = "Delete quiz", description = "Deletes a quiz and all its associated questions and answers. This endpoint is restricted to admin users only.")
+  @Operation(summary = "Delete quiz", description = "Deletes a quiz and all its associated questions, answers and attempts. With async=true the quiz is archived immediately and purged in the background. This endpoint is restricted to admin users only.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Quiz deleted successfully"),
+      @ApiResponse(responseCode = "202", description = "Quiz archived and scheduled for deletion"),
       @ApiResponse(responseCode = "403", description = "Access forbidden - only administrators can delete quizzes", 
           content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string"))),
       @ApiResponse(responseCode = "400", description = "Bad request - quiz not found", 
@@ -108,11 +123,16 @@ public class QuizController {
           content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
   })
   @DeleteMapping("/quizzes/admin/{quiz_id}")
-  public ResponseEntity<?> deleteQuiz(@PathVariable("quiz_id") Long quizId, Principal principal) {
+  public ResponseEntity<?> deleteQuiz(@PathVariable("quiz_id") Long quizId,
+      @RequestParam(defaultValue = "false") boolean async, Principal principal) {
     try {
       if (!AdminChecker.isCurrentUserAdmin(principal, userService)) {
         return ResponseEntity.status(403).body("Forbidden");
       }
+      if (async) {
+        quizService.requestQuizPurge(quizId);
+        return ResponseEntity.accepted().build();
+      }
       quizService.deleteQuiz(quizId);
       return ResponseEntity.ok().build();
     } catch (IllegalArgumentException e) {
@@ -182,6 +202,68 @@ public class QuizController {
     }
   }
 
+  /**
+   * Retrieves the performance statistics of a quiz: its attempt count and average score, and how
+   * often each answer to each question has been selected. This endpoint is restricted to admin
+   * users only.
+   *
+   * @param quizId    the ID of the quiz
+   * @param principal the authenticated user's principal
+   * @return ResponseEntity containing the statistics of the quiz, or an error message
+   * @throws IllegalArgumentException if the quiz doesn't exist
+   */
+  @Operation(summary = "Get quiz statistics", description = "Retrieves the attempt count, average score and per-answer selection counts of a quiz. This endpoint is restricted to admin users only.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved quiz statistics",
+          content = @Content(schema = @Schema(implementation = QuizStatisticsDto.class))),
+      @ApiResponse(responseCode = "403", description = "Access forbidden - only administrators can view quiz statistics",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string"))),
+      @ApiResponse(responseCode = "400", description = "Bad request - quiz not found",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @GetMapping("/quizzes/admin/{quiz_id}/statistics")
+  public ResponseEntity<?> getQuizStatistics(@PathVariable("quiz_id") Long quizId,
+      Principal principal) {
+    try {
+      if (!AdminChecker.isCurrentUserAdmin(principal, userService)) {
+        return ResponseEntity.status(403).body("Forbidden");
+      }
+      return ResponseEntity.ok(quizStatisticsService.getQuizStatistics(quizId));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  /**
+   * Backfills the statistics of all quizzes from the recorded attempts and answers, repairing
+   * drifted counters and rebuilding the leaderboards. This endpoint is restricted to admin users
+   * only.
+   *
+   * @param principal the authenticated user's principal
+   * @return ResponseEntity containing the number of repaired quizzes and answers, or an error
+   *     message
+   */
+  @Operation(summary = "Backfill quiz statistics", description = "Recomputes the statistics of all quizzes from the recorded attempts and answers, and rebuilds the leaderboards. This endpoint is restricted to admin users only.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Statistics backfilled successfully"),
+      @ApiResponse(responseCode = "403", description = "Access forbidden - only administrators can backfill statistics",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string"))),
+      @ApiResponse(responseCode = "500", description = "Internal server error",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @PostMapping("/quizzes/admin/statistics/backfill")
+  public ResponseEntity<?> backfillQuizStatistics(Principal principal) {
+    try {
+      if (!AdminChecker.isCurrentUserAdmin(principal, userService)) {
+        return ResponseEntity.status(403).body("Forbidden");
+      }
+      int repaired = quizStatisticsService.backfillStatistics();
+      return ResponseEntity.ok(Collections.singletonMap("repairedCount", repaired));
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body("An unexpected error occurred");
+    }
+  }
+
   /**
    * Creates a new quiz question for an existing quiz. This endpoint is restricted to admin users
    * only.
@@ -423,6 +505,64 @@ public class QuizController {
     return ResponseEntity.ok(questions);
   }
 
+  /**
+   * Retrieves the full content of a quiz, its questions in position order with their possible
+   * answers, as one versioned snapshot. The version is sent as the ETag of the response, so clients
+   * revalidating with {@code If-None-Match} receive 304 Not Modified while the quiz is unchanged.
+   * This endpoint is accessible to all authenticated users.
+   *
+   * @param quizId the ID of the quiz to retrieve the content of
+   * @return ResponseEntity containing the content snapshot of the quiz, or an error message
+   * @throws IllegalArgumentException if the quiz doesn't exist
+   */
+  @Operation(summary = "Get quiz content", description = "Retrieves the questions of a quiz in position order together with their possible answers as one versioned snapshot. The version is returned as the ETag; requests with a matching If-None-Match header receive 304 Not Modified. This endpoint is accessible to all authenticated users.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved quiz content",
+          content = @Content(schema = @Schema(implementation = QuizContentDto.class))),
+      @ApiResponse(responseCode = "304", description = "Quiz content unchanged since the given ETag"),
+      @ApiResponse(responseCode = "400", description = "Bad request - quiz not found",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @GetMapping("/quizzes/user/{quiz_id}/content")
+  public ResponseEntity<?> getQuizContent(@PathVariable("quiz_id") Long quizId) {
+    try {
+      QuizContentDto content = quizService.getQuizContent(quizId);
+      return ResponseEntity.ok()
+          .eTag(content.getVersion())
+          .cacheControl(CacheControl.noCache().cachePrivate())
+          .body(content);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  /**
+   * Retrieves a page of the leaderboard of a quiz, ranking users by their best score. Users with
+   * equal scores are ranked by who reached the score first. This endpoint is accessible to all
+   * authenticated users.
+   *
+   * @param quizId   the ID of the quiz
+   * @param pageable pagination information including page number and size
+   * @return ResponseEntity containing the ranked leaderboard entries, or an error message
+   * @throws IllegalArgumentException if the quiz doesn't exist
+   */
+  @Operation(summary = "Get quiz leaderboard", description = "Retrieves a page of the leaderboard of a quiz, ranking users by their best score. This endpoint is accessible to all authenticated users.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved the leaderboard",
+          content = @Content(schema = @Schema(implementation = QuizLeaderboardEntryDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - quiz not found",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @GetMapping("/quizzes/user/{quiz_id}/leaderboard")
+  public ResponseEntity<?> getQuizLeaderboard(@PathVariable("quiz_id") Long quizId,
+      Pageable pageable) {
+    try {
+      return ResponseEntity.ok(quizStatisticsService.getLeaderboard(quizId, pageable));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
   /**
    * Retrieves all possible answers for a specific quiz question. This endpoint is accessible to all
    * authenticated users.
@@ -526,25 +666,31 @@ public class QuizController {
   }
 
   /**
-   * Records a user's answer to a quiz question during an attempt.
+   * Records a user's answer to a quiz question during one of the user's own attempts.
    *
-   * @param dto DTO containing the answer data (attempt ID, question ID, selected answers)
+   * @param dto       DTO containing the answer data (attempt ID, question ID, selected answers)
+   * @param principal the authenticated user
    * @return ResponseEntity with 200 OK if successful, or an error message
-   * @throws IllegalArgumentException if the attempt or question doesn't exist
+   * @throws IllegalArgumentException if the attempt doesn't exist or belongs to another user, or
+   *                                  the question is already answered in the attempt
    */
   @Operation(summary = "Submit quiz answer", description = "Records a user's answer to a quiz question during an attempt.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Answer recorded successfully"),
-      @ApiResponse(responseCode = "400", description = "Bad request - attempt or question not found", 
+      @ApiResponse(responseCode = "400", description = "Bad request - attempt not found or question already answered", 
           content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string"))),
       @ApiResponse(responseCode = "500", description = "Internal server error", 
           content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
   })
   @PostMapping("/quizzes/user/attempts/answer")
-  public ResponseEntity<?> createUserQuizAnswer(@RequestBody CreateUserQuizAnswerDto dto) {
+  public ResponseEntity<?> createUserQuizAnswer(@RequestBody CreateUserQuizAnswerDto dto,
+      Principal principal) {
     try {
+      // Retrieve the user ID from the authenticated user's email
+      Integer userId = userService.getUserIdByEmail(principal.getName());
+
       // Call the service method to create the user quiz answer
-      quizService.createUserQuizAnswer(dto);
+      quizService.createUserQuizAnswer(dto, userId);
 
       return ResponseEntity.ok().build();
     } catch (IllegalArgumentException e) {
@@ -554,6 +700,38 @@ public class QuizController {
     }
   }
 
+  /**
+   * Submits a whole quiz attempt for the authenticated user in one request. All answers are
+   * validated and stored together with the computed score, or none are stored at all.
+   *
+   * @param quizId    the ID of the quiz being attempted
+   * @param dto       DTO containing the selected answer for each answered question
+   * @param principal the authenticated user's principal
+   * @return ResponseEntity containing the attempt result if successful, or an error message
+   * @throws IllegalArgumentException if an answer does not match the quiz's questions
+   */
+  @Operation(summary = "Submit quiz attempt", description = "Submits all answers of a quiz attempt in one request and returns the score and the correctness of each answered question.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Quiz attempt submitted successfully", 
+          content = @Content(schema = @Schema(implementation = QuizAttemptResultDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - answers do not match the quiz", 
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string"))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", 
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @PostMapping("/quizzes/user/{quiz_id}/attempts/submit")
+  public ResponseEntity<?> submitQuizAttempt(@PathVariable("quiz_id") Long quizId,
+      @RequestBody SubmitQuizAttemptDto dto, Principal principal) {
+    try {
+      Integer userId = userService.getUserIdByEmail(principal.getName());
+      return ResponseEntity.ok(quizService.submitQuizAttempt(quizId, userId, dto));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body("An unexpected error occurred");
+    }
+  }
+
   /**
    * Retrieves a paginated list of quiz attempts for a specific quiz by the authenticated user.
    *
@@ -618,6 +796,37 @@ public class QuizController {
     }
   }
 
+  /**
+   * Retrieves the result of a quiz attempt made by the authenticated user, including the score and
+   * the correctness of each answered question.
+   *
+   * @param attemptId the ID of the quiz attempt to get the result for
+   * @param principal the authenticated user's principal
+   * @return ResponseEntity containing the attempt result if successful, or an error message
+   * @throws IllegalArgumentException if the attempt doesn't exist or belongs to another user
+   */
+  @Operation(summary = "Get quiz attempt result", description = "Retrieves the score and the correctness of each answered question for a quiz attempt made by the authenticated user.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved attempt result", 
+          content = @Content(schema = @Schema(implementation = QuizAttemptResultDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - attempt not found", 
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string"))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", 
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @GetMapping("/quizzes/user/attempts/{attempt_id}/result")
+  public ResponseEntity<?> getQuizAttemptResult(@PathVariable("attempt_id") Long attemptId,
+      Principal principal) {
+    try {
+      Integer userId = userService.getUserIdByEmail(principal.getName());
+      return ResponseEntity.ok(quizService.getQuizAttemptResult(attemptId, userId));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body("An unexpected error occurred");
+    }
+  }
+
   /**
    * Retrieves the most recent quiz attempt for the authenticated user.
    *
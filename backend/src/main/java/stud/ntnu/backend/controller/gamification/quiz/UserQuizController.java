@@ -68,11 +68,12 @@ public class UserQuizController {
   }
 
   /**
-   * Records a user's answer for a specific quiz question during an attempt.
+   * Records a user's answer for a specific quiz question during one of the user's own attempts.
    *
-   * @param dto the DTO containing attempt ID, quiz ID, question ID, and selected answer ID
+   * @param dto       the DTO containing attempt ID, quiz ID, question ID, and selected answer ID
+   * @param principal the Principal object representing the current user
    * @return ResponseEntity with: - 200 OK if answer recording is successful - 400 Bad Request with
-   * error message if recording fails
+   * error message if recording fails, such as when the question is already answered
    */
   @Operation(summary = "Submit quiz answer", description = "Records a user's answer for a specific quiz question during an attempt.")
   @ApiResponses(value = {
@@ -81,9 +82,11 @@ public class UserQuizController {
           content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
   })
   @PostMapping("/attempts/answer")
-  public ResponseEntity<?> createUserQuizAnswer(@RequestBody CreateUserQuizAnswerDto dto) {
+  public ResponseEntity<?> createUserQuizAnswer(@RequestBody CreateUserQuizAnswerDto dto,
+      Principal principal) {
     try {
-      userQuizService.createUserQuizAnswer(dto);
+      Integer userId = userService.getUserIdByEmail(principal.getName());
+      userQuizService.createUserQuizAnswer(dto, userId);
       return ResponseEntity.ok().build();
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(e.getMessage());
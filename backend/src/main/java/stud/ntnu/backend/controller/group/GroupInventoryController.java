@@ -16,7 +16,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import stud.ntnu.backend.dto.group.GroupReadinessDto;
 import stud.ntnu.backend.dto.inventory.AddBatchToGroupRequestDto;
+import stud.ntnu.backend.dto.inventory.GroupProductTypeTotalDto;
 import stud.ntnu.backend.dto.inventory.ProductBatchDto;
 import stud.ntnu.backend.dto.inventory.ProductTypeDto;
 import stud.ntnu.backend.service.group.GroupInventoryService;
@@ -78,6 +80,73 @@ public class GroupInventoryController {
     return ResponseEntity.ok(page);
   }
 
+  /**
+   * Retrieves the aggregated stock of the specified group per product type, including total units,
+   * number of batches and earliest expiration.
+   *
+   * @param groupId   The ID of the group to aggregate
+   * @param pageable  Pagination parameters (page number, size, sorting)
+   * @param principal The authenticated user making the request
+   * @return ResponseEntity containing a page of GroupProductTypeTotalDto objects, 400 Bad Request if
+   * groupId is null, or 403 Forbidden if the user's household is not a member of the group
+   */
+  @Operation(summary = "Get group inventory totals", description = "Retrieves the aggregated stock of the specified group per product type, computed in a single query.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved totals", 
+          content = @Content(schema = @Schema(implementation = GroupProductTypeTotalDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - groupId is null"),
+      @ApiResponse(responseCode = "403", description = "Forbidden - user is not a group member")
+  })
+  @GetMapping("/user/groups/inventory/totals")
+  public ResponseEntity<Page<GroupProductTypeTotalDto>> getProductTypeTotals(
+      @RequestParam Integer groupId,
+      Pageable pageable,
+      Principal principal) {
+    if (Objects.isNull(groupId)) {
+      return ResponseEntity.badRequest().build();
+    }
+    try {
+      Page<GroupProductTypeTotalDto> page = groupInventoryService.getProductTypeTotals(
+          groupId,
+          principal.getName(),
+          pageable);
+      return ResponseEntity.ok(page);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(403).build();
+    }
+  }
+
+  /**
+   * Retrieves the readiness metrics of the specified group: contributed water and calories, days of
+   * supply for the combined population of the member households, and units about to expire.
+   *
+   * @param groupId   The ID of the group
+   * @param principal The authenticated user making the request
+   * @return ResponseEntity containing the GroupReadinessDto, 400 Bad Request if groupId is null, or
+   * 403 Forbidden if the user's household is not a member of the group
+   */
+  @Operation(summary = "Get group readiness", description = "Retrieves the readiness metrics of the specified group, computed in a single aggregate query and cached per group.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved readiness",
+          content = @Content(schema = @Schema(implementation = GroupReadinessDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - groupId is null"),
+      @ApiResponse(responseCode = "403", description = "Forbidden - user is not a group member")
+  })
+  @GetMapping("/user/groups/inventory/readiness")
+  public ResponseEntity<GroupReadinessDto> getGroupReadiness(
+      @RequestParam Integer groupId,
+      Principal principal) {
+    if (Objects.isNull(groupId)) {
+      return ResponseEntity.badRequest().build();
+    }
+    try {
+      return ResponseEntity.ok(
+          groupInventoryService.getGroupReadiness(groupId, principal.getName()));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(403).build();
+    }
+  }
+
   /**
    * Retrieves all product batches of a specific type that are currently contributed to the
    * specified group.
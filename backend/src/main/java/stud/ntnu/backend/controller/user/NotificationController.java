@@ -7,12 +7,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -28,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import stud.ntnu.backend.dto.user.NotificationDto;
 import stud.ntnu.backend.dto.user.SystemNotificationCreateDto;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
 import stud.ntnu.backend.model.user.Notification;
 import stud.ntnu.backend.model.user.NotificationPreference;
 import stud.ntnu.backend.model.user.User;
@@ -101,6 +106,43 @@ public class NotificationController {
     }
   }
 
+  /**
+   * Retrieves a keyset page of the current user's notifications, newest first. The first page is
+   * requested without a cursor; each following page is requested with the notification time and ID
+   * of the last notification of the previous page.
+   *
+   * @param principal      the authenticated user's principal
+   * @param beforeNotifyAt the notification time of the last notification of the previous page
+   * @param beforeId       the ID of the last notification of the previous page
+   * @param pageable       pagination parameters; only the page size is used
+   * @return ResponseEntity containing a slice of NotificationDto objects, or 400 Bad Request if an
+   * error occurs
+   */
+  @Operation(summary = "Get notification inbox", description = "Retrieves a keyset page of the current user's notifications, newest first. Pass the notifyAt and id of the last notification as beforeNotifyAt and beforeId to get the next page.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications",
+          content = @Content(schema = @Schema(implementation = NotificationDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - user not found or incomplete cursor",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @GetMapping("/user/notifications/inbox")
+  public ResponseEntity<?> getInbox(Principal principal,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeNotifyAt,
+      @RequestParam(required = false) Integer beforeId,
+      Pageable pageable) {
+    try {
+      User user = userService.getUserByEmail(principal.getName())
+          .orElseThrow(() -> new IllegalStateException("User not found"));
+
+      Slice<NotificationDto> inbox = notificationService.getInbox(user.getId(), beforeNotifyAt,
+          beforeId, pageable.getPageSize()).map(NotificationDto::fromEntity);
+      return ResponseEntity.ok(inbox);
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
   /**
    * Marks a specific notification as read for the current user.
    *
@@ -138,23 +180,33 @@ public class NotificationController {
   }
 
   /**
-   * Marks all unread notifications as read for the current user.
+   * Marks all unread notifications as read for the current user. The notifications can be limited
+   * to those up to a notification ID or notification time, so that notifications arriving after the
+   * client fetched its list stay unread.
    *
-   * @param principal the authenticated user's principal
-   * @return ResponseEntity with status 200 OK if successful, or 400 Bad Request if an error occurs
+   * @param upToId       the ID of the newest notification to mark as read, optional
+   * @param upToNotifyAt the latest notification time to mark as read, optional
+   * @param principal    the authenticated user's principal
+   * @return ResponseEntity containing the number of notifications marked as read, or 400 Bad
+   * Request if an error occurs
    */
-  @Operation(summary = "Mark all notifications as read", description = "Marks all unread notifications as read for the current user.")
+  @Operation(summary = "Mark all notifications as read", description = "Marks all unread notifications as read for the current user, optionally only those up to a notification ID or time.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Successfully marked all notifications as read"),
       @ApiResponse(responseCode = "400", description = "Bad request - user not found or other error", 
           content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
   })
   @PatchMapping("/user/notifications/read-all")
-  public ResponseEntity<?> markAllAsRead(Principal principal) {
+  public ResponseEntity<?> markAllAsRead(
+      @RequestParam(required = false) Integer upToId,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime upToNotifyAt,
+      Principal principal) {
     try {
       String email = principal.getName();
-      notificationService.markAllNotificationsAsRead(email);
-      return ResponseEntity.ok().build();
+      int markedCount = notificationService.markAllNotificationsAsRead(email, upToId,
+          upToNotifyAt);
+      return ResponseEntity.ok(Map.of("markedCount", markedCount));
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(e.getMessage());
     }
@@ -185,6 +237,32 @@ public class NotificationController {
     }
   }
 
+  /**
+   * Retrieves the number of unread notifications of the current user. The count is also pushed to
+   * /topic/notifications/{userId}/unread-count whenever it changes, so clients only need this
+   * endpoint for the initial value.
+   *
+   * @param principal the authenticated user's principal
+   * @return ResponseEntity containing the unread notification count, or 400 Bad Request if an error
+   * occurs
+   */
+  @Operation(summary = "Get unread notification count", description = "Retrieves the number of unread notifications of the current user.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved unread notification count",
+          content = @Content(schema = @Schema(implementation = UnreadNotificationCountDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - user not found or other error",
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @GetMapping("/user/notifications/unread-count")
+  public ResponseEntity<?> unreadCount(Principal principal) {
+    try {
+      return ResponseEntity.ok(notificationService.getUnreadNotificationCount(
+          principal.getName()));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
   /**
    * Sends a notification to a specific WebSocket topic.
    *
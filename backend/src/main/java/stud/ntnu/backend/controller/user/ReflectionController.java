@@ -7,9 +7,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.security.Principal;
+import java.time.LocalDateTime;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -114,7 +118,7 @@ public class ReflectionController {
       User user = userService.getUserByEmail(principal.getName())
           .orElseThrow(() -> new IllegalStateException("User not found"));
       Page<ReflectionResponseDto> reflections = reflectionService.getSharedReflectionsVisibleToUser(
-          user.getId(), pageable);
+          user, pageable);
       return ResponseEntity.ok(reflections);
     } catch (Exception e) {
       return ResponseEntity.badRequest().build();
@@ -159,13 +163,14 @@ public class ReflectionController {
   }
 
   /**
-   * Retrieves all shared reflections from all groups the user's household is a member of.
+   * Retrieves a page of shared reflections from all groups the user's household is a member of,
+   * newest first. Large feeds are cheaper to read with {@link #getGroupReflectionFeed}.
    *
    * @param principal the authenticated user's principal
    * @param pageable  pagination parameters
    * @return ResponseEntity containing a page of group reflections
    */
-  @Operation(summary = "Get group reflections", description = "Retrieves all shared reflections from all groups the user's household is a member of.")
+  @Operation(summary = "Get group reflections", description = "Retrieves a page of shared reflections from all groups the user's household is a member of, newest first.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Successfully retrieved group reflections", 
           content = @Content(schema = @Schema(implementation = ReflectionResponseDto.class))),
@@ -189,6 +194,46 @@ public class ReflectionController {
     }
   }
 
+  /**
+   * Retrieves a keyset page of shared reflections from all groups the user's household is a member
+   * of, newest first. The first page is requested without a cursor; each following page is
+   * requested with the creation time and ID of the last reflection of the previous page. Unlike
+   * {@link #getGroupReflections}, no total is counted and the cost of a page does not grow with
+   * its position.
+   *
+   * @param principal       the authenticated user's principal
+   * @param beforeCreatedAt the creation time of the last reflection of the previous page
+   * @param beforeId        the ID of the last reflection of the previous page
+   * @param pageable        pagination parameters; only the page size is used
+   * @return ResponseEntity containing a slice of group reflections
+   */
+  @Operation(summary = "Get group reflection feed", description = "Retrieves a keyset page of shared reflections from all groups the user's household is a member of, newest first. Pass the createdAt and id of the last reflection as beforeCreatedAt and beforeId to get the next page.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Successfully retrieved group reflections", 
+          content = @Content(schema = @Schema(implementation = ReflectionResponseDto.class))),
+      @ApiResponse(responseCode = "400", description = "Bad request - user not found or incomplete cursor", 
+          content = @Content(mediaType = MediaType.TEXT_PLAIN_VALUE, schema = @Schema(type = "string")))
+  })
+  @GetMapping("/groups/feed")
+  public ResponseEntity<Slice<ReflectionResponseDto>> getGroupReflectionFeed(
+      Principal principal,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeCreatedAt,
+      @RequestParam(required = false) Integer beforeId,
+      Pageable pageable) {
+    try {
+      String email = principal.getName();
+      userService.getUserByEmail(email)
+          .orElseThrow(() -> new IllegalStateException("User not found"));
+
+      Slice<ReflectionResponseDto> reflections = reflectionService.getSharedReflectionsFromAllUserGroups(
+          email, beforeCreatedAt, beforeId, pageable.getPageSize());
+      return ResponseEntity.ok(reflections);
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
   /**
    * Creates a new reflection for the authenticated user.
    *
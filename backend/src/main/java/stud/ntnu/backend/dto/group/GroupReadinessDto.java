@@ -0,0 +1,94 @@
+package stud.ntnu.backend.dto.group;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) describing how prepared a group is, based on the stock contributed to
+ * the group's shared inventory and the combined population of its current member households.
+ */
+@Data
+@NoArgsConstructor
+public class GroupReadinessDto {
+
+  /**
+   * The unique identifier of the group.
+   */
+  private Integer groupId;
+
+  /**
+   * The combined population of the group's current member households.
+   */
+  private Long populationCount;
+
+  /**
+   * The combined daily water requirement of the group in litres.
+   */
+  private Long dailyWaterRequirement;
+
+  /**
+   * The combined daily calorie requirement of the group.
+   */
+  private Long dailyCalorieRequirement;
+
+  /**
+   * The total litres of water contributed to the group.
+   */
+  private Long totalWaterLitres;
+
+  /**
+   * The total calories of food contributed to the group.
+   */
+  private Double totalCalories;
+
+  /**
+   * The number of days the contributed water lasts for the group.
+   */
+  private Double waterDays;
+
+  /**
+   * The number of days the contributed food lasts for the group.
+   */
+  private Double foodDays;
+
+  /**
+   * The number of days the group is supplied for, limited by whichever of water and food runs out
+   * first.
+   */
+  private Double daysOfSupply;
+
+  /**
+   * The number of contributed units that expire within {@link #expiringWithinDays} days.
+   */
+  private Long expiringUnits;
+
+  /**
+   * The window in days used when counting expiring units.
+   */
+  private Integer expiringWithinDays;
+
+  /**
+   * The time at which the metrics were calculated.
+   */
+  private LocalDateTime calculatedAt;
+
+  /**
+   * Constructs a GroupReadinessDto from the raw totals of the readiness aggregate query.
+   *
+   * @param populationCount         the combined population of the group
+   * @param dailyCalorieRequirement the combined daily calorie requirement of the group
+   * @param totalWaterLitres        the total litres of water contributed to the group
+   * @param totalCalories           the total calories of food contributed to the group
+   * @param expiringUnits           the number of contributed units about to expire
+   */
+  public GroupReadinessDto(Long populationCount, Long dailyCalorieRequirement,
+      Long totalWaterLitres, Double totalCalories, Long expiringUnits) {
+    this.populationCount = populationCount;
+    this.dailyCalorieRequirement = dailyCalorieRequirement;
+    this.totalWaterLitres = totalWaterLitres;
+    this.totalCalories = totalCalories;
+    this.expiringUnits = expiringUnits;
+  }
+}
@@ -0,0 +1,63 @@
+package stud.ntnu.backend.dto.inventory;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the aggregated stock of one product type in a group's
+ * shared inventory. Each instance summarises all batches of the product type that have been
+ * contributed to the group and is produced by a single grouped query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupProductTypeTotalDto {
+
+  /**
+   * The unique identifier of the product type.
+   */
+  private Integer productTypeId;
+
+  /**
+   * The identifier of the household that owns the product type.
+   */
+  private Integer householdId;
+
+  /**
+   * The name of the product type.
+   */
+  private String name;
+
+  /**
+   * The unit of measurement for the product type.
+   */
+  private String unit;
+
+  /**
+   * The number of calories per unit of the product type.
+   */
+  private Double caloriesPerUnit;
+
+  /**
+   * The category of the product type (food, water or medicine).
+   */
+  private String category;
+
+  /**
+   * The total number of units contributed to the group.
+   */
+  private Long totalUnits;
+
+  /**
+   * The number of contributed batches of the product type.
+   */
+  private Long batchCount;
+
+  /**
+   * The earliest expiration time among the contributed batches, or null if none expire.
+   */
+  private LocalDateTime earliestExpiration;
+}
@@ -0,0 +1,71 @@
+package stud.ntnu.backend.dto.map;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import stud.ntnu.backend.model.map.CrisisEvent;
+
+/**
+ * Data Transfer Object (DTO) pushed to the geographic crisis topics when a crisis event is created,
+ * updated or deactivated.
+ * <p>
+ * The update is sent once to every area topic covering the event, so it also reaches clients just
+ * outside the event's radius. Clients compare the epicenter and radius with their own home and
+ * household positions to decide whether the update applies to them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrisisAreaUpdateDto {
+
+  /**
+   * The kind of change to a crisis event.
+   */
+  public enum UpdateType {
+    CREATED,
+    UPDATED,
+    DEACTIVATED
+  }
+
+  /**
+   * The unique identifier of the crisis event.
+   */
+  private Integer crisisEventId;
+
+  /**
+   * The kind of change to the crisis event.
+   */
+  private UpdateType updateType;
+
+  /**
+   * The name of the crisis event.
+   */
+  private String name;
+
+  /**
+   * The severity level of the crisis event.
+   */
+  private CrisisEvent.Severity severity;
+
+  /**
+   * The latitude of the epicenter of the crisis event.
+   */
+  private BigDecimal latitude;
+
+  /**
+   * The longitude of the epicenter of the crisis event.
+   */
+  private BigDecimal longitude;
+
+  /**
+   * The radius of the crisis event in kilometres.
+   */
+  private BigDecimal radius;
+
+  /**
+   * The notification message of the change, with a generic reason for being notified.
+   */
+  private String message;
+}
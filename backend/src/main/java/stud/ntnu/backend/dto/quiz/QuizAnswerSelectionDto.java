@@ -0,0 +1,25 @@
+package stud.ntnu.backend.dto.quiz;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the answer a user selected for a single question when
+ * submitting a whole quiz attempt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizAnswerSelectionDto {
+
+  /**
+   * The unique identifier of the question being answered.
+   */
+  private Long questionId;
+
+  /**
+   * The unique identifier of the selected answer.
+   */
+  private Long answerId;
+}
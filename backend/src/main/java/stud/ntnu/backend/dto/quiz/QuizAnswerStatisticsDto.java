@@ -0,0 +1,34 @@
+package stud.ntnu.backend.dto.quiz;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing how often an answer to a quiz question has been selected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizAnswerStatisticsDto {
+
+  /**
+   * The unique identifier of the answer.
+   */
+  private Long answerId;
+
+  /**
+   * The text content of the answer.
+   */
+  private String answerBody;
+
+  /**
+   * Whether the answer is correct.
+   */
+  private Boolean correct;
+
+  /**
+   * The number of times the answer has been selected.
+   */
+  private Integer selectionCount;
+}
@@ -0,0 +1,43 @@
+package stud.ntnu.backend.dto.quiz;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the result of a quiz attempt, containing the score and
+ * the correctness of each answered question.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizAttemptResultDto {
+
+  /**
+   * The unique identifier of the quiz attempt.
+   */
+  private Long attemptId;
+
+  /**
+   * The unique identifier of the attempted quiz.
+   */
+  private Long quizId;
+
+  /**
+   * The date and time when the quiz attempt was completed.
+   */
+  private LocalDateTime completedAt;
+
+  /**
+   * The number of correct answers in the attempt.
+   */
+  private Integer score;
+
+  /**
+   * The outcome of each answered question, in the order the answers were submitted.
+   */
+  private List<QuizQuestionResultDto> questions;
+}
@@ -0,0 +1,23 @@
+package stud.ntnu.backend.dto.quiz;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing a possible answer within a {@link QuizContentDto}
+ * snapshot. The correctness of the answer is deliberately left out.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QuizContentAnswerDto {
+
+  /**
+   * The unique identifier of the answer.
+   */
+  private final Long id;
+
+  /**
+   * The text content of the answer.
+   */
+  private final String answerBody;
+}
@@ -0,0 +1,42 @@
+package stud.ntnu.backend.dto.quiz;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing an immutable snapshot of the content of a quiz: its
+ * questions in position order, each with its possible answers. Snapshots are cached and shared
+ * between requests, so none of their fields can be modified.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QuizContentDto {
+
+  /**
+   * The unique identifier of the quiz.
+   */
+  private final Long quizId;
+
+  /**
+   * The name of the quiz.
+   */
+  private final String name;
+
+  /**
+   * The description of the quiz.
+   */
+  private final String description;
+
+  /**
+   * The version of the snapshot, derived from its content. It changes whenever the questions or
+   * answers of the quiz change, and is used as the ETag of the snapshot.
+   */
+  private final String version;
+
+  /**
+   * The questions of the quiz in position order.
+   */
+  private final List<QuizContentQuestionDto> questions;
+}
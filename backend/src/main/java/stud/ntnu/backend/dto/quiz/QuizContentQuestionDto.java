@@ -0,0 +1,35 @@
+package stud.ntnu.backend.dto.quiz;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing a question within a {@link QuizContentDto} snapshot,
+ * together with its possible answers.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QuizContentQuestionDto {
+
+  /**
+   * The unique identifier of the question.
+   */
+  private final Long id;
+
+  /**
+   * The text content of the question.
+   */
+  private final String questionBody;
+
+  /**
+   * The position of the question within the quiz.
+   */
+  private final Integer position;
+
+  /**
+   * The possible answers to the question, without their correctness.
+   */
+  private final List<QuizContentAnswerDto> answers;
+}
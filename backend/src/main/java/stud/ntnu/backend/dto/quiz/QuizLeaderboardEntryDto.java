@@ -0,0 +1,63 @@
+package stud.ntnu.backend.dto.quiz;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing a user's position on the leaderboard of a quiz.
+ */
+@Data
+@NoArgsConstructor
+public class QuizLeaderboardEntryDto {
+
+  /**
+   * The position of the user on the leaderboard, starting at 1.
+   */
+  private Integer rank;
+
+  /**
+   * The unique identifier of the user.
+   */
+  private Integer userId;
+
+  /**
+   * The first name of the user.
+   */
+  private String firstName;
+
+  /**
+   * The highest score of the user at the quiz.
+   */
+  private Integer bestScore;
+
+  /**
+   * The number of attempts the user has made at the quiz.
+   */
+  private Integer attemptCount;
+
+  /**
+   * The date and time when the user first reached the best score.
+   */
+  private LocalDateTime achievedAt;
+
+  /**
+   * Constructs a QuizLeaderboardEntryDto from a row of the leaderboard query. The rank is assigned
+   * afterwards from the position of the row.
+   *
+   * @param userId       the unique identifier of the user
+   * @param firstName    the first name of the user
+   * @param bestScore    the highest score of the user at the quiz
+   * @param attemptCount the number of attempts the user has made at the quiz
+   * @param achievedAt   the date and time when the user first reached the best score
+   */
+  public QuizLeaderboardEntryDto(Integer userId, String firstName, Integer bestScore,
+      Integer attemptCount, LocalDateTime achievedAt) {
+    this.userId = userId;
+    this.firstName = firstName;
+    this.bestScore = bestScore;
+    this.attemptCount = attemptCount;
+    this.achievedAt = achievedAt;
+  }
+}
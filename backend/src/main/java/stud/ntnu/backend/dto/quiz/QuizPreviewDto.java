@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import stud.ntnu.backend.model.gamification.quiz.Quiz;
 
 /**
  * Data Transfer Object (DTO) representing a preview of a quiz. This class contains essential
@@ -44,4 +45,15 @@ public class QuizPreviewDto {
    * Timestamp when the quiz was created
    */
   private LocalDateTime createdAt;
+
+  /**
+   * Creates a preview from a quiz entity, using the question count maintained on the quiz.
+   *
+   * @param quiz the quiz to convert
+   * @return the preview of the quiz
+   */
+  public static QuizPreviewDto fromEntity(Quiz quiz) {
+    return new QuizPreviewDto(quiz.getId(), quiz.getName(), quiz.getDescription(),
+        quiz.getStatus(), quiz.getQuestionCount().longValue(), quiz.getCreatedAt());
+  }
 }
\ No newline at end of file
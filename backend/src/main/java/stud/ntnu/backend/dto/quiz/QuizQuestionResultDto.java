@@ -0,0 +1,30 @@
+package stud.ntnu.backend.dto.quiz;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of a single answered question in a quiz
+ * attempt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizQuestionResultDto {
+
+  /**
+   * The unique identifier of the answered question.
+   */
+  private Long questionId;
+
+  /**
+   * The unique identifier of the answer selected by the user.
+   */
+  private Long answerId;
+
+  /**
+   * Whether the selected answer is correct.
+   */
+  private Boolean correct;
+}
@@ -0,0 +1,42 @@
+package stud.ntnu.backend.dto.quiz;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing how a quiz question has been answered.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizQuestionStatisticsDto {
+
+  /**
+   * The unique identifier of the question.
+   */
+  private Long questionId;
+
+  /**
+   * The text content of the question.
+   */
+  private String questionBody;
+
+  /**
+   * The number of times the question has been answered.
+   */
+  private Integer answerCount;
+
+  /**
+   * The share of answers to the question that were correct, between 0 and 1, or 0 if the question
+   * has not been answered.
+   */
+  private Double correctRate;
+
+  /**
+   * The selection statistics of each answer to the question.
+   */
+  private List<QuizAnswerStatisticsDto> answers;
+}
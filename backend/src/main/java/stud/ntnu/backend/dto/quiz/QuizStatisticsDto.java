@@ -0,0 +1,47 @@
+package stud.ntnu.backend.dto.quiz;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) representing the performance statistics of a quiz: how often it has
+ * been attempted, the average score, and how each question and answer has been answered.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizStatisticsDto {
+
+  /**
+   * The unique identifier of the quiz.
+   */
+  private Long quizId;
+
+  /**
+   * The name of the quiz.
+   */
+  private String name;
+
+  /**
+   * The number of questions in the quiz.
+   */
+  private Integer questionCount;
+
+  /**
+   * The number of attempts made at the quiz.
+   */
+  private Integer attemptCount;
+
+  /**
+   * The average score of all attempts, or 0 if the quiz has not been attempted.
+   */
+  private Double averageScore;
+
+  /**
+   * The statistics of each question, in position order.
+   */
+  private List<QuizQuestionStatisticsDto> questions;
+}
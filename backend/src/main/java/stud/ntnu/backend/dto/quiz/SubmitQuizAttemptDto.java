@@ -0,0 +1,22 @@
+package stud.ntnu.backend.dto.quiz;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for submitting a whole quiz attempt in one request, containing the
+ * selected answer for each answered question.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmitQuizAttemptDto {
+
+  /**
+   * The selected answers, at most one per question.
+   */
+  private List<QuizAnswerSelectionDto> answers;
+}
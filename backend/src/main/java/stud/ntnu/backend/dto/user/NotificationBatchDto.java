@@ -0,0 +1,39 @@
+package stud.ntnu.backend.dto.user;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) carrying several notifications of a user in one WebSocket frame. It is
+ * sent when notifications pile up faster than they are delivered, or as a resync hint when pending
+ * notifications had to be dropped, in which case the client should reload its inbox and unread
+ * count over REST.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBatchDto {
+
+  /**
+   * The unique identifier of the user.
+   */
+  private Integer userId;
+
+  /**
+   * The notifications delivered in this frame, oldest first.
+   */
+  private List<NotificationDto> notifications;
+
+  /**
+   * Whether notifications were dropped and the client must reload them.
+   */
+  private boolean resync;
+
+  /**
+   * The number of notifications dropped since the previous frame.
+   */
+  private int droppedCount;
+}
@@ -0,0 +1,25 @@
+package stud.ntnu.backend.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) carrying the number of unread notifications of a user. It is returned
+ * by the unread count endpoint and pushed over WebSocket whenever the count changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadNotificationCountDto {
+
+  /**
+   * The unique identifier of the user.
+   */
+  private Integer userId;
+
+  /**
+   * The number of unread notifications of the user.
+   */
+  private Integer unreadCount;
+}
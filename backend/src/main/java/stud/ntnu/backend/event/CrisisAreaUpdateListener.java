@@ -0,0 +1,35 @@
+package stud.ntnu.backend.event;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event listener that pushes crisis updates to the geographic topics covering the crisis event.
+ * Updates are sent after the changing transaction commits, so that clients never see a change that
+ * is rolled back. The number of messages depends on the area of the event, not on the number of
+ * users living in it.
+ */
+@Component
+@RequiredArgsConstructor
+public class CrisisAreaUpdateListener {
+
+  /**
+   * Template for sending WebSocket messages.
+   */
+  private final SimpMessagingTemplate messagingTemplate;
+
+  /**
+   * Sends the update once to every area topic covering the crisis event.
+   *
+   * @param event the crisis area update event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleCrisisAreaUpdatedEvent(CrisisAreaUpdatedEvent event) {
+    for (String topic : event.getTopics()) {
+      messagingTemplate.convertAndSend(topic, event.getUpdate());
+    }
+  }
+}
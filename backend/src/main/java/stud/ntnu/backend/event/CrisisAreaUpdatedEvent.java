@@ -0,0 +1,26 @@
+package stud.ntnu.backend.event;
+
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.dto.map.CrisisAreaUpdateDto;
+
+/**
+ * Event published when a crisis event is created, updated or deactivated. Listeners push the update
+ * to the geographic topics covering the event once the change is committed.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrisisAreaUpdatedEvent {
+
+  /**
+   * The update to push.
+   */
+  private final CrisisAreaUpdateDto update;
+
+  /**
+   * The destinations of the area topics covering the crisis event.
+   */
+  private final Set<String> topics;
+}
@@ -10,6 +10,9 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import stud.ntnu.backend.model.inventory.ProductBatch;
 import stud.ntnu.backend.model.user.Notification;
@@ -60,6 +63,11 @@ public class ExpirationNotificationScheduler {
    */
   private final MessageSource messageSource;
 
+  /**
+   * Registry of the expiration check metrics.
+   */
+  private final MeterRegistry meterRegistry;
+
   /**
    * Formatter for dates in the Norwegian format (dd.MM.yyyy).
    */
@@ -98,9 +106,11 @@ public class ExpirationNotificationScheduler {
   /**
    * Core method containing the expiration check logic. Extracted to avoid duplication between the
    * daily and test mode schedulers. Checks for both expired products and products expiring within
-   * the next week.
+   * the next week. The duration of each check is recorded along with whether it completed.
    */
   private void performExpirationCheck() {
+    Timer.Sample check = Timer.start(meterRegistry);
+    String outcome = "success";
     try {
       LocalDateTime now = LocalDateTime.now();
       LocalDateTime oneWeekFromNow = now.plusDays(7);
@@ -113,6 +123,12 @@ public class ExpirationNotificationScheduler {
       processExpiringBatches(expiredBatches, true);
     } catch (Exception e) {
       // Exception handling is intentionally empty as this is a background process
+      outcome = "failure";
+    } finally {
+      check.stop(Timer.builder("scheduler.expiration.check")
+          .description("Time taken to check for expiring products and notify their households")
+          .tag("outcome", outcome)
+          .register(meterRegistry));
     }
   }
 
@@ -125,6 +141,11 @@ public class ExpirationNotificationScheduler {
    */
   @Transactional
   private void processExpiringBatches(List<ProductBatch> batches, boolean isExpired) {
+    Counter.builder("scheduler.expiration.batches")
+        .description("Product batches found expiring or expired by the expiration check")
+        .tag("status", isExpired ? "expired" : "expiring")
+        .register(meterRegistry)
+        .increment(batches.size());
     for (ProductBatch batch : batches) {
       try {
         Integer householdId = batch.getProductType().getHousehold().getId();
@@ -0,0 +1,67 @@
+package stud.ntnu.backend.event;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.config.CacheConfig;
+
+/**
+ * Event listener that clears the caches derived from group memberships when memberships change:
+ * the membership checks and the visible households of each household. Neither cache is keyed by
+ * group, so a change to any membership clears all entries; membership changes are rare compared to
+ * the reads the caches serve. The membership checks are made per user, so they are also cleared when
+ * a user joins or leaves a household.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipCacheListener {
+
+  /**
+   * Manager of the application's caches.
+   */
+  private final CacheManager cacheManager;
+
+  /**
+   * Clears the membership caches when a household joins or leaves a group.
+   *
+   * @param event the membership change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleGroupMembershipChangedEvent(GroupMembershipChangedEvent event) {
+    clearMembershipCaches();
+  }
+
+  /**
+   * Clears the membership caches when a household, and with it its memberships, is deleted.
+   *
+   * @param event the household deletion event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleHouseholdDeletedEvent(HouseholdDeletedEvent event) {
+    if (!event.getFormerGroupIds().isEmpty()) {
+      clearMembershipCaches();
+    }
+  }
+
+  /**
+   * Clears the membership checks when a user joins or leaves a household, so that a user who left
+   * loses access to the groups of the household at once. The visible households are cached per
+   * household and are not affected.
+   *
+   * @param event the household membership change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleHouseholdMembershipChangedEvent(HouseholdMembershipChangedEvent event) {
+    cacheManager.getCache(CacheConfig.GROUP_MEMBERSHIP_CACHE).clear();
+  }
+
+  /**
+   * Clears all cached group membership checks and visible households.
+   */
+  private void clearMembershipCaches() {
+    cacheManager.getCache(CacheConfig.GROUP_MEMBERSHIP_CACHE).clear();
+    cacheManager.getCache(CacheConfig.VISIBLE_HOUSEHOLDS_CACHE).clear();
+  }
+}
@@ -0,0 +1,23 @@
+package stud.ntnu.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published when a household joins or leaves a group. Listeners use it to invalidate state
+ * derived from the group's current memberships, such as cached readiness metrics.
+ */
+@Getter
+@RequiredArgsConstructor
+public class GroupMembershipChangedEvent {
+
+  /**
+   * The ID of the group whose memberships changed.
+   */
+  private final Integer groupId;
+
+  /**
+   * The ID of the household that joined or left the group.
+   */
+  private final Integer householdId;
+}
@@ -0,0 +1,60 @@
+package stud.ntnu.backend.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.repository.group.GroupMembershipRepository;
+import stud.ntnu.backend.service.group.GroupInventoryService;
+
+/**
+ * Event listener that keeps the cached group readiness metrics consistent with the data they are
+ * computed from. Cached metrics are evicted after the changing transaction commits, so that a
+ * concurrent request cannot cache the state from before the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupReadinessCacheListener {
+
+  /**
+   * Service owning the group readiness cache.
+   */
+  private final GroupInventoryService groupInventoryService;
+
+  /**
+   * Repository for looking up the groups of a household.
+   */
+  private final GroupMembershipRepository groupMembershipRepository;
+
+  /**
+   * Evicts the readiness of a group when a household joins or leaves it.
+   *
+   * @param event the membership change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleGroupMembershipChangedEvent(GroupMembershipChangedEvent event) {
+    groupInventoryService.evictGroupReadiness(event.getGroupId());
+  }
+
+  /**
+   * Evicts the readiness of every group the deleted household belonged to.
+   *
+   * @param event the household deletion event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleHouseholdDeletedEvent(HouseholdDeletedEvent event) {
+    event.getFormerGroupIds().forEach(groupInventoryService::evictGroupReadiness);
+  }
+
+  /**
+   * Evicts the readiness of the household's groups when its inventory changes, since contributed
+   * batches may have been updated or deleted.
+   *
+   * @param event the inventory change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleInventoryChangeEvent(InventoryChangeEvent event) {
+    groupMembershipRepository.findGroupIdsByHouseholdId(event.getHouseholdId())
+        .forEach(groupInventoryService::evictGroupReadiness);
+  }
+}
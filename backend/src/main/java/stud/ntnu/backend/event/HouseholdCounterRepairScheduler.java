@@ -0,0 +1,42 @@
+package stud.ntnu.backend.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.service.household.HouseholdService;
+
+/**
+ * Scheduled job that verifies the population and kcal requirement counters of all households.
+ * The counters are adjusted incrementally on every membership change; this job runs nightly at
+ * 3 AM and repairs any household whose counters have drifted from its actual members, for example
+ * after manual database edits, in a single bulk statement.
+ */
+@Component
+@RequiredArgsConstructor
+public class HouseholdCounterRepairScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(HouseholdCounterRepairScheduler.class);
+
+  /**
+   * Service owning the household counters.
+   */
+  private final HouseholdService householdService;
+
+  /**
+   * Scheduled task that repairs drifted household counters.
+   */
+  @Scheduled(cron = "0 0 3 * * ?")
+  public void repairHouseholdCounters() {
+    try {
+      int repaired = householdService.repairHouseholdCounters();
+      if (repaired > 0) {
+        log.warn("Repaired population and kcal counters of {} household(s)", repaired);
+      }
+    } catch (Exception e) {
+      log.error("Household counter verification failed", e);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package stud.ntnu.backend.event;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published once a household and all of its dependent rows have been removed. Listeners use
+ * it to invalidate caches and derived data that refer to the household, its former members or the
+ * groups it belonged to.
+ *
+ * <p>The event is published inside the deleting transaction. Listeners that must only react to a
+ * committed deletion should use a transactional event listener.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public class HouseholdDeletedEvent {
+
+  /**
+   * The ID of the deleted household.
+   */
+  private final Integer householdId;
+
+  /**
+   * The IDs of the users that were members of the household before it was deleted.
+   */
+  private final List<Integer> formerMemberIds;
+
+  /**
+   * The IDs of the groups the household had a membership in before it was deleted.
+   */
+  private final List<Integer> formerGroupIds;
+}
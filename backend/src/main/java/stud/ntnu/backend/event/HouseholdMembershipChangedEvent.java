@@ -0,0 +1,28 @@
+package stud.ntnu.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published when a user joins or leaves a household. Listeners use it to invalidate state
+ * derived from the user's household, such as cached group membership checks.
+ */
+@Getter
+@RequiredArgsConstructor
+public class HouseholdMembershipChangedEvent {
+
+  /**
+   * The ID of the user who joined or left a household.
+   */
+  private final Integer userId;
+
+  /**
+   * The ID of the household the user left, or null if the user had no household.
+   */
+  private final Integer formerHouseholdId;
+
+  /**
+   * The ID of the household the user joined, or null if the user left without joining another.
+   */
+  private final Integer householdId;
+}
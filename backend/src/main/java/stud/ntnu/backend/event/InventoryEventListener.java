@@ -9,6 +9,9 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import stud.ntnu.backend.model.user.Notification;
 import stud.ntnu.backend.model.user.NotificationPreference;
@@ -55,6 +58,11 @@ public class InventoryEventListener {
    */
   private final MessageSource messageSource;
 
+  /**
+   * Registry of the supply evaluation metrics.
+   */
+  private final MeterRegistry meterRegistry;
+
   /**
    * The number of days of supply remaining that triggers a warning notification. When supplies fall
    * below this threshold, users will be notified.
@@ -67,87 +75,116 @@ public class InventoryEventListener {
    * <p>
    * This method: 1. Calculates daily water and calorie requirements for the household 2. Gets
    * current inventory levels for water and food 3. Calculates days of supply remaining 4. If
-   * supplies are below threshold, sends notifications to household members
+   * supplies are below threshold, sends notifications to household members 5. Records the time
+   * taken by the evaluation, tagged with whether water and food were found low, even if it fails
    *
    * @param event The inventory change event containing the household ID
    */
   @Async
   @EventListener
+  @Observed(name = "inventory.change.listener", contextualName = "evaluate-inventory-change")
   public void handleInventoryChangeEvent(InventoryChangeEvent event) {
-    // Get household requirements
-    int requiredWaterPerDay = inventoryService.getHouseholdWaterRequirement(event.getHouseholdId());
-    int requiredCaloriesPerDay = inventoryService.getHouseholdCalorieRequirement(
-        event.getHouseholdId());
-
-    // Get current inventory levels
-    int totalWater = inventoryService.getTotalLitresOfWaterByHousehold(event.getHouseholdId());
-    int totalCalories = inventoryService.getTotalCaloriesByHousehold(event.getHouseholdId());
-
-    // Calculate days of supply left
-    double waterDaysLeft = (double) totalWater / requiredWaterPerDay;
-    double calorieDaysLeft = (double) totalCalories / requiredCaloriesPerDay;
-
-    // Get users in household
-    List<User> householdUsers = userRepository.findByHouseholdId(event.getHouseholdId());
-
-    // Check water threshold
-    if (waterDaysLeft < DAYS_WARNING_THRESHOLD) {
-      String waterMessage = messageSource.getMessage(
-          "notification.low.water",
-          new Object[]{
-              String.format("%.1f", waterDaysLeft),
-              totalWater,
-              requiredWaterPerDay
-          },
-          LocaleContextHolder.getLocale()
-      );
-
-      for (User user : householdUsers) {
-        // Check if user has enabled notifications for remaining supply alerts
-        Optional<NotificationPreference> preference = notificationPreferenceRepository
-            .findByUserAndPreferenceType(user, Notification.PreferenceType.remaining_supply_alert);
-
-        if (preference.isEmpty() || preference.get().isEnabled()) {
-          Notification notification = notificationService.createNotification(
-              user,
-              Notification.PreferenceType.remaining_supply_alert,
-              Notification.TargetType.inventory,
-              null,
-              waterMessage
-          );
-          notificationService.sendNotification(notification);
+    Timer.Sample evaluation = Timer.start(meterRegistry);
+    Double waterDaysLeft = null;
+    Double calorieDaysLeft = null;
+    try {
+      // Get household requirements
+      int requiredWaterPerDay = inventoryService.getHouseholdWaterRequirement(
+          event.getHouseholdId());
+      int requiredCaloriesPerDay = inventoryService.getHouseholdCalorieRequirement(
+          event.getHouseholdId());
+
+      // Get current inventory levels
+      int totalWater = inventoryService.getTotalLitresOfWaterByHousehold(event.getHouseholdId());
+      int totalCalories = inventoryService.getTotalCaloriesByHousehold(event.getHouseholdId());
+
+      // Calculate days of supply left
+      waterDaysLeft = (double) totalWater / requiredWaterPerDay;
+      calorieDaysLeft = (double) totalCalories / requiredCaloriesPerDay;
+
+      // Get users in household
+      List<User> householdUsers = userRepository.findByHouseholdId(event.getHouseholdId());
+
+      // Check water threshold
+      if (waterDaysLeft < DAYS_WARNING_THRESHOLD) {
+        String waterMessage = messageSource.getMessage(
+            "notification.low.water",
+            new Object[]{
+                String.format("%.1f", waterDaysLeft),
+                totalWater,
+                requiredWaterPerDay
+            },
+            LocaleContextHolder.getLocale()
+        );
+
+        for (User user : householdUsers) {
+          // Check if user has enabled notifications for remaining supply alerts
+          Optional<NotificationPreference> preference = notificationPreferenceRepository
+              .findByUserAndPreferenceType(user,
+                  Notification.PreferenceType.remaining_supply_alert);
+
+          if (preference.isEmpty() || preference.get().isEnabled()) {
+            Notification notification = notificationService.createNotification(
+                user,
+                Notification.PreferenceType.remaining_supply_alert,
+                Notification.TargetType.inventory,
+                null,
+                waterMessage
+            );
+            notificationService.sendNotification(notification);
+          }
         }
       }
-    }
 
-    // Check calorie threshold
-    if (calorieDaysLeft < DAYS_WARNING_THRESHOLD) {
-      String foodMessage = messageSource.getMessage(
-          "notification.low.food",
-          new Object[]{
-              String.format("%.1f", calorieDaysLeft),
-              totalCalories,
-              requiredCaloriesPerDay
-          },
-          LocaleContextHolder.getLocale()
-      );
-
-      for (User user : householdUsers) {
-        // Check if user has enabled notifications for remaining supply alerts
-        Optional<NotificationPreference> preference = notificationPreferenceRepository
-            .findByUserAndPreferenceType(user, Notification.PreferenceType.remaining_supply_alert);
-
-        if (preference.isEmpty() || preference.get().isEnabled()) {
-          Notification notification = notificationService.createNotification(
-              user,
-              Notification.PreferenceType.remaining_supply_alert,
-              Notification.TargetType.inventory,
-              null,
-              foodMessage
-          );
-          notificationService.sendNotification(notification);
+      // Check calorie threshold
+      if (calorieDaysLeft < DAYS_WARNING_THRESHOLD) {
+        String foodMessage = messageSource.getMessage(
+            "notification.low.food",
+            new Object[]{
+                String.format("%.1f", calorieDaysLeft),
+                totalCalories,
+                requiredCaloriesPerDay
+            },
+            LocaleContextHolder.getLocale()
+        );
+
+        for (User user : householdUsers) {
+          // Check if user has enabled notifications for remaining supply alerts
+          Optional<NotificationPreference> preference = notificationPreferenceRepository
+              .findByUserAndPreferenceType(user,
+                  Notification.PreferenceType.remaining_supply_alert);
+
+          if (preference.isEmpty() || preference.get().isEnabled()) {
+            Notification notification = notificationService.createNotification(
+                user,
+                Notification.PreferenceType.remaining_supply_alert,
+                Notification.TargetType.inventory,
+                null,
+                foodMessage
+            );
+            notificationService.sendNotification(notification);
+          }
         }
       }
+    } finally {
+      evaluation.stop(Timer.builder("inventory.supply.evaluation")
+          .description("Time taken to evaluate the remaining supplies of a household")
+          .tag("water", supplyLevel(waterDaysLeft))
+          .tag("food", supplyLevel(calorieDaysLeft))
+          .register(meterRegistry));
+    }
+  }
+
+  /**
+   * Returns the supply level tag of the evaluation timer for the given number of days left.
+   *
+   * @param daysLeft days of supply remaining, or null if the evaluation failed before computing it
+   * @return {@code low}, {@code sufficient}, or {@code unknown} if the days left are not known
+   */
+  private static String supplyLevel(Double daysLeft) {
+    if (daysLeft == null) {
+      return "unknown";
     }
+    return daysLeft < DAYS_WARNING_THRESHOLD ? "low" : "sufficient";
   }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package stud.ntnu.backend.event;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import stud.ntnu.backend.service.user.NotificationService;
+
+/**
+ * Scheduled job that enforces the notification retention policy. It runs nightly at 4 AM and moves
+ * notifications that were read more than the retention period ago to the archive table, so that
+ * the notifications table only holds recent and unread notifications. Notifications are moved in
+ * batches, each in its own transaction, to keep locks and undo logs small.
+ */
+@Component
+public class NotificationArchiveScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(NotificationArchiveScheduler.class);
+
+  /**
+   * Service owning the notifications.
+   */
+  private final NotificationService notificationService;
+
+  /**
+   * Number of days a read notification is kept before it is archived.
+   */
+  private final int retentionDays;
+
+  /**
+   * Maximum number of notifications moved per transaction.
+   */
+  private final int batchSize;
+
+  /**
+   * Constructs the scheduler with the retention policy.
+   *
+   * @param notificationService service owning the notifications
+   * @param retentionDays       number of days a read notification is kept before it is archived
+   * @param batchSize           maximum number of notifications moved per transaction
+   */
+  public NotificationArchiveScheduler(NotificationService notificationService,
+      @Value("${notification.archive.retention-days:90}") int retentionDays,
+      @Value("${notification.archive.batch-size:1000}") int batchSize) {
+    this.notificationService = notificationService;
+    this.retentionDays = retentionDays;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Scheduled task that archives read notifications past the retention period.
+   */
+  @Scheduled(cron = "0 0 4 * * ?")
+  public void archiveReadNotifications() {
+    try {
+      LocalDateTime readBefore = LocalDateTime.now().minusDays(retentionDays);
+      int total = 0;
+      int archived;
+      do {
+        archived = notificationService.archiveReadNotifications(readBefore, batchSize);
+        total += archived;
+      } while (archived == batchSize);
+      if (total > 0) {
+        log.info("Archived {} notification(s) read before {}", total, readBefore);
+      }
+    } catch (Exception e) {
+      log.error("Notification archiving failed", e);
+    }
+  }
+}
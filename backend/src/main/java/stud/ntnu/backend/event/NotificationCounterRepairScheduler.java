@@ -0,0 +1,43 @@
+package stud.ntnu.backend.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.service.user.NotificationService;
+
+/**
+ * Scheduled job that verifies the unread notification counters of all users. The counters are
+ * adjusted incrementally whenever notifications are created or read; this job runs nightly at
+ * 3:15 AM and repairs any user whose counter has drifted from the actual unread notifications in a
+ * single bulk statement.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationCounterRepairScheduler {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(NotificationCounterRepairScheduler.class);
+
+  /**
+   * Service owning the unread notification counters.
+   */
+  private final NotificationService notificationService;
+
+  /**
+   * Scheduled task that repairs drifted unread notification counters.
+   */
+  @Scheduled(cron = "0 15 3 * * ?")
+  public void repairUnreadNotificationCounts() {
+    try {
+      int repaired = notificationService.repairUnreadNotificationCounts();
+      if (repaired > 0) {
+        log.warn("Repaired unread notification counters of {} user(s)", repaired);
+      }
+    } catch (Exception e) {
+      log.error("Unread notification counter verification failed", e);
+    }
+  }
+}
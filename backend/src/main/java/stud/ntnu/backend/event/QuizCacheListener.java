@@ -0,0 +1,32 @@
+package stud.ntnu.backend.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.service.gamification.quiz.QuizService;
+
+/**
+ * Event listener that keeps the cached quiz content snapshots and answer keys consistent with the
+ * quiz content. Cached state is evicted after the changing transaction commits, so that a
+ * concurrent request cannot cache the content from before the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizCacheListener {
+
+  /**
+   * Service owning the quiz caches.
+   */
+  private final QuizService quizService;
+
+  /**
+   * Evicts the cached state of a quiz when its content changes.
+   *
+   * @param event the quiz content change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleQuizContentChangedEvent(QuizContentChangedEvent event) {
+    quizService.evictQuizCaches(event.getQuizId());
+  }
+}
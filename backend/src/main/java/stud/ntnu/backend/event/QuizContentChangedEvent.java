@@ -0,0 +1,19 @@
+package stud.ntnu.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published when the questions or answers of a quiz are created, updated or deleted, or the
+ * quiz itself is deleted. Listeners use it to invalidate state derived from the quiz content, such
+ * as the cached content snapshot and answer key.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QuizContentChangedEvent {
+
+  /**
+   * The ID of the quiz whose content changed.
+   */
+  private final Long quizId;
+}
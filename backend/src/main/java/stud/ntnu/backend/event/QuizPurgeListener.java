@@ -0,0 +1,74 @@
+package stud.ntnu.backend.event;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.service.gamification.quiz.QuizService;
+
+/**
+ * Event listener that purges quizzes whose deletion was requested asynchronously. Purges run one at
+ * a time on a dedicated background thread once the requesting transaction has committed, so large
+ * quizzes do not hold up the request and concurrent purges do not compete for the same tables.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizPurgeListener {
+
+  private static final Logger log = LoggerFactory.getLogger(QuizPurgeListener.class);
+
+  /**
+   * Service performing the bulk deletion of a quiz.
+   */
+  private final QuizService quizService;
+
+  /**
+   * Single background thread running the purges in order of request. The context of the requesting
+   * thread, such as its trace, is carried over to the purge.
+   */
+  private final ExecutorService purgeExecutor = ContextExecutorService.wrap(
+      Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "quiz-purge")),
+      ContextSnapshotFactory.builder().build());
+
+  /**
+   * Schedules the deletion of a quiz whose purge was requested.
+   *
+   * @param event the purge request event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleQuizPurgeRequestedEvent(QuizPurgeRequestedEvent event) {
+    purgeExecutor.execute(() -> purgeQuiz(event.getQuizId()));
+  }
+
+  /**
+   * Deletes a quiz, logging instead of propagating failures since no caller is waiting.
+   *
+   * @param quizId the ID of the quiz to delete
+   */
+  private void purgeQuiz(Long quizId) {
+    try {
+      quizService.deleteQuiz(quizId);
+      log.info("Purged quiz {}", quizId);
+    } catch (IllegalArgumentException e) {
+      log.warn("Quiz {} was already deleted before its purge ran", quizId);
+    } catch (Exception e) {
+      log.error("Purge of quiz {} failed; the quiz remains archived", quizId, e);
+    }
+  }
+
+  /**
+   * Stops the purge thread when the application shuts down, letting a running purge finish.
+   */
+  @PreDestroy
+  public void shutdown() {
+    purgeExecutor.shutdown();
+  }
+}
@@ -0,0 +1,18 @@
+package stud.ntnu.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published when an administrator requests the asynchronous deletion of a quiz. The quiz has
+ * already been archived when the event is published, and its data is purged in the background.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QuizPurgeRequestedEvent {
+
+  /**
+   * The ID of the quiz to purge.
+   */
+  private final Long quizId;
+}
@@ -0,0 +1,42 @@
+package stud.ntnu.backend.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.service.gamification.quiz.QuizStatisticsService;
+
+/**
+ * Scheduled job that backfills the quiz statistics from the recorded attempts and answers. The
+ * statistics are updated incrementally as attempts are recorded; this job runs nightly at 3:30 AM,
+ * repairs any counters that have drifted, for example after manual database edits, and rebuilds
+ * the best scores behind the leaderboards.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizStatisticsRepairScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(QuizStatisticsRepairScheduler.class);
+
+  /**
+   * Service owning the quiz statistics.
+   */
+  private final QuizStatisticsService quizStatisticsService;
+
+  /**
+   * Scheduled task that repairs drifted quiz statistics.
+   */
+  @Scheduled(cron = "0 30 3 * * ?")
+  public void repairQuizStatistics() {
+    try {
+      int repaired = quizStatisticsService.backfillStatistics();
+      if (repaired > 0) {
+        log.warn("Repaired statistics of {} quiz(zes) and answer(s)", repaired);
+      }
+    } catch (Exception e) {
+      log.error("Quiz statistics backfill failed", e);
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package stud.ntnu.backend.event;
+
+import java.util.Collection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published when notifications are created or read. Listeners use it to push the new unread
+ * notification counts of the affected users to their clients.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UnreadNotificationCountChangedEvent {
+
+  /**
+   * The IDs of the users whose unread notification count changed.
+   */
+  private final Collection<Integer> userIds;
+}
@@ -0,0 +1,51 @@
+package stud.ntnu.backend.event;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
+import stud.ntnu.backend.repository.user.UserRepository;
+import stud.ntnu.backend.service.user.NotificationDeliveryService;
+
+/**
+ * Event listener that pushes unread notification counts to the affected users over WebSocket, so
+ * that clients do not have to poll for them. Counts are read after the changing transaction
+ * commits, so that clients never see a count that is rolled back.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCountListener {
+
+  /**
+   * Repository holding the unread notification counters.
+   */
+  private final UserRepository userRepository;
+
+  /**
+   * Service delivering the counts over WebSocket.
+   */
+  private final NotificationDeliveryService notificationDeliveryService;
+
+  /**
+   * Sends the current unread notification count of every affected user to the user's unread count
+   * topic. The counts are read in one query per {@link UserRepository#MAX_IDS_PER_QUERY} affected
+   * users, and a count still waiting to be sent is replaced by the newer one.
+   *
+   * @param event the unread notification count change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleUnreadNotificationCountChangedEvent(UnreadNotificationCountChangedEvent event) {
+    List<Integer> userIds = List.copyOf(event.getUserIds());
+    for (int from = 0; from < userIds.size(); from += UserRepository.MAX_IDS_PER_QUERY) {
+      List<Integer> chunk =
+          userIds.subList(from, Math.min(from + UserRepository.MAX_IDS_PER_QUERY, userIds.size()));
+      for (UnreadNotificationCountDto count :
+          userRepository.findUnreadNotificationCountsByIdIn(chunk)) {
+        notificationDeliveryService.deliverUnreadCount(count);
+      }
+    }
+  }
+}
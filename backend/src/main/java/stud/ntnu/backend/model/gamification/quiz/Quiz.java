@@ -55,6 +55,28 @@ public class Quiz {
   @Column(name = "created_by_user_id", nullable = false)
   private Long createdByUserId;
 
+  /**
+   * The number of questions in the quiz. The count is maintained through {@code QuizRepository}
+   * whenever a question is added, moved or removed, so it is never written by a regular entity
+   * update.
+   */
+  @Column(name = "question_count", nullable = false, updatable = false)
+  private Integer questionCount = 0;
+
+  /**
+   * The number of attempts made at the quiz. Maintained through {@code QuizRepository} as attempts
+   * are started or submitted, so it is never written by a regular entity update.
+   */
+  @Column(name = "attempt_count", nullable = false, updatable = false)
+  private Integer attemptCount = 0;
+
+  /**
+   * The sum of the scores of all attempts at the quiz, used with {@link #attemptCount} to compute
+   * the average score. Maintained through {@code QuizRepository} like the attempt count.
+   */
+  @Column(name = "total_score", nullable = false, updatable = false)
+  private Long totalScore = 0L;
+
   /**
    * The timestamp when the quiz was created. This field cannot be null and cannot be updated after
    * creation.
@@ -54,6 +54,14 @@ public class QuizAnswer {
   @Column(name = "is_correct", nullable = false)
   private Boolean isCorrect;
 
+  /**
+   * The number of times users have selected this answer. Maintained through
+   * {@code QuizAnswerRepository} as answers are recorded, so it is never written by a regular
+   * entity update.
+   */
+  @Column(name = "selection_count", nullable = false, updatable = false)
+  private Integer selectionCount = 0;
+
   /**
    * Timestamp when the answer was created. This field is automatically set and cannot be updated.
    */
@@ -0,0 +1,74 @@
+package stud.ntnu.backend.model.gamification.quiz;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entity class representing the best result of a user at a quiz. This class maps to the
+ * 'quiz_user_scores' table in the database, which holds one row per user and quiz and backs the
+ * quiz leaderboards. Rows are maintained through {@code QuizUserScoreRepository} as attempts are
+ * recorded, rather than through regular entity updates.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "quiz_user_scores",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"quiz_id", "user_id"}),
+    indexes = @Index(name = "idx_quiz_user_scores_leaderboard",
+        columnList = "quiz_id, best_score DESC, achieved_at"))
+public class QuizUserScore {
+
+  /**
+   * Unique identifier for the score.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /**
+   * ID of the quiz the score belongs to.
+   */
+  @Column(name = "quiz_id", nullable = false)
+  private Long quizId;
+
+  /**
+   * ID of the user who achieved the score.
+   */
+  @Column(name = "user_id", nullable = false)
+  private Integer userId;
+
+  /**
+   * The highest score of the user across all attempts at the quiz.
+   */
+  @Column(name = "best_score", nullable = false)
+  private Integer bestScore;
+
+  /**
+   * The number of attempts the user has made at the quiz.
+   */
+  @Column(name = "attempt_count", nullable = false)
+  private Integer attemptCount;
+
+  /**
+   * Timestamp of the attempt in which the best score was first achieved.
+   */
+  @Column(name = "achieved_at", nullable = false)
+  private LocalDateTime achievedAt;
+
+  /**
+   * Default constructor required by JPA.
+   */
+  public QuizUserScore() {
+  }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -13,12 +14,13 @@ import lombok.Setter;
 /**
  * Entity class representing a user's answer to a quiz question. This class maps to the
  * 'user_quiz_answers' table in the database and tracks which answers users select for specific
- * questions in a quiz attempt.
+ * questions in a quiz attempt. Each question can only be answered once per attempt.
  */
 @Setter
 @Getter
 @Entity
-@Table(name = "user_quiz_answers")
+@Table(name = "user_quiz_answers",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user_quiz_attempt_id", "question_id"}))
 public class UserQuizAnswer {
 
   /**
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import lombok.Getter;
@@ -19,7 +20,8 @@ import lombok.Setter;
 @Setter
 @Getter
 @Entity
-@Table(name = "user_quiz_attempts")
+@Table(name = "user_quiz_attempts",
+    indexes = @Index(name = "idx_user_quiz_attempts_user_quiz", columnList = "user_id, quiz_id"))
 public class UserQuizAttempt {
 
   /**
@@ -48,6 +50,13 @@ public class UserQuizAttempt {
   @Column(name = "completed_at")
   private LocalDateTime completedAt;
 
+  /**
+   * Number of correct answers submitted in this attempt. The score is kept up to date as answers
+   * are submitted, so reading results does not require re-scoring the attempt.
+   */
+  @Column(name = "score", nullable = false)
+  private Integer score = 0;
+
   /**
    * Default constructor required by JPA.
    */
@@ -10,10 +10,16 @@ import stud.ntnu.backend.model.inventory.ProductBatch;
 
 /**
  * Represents a contribution made by a household to a group's inventory. This entity tracks both
- * product-based and custom item contributions.
+ * product-based and custom item contributions. A product batch can be contributed to at most one
+ * group.
  */
 @Entity
-@Table(name = "group_inventory_contributions")
+@Table(name = "group_inventory_contributions",
+    uniqueConstraints = @UniqueConstraint(columnNames = "product_id"),
+    indexes = {
+        @Index(name = "idx_gic_group_product", columnList = "group_id, product_id"),
+        @Index(name = "idx_gic_household", columnList = "household_id")
+    })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
@@ -23,7 +24,9 @@ import stud.ntnu.backend.model.user.User;
  * household joins a group and when they leave.
  */
 @Entity
-@Table(name = "group_memberships")
+@Table(name = "group_memberships",
+    indexes = @Index(name = "idx_group_memberships_household",
+        columnList = "household_id, group_id"))
 @Getter
 @Setter
 @NoArgsConstructor
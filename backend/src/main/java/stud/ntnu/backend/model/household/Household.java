@@ -53,11 +53,21 @@ public class Household {
   private String address;
 
   /**
-   * Number of people living in the household. Defaults to 1 if not specified.
+   * Number of people living in the household: registered users plus empty members that are not
+   * pets. Defaults to 1 if not specified. The counter is maintained by atomic updates in
+   * {@code HouseholdRepository} whenever membership changes, so it is never written by a regular
+   * entity update.
    */
-  @Column(name = "population_count", nullable = false)
+  @Column(name = "population_count", nullable = false, updatable = false)
   private Integer populationCount = 1;
 
+  /**
+   * Total daily kilocalorie requirement of all users and empty members in the household. Maintained
+   * together with {@link #populationCount} and never written by a regular entity update.
+   */
+  @Column(name = "kcal_requirement", nullable = false, updatable = false)
+  private Integer kcalRequirement = 0;
+
   /**
    * Latitude coordinate of the household's location. Stored with 7 decimal places precision.
    */
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +21,8 @@ import lombok.Setter;
  * product type and contains information about when it was added and when it expires.
  */
 @Entity
-@Table(name = "product_batch")
+@Table(name = "product_batch",
+    indexes = @Index(name = "idx_product_batch_type", columnList = "product_type_id"))
 @Getter
 @Setter
 @NoArgsConstructor
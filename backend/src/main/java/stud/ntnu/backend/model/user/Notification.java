@@ -1,6 +1,7 @@
 package stud.ntnu.backend.model.user;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -23,7 +25,12 @@ import lombok.Setter;
  * notifications including their target, timing, and delivery status.
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+    indexes = {
+        @Index(name = "idx_notifications_user_read", columnList = "user_id, read_at"),
+        @Index(name = "idx_notifications_user_inbox", columnList = "user_id, notify_at, id"),
+        @Index(name = "idx_notifications_read_at", columnList = "read_at")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -99,6 +106,10 @@ public class Notification {
   @PrePersist
   protected void onCreate() {
     createdAt = LocalDateTime.now();
+    if (notifyAt != null) {
+      // Stored with microsecond precision, so that the in-memory value is usable as an inbox cursor
+      notifyAt = notifyAt.truncatedTo(ChronoUnit.MICROS);
+    }
   }
 
   /**
@@ -1,12 +1,14 @@
 package stud.ntnu.backend.model.user;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -23,7 +25,9 @@ import stud.ntnu.backend.model.map.CrisisEvent;
  * crisis events and can be shared or kept private.
  */
 @Entity
-@Table(name = "reflections")
+@Table(name = "reflections",
+    indexes = @Index(name = "idx_reflections_user_feed",
+        columnList = "user_id, shared, deleted, created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -79,7 +83,8 @@ public class Reflection {
    */
   @PrePersist
   protected void onCreate() {
-    createdAt = LocalDateTime.now();
+    // Stored with microsecond precision, so that the in-memory value is usable as a feed cursor
+    createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
   }
 
   /**
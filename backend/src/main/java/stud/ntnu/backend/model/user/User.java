@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -32,7 +33,8 @@ import stud.ntnu.backend.model.household.Household;
  * including personal details, authentication data, and preferences.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+    indexes = @Index(name = "idx_users_household", columnList = "household_id"))
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @Getter
 @Setter
@@ -145,6 +147,13 @@ public class User {
   @Column(name = "kcal_requirement", nullable = false)
   private Integer kcalRequirement = 2000;
 
+  /**
+   * Number of unread notifications of the user. Maintained by {@code UserRepository} whenever a
+   * notification is created or read, so it is never written by a regular entity update.
+   */
+  @Column(name = "unread_notification_count", nullable = false, updatable = false)
+  private Integer unreadNotificationCount = 0;
+
   /**
    * Groups created by the user.
    */
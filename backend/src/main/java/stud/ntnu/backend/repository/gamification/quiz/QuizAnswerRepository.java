@@ -1,8 +1,10 @@
 package stud.ntnu.backend.repository.gamification.quiz;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,4 +39,49 @@ public interface QuizAnswerRepository extends JpaRepository<QuizAnswer, Long> {
           +
           "FROM QuizAnswer q WHERE q.questionId = :questionId")
   List<QuizAnswerDto> findAllAnswersByQuestionId(@Param("questionId") Long questionId);
-}
\ No newline at end of file
+
+  /**
+   * Retrieves all quiz answers of a specific quiz.
+   *
+   * @param quizId The ID of the quiz to find answers for
+   * @return A list of quiz answers for the specified quiz
+   */
+  List<QuizAnswer> findAllByQuizId(Long quizId);
+
+  /**
+   * Deletes all answers of a quiz's questions in a single statement.
+   *
+   * @param quizId The ID of the quiz
+   * @return The number of deleted answers
+   */
+  @Modifying
+  @Query("DELETE FROM QuizAnswer q WHERE q.quizId = :quizId")
+  int deleteByQuizId(@Param("quizId") Long quizId);
+
+  /**
+   * Increments the selection count of each of the given answers by one in a single update.
+   *
+   * @param ids The IDs of the selected answers
+   * @return The number of updated answers
+   */
+  @Modifying
+  @Query("UPDATE QuizAnswer q SET q.selectionCount = q.selectionCount + 1 WHERE q.id IN :ids")
+  int incrementSelectionCounts(@Param("ids") Collection<Long> ids);
+
+  /**
+   * SQL expression computing the actual number of times answer {@code q} was selected.
+   */
+  String ACTUAL_SELECTION_COUNT =
+      "(SELECT COUNT(*) FROM user_quiz_answers ua WHERE ua.answer_id = q.id)";
+
+  /**
+   * Recomputes the selection count of every answer whose stored value has drifted from the
+   * recorded user answers, in a single bulk statement.
+   *
+   * @return The number of answers that were repaired
+   */
+  @Modifying
+  @Query(value = "UPDATE quiz_answers q SET selection_count = " + ACTUAL_SELECTION_COUNT + " " +
+      "WHERE selection_count <> " + ACTUAL_SELECTION_COUNT, nativeQuery = true)
+  int repairDriftedSelectionCounts();
+}
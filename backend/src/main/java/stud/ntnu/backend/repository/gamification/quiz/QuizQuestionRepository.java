@@ -3,6 +3,9 @@ package stud.ntnu.backend.repository.gamification.quiz;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import stud.ntnu.backend.model.gamification.quiz.QuizQuestion;
@@ -29,4 +32,24 @@ public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long
    * @return a list of all questions in the specified quiz
    */
   List<QuizQuestion> findAllByQuizId(Long quizId);
-}
\ No newline at end of file
+
+  /**
+   * Retrieves all questions of a specific quiz in position order, using the ID to order questions
+   * sharing a position.
+   *
+   * @param quizId the ID of the quiz to get questions for
+   * @return a list of all questions in the specified quiz, in position order
+   */
+  List<QuizQuestion> findAllByQuizIdOrderByPositionAscIdAsc(Long quizId);
+
+  /**
+   * Deletes all questions of a quiz in a single statement. The answers of the questions must be
+   * deleted first.
+   *
+   * @param quizId the ID of the quiz
+   * @return the number of deleted questions
+   */
+  @Modifying
+  @Query("DELETE FROM QuizQuestion q WHERE q.quizId = :quizId")
+  int deleteByQuizId(@Param("quizId") Long quizId);
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,4 +36,76 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
    */
   @Query("SELECT q.name FROM Quiz q WHERE q.id = :id")
   Optional<String> findNameById(@Param("id") Long id);
-}
\ No newline at end of file
+
+  /**
+   * Adjusts the question count of a quiz by the given delta in a single update.
+   *
+   * @param id    The ID of the quiz
+   * @param delta The number of questions added, negative for removed questions
+   * @return The number of updated quizzes
+   */
+  @Modifying
+  @Query("UPDATE Quiz q SET q.questionCount = q.questionCount + :delta WHERE q.id = :id")
+  int adjustQuestionCount(@Param("id") Long id, @Param("delta") int delta);
+
+  /**
+   * Sets the status of a quiz in a single update, without loading the quiz.
+   *
+   * @param id     The ID of the quiz
+   * @param status The new status
+   * @return The number of updated quizzes
+   */
+  @Modifying
+  @Query("UPDATE Quiz q SET q.status = :status WHERE q.id = :id")
+  int updateStatus(@Param("id") Long id, @Param("status") String status);
+
+  /**
+   * Deletes a quiz in a single statement. All rows referring to the quiz must be deleted first.
+   *
+   * @param id The ID of the quiz
+   * @return The number of deleted quizzes
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM Quiz q WHERE q.id = :id")
+  int deleteQuizById(@Param("id") Long id);
+
+  /**
+   * Adds attempts and their scores to the attempt statistics of a quiz in a single update.
+   *
+   * @param id       The ID of the quiz
+   * @param attempts The number of attempts added
+   * @param score    The score added to the total score
+   * @return The number of updated quizzes
+   */
+  @Modifying
+  @Query("UPDATE Quiz q SET q.attemptCount = q.attemptCount + :attempts, "
+      + "q.totalScore = q.totalScore + :score WHERE q.id = :id")
+  int addAttemptStatistics(@Param("id") Long id, @Param("attempts") int attempts,
+      @Param("score") int score);
+
+  /**
+   * SQL expression computing the actual number of attempts at quiz {@code q}.
+   */
+  String ACTUAL_ATTEMPT_COUNT =
+      "(SELECT COUNT(*) FROM user_quiz_attempts a WHERE a.quiz_id = q.id)";
+
+  /**
+   * SQL expression computing the actual sum of attempt scores of quiz {@code q}.
+   */
+  String ACTUAL_TOTAL_SCORE =
+      "(SELECT COALESCE(SUM(a.score), 0) FROM user_quiz_attempts a WHERE a.quiz_id = q.id)";
+
+  /**
+   * Recomputes the attempt statistics of every quiz whose stored values have drifted from its
+   * actual attempts, in a single bulk statement.
+   *
+   * @return The number of quizzes that were repaired
+   */
+  @Modifying
+  @Query(value = "UPDATE quizzes q SET " +
+      "attempt_count = " + ACTUAL_ATTEMPT_COUNT + ", " +
+      "total_score = " + ACTUAL_TOTAL_SCORE + " " +
+      "WHERE attempt_count <> " + ACTUAL_ATTEMPT_COUNT + " " +
+      "OR total_score <> " + ACTUAL_TOTAL_SCORE, nativeQuery = true)
+  int repairDriftedAttemptStatistics();
+}
@@ -0,0 +1,94 @@
+package stud.ntnu.backend.repository.gamification.quiz;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import stud.ntnu.backend.dto.quiz.QuizLeaderboardEntryDto;
+import stud.ntnu.backend.model.gamification.quiz.QuizUserScore;
+
+/**
+ * Repository interface for managing QuizUserScore entities. Provides the statements that keep the
+ * best score of each user per quiz up to date, and the leaderboard queries served from them.
+ */
+@Repository
+public interface QuizUserScoreRepository extends JpaRepository<QuizUserScore, Long> {
+
+  /**
+   * Merges the current score of an attempt into the best score of its user at its quiz, creating
+   * the row on the user's first attempt. The best score only ever increases, and its timestamp is
+   * that of the attempt which first reached it.
+   *
+   * @param attemptId   the ID of the attempt
+   * @param newAttempts the number of attempts to add to the user's attempt count: 1 for a new
+   *                    attempt, 0 when the score of an existing attempt changed
+   * @return the number of inserted or updated rows
+   */
+  @Modifying
+  @Query(value = "MERGE INTO quiz_user_scores s " +
+      "USING (SELECT quiz_id, user_id, score, " +
+      "COALESCE(completed_at, CURRENT_TIMESTAMP) AS achieved_at " +
+      "FROM user_quiz_attempts WHERE id = :attemptId) a " +
+      "ON s.quiz_id = a.quiz_id AND s.user_id = a.user_id " +
+      "WHEN MATCHED THEN UPDATE SET " +
+      "achieved_at = CASE WHEN a.score > s.best_score THEN a.achieved_at ELSE s.achieved_at END, " +
+      "best_score = GREATEST(s.best_score, a.score), " +
+      "attempt_count = s.attempt_count + :newAttempts " +
+      "WHEN NOT MATCHED THEN INSERT (quiz_id, user_id, best_score, attempt_count, achieved_at) " +
+      "VALUES (a.quiz_id, a.user_id, a.score, :newAttempts, a.achieved_at)", nativeQuery = true)
+  int mergeAttemptScore(@Param("attemptId") Long attemptId, @Param("newAttempts") int newAttempts);
+
+  /**
+   * Retrieves a page of the leaderboard of a quiz: users ordered by best score, with ties going to
+   * whoever reached the score first.
+   *
+   * @param quizId   the ID of the quiz
+   * @param pageable the pagination information
+   * @return the leaderboard entries of the page, without their ranks
+   */
+  @Query("SELECT new stud.ntnu.backend.dto.quiz.QuizLeaderboardEntryDto(s.userId, u.firstName, " +
+      "s.bestScore, s.attemptCount, s.achievedAt) " +
+      "FROM QuizUserScore s JOIN User u ON u.id = s.userId WHERE s.quizId = :quizId " +
+      "ORDER BY s.bestScore DESC, s.achievedAt ASC, s.userId ASC")
+  List<QuizLeaderboardEntryDto> findLeaderboard(@Param("quizId") Long quizId, Pageable pageable);
+
+  /**
+   * Deletes the scores of all users at a quiz in a single statement.
+   *
+   * @param quizId the ID of the quiz
+   * @return the number of deleted scores
+   */
+  @Modifying
+  @Query("DELETE FROM QuizUserScore s WHERE s.quizId = :quizId")
+  int deleteByQuizId(@Param("quizId") Long quizId);
+
+  /**
+   * Deletes all scores in a single statement, before they are rebuilt from the recorded attempts.
+   *
+   * @return the number of deleted scores
+   */
+  @Modifying
+  @Query("DELETE FROM QuizUserScore s")
+  int deleteAllScores();
+
+  /**
+   * Rebuilds the best score of every user at every quiz from the recorded attempts, in a single
+   * bulk statement. The scores must be deleted first.
+   *
+   * @return the number of inserted scores
+   */
+  @Modifying
+  @Query(value = "INSERT INTO quiz_user_scores " +
+      "(quiz_id, user_id, best_score, attempt_count, achieved_at) " +
+      "SELECT g.quiz_id, g.user_id, g.best_score, g.attempt_count, " +
+      "(SELECT MIN(COALESCE(a.completed_at, CURRENT_TIMESTAMP)) FROM user_quiz_attempts a " +
+      "WHERE a.quiz_id = g.quiz_id AND a.user_id = g.user_id AND a.score = g.best_score) " +
+      "FROM (SELECT quiz_id, user_id, MAX(score) AS best_score, COUNT(*) AS attempt_count " +
+      "FROM user_quiz_attempts GROUP BY quiz_id, user_id) g", nativeQuery = true)
+  int insertScoresFromAttempts();
+}
@@ -3,8 +3,12 @@ package stud.ntnu.backend.repository.gamification.quiz;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import stud.ntnu.backend.dto.quiz.QuizQuestionResultDto;
 import stud.ntnu.backend.model.gamification.quiz.UserQuizAnswer;
 
 /**
@@ -12,7 +16,8 @@ import stud.ntnu.backend.model.gamification.quiz.UserQuizAnswer;
  * database for quiz answer operations.
  */
 @Repository
-public interface UserQuizAnswerRepository extends JpaRepository<UserQuizAnswer, Long> {
+public interface UserQuizAnswerRepository extends JpaRepository<UserQuizAnswer, Long>,
+    UserQuizAnswerRepositoryCustom {
 
   /**
    * Retrieves all quiz answers associated with a specific quiz attempt.
@@ -21,4 +26,47 @@ public interface UserQuizAnswerRepository extends JpaRepository<UserQuizAnswer,
    * @return a list of UserQuizAnswer entities for the specified attempt
    */
   List<UserQuizAnswer> findAllByUserQuizAttemptId(Long userQuizAttemptId);
-}
\ No newline at end of file
+
+  /**
+   * Checks whether a question has already been answered in a quiz attempt.
+   *
+   * @param userQuizAttemptId the ID of the quiz attempt
+   * @param questionId        the ID of the question
+   * @return true if the attempt already has an answer to the question
+   */
+  boolean existsByUserQuizAttemptIdAndQuestionId(Long userQuizAttemptId, Long questionId);
+
+  /**
+   * Counts the correct answers of a quiz attempt in a single aggregate join against the quiz
+   * answers.
+   *
+   * @param userQuizAttemptId the ID of the quiz attempt
+   * @return the number of correct answers in the attempt
+   */
+  @Query("SELECT COUNT(ua) FROM UserQuizAnswer ua JOIN QuizAnswer qa ON qa.id = ua.answerId " +
+      "WHERE ua.userQuizAttemptId = :attemptId AND qa.isCorrect = true")
+  long countCorrectByUserQuizAttemptId(@Param("attemptId") Long userQuizAttemptId);
+
+  /**
+   * Retrieves the selected answer and its correctness for every question answered in a quiz
+   * attempt, in submission order.
+   *
+   * @param userQuizAttemptId the ID of the quiz attempt
+   * @return a list of per-question results for the attempt
+   */
+  @Query("SELECT new stud.ntnu.backend.dto.quiz.QuizQuestionResultDto(ua.questionId, ua.answerId, qa.isCorrect) " +
+      "FROM UserQuizAnswer ua JOIN QuizAnswer qa ON qa.id = ua.answerId " +
+      "WHERE ua.userQuizAttemptId = :attemptId ORDER BY ua.id")
+  List<QuizQuestionResultDto> findResultsByUserQuizAttemptId(
+      @Param("attemptId") Long userQuizAttemptId);
+
+  /**
+   * Deletes all user answers given to a quiz in a single statement.
+   *
+   * @param quizId the ID of the quiz
+   * @return the number of deleted answers
+   */
+  @Modifying
+  @Query("DELETE FROM UserQuizAnswer ua WHERE ua.quizId = :quizId")
+  int deleteByQuizId(@Param("quizId") Long quizId);
+}
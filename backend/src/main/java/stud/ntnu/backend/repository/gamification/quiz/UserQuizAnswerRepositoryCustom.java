@@ -0,0 +1,20 @@
+package stud.ntnu.backend.repository.gamification.quiz;
+
+import java.util.List;
+
+import stud.ntnu.backend.model.gamification.quiz.UserQuizAnswer;
+
+/**
+ * Custom repository operations for UserQuizAnswer entities that are not expressible as derived or
+ * annotated queries.
+ */
+public interface UserQuizAnswerRepositoryCustom {
+
+  /**
+   * Inserts all given answers in a single JDBC batch. The generated IDs are not written back to the
+   * given entities.
+   *
+   * @param answers the answers to insert
+   */
+  void insertAll(List<UserQuizAnswer> answers);
+}
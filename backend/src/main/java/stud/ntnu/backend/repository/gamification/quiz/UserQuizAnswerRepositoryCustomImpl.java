@@ -0,0 +1,31 @@
+package stud.ntnu.backend.repository.gamification.quiz;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.model.gamification.quiz.UserQuizAnswer;
+
+/**
+ * JDBC implementation of {@link UserQuizAnswerRepositoryCustom}. Hibernate cannot batch inserts of
+ * entities with identity-generated IDs, so the answers are inserted through a batched prepared
+ * statement instead. The statement joins the surrounding transaction.
+ */
+@RequiredArgsConstructor
+public class UserQuizAnswerRepositoryCustomImpl implements UserQuizAnswerRepositoryCustom {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void insertAll(List<UserQuizAnswer> answers) {
+    jdbcTemplate.batchUpdate("INSERT INTO user_quiz_answers "
+            + "(user_quiz_attempt_id, quiz_id, question_id, answer_id) VALUES (?, ?, ?, ?)",
+        answers, answers.size(), (ps, answer) -> {
+          ps.setLong(1, answer.getUserQuizAttemptId());
+          ps.setLong(2, answer.getQuizId());
+          ps.setLong(3, answer.getQuestionId());
+          ps.setLong(4, answer.getAnswerId());
+        });
+  }
+}
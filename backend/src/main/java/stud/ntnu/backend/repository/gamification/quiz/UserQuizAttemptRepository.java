@@ -1,9 +1,11 @@
 package stud.ntnu.backend.repository.gamification.quiz;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -52,4 +54,48 @@ public interface UserQuizAttemptRepository extends JpaRepository<UserQuizAttempt
    * @return The most recent UserQuizAttempt object
    */
   UserQuizAttempt findFirstByUserIdAndQuizIdOrderByIdDesc(Integer userId, Long quizId);
-}
\ No newline at end of file
+
+  /**
+   * Finds a quiz attempt by its ID, provided it belongs to the given user.
+   *
+   * @param id     The ID of the quiz attempt
+   * @param userId The ID of the user
+   * @return An Optional containing the attempt if it exists and belongs to the user
+   */
+  Optional<UserQuizAttempt> findByIdAndUserId(Long id, Integer userId);
+
+  /**
+   * Increments the score of a quiz attempt by one in a single update, so concurrent answer
+   * submissions for the same attempt are not lost.
+   *
+   * @param id The ID of the quiz attempt
+   * @return The number of updated attempts
+   */
+  @Modifying
+  @Query("UPDATE UserQuizAttempt u SET u.score = u.score + 1 WHERE u.id = :id")
+  int incrementScore(@Param("id") Long id);
+
+  /**
+   * Finds the distinct IDs of the quizzes a user has attempted, paginated, with the most recently
+   * created quizzes first.
+   *
+   * @param userId   The ID of the user
+   * @param pageable The pagination information
+   * @return A page of quiz IDs
+   */
+  @Query(value = "SELECT DISTINCT u.quizId FROM UserQuizAttempt u WHERE u.userId = :userId "
+      + "ORDER BY u.quizId DESC",
+      countQuery = "SELECT COUNT(DISTINCT u.quizId) FROM UserQuizAttempt u WHERE u.userId = :userId")
+  Page<Long> findDistinctQuizIdsByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+  /**
+   * Deletes all attempts of a quiz in a single statement. The answers of the attempts must be
+   * deleted first.
+   *
+   * @param quizId The ID of the quiz
+   * @return The number of deleted attempts
+   */
+  @Modifying
+  @Query("DELETE FROM UserQuizAttempt u WHERE u.quizId = :quizId")
+  int deleteByQuizId(@Param("quizId") Long quizId);
+}
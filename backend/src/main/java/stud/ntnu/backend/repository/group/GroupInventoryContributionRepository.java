@@ -1,5 +1,6 @@
 package stud.ntnu.backend.repository.group;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import stud.ntnu.backend.dto.group.GroupReadinessDto;
+import stud.ntnu.backend.dto.inventory.GroupProductTypeTotalDto;
 import stud.ntnu.backend.model.group.GroupInventoryContribution;
 import stud.ntnu.backend.model.inventory.ProductBatch;
 import stud.ntnu.backend.model.inventory.ProductType;
@@ -44,7 +47,8 @@ public interface GroupInventoryContributionRepository extends
       Pageable pageable);
 
   /**
-   * Verifies if a specific product batch has been contributed to any group.
+   * Verifies if a specific product batch has been contributed to any group. Served by the unique
+   * index on the contributed batch.
    *
    * @param productBatchId The ID of the product batch to check
    * @return true if the batch has been contributed to any group, false otherwise
@@ -55,6 +59,17 @@ public interface GroupInventoryContributionRepository extends
           "WHERE gic.product.id = :productBatchId")
   boolean existsByProductBatchId(@Param("productBatchId") Integer productBatchId);
 
+  /**
+   * Counts the group inventory contributions of a specific product batch. Served by the unique
+   * index on the contributed batch.
+   *
+   * @param productBatchId The ID of the product batch to count contributions for
+   * @return The number of contributions of the batch
+   */
+  @Query("SELECT COUNT(gic) FROM GroupInventoryContribution gic " +
+      "WHERE gic.product.id = :productBatchId")
+  long countByProductBatchId(@Param("productBatchId") Integer productBatchId);
+
   /**
    * Removes all inventory contributions from a specific household to a specific group.
    *
@@ -106,4 +121,67 @@ public interface GroupInventoryContributionRepository extends
       "WHERE gic.group.id = :groupId " +
       "AND gic.product IS NOT NULL")
   List<Integer> findProductTypeIdsContributedToGroup(@Param("groupId") Integer groupId);
+
+  /**
+   * Removes all inventory contributions made by a household, across all groups, in a single bulk
+   * statement.
+   *
+   * @param householdId The ID of the household whose contributions should be removed
+   * @return The number of removed contributions
+   */
+  @Modifying
+  @Query("DELETE FROM GroupInventoryContribution gic WHERE gic.household.id = :householdId")
+  int deleteByHouseholdId(@Param("householdId") Integer householdId);
+
+  /**
+   * Aggregates the contributed stock of a group per product type in a single grouped query. The
+   * cost scales with the number of contributions to the group, not with the size of the table.
+   *
+   * @param groupId  The ID of the group to aggregate
+   * @param pageable Pagination and sorting parameters
+   * @return A page of per product type totals for the group
+   */
+  @Query(value = "SELECT new stud.ntnu.backend.dto.inventory.GroupProductTypeTotalDto(" +
+      "pt.id, pt.household.id, pt.name, pt.unit, pt.caloriesPerUnit, pt.category, " +
+      "SUM(pb.number), COUNT(pb), MIN(pb.expirationTime)) " +
+      "FROM GroupInventoryContribution gic " +
+      "JOIN gic.product pb " +
+      "JOIN pb.productType pt " +
+      "WHERE gic.group.id = :groupId " +
+      "GROUP BY pt.id, pt.household.id, pt.name, pt.unit, pt.caloriesPerUnit, pt.category",
+      countQuery = "SELECT COUNT(DISTINCT pb.productType.id) FROM GroupInventoryContribution gic " +
+          "JOIN gic.product pb " +
+          "WHERE gic.group.id = :groupId")
+  Page<GroupProductTypeTotalDto> findProductTypeTotalsByGroupId(@Param("groupId") Integer groupId,
+      Pageable pageable);
+
+  /**
+   * Calculates the raw readiness totals of a group in a single aggregate query: the combined
+   * population and calorie requirement of the group's current member households, the litres of
+   * water and calories of food contributed to the group, and the number of contributed units that
+   * expire within the given window. Population figures are read from the household counters, so no
+   * household members are loaded.
+   *
+   * @param groupId The ID of the group
+   * @param now     The current time, used for membership and expiration filtering
+   * @param cutoff  The end of the expiration window
+   * @return The raw readiness totals of the group
+   */
+  @Query("SELECT new stud.ntnu.backend.dto.group.GroupReadinessDto(" +
+      "(SELECT COALESCE(SUM(h.populationCount), 0) FROM GroupMembership gm JOIN gm.household h " +
+      "WHERE gm.group.id = :groupId AND (gm.leftAt IS NULL OR gm.leftAt > :now)), " +
+      "(SELECT COALESCE(SUM(h.kcalRequirement), 0) FROM GroupMembership gm JOIN gm.household h " +
+      "WHERE gm.group.id = :groupId AND (gm.leftAt IS NULL OR gm.leftAt > :now)), " +
+      "COALESCE(SUM(CASE WHEN pt.category = 'water' AND pt.unit = 'l' " +
+      "THEN pb.number ELSE 0 END), 0), " +
+      "COALESCE(SUM(CASE WHEN pt.category = 'food' " +
+      "THEN pb.number * pt.caloriesPerUnit ELSE 0.0 END), 0.0), " +
+      "COALESCE(SUM(CASE WHEN pb.expirationTime >= :now AND pb.expirationTime < :cutoff " +
+      "THEN pb.number ELSE 0 END), 0)) " +
+      "FROM GroupInventoryContribution gic " +
+      "JOIN gic.product pb " +
+      "JOIN pb.productType pt " +
+      "WHERE gic.group.id = :groupId")
+  GroupReadinessDto calculateReadinessTotals(@Param("groupId") Integer groupId,
+      @Param("now") LocalDateTime now, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -58,4 +59,14 @@ public interface GroupInvitationRepository extends JpaRepository<GroupInvitation
   List<GroupInvitation> findPendingInvitationsForHousehold(
       @Param("householdId") Integer householdId,
       @Param("now") LocalDateTime now);
-} 
\ No newline at end of file
+
+  /**
+   * Deletes all group invitations sent to a household in a single bulk statement.
+   *
+   * @param householdId the ID of the invited household
+   * @return the number of deleted invitations
+   */
+  @Modifying
+  @Query("DELETE FROM GroupInvitation gi WHERE gi.invitedHousehold.id = :householdId")
+  int deleteByInvitedHouseholdId(@Param("householdId") Integer householdId);
+}
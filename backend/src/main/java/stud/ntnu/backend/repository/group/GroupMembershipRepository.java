@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -111,4 +112,64 @@ public interface GroupMembershipRepository extends
       "AND gi.expiresAt > :now AND gi.acceptedAt IS NULL AND gi.declinedAt IS NULL")
   boolean existsByGroupIdAndHouseholdIdAndInvitationNotExpired(Integer groupId, Integer householdId,
       LocalDateTime now);
-}
\ No newline at end of file
+
+  /**
+   * Finds the IDs of all groups a household has ever been a member of.
+   *
+   * @param householdId The ID of the household
+   * @return A list of group IDs
+   */
+  @Query("SELECT gm.group.id FROM GroupMembership gm WHERE gm.household.id = :householdId")
+  List<Integer> findGroupIdsByHouseholdId(@Param("householdId") Integer householdId);
+
+  /**
+   * Deletes all group memberships, current and historical, of a household in a single bulk
+   * statement.
+   *
+   * @param householdId The ID of the household
+   * @return The number of deleted memberships
+   */
+  @Modifying
+  @Query("DELETE FROM GroupMembership gm WHERE gm.household.id = :householdId")
+  int deleteByHouseholdId(@Param("householdId") Integer householdId);
+
+  /**
+   * Checks whether the household of the user with the given email is a current member of a group.
+   * Resolves the user and the membership in a single EXISTS query, using the unique email index and
+   * the membership primary key.
+   *
+   * @param groupId The ID of the group
+   * @param email   The email of the user
+   * @param now     The current timestamp to check membership against
+   * @return true if the user's household is a current member of the group, false otherwise
+   */
+  @Query(value = """
+      SELECT EXISTS (
+          SELECT 1 FROM users u
+          JOIN group_memberships gm ON gm.household_id = u.household_id
+          WHERE u.email = :email
+          AND gm.group_id = :groupId
+          AND (gm.left_at IS NULL OR gm.left_at > :now)
+      )
+      """,
+      nativeQuery = true)
+  boolean existsCurrentByGroupIdAndUserEmail(@Param("groupId") Integer groupId,
+      @Param("email") String email, @Param("now") LocalDateTime now);
+
+  /**
+   * Finds the IDs of all households that currently share at least one group with the given
+   * household, including the household itself if it is a current member of any group.
+   *
+   * @param householdId The ID of the household
+   * @param now         The current timestamp to check memberships against
+   * @return A list of distinct household IDs
+   */
+  @Query("SELECT DISTINCT gm.household.id FROM GroupMembership gm " +
+      "WHERE (gm.leftAt IS NULL OR gm.leftAt > :now) " +
+      "AND gm.group.id IN (" +
+      "  SELECT own.group.id FROM GroupMembership own " +
+      "  WHERE own.household.id = :householdId AND (own.leftAt IS NULL OR own.leftAt > :now)" +
+      ")")
+  List<Integer> findHouseholdIdsSharingGroupWith(@Param("householdId") Integer householdId,
+      @Param("now") LocalDateTime now);
+}
@@ -3,6 +3,9 @@ package stud.ntnu.backend.repository.household;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import stud.ntnu.backend.model.household.EmptyHouseholdMember;
 import stud.ntnu.backend.model.household.Household;
@@ -21,4 +24,14 @@ public interface EmptyHouseholdMemberRepository extends
    * @return A list of EmptyHouseholdMember entities associated with the given household
    */
   List<EmptyHouseholdMember> findByHousehold(Household household);
-}
\ No newline at end of file
+
+  /**
+   * Deletes all EmptyHouseholdMember entities of a household in a single bulk statement.
+   *
+   * @param householdId The ID of the household whose members should be deleted
+   * @return The number of deleted members
+   */
+  @Modifying
+  @Query("DELETE FROM EmptyHouseholdMember m WHERE m.household.id = :householdId")
+  int deleteByHouseholdId(@Param("householdId") Integer householdId);
+}
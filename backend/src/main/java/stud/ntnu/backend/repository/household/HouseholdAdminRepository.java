@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.household.HouseholdAdmin;
@@ -38,4 +41,14 @@ public interface HouseholdAdminRepository extends JpaRepository<HouseholdAdmin,
    * @return a list of household admins for the specified household
    */
   List<HouseholdAdmin> findByHousehold(Household household);
-}
\ No newline at end of file
+
+  /**
+   * Deletes all household admins of a specific household in a single bulk statement.
+   *
+   * @param householdId the ID of the household
+   * @return the number of deleted admin records
+   */
+  @Modifying
+  @Query("DELETE FROM HouseholdAdmin ha WHERE ha.household.id = :householdId")
+  int deleteByHouseholdId(@Param("householdId") Integer householdId);
+}
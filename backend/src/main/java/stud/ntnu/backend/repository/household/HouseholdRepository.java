@@ -1,6 +1,9 @@
 package stud.ntnu.backend.repository.household;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import stud.ntnu.backend.model.household.Household;
 import java.util.Optional;
@@ -31,4 +34,61 @@ public interface HouseholdRepository extends JpaRepository<Household, Integer> {
    * @return Optional containing the household if found, empty otherwise
    */
   Optional<Household> findByName(String name);
-}
\ No newline at end of file
+
+  /**
+   * Deletes a household by its ID using a bulk statement. The persistence context is cleared
+   * afterwards, so callers must not rely on previously loaded entities.
+   *
+   * @param id the ID of the household to delete
+   * @return the number of deleted households
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM Household h WHERE h.id = :id")
+  int deleteHouseholdById(@Param("id") Integer id);
+
+  /**
+   * Atomically adjusts the population and kcal requirement counters of a household. Used whenever
+   * a user or empty member joins or leaves, so the counters never have to be recounted.
+   *
+   * @param id              the ID of the household
+   * @param populationDelta the change in population count
+   * @param kcalDelta       the change in daily kcal requirement
+   * @return the number of updated households
+   */
+  @Modifying
+  @Query("UPDATE Household h SET h.populationCount = h.populationCount + :populationDelta, " +
+      "h.kcalRequirement = h.kcalRequirement + :kcalDelta WHERE h.id = :id")
+  int adjustCounters(@Param("id") Integer id, @Param("populationDelta") int populationDelta,
+      @Param("kcalDelta") int kcalDelta);
+
+  /**
+   * SQL expression computing the actual population of household {@code h}.
+   */
+  String ACTUAL_POPULATION =
+      "((SELECT COUNT(*) FROM users u WHERE u.household_id = h.id) + " +
+          "(SELECT COUNT(*) FROM household_member m WHERE m.household_id = h.id " +
+          "AND m.type <> 'pet'))";
+
+  /**
+   * SQL expression computing the actual daily kcal requirement of household {@code h}.
+   */
+  String ACTUAL_KCAL =
+      "((SELECT COALESCE(SUM(u.kcal_requirement), 0) FROM users u WHERE u.household_id = h.id) + " +
+          "(SELECT COALESCE(SUM(m.kcal_requirement), 0) FROM household_member m " +
+          "WHERE m.household_id = h.id))";
+
+  /**
+   * Recomputes the population and kcal requirement counters of every household whose stored
+   * values have drifted from its actual members, in a single bulk statement. Pets count towards
+   * the kcal requirement but not the population.
+   *
+   * @return the number of households that were repaired
+   */
+  @Modifying
+  @Query(value = "UPDATE households h SET " +
+      "population_count = " + ACTUAL_POPULATION + ", " +
+      "kcal_requirement = " + ACTUAL_KCAL + " " +
+      "WHERE population_count <> " + ACTUAL_POPULATION + " " +
+      "OR kcal_requirement <> " + ACTUAL_KCAL, nativeQuery = true)
+  int repairDriftedCounters();
+}
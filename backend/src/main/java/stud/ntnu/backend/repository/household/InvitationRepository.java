@@ -6,6 +6,8 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import stud.ntnu.backend.model.household.Household;
@@ -83,4 +85,14 @@ public interface InvitationRepository extends JpaRepository<Invitation, Integer>
    */
   @Query("SELECT COUNT(i) > 0 FROM Invitation i WHERE i.household = :household AND i.inviteeEmail = :email AND i.acceptedAt IS NULL AND i.declinedAt IS NULL AND i.expiresAt > :now")
   boolean hasPendingInvitationForEmail(Household household, String email, LocalDateTime now);
-}
\ No newline at end of file
+
+  /**
+   * Deletes all invitations belonging to a household in a single bulk statement.
+   *
+   * @param householdId The ID of the household
+   * @return The number of deleted invitations
+   */
+  @Modifying
+  @Query("DELETE FROM Invitation i WHERE i.household.id = :householdId")
+  int deleteByHouseholdId(@Param("householdId") Integer householdId);
+}
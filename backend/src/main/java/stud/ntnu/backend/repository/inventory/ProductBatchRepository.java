@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import stud.ntnu.backend.model.inventory.ProductBatch;
@@ -103,4 +104,16 @@ public interface ProductBatchRepository extends JpaRepository<ProductBatch, Inte
       @Param("fromDate") LocalDateTime fromDate,
       @Param("toDate") LocalDateTime toDate,
       Pageable pageable);
+
+  /**
+   * Delete all product batches belonging to product types of a household in a single bulk
+   * statement.
+   *
+   * @param householdId the ID of the household
+   * @return the number of deleted batches
+   */
+  @Modifying
+  @Query("DELETE FROM ProductBatch pb WHERE pb.productType.id IN " +
+      "(SELECT pt.id FROM ProductType pt WHERE pt.household.id = :householdId)")
+  int deleteByHouseholdId(@Param("householdId") Integer householdId);
 }
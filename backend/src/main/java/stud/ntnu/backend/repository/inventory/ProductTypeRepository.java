@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import stud.ntnu.backend.model.inventory.ProductType;
@@ -53,4 +54,15 @@ public interface ProductTypeRepository extends JpaRepository<ProductType, Intege
   Page<ProductType> findContributedProductTypesByGroup(
       @Param("groupId") Integer groupId,
       Pageable pageable);
+
+  /**
+   * Delete all product types of a household in a single bulk statement. Batches must be deleted
+   * first.
+   *
+   * @param householdId the ID of the household
+   * @return the number of deleted product types
+   */
+  @Modifying
+  @Query("DELETE FROM ProductType pt WHERE pt.household.id = :householdId")
+  int deleteByHouseholdId(@Param("householdId") Integer householdId);
 }
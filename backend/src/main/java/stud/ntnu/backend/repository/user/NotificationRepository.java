@@ -2,18 +2,25 @@ package stud.ntnu.backend.repository.user;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import stud.ntnu.backend.model.user.Notification;
 import stud.ntnu.backend.model.user.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for Notification entity operations.
  */
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Integer> {
+public interface NotificationRepository extends JpaRepository<Notification, Integer>,
+    NotificationRepositoryCustom {
 
   /**
    * Find all notifications for a specific user.
@@ -67,4 +74,118 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
    * @return true if the user has any unread notifications, false otherwise
    */
   boolean existsByUserIdAndReadAtIsNull(Integer userId);
+
+  /**
+   * Marks a notification as read if it is still unread. The condition makes concurrent requests
+   * for the same notification mark it, and adjust the unread counter, only once.
+   *
+   * @param id     the ID of the notification
+   * @param readAt the time the notification was read
+   * @return 1 if the notification was unread and is now marked as read, 0 otherwise
+   */
+  @Modifying
+  @Query("UPDATE Notification n SET n.readAt = :readAt WHERE n.id = :id AND n.readAt IS NULL")
+  int markAsReadIfUnread(@Param("id") Integer id, @Param("readAt") LocalDateTime readAt);
+
+  /**
+   * Marks all unread notifications of a user as read in a single bulk update.
+   *
+   * @param userId the user ID
+   * @param readAt the time the notifications were read
+   * @return the number of notifications marked as read
+   */
+  @Modifying
+  @Query("UPDATE Notification n SET n.readAt = :readAt " +
+      "WHERE n.user.id = :userId AND n.readAt IS NULL")
+  int markAllAsReadByUserId(@Param("userId") Integer userId,
+      @Param("readAt") LocalDateTime readAt);
+
+  /**
+   * Marks the unread notifications of a user up to and including a notification ID as read in a
+   * single bulk update. Notifications created after the client fetched its list keep their unread
+   * state.
+   *
+   * @param userId the user ID
+   * @param maxId  the ID of the newest notification to mark as read
+   * @param readAt the time the notifications were read
+   * @return the number of notifications marked as read
+   */
+  @Modifying
+  @Query("UPDATE Notification n SET n.readAt = :readAt " +
+      "WHERE n.user.id = :userId AND n.readAt IS NULL AND n.id <= :maxId")
+  int markAllAsReadByUserIdUpToId(@Param("userId") Integer userId,
+      @Param("maxId") Integer maxId, @Param("readAt") LocalDateTime readAt);
+
+  /**
+   * Marks the unread notifications of a user that were due at or before a given time as read in a
+   * single bulk update.
+   *
+   * @param userId      the user ID
+   * @param maxNotifyAt the latest notification time to mark as read
+   * @param readAt      the time the notifications were read
+   * @return the number of notifications marked as read
+   */
+  @Modifying
+  @Query("UPDATE Notification n SET n.readAt = :readAt " +
+      "WHERE n.user.id = :userId AND n.readAt IS NULL AND n.notifyAt <= :maxNotifyAt")
+  int markAllAsReadByUserIdUpToNotifyAt(@Param("userId") Integer userId,
+      @Param("maxNotifyAt") LocalDateTime maxNotifyAt, @Param("readAt") LocalDateTime readAt);
+
+  /**
+   * Find a keyset page of the notifications of a user, newest first. Notifications are ordered by
+   * notification time and ID, and the page starts strictly after the given cursor, so the cost of a
+   * page is bounded by the page size rather than by the offset.
+   *
+   * @param userId         the user ID
+   * @param beforeNotifyAt the notification time of the last notification of the previous page, or
+   *                       null for the first page
+   * @param beforeId       the ID of the last notification of the previous page, or null for the
+   *                       first page
+   * @param pageable       the page size; the page number is ignored
+   * @return a slice of notifications
+   */
+  @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+      "AND (:beforeNotifyAt IS NULL OR n.notifyAt < :beforeNotifyAt " +
+      "  OR (n.notifyAt = :beforeNotifyAt AND n.id < :beforeId)) " +
+      "ORDER BY n.notifyAt DESC, n.id DESC")
+  Slice<Notification> findInboxBefore(@Param("userId") Integer userId,
+      @Param("beforeNotifyAt") LocalDateTime beforeNotifyAt, @Param("beforeId") Integer beforeId,
+      Pageable pageable);
+
+  /**
+   * Find the IDs of the oldest notifications that were read before the given time.
+   *
+   * @param readBefore the time before which the notifications were read
+   * @param pageable   the maximum number of IDs to return; the page number is ignored
+   * @return the IDs of the read notifications, in ascending order
+   */
+  @Query("SELECT n.id FROM Notification n WHERE n.readAt < :readBefore ORDER BY n.id")
+  List<Integer> findIdsReadBefore(@Param("readBefore") LocalDateTime readBefore,
+      Pageable pageable);
+
+  /**
+   * Copies the given notifications to the archive table in a single bulk statement.
+   *
+   * @param ids        the IDs of the notifications to copy
+   * @param archivedAt the time the notifications are archived
+   * @return the number of copied notifications
+   */
+  @Modifying
+  @Query(value = "INSERT INTO notifications_archive (id, user_id, preference_type, target_type, " +
+      "target_id, description, notify_at, sent_at, read_at, created_at, archived_at) " +
+      "SELECT id, user_id, preference_type, target_type, target_id, description, notify_at, " +
+      "sent_at, read_at, created_at, :archivedAt FROM notifications WHERE id IN (:ids)",
+      nativeQuery = true)
+  int copyToArchive(@Param("ids") Collection<Integer> ids,
+      @Param("archivedAt") LocalDateTime archivedAt);
+
+  /**
+   * Deletes the given notifications in a single bulk statement.
+   *
+   * @param ids the IDs of the notifications to delete
+   * @return the number of deleted notifications
+   */
+  @Modifying
+  @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+  int deleteByIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -0,0 +1,20 @@
+package stud.ntnu.backend.repository.user;
+
+import java.util.List;
+
+import stud.ntnu.backend.model.user.Notification;
+
+/**
+ * Custom repository operations for Notification entities that are not expressible as derived or
+ * annotated queries.
+ */
+public interface NotificationRepositoryCustom {
+
+  /**
+   * Inserts all given notifications in a single JDBC batch. The generated IDs are not written back
+   * to the given entities.
+   *
+   * @param notifications the notifications to insert
+   */
+  void insertAll(List<Notification> notifications);
+}
@@ -0,0 +1,48 @@
+package stud.ntnu.backend.repository.user;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.model.user.Notification;
+
+/**
+ * JDBC implementation of {@link NotificationRepositoryCustom}. Hibernate cannot batch inserts of
+ * entities with identity-generated IDs, so the notifications are inserted through a batched
+ * prepared statement instead. The statement joins the surrounding transaction.
+ */
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void insertAll(List<Notification> notifications) {
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate("INSERT INTO notifications (user_id, preference_type, target_type, "
+            + "target_id, description, notify_at, sent_at, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+        notifications, notifications.size(), (ps, notification) -> {
+          ps.setInt(1, notification.getUser().getId());
+          ps.setString(2, notification.getPreferenceType().name());
+          ps.setString(3, notification.getTargetType() != null
+              ? notification.getTargetType().name() : null);
+          if (notification.getTargetId() != null) {
+            ps.setInt(4, notification.getTargetId());
+          } else {
+            ps.setNull(4, Types.INTEGER);
+          }
+          ps.setString(5, notification.getDescription());
+          ps.setTimestamp(6, Timestamp.valueOf(
+              notification.getNotifyAt().truncatedTo(ChronoUnit.MICROS)));
+          ps.setTimestamp(7, notification.getSentAt() != null
+              ? Timestamp.valueOf(notification.getSentAt()) : null);
+          ps.setTimestamp(8, createdAt);
+        });
+  }
+}
@@ -2,6 +2,8 @@ package stud.ntnu.backend.repository.user;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +11,8 @@ import org.springframework.stereotype.Repository;
 import stud.ntnu.backend.model.user.Reflection;
 import stud.ntnu.backend.model.user.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -66,6 +70,10 @@ public interface ReflectionRepository extends JpaRepository<Reflection, Integer>
   /**
    * Find all shared and non-deleted reflections that are visible to a specific user (from their
    * household and groups).
+   * <p>
+   * The visible households are resolved by nested subqueries on every call. The feed is served by
+   * {@link #findSharedByHouseholdIdsExcludingUser} with precomputed household IDs instead; this
+   * query is kept as the reference the reflection feed benchmark compares against.
    *
    * @param userId   the ID of the user
    * @param pageable pagination information
@@ -86,4 +94,96 @@ public interface ReflectionRepository extends JpaRepository<Reflection, Integer>
       ") AND r.user.id != :userId " +
       "ORDER BY r.createdAt DESC")
   Page<Reflection> findSharedVisibleToUser(@Param("userId") Integer userId, Pageable pageable);
-}
\ No newline at end of file
+
+  /**
+   * Find a page of shared and non-deleted reflections written by users in any household that
+   * currently shares an active group with the given household, newest first. This is the offset
+   * counterpart of {@link #findSharedInHouseholdGroupsBefore}, for clients that need the total
+   * number of reflections; it runs a count query and its cost grows with the page number.
+   *
+   * @param householdId the ID of the household whose groups to read from
+   * @param now         the current timestamp to check memberships against
+   * @param pageable    pagination information; any sort is ignored
+   * @return a page of shared reflections
+   */
+  @EntityGraph(attributePaths = {"user", "crisisEvent"})
+  @Query("SELECT r FROM Reflection r " +
+      "WHERE r.shared = true AND r.deleted = false " +
+      "AND r.user.id IN (" +
+      "  SELECT u.id FROM User u WHERE u.household.id IN (" +
+      "    SELECT gm.household.id FROM GroupMembership gm " +
+      "    WHERE gm.group.status = 'active' AND (gm.leftAt IS NULL OR gm.leftAt > :now) " +
+      "    AND gm.group.id IN (" +
+      "      SELECT own.group.id FROM GroupMembership own " +
+      "      WHERE own.household.id = :householdId AND (own.leftAt IS NULL OR own.leftAt > :now)" +
+      "    )" +
+      "  )" +
+      ") " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  Page<Reflection> findSharedInHouseholdGroups(@Param("householdId") Integer householdId,
+      @Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * Find a keyset page of shared and non-deleted reflections written by users in any household that
+   * currently shares an active group with the given household, newest first. Reflections are
+   * ordered by creation time and ID, and the page starts strictly after the given cursor, so the
+   * cost of a page is bounded by the page size rather than by the offset. The authors and crisis
+   * events are fetched in the same query.
+   *
+   * @param householdId     the ID of the household whose groups to read from
+   * @param beforeCreatedAt the creation time of the last reflection of the previous page, or null
+   *                        for the first page
+   * @param beforeId        the ID of the last reflection of the previous page, or null for the
+   *                        first page
+   * @param now             the current timestamp to check memberships against
+   * @param pageable        the page size; the page number is ignored
+   * @return a slice of shared reflections
+   */
+  @EntityGraph(attributePaths = {"user", "crisisEvent"})
+  @Query("SELECT r FROM Reflection r " +
+      "WHERE r.shared = true AND r.deleted = false " +
+      "AND r.user.id IN (" +
+      "  SELECT u.id FROM User u WHERE u.household.id IN (" +
+      "    SELECT gm.household.id FROM GroupMembership gm " +
+      "    WHERE gm.group.status = 'active' AND (gm.leftAt IS NULL OR gm.leftAt > :now) " +
+      "    AND gm.group.id IN (" +
+      "      SELECT own.group.id FROM GroupMembership own " +
+      "      WHERE own.household.id = :householdId AND (own.leftAt IS NULL OR own.leftAt > :now)" +
+      "    )" +
+      "  )" +
+      ") " +
+      "AND (:beforeCreatedAt IS NULL OR r.createdAt < :beforeCreatedAt " +
+      "  OR (r.createdAt = :beforeCreatedAt AND r.id < :beforeId)) " +
+      "ORDER BY r.createdAt DESC, r.id DESC")
+  Slice<Reflection> findSharedInHouseholdGroupsBefore(@Param("householdId") Integer householdId,
+      @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt, @Param("beforeId") Integer beforeId,
+      @Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * Find all shared and non-deleted reflections written by users in the given households, except
+   * the given user's own reflections, newest first. With the visible households resolved up front
+   * this is an indexed range scan per author; authors and crisis events are fetched in the same
+   * query. The authors are filtered through a subquery on the reflection's user ID rather than on
+   * the joined user, which lets the database drive the scan from the reflections index.
+   *
+   * @param householdIds the IDs of the households whose reflections are visible
+   * @param userId       the ID of the user reading the feed
+   * @param pageable     pagination information
+   * @return a page of shared reflections
+   */
+  @EntityGraph(attributePaths = {"user", "crisisEvent"})
+  @Query(value = "SELECT r FROM Reflection r " +
+      "WHERE r.shared = true AND r.deleted = false " +
+      "AND r.user.id IN (" +
+      "  SELECT u.id FROM User u WHERE u.household.id IN :householdIds AND u.id <> :userId" +
+      ") " +
+      "ORDER BY r.createdAt DESC, r.id DESC",
+      countQuery = "SELECT COUNT(r) FROM Reflection r " +
+          "WHERE r.shared = true AND r.deleted = false " +
+          "AND r.user.id IN (" +
+          "  SELECT u.id FROM User u WHERE u.household.id IN :householdIds AND u.id <> :userId" +
+          ")")
+  Page<Reflection> findSharedByHouseholdIdsExcludingUser(
+      @Param("householdIds") Collection<Integer> householdIds, @Param("userId") Integer userId,
+      Pageable pageable);
+}
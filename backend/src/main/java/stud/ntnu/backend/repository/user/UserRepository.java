@@ -1,13 +1,16 @@
 package stud.ntnu.backend.repository.user;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.user.User;
 
@@ -18,6 +21,13 @@ import stud.ntnu.backend.model.user.User;
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
 
+  /**
+   * Maximum number of user IDs bound to a single {@code IN} clause. Longer ID lists are processed
+   * in chunks of this size, so that a statement stays well below the bind parameter limit of the
+   * database however many users are affected.
+   */
+  int MAX_IDS_PER_QUERY = 1000;
+
   /**
    * Find a user by their email address.
    *
@@ -67,4 +77,87 @@ public interface UserRepository extends JpaRepository<User, Integer> {
    */
   @Query("SELECT COALESCE(SUM(u.kcalRequirement), 0) FROM User u WHERE u.household.id = :householdId")
   Integer sumKcalRequirementByHouseholdId(@Param("householdId") Integer householdId);
-}
\ No newline at end of file
+
+  /**
+   * Find the IDs of all users belonging to a household.
+   *
+   * @param householdId the ID of the household
+   * @return the IDs of the users in the specified household
+   */
+  @Query("SELECT u.id FROM User u WHERE u.household.id = :householdId")
+  List<Integer> findIdsByHouseholdId(@Param("householdId") Integer householdId);
+
+  /**
+   * Unlink all users from a household in a single bulk update.
+   *
+   * @param householdId the ID of the household to unlink users from
+   * @return the number of users that were unlinked
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.household = NULL WHERE u.household.id = :householdId")
+  int clearHouseholdByHouseholdId(@Param("householdId") Integer householdId);
+
+  /**
+   * Adjusts the unread notification counter of a user by the given delta in a single atomic
+   * update.
+   *
+   * @param id    the ID of the user
+   * @param delta the change in the number of unread notifications
+   * @return the number of updated users
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.unreadNotificationCount = u.unreadNotificationCount + :delta " +
+      "WHERE u.id = :id")
+  int adjustUnreadNotificationCount(@Param("id") Integer id, @Param("delta") int delta);
+
+  /**
+   * Increments the unread notification counters of several users by one in a single bulk update.
+   *
+   * @param ids the IDs of the users, at most {@link #MAX_IDS_PER_QUERY}
+   * @return the number of updated users
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.unreadNotificationCount = u.unreadNotificationCount + 1 " +
+      "WHERE u.id IN :ids")
+  int incrementUnreadNotificationCounts(@Param("ids") Collection<Integer> ids);
+
+  /**
+   * Find the unread notification count of a user without loading the user.
+   *
+   * @param email the email address of the user
+   * @return an Optional containing the unread notification count, or empty if the user is not
+   * found
+   */
+  @Query("SELECT new stud.ntnu.backend.dto.user.UnreadNotificationCountDto(" +
+      "u.id, u.unreadNotificationCount) FROM User u WHERE u.email = :email")
+  Optional<UnreadNotificationCountDto> findUnreadNotificationCountByEmail(
+      @Param("email") String email);
+
+  /**
+   * Find the unread notification counts of several users in a single query.
+   *
+   * @param ids the IDs of the users, at most {@link #MAX_IDS_PER_QUERY}
+   * @return the unread notification count of each user that exists
+   */
+  @Query("SELECT new stud.ntnu.backend.dto.user.UnreadNotificationCountDto(" +
+      "u.id, u.unreadNotificationCount) FROM User u WHERE u.id IN :ids")
+  List<UnreadNotificationCountDto> findUnreadNotificationCountsByIdIn(
+      @Param("ids") Collection<Integer> ids);
+
+  /**
+   * SQL expression computing the actual number of unread notifications of user {@code u}.
+   */
+  String ACTUAL_UNREAD_NOTIFICATIONS =
+      "(SELECT COUNT(*) FROM notifications n WHERE n.user_id = u.id AND n.read_at IS NULL)";
+
+  /**
+   * Recomputes the unread notification counter of every user whose stored value has drifted from
+   * the actual unread notifications, in a single bulk statement.
+   *
+   * @return the number of users that were repaired
+   */
+  @Modifying
+  @Query(value = "UPDATE users u SET unread_notification_count = " + ACTUAL_UNREAD_NOTIFICATIONS +
+      " WHERE unread_notification_count <> " + ACTUAL_UNREAD_NOTIFICATIONS, nativeQuery = true)
+  int repairDriftedUnreadNotificationCounts();
+}
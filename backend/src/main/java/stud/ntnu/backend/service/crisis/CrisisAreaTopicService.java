@@ -0,0 +1,116 @@
+package stud.ntnu.backend.service.crisis;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import stud.ntnu.backend.model.household.Household;
+import stud.ntnu.backend.model.user.User;
+import stud.ntnu.backend.util.GeohashUtil;
+
+/**
+ * Service mapping positions and crisis areas to geographic WebSocket topics. Each topic is a
+ * geohash cell, {@code /topic/crisis/area/{geohash}}.
+ * <p>
+ * A crisis event is published to the cells covering it at the highest precision for which the
+ * number of cells stays within the configured limit, so large events use fewer, coarser cells.
+ * Clients therefore subscribe to the cells of their home and household positions at every
+ * precision between the minimum and the maximum, which are the topics returned by
+ * {@link #topicsForUser(User)}.
+ */
+@Service
+public class CrisisAreaTopicService {
+
+  /**
+   * Prefix of the destinations of the area topics.
+   */
+  public static final String TOPIC_PREFIX = "/topic/crisis/area/";
+
+  /**
+   * Geohash precision of the smallest cells a crisis event is published to.
+   */
+  private final int maxPrecision;
+
+  /**
+   * Geohash precision of the largest cells a crisis event is published to.
+   */
+  private final int minPrecision;
+
+  /**
+   * Maximum number of cells a crisis event is published to, unless the event is too large even at
+   * the minimum precision.
+   */
+  private final int maxCells;
+
+  /**
+   * Constructs the service with the geohash grid settings.
+   *
+   * @param maxPrecision geohash precision of the smallest cells a crisis event is published to
+   * @param minPrecision geohash precision of the largest cells a crisis event is published to
+   * @param maxCells     maximum number of cells a crisis event is published to
+   */
+  public CrisisAreaTopicService(
+      @Value("${crisis.area-topics.max-precision:5}") int maxPrecision,
+      @Value("${crisis.area-topics.min-precision:2}") int minPrecision,
+      @Value("${crisis.area-topics.max-cells:64}") int maxCells) {
+    this.maxPrecision = maxPrecision;
+    this.minPrecision = minPrecision;
+    this.maxCells = maxCells;
+  }
+
+  /**
+   * Returns the area topics covering a crisis area.
+   *
+   * @param latitude  latitude of the epicenter
+   * @param longitude longitude of the epicenter
+   * @param radiusKm  radius of the crisis area in kilometres
+   * @return the destinations of the covering area topics
+   */
+  public Set<String> topicsCovering(BigDecimal latitude, BigDecimal longitude,
+      BigDecimal radiusKm) {
+    double lat = latitude.doubleValue();
+    double lon = longitude.doubleValue();
+    double radiusMeters = radiusKm.doubleValue() * 1000;
+    int precision = maxPrecision;
+    while (precision > minPrecision
+        && GeohashUtil.countCoveringCells(lat, lon, radiusMeters, precision) > maxCells) {
+      precision--;
+    }
+    Set<String> topics = new LinkedHashSet<>();
+    for (String cell : GeohashUtil.coveringCells(lat, lon, radiusMeters, precision)) {
+      topics.add(TOPIC_PREFIX + cell);
+    }
+    return topics;
+  }
+
+  /**
+   * Returns the area topics a user subscribes to: the cells of the user's home and household
+   * positions at every precision that crisis events are published at.
+   *
+   * @param user the user
+   * @return the destinations of the user's area topics, empty if the user has no known position
+   */
+  public Set<String> topicsForUser(User user) {
+    Set<String> topics = new LinkedHashSet<>();
+    addTopicsFor(topics, user.getHomeLatitude(), user.getHomeLongitude());
+    Household household = user.getHousehold();
+    if (household != null) {
+      addTopicsFor(topics, household.getLatitude(), household.getLongitude());
+    }
+    return topics;
+  }
+
+  private void addTopicsFor(Set<String> topics, BigDecimal latitude, BigDecimal longitude) {
+    if (latitude == null || longitude == null) {
+      return;
+    }
+    String geohash = GeohashUtil.encode(latitude.doubleValue(), longitude.doubleValue(),
+        maxPrecision);
+    for (int precision = minPrecision; precision <= maxPrecision; precision++) {
+      topics.add(TOPIC_PREFIX + geohash.substring(0, precision));
+    }
+  }
+}
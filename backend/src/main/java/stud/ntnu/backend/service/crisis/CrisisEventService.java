@@ -22,7 +22,6 @@ import stud.ntnu.backend.model.map.CrisisEvent;
 import stud.ntnu.backend.model.map.CrisisEventChange;
 import stud.ntnu.backend.model.map.ScenarioTheme;
 import stud.ntnu.backend.model.user.User;
-import stud.ntnu.backend.model.user.Notification;
 import stud.ntnu.backend.repository.map.CrisisEventChangeRepository;
 import stud.ntnu.backend.repository.map.CrisisEventRepository;
 import stud.ntnu.backend.repository.map.ScenarioThemeRepository;
@@ -125,16 +124,8 @@ public class CrisisEventService {
         LocaleContextHolder.getLocale()
     );
 
-    for (User user : affectedUsers) {
-      Notification notification = notificationService.createNotification(
-          user,
-          Notification.PreferenceType.crisis_alert,
-          Notification.TargetType.event,
-          crisisEvent.getId(),
-          notificationMessage
-      );
-      notificationService.sendNotification(notification);
-    }
+    notificationService.sendCrisisEventDeactivationNotifications(crisisEvent, affectedUsers,
+        notificationMessage);
   }
 
   /**
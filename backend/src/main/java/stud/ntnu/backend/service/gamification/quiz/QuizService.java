@@ -1,29 +1,51 @@
 package stud.ntnu.backend.service.gamification.quiz;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import lombok.RequiredArgsConstructor;
 
+import stud.ntnu.backend.config.CacheConfig;
 import stud.ntnu.backend.dto.quiz.CreateQuizAnswerDto;
 import stud.ntnu.backend.dto.quiz.CreateQuizDto;
 import stud.ntnu.backend.dto.quiz.CreateQuizQuestionDto;
 import stud.ntnu.backend.dto.quiz.CreateUserQuizAnswerDto;
 import stud.ntnu.backend.dto.quiz.QuizAnswerDto;
 import stud.ntnu.backend.dto.quiz.QuizAnswerResponseDto;
+import stud.ntnu.backend.dto.quiz.QuizAnswerSelectionDto;
+import stud.ntnu.backend.dto.quiz.QuizAttemptResultDto;
 import stud.ntnu.backend.dto.quiz.QuizAttemptSummaryDto;
+import stud.ntnu.backend.dto.quiz.QuizContentAnswerDto;
+import stud.ntnu.backend.dto.quiz.QuizContentDto;
+import stud.ntnu.backend.dto.quiz.QuizContentQuestionDto;
 import stud.ntnu.backend.dto.quiz.QuizPreviewDto;
 import stud.ntnu.backend.dto.quiz.QuizQuestionResponseDto;
+import stud.ntnu.backend.dto.quiz.QuizQuestionResultDto;
+import stud.ntnu.backend.dto.quiz.SubmitQuizAttemptDto;
+import stud.ntnu.backend.event.QuizContentChangedEvent;
+import stud.ntnu.backend.event.QuizPurgeRequestedEvent;
 import stud.ntnu.backend.model.gamification.quiz.Quiz;
 import stud.ntnu.backend.model.gamification.quiz.QuizAnswer;
 import stud.ntnu.backend.model.gamification.quiz.QuizQuestion;
@@ -69,6 +91,27 @@ public class QuizService {
    */
   private final QuizAnswerRepository quizAnswerRepository;
 
+  /**
+   * Cache manager holding the content snapshots and answer keys of quizzes.
+   */
+  private final CacheManager cacheManager;
+
+  /**
+   * Publisher of quiz purge requests and quiz content changes.
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Service maintaining the performance statistics of quizzes.
+   */
+  private final QuizStatisticsService quizStatisticsService;
+
+  /**
+   * Service recording the answers given one by one during an attempt, and holding the answer keys
+   * the answers are validated against.
+   */
+  private final UserQuizService userQuizService;
+
   /**
    * Creates a new quiz and saves it to the repository.
    *
@@ -88,73 +131,148 @@ public class QuizService {
   }
 
   /**
-   * Deletes a quiz and all its associated questions and answers.
+   * Deletes a quiz together with its questions, answers, attempts and user answers. Every table is
+   * cleared with a single bulk statement keyed by the quiz ID, so the number of queries does not
+   * grow with the number of attempts.
    *
    * @param quizId the ID of the quiz to delete
+   * @throws IllegalArgumentException if the quiz does not exist
    */
   @Transactional
   public void deleteQuiz(Long quizId) {
-    // Check if the quiz exists
     if (!quizRepository.existsById(quizId)) {
       throw new IllegalArgumentException("Quiz not found");
     }
 
-    // Delete all user quiz answers associated with the quiz
-    List<Long> attemptIds = userQuizAttemptRepository.findAllByQuizId(quizId)
-        .stream()
-        .map(UserQuizAttempt::getId)
-        .toList();
-    for (Long attemptId : attemptIds) {
-      userQuizAnswerRepository.deleteAll(
-          userQuizAnswerRepository.findAllByUserQuizAttemptId(attemptId));
-    }
-
-    // Delete all user quiz attempts associated with the quiz
-    userQuizAttemptRepository.deleteAll(userQuizAttemptRepository.findAllByQuizId(quizId));
-
-    // Delete all answers associated with the quiz's questions
-    List<Long> questionIds = quizQuestionRepository.findAllByQuizId(quizId)
-        .stream()
-        .map(QuizQuestion::getId)
-        .toList();
-    for (Long questionId : questionIds) {
-      quizAnswerRepository.deleteAll(quizAnswerRepository.findAllByQuestionId(questionId));
-    }
-
-    // Delete all questions associated with the quiz
-    quizQuestionRepository.deleteAll(quizQuestionRepository.findAllByQuizId(quizId));
+    // Children first, as the foreign keys do not cascade
+    userQuizAnswerRepository.deleteByQuizId(quizId);
+    userQuizAttemptRepository.deleteByQuizId(quizId);
+    quizAnswerRepository.deleteByQuizId(quizId);
+    quizQuestionRepository.deleteByQuizId(quizId);
+    quizStatisticsService.deleteQuizStatistics(quizId);
+    quizRepository.deleteQuizById(quizId);
+    publishQuizContentChanged(quizId);
+  }
 
-    // Delete the quiz itself
-    quizRepository.deleteById(quizId);
+  /**
+   * Archives a quiz immediately and schedules its deletion in the background. The quiz is no longer
+   * offered to users once this method returns, and its data is purged by
+   * {@link stud.ntnu.backend.event.QuizPurgeListener} after the transaction commits.
+   *
+   * @param quizId the ID of the quiz to purge
+   * @throws IllegalArgumentException if the quiz does not exist
+   */
+  @Transactional
+  public void requestQuizPurge(Long quizId) {
+    updateQuizStatus(quizId, "archived");
+    eventPublisher.publishEvent(new QuizPurgeRequestedEvent(quizId));
   }
 
   /**
-   * Creates a new user quiz attempt and saves it to the repository.
+   * Creates a new user quiz attempt, saves it to the repository and records it in the quiz
+   * statistics.
    *
    * @param quizId the ID of the quiz being attempted
    * @param userId the ID of the user attempting the quiz
    */
+  @Transactional
   public Long createUserQuizAttempt(Long quizId, Integer userId) {
     UserQuizAttempt attempt = new UserQuizAttempt();
     attempt.setUserId(userId);
     attempt.setQuizId(quizId);
     attempt.setCompletedAt(LocalDateTime.now());
     userQuizAttemptRepository.save(attempt);
+    quizStatisticsService.recordAttempt(attempt, List.of());
     return attempt.getId();
   }
 
   /**
-   * Creates a new user quiz answer and saves it to the repository.
+   * Creates a new user quiz answer and saves it to the repository. If the selected answer is
+   * correct, the score of the attempt is incremented in the same transaction. Each question can
+   * only be answered once per attempt.
    *
-   * @param dto the DTO containing user quiz answer data
+   * @param dto    the DTO containing user quiz answer data
+   * @param userId the ID of the user answering
+   * @throws IllegalArgumentException if the attempt does not exist, belongs to another user or
+   *                                  another quiz, or already has an answer to the question
+   * @see UserQuizService#createUserQuizAnswer(CreateUserQuizAnswerDto, Integer)
    */
-  public void createUserQuizAnswer(CreateUserQuizAnswerDto dto) {
-    UserQuizAnswer answer = new UserQuizAnswer();
-    answer.setUserQuizAttemptId(dto.getUserQuizAttemptId());
-    answer.setQuizId(dto.getQuizId());
-    answer.setQuestionId(dto.getQuestionId());
-    answer.setAnswerId(dto.getAnswerId());
-    userQuizAnswerRepository.save(answer);
+  public void createUserQuizAnswer(CreateUserQuizAnswerDto dto, Integer userId) {
+    userQuizService.createUserQuizAnswer(dto, userId);
+  }
+
+  /**
+   * Submits a whole quiz attempt in one transaction. The selected answers are validated against
+   * the cached answer key of the quiz, the attempt is saved with its computed score, and the
+   * answers are inserted in a single batch.
+   *
+   * @param quizId the ID of the quiz being attempted
+   * @param userId the ID of the user attempting the quiz
+   * @param dto    the DTO containing the selected answer for each answered question
+   * @return the result of the attempt, including the score and per-question correctness
+   * @throws IllegalArgumentException if no answers are given, a selection lacks its question or
+   *                                  answer ID, a question does not belong to the quiz, an answer
+   *                                  does not belong to its question, or a question is answered
+   *                                  more than once
+   */
+  @Transactional
+  public QuizAttemptResultDto submitQuizAttempt(Long quizId, Integer userId,
+      SubmitQuizAttemptDto dto) {
+    if (dto.getAnswers() == null || dto.getAnswers().isEmpty()) {
+      throw new IllegalArgumentException("At least one answer is required");
+    }
+    for (QuizAnswerSelectionDto selection : dto.getAnswers()) {
+      // The answer key maps reject null lookups, so incomplete selections are rejected up front
+      if (selection == null || selection.getQuestionId() == null
+          || selection.getAnswerId() == null) {
+        throw new IllegalArgumentException("Each answer requires a question ID and an answer ID");
+      }
+    }
+
+    Map<Long, Map<Long, Boolean>> answerKey = userQuizService.getAnswerKey(quizId);
+    Set<Long> answeredQuestionIds = new HashSet<>();
+    List<QuizQuestionResultDto> results = new ArrayList<>(dto.getAnswers().size());
+    for (QuizAnswerSelectionDto selection : dto.getAnswers()) {
+      Map<Long, Boolean> questionAnswers = answerKey.get(selection.getQuestionId());
+      if (questionAnswers == null) {
+        throw new IllegalArgumentException(
+            "Question " + selection.getQuestionId() + " does not belong to quiz " + quizId);
+      }
+      Boolean correct = questionAnswers.get(selection.getAnswerId());
+      if (correct == null) {
+        throw new IllegalArgumentException("Answer " + selection.getAnswerId()
+            + " does not belong to question " + selection.getQuestionId());
+      }
+      if (!answeredQuestionIds.add(selection.getQuestionId())) {
+        throw new IllegalArgumentException(
+            "Question " + selection.getQuestionId() + " is answered more than once");
+      }
+      results.add(new QuizQuestionResultDto(selection.getQuestionId(), selection.getAnswerId(),
+          correct));
+    }
+
+    UserQuizAttempt attempt = new UserQuizAttempt();
+    attempt.setUserId(userId);
+    attempt.setQuizId(quizId);
+    attempt.setCompletedAt(LocalDateTime.now());
+    attempt.setScore((int) results.stream().filter(QuizQuestionResultDto::getCorrect).count());
+    userQuizAttemptRepository.save(attempt);
+
+    userQuizAnswerRepository.insertAll(results.stream()
+        .map(result -> {
+          UserQuizAnswer answer = new UserQuizAnswer();
+          answer.setUserQuizAttemptId(attempt.getId());
+          answer.setQuizId(quizId);
+          answer.setQuestionId(result.getQuestionId());
+          answer.setAnswerId(result.getAnswerId());
+          return answer;
+        })
+        .toList());
+    quizStatisticsService.recordAttempt(attempt,
+        results.stream().map(QuizQuestionResultDto::getAnswerId).toList());
+
+    return new QuizAttemptResultDto(attempt.getId(), quizId, attempt.getCompletedAt(),
+        attempt.getScore(), results);
   }
 
   /**
@@ -172,43 +290,33 @@ public class QuizService {
   }
 
   /**
-   * Retrieves basic information for all quizzes that a user has attempted, paginated.
+   * Retrieves basic information for all quizzes that a user has attempted, paginated with the most
+   * recently created quizzes first.
    *
    * @param userId   the ID of the user
    * @param pageable the pagination information
    * @return a page of QuizPreviewDto objects
    */
   public Page<QuizPreviewDto> getBasicInfoForAttemptedQuizzes(Integer userId, Pageable pageable) {
-    // Find all quiz IDs for which the user has at least one attempt
-    List<UserQuizAttempt> attempts = userQuizAttemptRepository.findByUserId(userId);
-    Set<Long> quizIds = attempts.stream().map(UserQuizAttempt::getQuizId)
-        .collect(Collectors.toSet());
+    // Page the distinct quiz IDs in the database; the ID order is fixed, so any sort is dropped
+    Pageable idPageable = pageable.isPaged()
+        ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        : Pageable.unpaged();
+    Page<Long> quizIds = userQuizAttemptRepository.findDistinctQuizIdsByUserId(userId, idPageable);
     if (quizIds.isEmpty()) {
       return Page.empty(pageable);
     }
-    // Paginate the quiz IDs manually
-    List<Long> quizIdList = new ArrayList<>(quizIds);
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), quizIdList.size());
-    if (start > end) {
-      return Page.empty(pageable);
-    }
-    List<Long> pagedQuizIds = quizIdList.subList(start, end);
-    // Fetch quizzes and build DTOs
-    List<Quiz> quizzes = quizRepository.findAllById(pagedQuizIds);
-    List<QuizPreviewDto> dtos = quizzes.stream()
-        .map(q -> new QuizPreviewDto(
-            q.getId(),
-            q.getName(),
-            q.getDescription(),
-            q.getStatus(),
-            quizQuestionRepository.countByQuizId(q.getId()),
-            q.getCreatedAt()
-        ))
-        .collect(Collectors.toList());
-    return new PageImpl<>(dtos, pageable, quizIds.size());
+    Map<Long, Quiz> quizzes = quizRepository.findAllById(quizIds.getContent()).stream()
+        .collect(Collectors.toMap(Quiz::getId, Function.identity()));
+    List<QuizPreviewDto> dtos = quizIds.getContent().stream()
+        .map(quizzes::get)
+        .filter(Objects::nonNull)
+        .map(QuizPreviewDto::fromEntity)
+        .toList();
+    return new PageImpl<>(dtos, pageable, quizIds.getTotalElements());
   }
 
+
   /**
    * Retrieves all questions for a given quiz.
    *
@@ -222,6 +330,55 @@ public class QuizService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Retrieves the content of a quiz as an immutable snapshot: its questions in position order with
+   * their possible answers. The snapshot is built with one query for the quiz, one for its
+   * questions and one for its answers, and is cached until the quiz is modified. Concurrent
+   * requests for a snapshot that is not cached yet build it only once.
+   *
+   * @param quizId the ID of the quiz
+   * @return the content snapshot of the quiz
+   * @throws IllegalArgumentException if the quiz does not exist
+   */
+  public QuizContentDto getQuizContent(Long quizId) {
+    try {
+      return contentCache().get(quizId, () -> loadQuizContent(quizId));
+    } catch (Cache.ValueRetrievalException e) {
+      if (e.getCause() instanceof IllegalArgumentException notFound) {
+        throw notFound;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Builds the content snapshot of a quiz from the database.
+   *
+   * @param quizId the ID of the quiz
+   * @return the content snapshot of the quiz
+   * @throws IllegalArgumentException if the quiz does not exist
+   */
+  private QuizContentDto loadQuizContent(Long quizId) {
+    Quiz quiz = quizRepository.findById(quizId)
+        .orElseThrow(() -> new IllegalArgumentException("Quiz not found"));
+
+    Map<Long, List<QuizContentAnswerDto>> answersByQuestion = new HashMap<>();
+    quizAnswerRepository.findAllByQuizId(quizId).stream()
+        .sorted(Comparator.comparing(QuizAnswer::getId))
+        .forEach(answer -> answersByQuestion
+            .computeIfAbsent(answer.getQuestionId(), id -> new ArrayList<>())
+            .add(new QuizContentAnswerDto(answer.getId(), answer.getAnswerBody())));
+    List<QuizContentQuestionDto> questions = quizQuestionRepository
+        .findAllByQuizIdOrderByPositionAscIdAsc(quizId).stream()
+        .map(question -> new QuizContentQuestionDto(question.getId(), question.getQuestionBody(),
+            question.getPosition(),
+            List.copyOf(answersByQuestion.getOrDefault(question.getId(), List.of()))))
+        .toList();
+
+    return new QuizContentDto(quiz.getId(), quiz.getName(), quiz.getDescription(),
+        contentVersion(quiz, questions), questions);
+  }
+
   /**
    * Retrieves all answers for a given quiz question.
    *
@@ -247,37 +404,47 @@ public class QuizService {
   }
 
   /**
-   * Calculates the total number of correct answers for a given user quiz attempt.
+   * Calculates the total number of correct answers for a given user quiz attempt with a single
+   * aggregate query over the attempt's answers.
    *
    * @param attemptId the ID of the user quiz attempt
    * @return the number of correct answers
    */
   public int getTotalCorrectAnswers(Long attemptId) {
-    List<UserQuizAnswer> userAnswers = userQuizAnswerRepository.findAllByUserQuizAttemptId(
-        attemptId);
-    int correctCount = 0;
-    for (UserQuizAnswer userAnswer : userAnswers) {
-      Optional<QuizAnswer> quizAnswerOpt =
-          quizAnswerRepository.findById(userAnswer.getAnswerId());
-      if (quizAnswerOpt.isPresent() &&
-          Boolean.TRUE.equals(quizAnswerOpt.get().getIsCorrect())) {
-        correctCount++;
-      }
-    }
-    return correctCount;
+    return (int) userQuizAnswerRepository.countCorrectByUserQuizAttemptId(attemptId);
   }
 
   /**
-   * Saves a new quiz question to the repository.
+   * Retrieves the result of a quiz attempt belonging to the given user: the score persisted on the
+   * attempt and the correctness of each answered question, read with a single join.
+   *
+   * @param attemptId the ID of the quiz attempt
+   * @param userId    the ID of the user who made the attempt
+   * @return the result of the attempt
+   * @throws IllegalArgumentException if the attempt does not exist or belongs to another user
+   */
+  public QuizAttemptResultDto getQuizAttemptResult(Long attemptId, Integer userId) {
+    UserQuizAttempt attempt = userQuizAttemptRepository.findByIdAndUserId(attemptId, userId)
+        .orElseThrow(() -> new IllegalArgumentException("Quiz attempt not found"));
+    return new QuizAttemptResultDto(attempt.getId(), attempt.getQuizId(),
+        attempt.getCompletedAt(), attempt.getScore(),
+        userQuizAnswerRepository.findResultsByUserQuizAttemptId(attemptId));
+  }
+
+  /**
+   * Saves a new quiz question to the repository and increments the question count of its quiz.
    *
    * @param dto the DTO containing quiz question data
    */
+  @Transactional
   public Long saveQuizQuestion(CreateQuizQuestionDto dto) {
     QuizQuestion question = new QuizQuestion();
     question.setQuizId(dto.getQuizId());
     question.setQuestionBody(dto.getQuestionBody());
     question.setPosition(dto.getPosition());
     QuizQuestion savedQuestion = quizQuestionRepository.save(question);
+    quizRepository.adjustQuestionCount(savedQuestion.getQuizId(), 1);
+    publishQuizContentChanged(savedQuestion.getQuizId());
     return savedQuestion.getId();
   }
 
@@ -293,19 +460,21 @@ public class QuizService {
     answer.setAnswerBody(dto.getAnswerBody());
     answer.setIsCorrect(dto.getIsCorrect());
     quizAnswerRepository.save(answer);
+    publishQuizContentChanged(dto.getQuizId());
   }
 
   /**
-   * Deletes a quiz question by its ID.
+   * Deletes a quiz question by its ID and decrements the question count of its quiz.
    *
    * @param questionId the ID of the quiz question to delete
    * @throws IllegalArgumentException if the quiz question does not exist
    */
+  @Transactional
   public void deleteQuizQuestion(Long questionId) {
-    if (!quizQuestionRepository.existsById(questionId)) {
-      throw new IllegalArgumentException("Quiz question not found");
-    }
+    QuizQuestion question = getQuizQuestionById(questionId);
     quizQuestionRepository.deleteById(questionId);
+    quizRepository.adjustQuestionCount(question.getQuizId(), -1);
+    publishQuizContentChanged(question.getQuizId());
   }
 
   /**
@@ -321,13 +490,16 @@ public class QuizService {
   }
 
   /**
-   * Updates an existing quiz question with new data.
+   * Updates an existing quiz question with new data. If the question is moved to another quiz, the
+   * question counts of both quizzes are adjusted.
    *
    * @param questionId the ID of the quiz question to update
    * @param dto        the DTO containing updated quiz question data
    */
+  @Transactional
   public void updateQuizQuestion(Long questionId, CreateQuizQuestionDto dto) {
     QuizQuestion question = getQuizQuestionById(questionId);
+    Long previousQuizId = question.getQuizId();
     if (dto.getQuizId() != null) {
       question.setQuizId(dto.getQuizId());
     }
@@ -338,6 +510,11 @@ public class QuizService {
       question.setPosition(dto.getPosition());
     }
     quizQuestionRepository.save(question);
+    if (!previousQuizId.equals(question.getQuizId())) {
+      quizRepository.adjustQuestionCount(previousQuizId, -1);
+      quizRepository.adjustQuestionCount(question.getQuizId(), 1);
+    }
+    publishQuizContentChanged(previousQuizId, question.getQuizId());
   }
 
   /**
@@ -349,6 +526,7 @@ public class QuizService {
   public void updateQuizAnswer(Long answerId, CreateQuizAnswerDto dto) {
     QuizAnswer answer = quizAnswerRepository.findById(answerId)
         .orElseThrow(() -> new IllegalArgumentException("Quiz answer not found"));
+    Long previousQuizId = answer.getQuizId();
     if (dto.getQuizId() != null) {
       answer.setQuizId(dto.getQuizId());
     }
@@ -362,6 +540,7 @@ public class QuizService {
       answer.setIsCorrect(dto.getIsCorrect());
     }
     quizAnswerRepository.save(answer);
+    publishQuizContentChanged(previousQuizId, answer.getQuizId());
   }
 
   /**
@@ -371,10 +550,10 @@ public class QuizService {
    * @throws IllegalArgumentException if the quiz answer does not exist
    */
   public void deleteQuizAnswer(Long answerId) {
-    if (!quizAnswerRepository.existsById(answerId)) {
-      throw new IllegalArgumentException("Quiz answer not found");
-    }
+    QuizAnswer answer = quizAnswerRepository.findById(answerId)
+        .orElseThrow(() -> new IllegalArgumentException("Quiz answer not found"));
     quizAnswerRepository.deleteById(answerId);
+    publishQuizContentChanged(answer.getQuizId());
   }
 
   /**
@@ -385,28 +564,21 @@ public class QuizService {
    */
   public Page<QuizPreviewDto> getAllActiveQuizzes(Pageable pageable) {
     return quizRepository.findAllByStatus("active", pageable)
-        .map(q -> new QuizPreviewDto(
-            q.getId(),
-            q.getName(),
-            q.getDescription(),
-            q.getStatus(),
-            quizQuestionRepository.countByQuizId(q.getId()),
-            q.getCreatedAt()
-        ));
+        .map(QuizPreviewDto::fromEntity);
   }
 
   /**
-   * Updates the status of a quiz.
+   * Updates the status of a quiz, such as archiving it, in a single statement without loading it.
    *
    * @param quizId the ID of the quiz to update
    * @param status the new status to set
    * @throws IllegalArgumentException if the quiz does not exist
    */
+  @Transactional
   public void updateQuizStatus(Long quizId, String status) {
-    Quiz quiz = quizRepository.findById(quizId)
-        .orElseThrow(() -> new IllegalArgumentException("Quiz not found"));
-    quiz.setStatus(status);
-    quizRepository.save(quiz);
+    if (quizRepository.updateStatus(quizId, status) == 0) {
+      throw new IllegalArgumentException("Quiz not found");
+    }
   }
 
   /**
@@ -417,14 +589,7 @@ public class QuizService {
    */
   public Page<QuizPreviewDto> getAllArchivedQuizzes(Pageable pageable) {
     return quizRepository.findAllByStatus("archived", pageable)
-        .map(q -> new QuizPreviewDto(
-            q.getId(),
-            q.getName(),
-            q.getDescription(),
-            q.getStatus(),
-            quizQuestionRepository.countByQuizId(q.getId()),
-            q.getCreatedAt()
-        ));
+        .map(QuizPreviewDto::fromEntity);
   }
 
   /**
@@ -452,4 +617,71 @@ public class QuizService {
     return quizRepository.findNameById(quizId)
         .orElseThrow(() -> new IllegalArgumentException("Quiz not found with ID: " + quizId));
   }
+
+  /**
+   * Computes the version of a quiz content snapshot as a digest of everything the snapshot
+   * contains, so that equal content always yields the same version, also across restarts.
+   *
+   * @param quiz      the quiz
+   * @param questions the questions of the snapshot, with their answers
+   * @return the hexadecimal version of the snapshot
+   */
+  private static String contentVersion(Quiz quiz, List<QuizContentQuestionDto> questions) {
+    StringBuilder content = new StringBuilder()
+        .append(quiz.getId()).append('\u001f')
+        .append(quiz.getName()).append('\u001f')
+        .append(quiz.getDescription());
+    for (QuizContentQuestionDto question : questions) {
+      content.append('\u001e').append(question.getId())
+          .append('\u001f').append(question.getPosition())
+          .append('\u001f').append(question.getQuestionBody());
+      for (QuizContentAnswerDto answer : question.getAnswers()) {
+        content.append('\u001d').append(answer.getId())
+            .append('\u001f').append(answer.getAnswerBody());
+      }
+    }
+    return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Evicts the cached state derived from the questions and answers of a quiz, so that it is
+   * reloaded on the next request.
+   *
+   * @param quizId the ID of the quiz
+   */
+  public void evictQuizCaches(Long quizId) {
+    answerKeyCache().evict(quizId);
+    contentCache().evict(quizId);
+  }
+
+  /**
+   * Publishes a content change of each of the given quizzes. The cached state of the quizzes is
+   * evicted by {@link stud.ntnu.backend.event.QuizCacheListener} once the transaction commits.
+   *
+   * @param quizIds the IDs of the modified quizzes; null and repeated IDs are ignored
+   */
+  private void publishQuizContentChanged(Long... quizIds) {
+    Arrays.stream(quizIds)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(quizId -> eventPublisher.publishEvent(new QuizContentChangedEvent(quizId)));
+  }
+
+  /**
+   * Returns the cache holding the answer key of each quiz.
+   *
+   * @return the quiz answer key cache
+   */
+  private Cache answerKeyCache() {
+    return cacheManager.getCache(CacheConfig.QUIZ_ANSWER_KEY_CACHE);
+  }
+
+  /**
+   * Returns the cache holding the content snapshot of each quiz.
+   *
+   * @return the quiz content cache
+   */
+  private Cache contentCache() {
+    return cacheManager.getCache(CacheConfig.QUIZ_CONTENT_CACHE);
+  }
 }
@@ -0,0 +1,194 @@
+package stud.ntnu.backend.service.gamification.quiz;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.dto.quiz.QuizAnswerStatisticsDto;
+import stud.ntnu.backend.dto.quiz.QuizLeaderboardEntryDto;
+import stud.ntnu.backend.dto.quiz.QuizQuestionStatisticsDto;
+import stud.ntnu.backend.dto.quiz.QuizStatisticsDto;
+import stud.ntnu.backend.model.gamification.quiz.Quiz;
+import stud.ntnu.backend.model.gamification.quiz.QuizAnswer;
+import stud.ntnu.backend.model.gamification.quiz.UserQuizAttempt;
+import stud.ntnu.backend.repository.gamification.quiz.QuizAnswerRepository;
+import stud.ntnu.backend.repository.gamification.quiz.QuizQuestionRepository;
+import stud.ntnu.backend.repository.gamification.quiz.QuizRepository;
+import stud.ntnu.backend.repository.gamification.quiz.QuizUserScoreRepository;
+
+/**
+ * Service class maintaining the performance statistics of quizzes and serving leaderboards and
+ * analytics from them. The statistics are aggregates updated incrementally as attempts and answers
+ * are recorded: the attempt count and total score of each quiz, the selection count of each
+ * answer, and the best score of each user per quiz. Reading them never scans the attempts.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizStatisticsService {
+
+  private static final Logger log = LoggerFactory.getLogger(QuizStatisticsService.class);
+
+  /**
+   * Repository for Quiz entities, holding the attempt statistics of each quiz.
+   */
+  private final QuizRepository quizRepository;
+
+  /**
+   * Repository for QuizQuestion entities.
+   */
+  private final QuizQuestionRepository quizQuestionRepository;
+
+  /**
+   * Repository for QuizAnswer entities, holding the selection count of each answer.
+   */
+  private final QuizAnswerRepository quizAnswerRepository;
+
+  /**
+   * Repository for the best score of each user per quiz.
+   */
+  private final QuizUserScoreRepository quizUserScoreRepository;
+
+  /**
+   * Records a newly saved attempt together with the answers selected in it. Must be called in the
+   * transaction that saved the attempt.
+   *
+   * @param attempt   the saved attempt, with its score
+   * @param answerIds the IDs of the answers selected in the attempt; empty if the answers are
+   *                  recorded one by one afterwards
+   */
+  @Transactional
+  public void recordAttempt(UserQuizAttempt attempt, Collection<Long> answerIds) {
+    quizRepository.addAttemptStatistics(attempt.getQuizId(), 1, attempt.getScore());
+    if (!answerIds.isEmpty()) {
+      quizAnswerRepository.incrementSelectionCounts(answerIds);
+    }
+    quizUserScoreRepository.mergeAttemptScore(attempt.getId(), 1);
+  }
+
+  /**
+   * Records a single answer added to an existing attempt. Must be called in the transaction that
+   * saved the answer, after the score of the attempt has been updated, and only for the first
+   * answer to its question in the attempt: a repeated answer would add to the total score of the
+   * quiz and raise the best score of the user again. The answer endpoints reject repeated answers,
+   * and the schema allows one answer per question and attempt.
+   *
+   * @param quizId    the ID of the quiz
+   * @param attemptId the ID of the attempt
+   * @param answerId  the ID of the selected answer
+   * @param correct   whether the selected answer is correct
+   */
+  @Transactional
+  public void recordAnswer(Long quizId, Long attemptId, Long answerId, boolean correct) {
+    quizAnswerRepository.incrementSelectionCounts(List.of(answerId));
+    if (correct) {
+      quizRepository.addAttemptStatistics(quizId, 0, 1);
+      quizUserScoreRepository.mergeAttemptScore(attemptId, 0);
+    }
+  }
+
+  /**
+   * Retrieves a page of the leaderboard of a quiz, ranking users by their best score. Users with
+   * equal scores are ranked by who reached the score first.
+   *
+   * @param quizId   the ID of the quiz
+   * @param pageable the pagination information
+   * @return the leaderboard entries of the page, with their ranks
+   * @throws IllegalArgumentException if the quiz does not exist
+   */
+  public List<QuizLeaderboardEntryDto> getLeaderboard(Long quizId, Pageable pageable) {
+    if (!quizRepository.existsById(quizId)) {
+      throw new IllegalArgumentException("Quiz not found");
+    }
+    // The leaderboard order is fixed, so any requested sort is dropped
+    List<QuizLeaderboardEntryDto> entries = quizUserScoreRepository.findLeaderboard(quizId,
+        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    for (int i = 0; i < entries.size(); i++) {
+      entries.get(i).setRank((int) pageable.getOffset() + i + 1);
+    }
+    return entries;
+  }
+
+  /**
+   * Retrieves the performance statistics of a quiz, with the answer statistics of each question.
+   * Served from the maintained aggregates with one query each for the quiz, its questions and its
+   * answers.
+   *
+   * @param quizId the ID of the quiz
+   * @return the statistics of the quiz
+   * @throws IllegalArgumentException if the quiz does not exist
+   */
+  public QuizStatisticsDto getQuizStatistics(Long quizId) {
+    Quiz quiz = quizRepository.findById(quizId)
+        .orElseThrow(() -> new IllegalArgumentException("Quiz not found"));
+
+    Map<Long, List<QuizAnswer>> answersByQuestion = new HashMap<>();
+    quizAnswerRepository.findAllByQuizId(quizId).stream()
+        .sorted(Comparator.comparing(QuizAnswer::getId))
+        .forEach(answer -> answersByQuestion
+            .computeIfAbsent(answer.getQuestionId(), id -> new ArrayList<>())
+            .add(answer));
+    List<QuizQuestionStatisticsDto> questions = quizQuestionRepository
+        .findAllByQuizIdOrderByPositionAscIdAsc(quizId).stream()
+        .map(question -> {
+          List<QuizAnswer> answers = answersByQuestion.getOrDefault(question.getId(), List.of());
+          int answerCount = 0;
+          int correctCount = 0;
+          for (QuizAnswer answer : answers) {
+            answerCount += answer.getSelectionCount();
+            if (Boolean.TRUE.equals(answer.getIsCorrect())) {
+              correctCount += answer.getSelectionCount();
+            }
+          }
+          return new QuizQuestionStatisticsDto(question.getId(), question.getQuestionBody(),
+              answerCount, answerCount == 0 ? 0.0 : (double) correctCount / answerCount,
+              answers.stream()
+                  .map(answer -> new QuizAnswerStatisticsDto(answer.getId(),
+                      answer.getAnswerBody(), answer.getIsCorrect(), answer.getSelectionCount()))
+                  .toList());
+        })
+        .toList();
+
+    int attemptCount = quiz.getAttemptCount();
+    double averageScore = attemptCount == 0 ? 0.0 : (double) quiz.getTotalScore() / attemptCount;
+    return new QuizStatisticsDto(quiz.getId(), quiz.getName(), quiz.getQuestionCount(),
+        attemptCount, averageScore, questions);
+  }
+
+  /**
+   * Deletes the user scores of a quiz, before the quiz itself is deleted.
+   *
+   * @param quizId the ID of the quiz
+   */
+  @Transactional
+  public void deleteQuizStatistics(Long quizId) {
+    quizUserScoreRepository.deleteByQuizId(quizId);
+  }
+
+  /**
+   * Recomputes all quiz statistics from the recorded attempts and answers. Counters that have
+   * drifted, or that predate the statistics, are repaired in place, and the best scores behind the
+   * leaderboards are rebuilt. Every step is a single bulk statement.
+   *
+   * @return the number of quizzes and answers whose counters were repaired
+   */
+  @Transactional
+  public int backfillStatistics() {
+    int repaired = quizRepository.repairDriftedAttemptStatistics()
+        + quizAnswerRepository.repairDriftedSelectionCounts();
+    quizUserScoreRepository.deleteAllScores();
+    int scores = quizUserScoreRepository.insertScoresFromAttempts();
+    log.info("Rebuilt {} quiz user score(s) from the recorded attempts", scores);
+    return repaired;
+  }
+}
@@ -1,19 +1,26 @@
 package stud.ntnu.backend.service.gamification.quiz;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.config.CacheConfig;
 import stud.ntnu.backend.dto.quiz.CreateUserQuizAnswerDto;
 import stud.ntnu.backend.dto.quiz.QuizAttemptSummaryDto;
 import stud.ntnu.backend.dto.quiz.QuizPreviewDto;
@@ -22,7 +29,6 @@ import stud.ntnu.backend.model.gamification.quiz.QuizAnswer;
 import stud.ntnu.backend.model.gamification.quiz.UserQuizAttempt;
 import stud.ntnu.backend.model.gamification.quiz.UserQuizAnswer;
 import stud.ntnu.backend.repository.gamification.quiz.QuizAnswerRepository;
-import stud.ntnu.backend.repository.gamification.quiz.QuizQuestionRepository;
 import stud.ntnu.backend.repository.gamification.quiz.QuizRepository;
 import stud.ntnu.backend.repository.gamification.quiz.UserQuizAnswerRepository;
 import stud.ntnu.backend.repository.gamification.quiz.UserQuizAttemptRepository;
@@ -39,38 +45,110 @@ public class UserQuizService {
   private final QuizRepository quizRepository;
   private final UserQuizAttemptRepository userQuizAttemptRepository;
   private final UserQuizAnswerRepository userQuizAnswerRepository;
-  private final QuizQuestionRepository quizQuestionRepository;
   private final QuizAnswerRepository quizAnswerRepository;
+  private final QuizStatisticsService quizStatisticsService;
+  private final CacheManager cacheManager;
 
   /**
-   * Creates a new user quiz attempt and saves it to the repository. The attempt is marked with the
-   * current timestamp as completion time.
+   * Creates a new user quiz attempt, saves it to the repository and records it in the quiz
+   * statistics. The attempt is marked with the current timestamp as completion time.
    *
    * @param quizId the ID of the quiz being attempted
    * @param userId the ID of the user attempting the quiz
    */
+  @Transactional
   public void createUserQuizAttempt(Long quizId, Integer userId) {
     UserQuizAttempt attempt = new UserQuizAttempt();
     attempt.setUserId(userId);
     attempt.setQuizId(quizId);
     attempt.setCompletedAt(LocalDateTime.now());
     userQuizAttemptRepository.save(attempt);
+    quizStatisticsService.recordAttempt(attempt, List.of());
   }
 
   /**
    * Records a user's answer to a quiz question for a specific attempt. Creates and persists a new
-   * UserQuizAnswer entity with the provided data.
+   * UserQuizAnswer entity with the provided data, and increments the score of the attempt if the
+   * selected answer is correct. The question and answer are validated against the cached answer
+   * key of the quiz, and each question can only be answered once per attempt, so neither foreign
+   * nor resubmitted answers can raise the score or the quiz statistics.
    *
-   * @param dto the DTO containing user quiz answer data (userQuizAttemptId, quizId, questionId,
-   *            answerId)
+   * @param dto    the DTO containing user quiz answer data (userQuizAttemptId, quizId, questionId,
+   *               answerId)
+   * @param userId the ID of the user answering
+   * @throws IllegalArgumentException if the attempt does not exist, belongs to another user or
+   *                                  another quiz, the question or answer ID is missing, the
+   *                                  question does not belong to the quiz, the answer does not
+   *                                  belong to the question, or the attempt already has an answer
+   *                                  to the question
    */
-  public void createUserQuizAnswer(CreateUserQuizAnswerDto dto) {
+  @Transactional
+  public void createUserQuizAnswer(CreateUserQuizAnswerDto dto, Integer userId) {
+    UserQuizAttempt attempt = userQuizAttemptRepository
+        .findByIdAndUserId(dto.getUserQuizAttemptId(), userId)
+        .orElseThrow(() -> new IllegalArgumentException("Quiz attempt not found"));
+    if (!attempt.getQuizId().equals(dto.getQuizId())) {
+      throw new IllegalArgumentException("Quiz attempt " + attempt.getId()
+          + " does not belong to quiz " + dto.getQuizId());
+    }
+    // The answer key maps reject null lookups, so incomplete answers are rejected up front
+    if (dto.getQuestionId() == null || dto.getAnswerId() == null) {
+      throw new IllegalArgumentException("An answer requires a question ID and an answer ID");
+    }
+    Map<Long, Boolean> questionAnswers = getAnswerKey(attempt.getQuizId())
+        .get(dto.getQuestionId());
+    if (questionAnswers == null) {
+      throw new IllegalArgumentException("Question " + dto.getQuestionId()
+          + " does not belong to quiz " + attempt.getQuizId());
+    }
+    Boolean correct = questionAnswers.get(dto.getAnswerId());
+    if (correct == null) {
+      throw new IllegalArgumentException("Answer " + dto.getAnswerId()
+          + " does not belong to question " + dto.getQuestionId());
+    }
+    if (userQuizAnswerRepository.existsByUserQuizAttemptIdAndQuestionId(attempt.getId(),
+        dto.getQuestionId())) {
+      throw new IllegalArgumentException("Question " + dto.getQuestionId()
+          + " is already answered in quiz attempt " + attempt.getId());
+    }
+
     UserQuizAnswer answer = new UserQuizAnswer();
     answer.setUserQuizAttemptId(dto.getUserQuizAttemptId());
     answer.setQuizId(dto.getQuizId());
     answer.setQuestionId(dto.getQuestionId());
     answer.setAnswerId(dto.getAnswerId());
-    userQuizAnswerRepository.save(answer);
+    try {
+      userQuizAnswerRepository.save(answer);
+    } catch (DataIntegrityViolationException e) {
+      // A concurrent request answered the question first
+      throw new IllegalArgumentException("Question " + dto.getQuestionId()
+          + " is already answered in quiz attempt " + attempt.getId(), e);
+    }
+    if (correct) {
+      userQuizAttemptRepository.incrementScore(dto.getUserQuizAttemptId());
+    }
+    quizStatisticsService.recordAnswer(dto.getQuizId(), dto.getUserQuizAttemptId(),
+        dto.getAnswerId(), correct);
+  }
+
+  /**
+   * Returns the answer key of a quiz, mapping each question ID to the correctness of each of its
+   * answer IDs. The key is loaded with a single query and cached until the quiz is modified, see
+   * {@link QuizService#evictQuizCaches(Long)}.
+   *
+   * @param quizId the ID of the quiz
+   * @return the answer key of the quiz, empty if the quiz has no answers
+   */
+  public Map<Long, Map<Long, Boolean>> getAnswerKey(Long quizId) {
+    return answerKeyCache().get(quizId, () -> {
+      Map<Long, Map<Long, Boolean>> answerKey = new HashMap<>();
+      for (QuizAnswer answer : quizAnswerRepository.findAllByQuizId(quizId)) {
+        answerKey.computeIfAbsent(answer.getQuestionId(), id -> new HashMap<>())
+            .put(answer.getId(), answer.getIsCorrect());
+      }
+      answerKey.replaceAll((questionId, answers) -> Map.copyOf(answers));
+      return Map.copyOf(answerKey);
+    });
   }
 
   /**
@@ -89,7 +167,8 @@ public class UserQuizService {
   }
 
   /**
-   * Retrieves basic information for all quizzes that a user has attempted, paginated. Returns an
+   * Retrieves basic information for all quizzes that a user has attempted, paginated with the most
+   * recently created quizzes first. The distinct quiz IDs are paged in the database. Returns an
    * empty page if the user has no attempts or if the requested page is beyond available data.
    *
    * @param userId   the ID of the user
@@ -98,48 +177,41 @@ public class UserQuizService {
    * question count, and createdAt
    */
   public Page<QuizPreviewDto> getBasicInfoForAttemptedQuizzes(Integer userId, Pageable pageable) {
-    Set<Long> quizIds = userQuizAttemptRepository.findByUserId(userId).stream()
-        .map(UserQuizAttempt::getQuizId)
-        .collect(Collectors.toSet());
-
-    if (quizIds.isEmpty() || pageable.getOffset() >= quizIds.size()) {
+    // Page the distinct quiz IDs in the database; the ID order is fixed, so any sort is dropped
+    Pageable idPageable = pageable.isPaged()
+        ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        : Pageable.unpaged();
+    Page<Long> quizIds = userQuizAttemptRepository.findDistinctQuizIdsByUserId(userId, idPageable);
+    if (quizIds.isEmpty()) {
       return Page.empty(pageable);
     }
-
-    List<Long> pagedQuizIds = new ArrayList<>(quizIds)
-        .subList((int) pageable.getOffset(),
-            Math.min((int) (pageable.getOffset() + pageable.getPageSize()), quizIds.size()));
-
-    List<QuizPreviewDto> dtos = quizRepository.findAllById(pagedQuizIds).stream()
-        .map(q -> new QuizPreviewDto(
-            q.getId(),
-            q.getName(),
-            q.getDescription(),
-            q.getStatus(),
-            quizQuestionRepository.countByQuizId(q.getId()),
-            q.getCreatedAt()))
-        .collect(Collectors.toList());
-
-    return new PageImpl<>(dtos, pageable, quizIds.size());
+    Map<Long, Quiz> quizzes = quizRepository.findAllById(quizIds.getContent()).stream()
+        .collect(Collectors.toMap(Quiz::getId, Function.identity()));
+    List<QuizPreviewDto> dtos = quizIds.getContent().stream()
+        .map(quizzes::get)
+        .filter(Objects::nonNull)
+        .map(QuizPreviewDto::fromEntity)
+        .toList();
+    return new PageImpl<>(dtos, pageable, quizIds.getTotalElements());
   }
 
   /**
-   * Calculates the total number of correct answers for a given user quiz attempt. Iterates through
-   * all user answers for the attempt and counts those that match correct quiz answers.
+   * Calculates the total number of correct answers for a given user quiz attempt with a single
+   * aggregate query over the attempt's answers.
    *
    * @param attemptId the ID of the user quiz attempt
    * @return the number of correct answers for the attempt
    */
   public int getTotalCorrectAnswers(Long attemptId) {
-    List<UserQuizAnswer> userAnswers = userQuizAnswerRepository.findAllByUserQuizAttemptId(
-        attemptId);
-    int correctCount = 0;
-    for (UserQuizAnswer userAnswer : userAnswers) {
-      Optional<QuizAnswer> quizAnswerOpt = quizAnswerRepository.findById(userAnswer.getAnswerId());
-      if (quizAnswerOpt.isPresent() && Boolean.TRUE.equals(quizAnswerOpt.get().getIsCorrect())) {
-        correctCount++;
-      }
-    }
-    return correctCount;
+    return (int) userQuizAnswerRepository.countCorrectByUserQuizAttemptId(attemptId);
+  }
+
+  /**
+   * Returns the cache holding the answer key of each quiz.
+   *
+   * @return the quiz answer key cache
+   */
+  private Cache answerKeyCache() {
+    return cacheManager.getCache(CacheConfig.QUIZ_ANSWER_KEY_CACHE);
   }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package stud.ntnu.backend.service.group;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import stud.ntnu.backend.config.CacheConfig;
+import stud.ntnu.backend.dto.group.GroupReadinessDto;
+import stud.ntnu.backend.dto.inventory.GroupProductTypeTotalDto;
 import stud.ntnu.backend.dto.inventory.ProductBatchDto;
 import stud.ntnu.backend.dto.inventory.ProductTypeDto;
 import stud.ntnu.backend.model.group.Group;
@@ -43,6 +50,17 @@ public class GroupInventoryService {
   private final HouseholdRepository householdRepository;
   private final UserRepository userRepository;
   private final SearchUtil searchUtil;
+  private final CacheManager cacheManager;
+
+  /**
+   * The recommended daily water consumption per person in litres.
+   */
+  private static final int WATER_LITRES_PER_PERSON_PER_DAY = 3;
+
+  /**
+   * The number of days ahead within which contributed units count as expiring.
+   */
+  private static final int EXPIRING_WITHIN_DAYS = 7;
 
   /**
    * Retrieves all group inventory contributions.
@@ -70,7 +88,11 @@ public class GroupInventoryService {
    * @return the saved group inventory contribution
    */
   public GroupInventoryContribution saveContribution(GroupInventoryContribution contribution) {
-    return groupInventoryContributionRepository.save(contribution);
+    GroupInventoryContribution saved = groupInventoryContributionRepository.save(contribution);
+    if (saved.getGroup() != null) {
+      evictGroupReadiness(saved.getGroup().getId());
+    }
+    return saved;
   }
 
   /**
@@ -79,7 +101,10 @@ public class GroupInventoryService {
    * @param id the ID of the group inventory contribution to delete
    */
   public void deleteContribution(Integer id) {
+    Optional<GroupInventoryContribution> contribution = groupInventoryContributionRepository.findById(
+        id);
     groupInventoryContributionRepository.deleteById(id);
+    contribution.ifPresent(c -> evictGroupReadiness(c.getGroup().getId()));
   }
 
   /**
@@ -120,6 +145,110 @@ public class GroupInventoryService {
     ));
   }
 
+  /**
+   * Get the aggregated stock of a group per product type: total units, number of batches and
+   * earliest expiration. The totals are computed by a single grouped query over the group's
+   * contributions.
+   *
+   * @param groupId  The ID of the group
+   * @param email    The email of the current user
+   * @param pageable pagination information
+   * @return a page of GroupProductTypeTotalDto
+   * @throws IllegalArgumentException if the user is not found, not in a household, or not a member
+   *                                  of the group
+   */
+  public Page<GroupProductTypeTotalDto> getProductTypeTotals(Integer groupId, String email,
+      Pageable pageable) {
+    var user = userRepository.findByEmail(email)
+        .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+    var household = user.getHousehold();
+    if (household == null) {
+      throw new IllegalArgumentException("User is not in a household");
+    }
+
+    boolean isMember = groupRepository.existsByIdAndMemberHouseholds_Id(groupId, household.getId());
+    if (!isMember) {
+      throw new IllegalArgumentException("User's household is not a member of this group");
+    }
+
+    return groupInventoryContributionRepository.findProductTypeTotalsByGroupId(groupId, pageable);
+  }
+
+  /**
+   * Get the readiness metrics of a group: the water and calories contributed to the group, how many
+   * days they last for the combined population of the member households, and how many contributed
+   * units are about to expire. The metrics are computed by a single aggregate query and cached per
+   * group until the group's contributions or memberships change.
+   *
+   * @param groupId The ID of the group
+   * @param email   The email of the current user
+   * @return the readiness metrics of the group
+   * @throws IllegalArgumentException if the user is not found, not in a household, or not a member
+   *                                  of the group
+   */
+  public GroupReadinessDto getGroupReadiness(Integer groupId, String email) {
+    var user = userRepository.findByEmail(email)
+        .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+    var household = user.getHousehold();
+    if (household == null) {
+      throw new IllegalArgumentException("User is not in a household");
+    }
+
+    boolean isMember = groupRepository.existsByIdAndMemberHouseholds_Id(groupId, household.getId());
+    if (!isMember) {
+      throw new IllegalArgumentException("User's household is not a member of this group");
+    }
+
+    return readinessCache().get(groupId, () -> calculateGroupReadiness(groupId));
+  }
+
+  /**
+   * Evicts the cached readiness metrics of a group, so that they are recalculated on the next
+   * request.
+   *
+   * @param groupId The ID of the group
+   */
+  public void evictGroupReadiness(Integer groupId) {
+    readinessCache().evict(groupId);
+  }
+
+  /**
+   * Calculates the readiness metrics of a group from the raw totals of the aggregate query.
+   *
+   * @param groupId The ID of the group
+   * @return the readiness metrics of the group
+   */
+  private GroupReadinessDto calculateGroupReadiness(Integer groupId) {
+    LocalDateTime now = LocalDateTime.now();
+    GroupReadinessDto readiness = groupInventoryContributionRepository.calculateReadinessTotals(
+        groupId, now, now.plusDays(EXPIRING_WITHIN_DAYS));
+
+    long dailyWater = readiness.getPopulationCount() * WATER_LITRES_PER_PERSON_PER_DAY;
+    long dailyCalories = readiness.getDailyCalorieRequirement();
+    double waterDays = dailyWater == 0 ? 0.0 : readiness.getTotalWaterLitres() / (double) dailyWater;
+    double foodDays = dailyCalories == 0 ? 0.0 : readiness.getTotalCalories() / dailyCalories;
+
+    readiness.setGroupId(groupId);
+    readiness.setDailyWaterRequirement(dailyWater);
+    readiness.setWaterDays(waterDays);
+    readiness.setFoodDays(foodDays);
+    readiness.setDaysOfSupply(Math.min(waterDays, foodDays));
+    readiness.setExpiringWithinDays(EXPIRING_WITHIN_DAYS);
+    readiness.setCalculatedAt(now);
+    return readiness;
+  }
+
+  /**
+   * Returns the cache holding the readiness metrics of each group.
+   *
+   * @return the group readiness cache
+   */
+  private Cache readinessCache() {
+    return cacheManager.getCache(CacheConfig.GROUP_READINESS_CACHE);
+  }
+
   /**
    * Retrieves all product batches of a specific type that have been contributed to a group.
    *
@@ -151,9 +280,7 @@ public class GroupInventoryService {
    * @return the number of group inventory contributions for the batch
    */
   public int countGroupContributionsForBatch(Integer productBatchId) {
-    return (int) groupInventoryContributionRepository.findAll().stream()
-        .filter(gic -> gic.getProduct() != null && gic.getProduct().getId().equals(productBatchId))
-        .count();
+    return (int) groupInventoryContributionRepository.countByProductBatchId(productBatchId);
   }
 
   /**
@@ -194,6 +321,7 @@ public class GroupInventoryService {
     }
 
     groupInventoryContributionRepository.delete(contribution);
+    evictGroupReadiness(contribution.getGroup().getId());
     return true;
   }
 
@@ -220,8 +348,8 @@ public class GroupInventoryService {
       return false;
     }
     // Check if batch is already contributed to any group
-    boolean alreadyContributed = groupInventoryContributionRepository.findAll().stream()
-        .anyMatch(gic -> gic.getProduct() != null && gic.getProduct().getId().equals(batchId));
+    boolean alreadyContributed = groupInventoryContributionRepository.existsByProductBatchId(
+        batchId);
     if (alreadyContributed) {
       return false;
     }
@@ -236,10 +364,16 @@ public class GroupInventoryService {
     if (productType == null || !household.getId().equals(productType.getHousehold().getId())) {
       return false;
     }
-    // Create and save contribution
+    // Create and save contribution. The unique constraint on the contributed batch rejects a
+    // concurrent contribution of the same batch that passed the check above.
     GroupInventoryContribution contribution = new GroupInventoryContribution(group, household,
         batch);
-    groupInventoryContributionRepository.save(contribution);
+    try {
+      groupInventoryContributionRepository.saveAndFlush(contribution);
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+    evictGroupReadiness(groupId);
     return true;
   }
 
@@ -2,10 +2,14 @@ package stud.ntnu.backend.service.group;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,9 +17,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
+import stud.ntnu.backend.config.CacheConfig;
 import stud.ntnu.backend.dto.group.GroupSummaryDto;
 import stud.ntnu.backend.dto.household.HouseholdDto;
 import stud.ntnu.backend.dto.group.GroupInvitationSummaryDto;
+import stud.ntnu.backend.event.GroupMembershipChangedEvent;
 import stud.ntnu.backend.model.group.Group;
 import stud.ntnu.backend.model.group.GroupInvitation;
 import stud.ntnu.backend.model.group.GroupMembership;
@@ -48,6 +54,7 @@ public class GroupService {
   private final GroupInventoryContributionRepository groupInventoryContributionRepository;
   private final HouseholdRepository householdRepository;
   private final GroupInvitationRepository groupInvitationRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Retrieves all groups in the system.
@@ -161,7 +168,8 @@ public class GroupService {
       group.setStatus(Group.GroupStatus.archived);
       groupRepository.save(group);
     }
-    
+
+    eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, householdId));
     return true;
   }
 
@@ -199,17 +207,36 @@ public class GroupService {
   }
 
   /**
-   * Checks if the user (by email) is a member of any household in the given group.
+   * Checks if the user (by email) is a member of any household in the given group. The check is a
+   * single EXISTS query, and its result is cached briefly per user and group so that repeated
+   * checks within a request do not reach the database. The cache is cleared whenever a household
+   * joins or leaves a group and whenever a user joins or leaves a household.
    *
    * @param groupId the ID of the group to check
    * @param email   the user's email address
    * @return true if the user is a member of a household in the group, false otherwise
    */
+  @Cacheable(cacheNames = CacheConfig.GROUP_MEMBERSHIP_CACHE)
   public boolean isUserMemberOfGroup(Integer groupId, String email) {
-    Integer userHouseholdId = getHouseholdIdByUserEmail(email);
-    List<HouseholdDto> households = getCurrentHouseholdsInGroup(groupId);
-    return households.stream()
-        .anyMatch(h -> h.getId() != null && h.getId().equals(userHouseholdId));
+    return groupMembershipRepository.existsCurrentByGroupIdAndUserEmail(groupId, email,
+        LocalDateTime.now());
+  }
+
+  /**
+   * Gets the IDs of the households whose shared content is visible to members of a household: the
+   * household itself and every household it currently shares a group with. The result is cached
+   * per household until group memberships change.
+   *
+   * @param householdId the ID of the household
+   * @return an immutable list of visible household IDs, including the household itself
+   */
+  @Cacheable(cacheNames = CacheConfig.VISIBLE_HOUSEHOLDS_CACHE)
+  public List<Integer> getVisibleHouseholdIds(Integer householdId) {
+    Set<Integer> householdIds = new LinkedHashSet<>();
+    householdIds.add(householdId);
+    householdIds.addAll(groupMembershipRepository.findHouseholdIdsSharingGroupWith(householdId,
+        LocalDateTime.now()));
+    return List.copyOf(householdIds);
   }
 
   /**
@@ -244,6 +271,7 @@ public class GroupService {
     // Create and save the membership
     GroupMembership membership = new GroupMembership(group, householdOpt.get(), user);
     groupMembershipRepository.save(membership);
+    eventPublisher.publishEvent(new GroupMembershipChangedEvent(group.getId(), householdId));
 
     return true;
   }
@@ -378,6 +406,8 @@ public class GroupService {
         inviter
     );
     groupMembershipRepository.save(membership);
+    eventPublisher.publishEvent(new GroupMembershipChangedEvent(invitation.getGroup().getId(),
+        userHouseholdId));
 
     return true;
   }
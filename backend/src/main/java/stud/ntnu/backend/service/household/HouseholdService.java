@@ -5,13 +5,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 
 import stud.ntnu.backend.dto.household.EmptyHouseholdMemberCreateDto;
@@ -21,14 +20,15 @@ import stud.ntnu.backend.dto.household.HouseholdDto;
 import stud.ntnu.backend.dto.household.HouseholdInviteResponseDto;
 import stud.ntnu.backend.dto.household.HouseholdMemberDto;
 import stud.ntnu.backend.dto.map.CoordinatesItemDto;
-import stud.ntnu.backend.model.group.GroupMembership;
+import stud.ntnu.backend.event.HouseholdDeletedEvent;
+import stud.ntnu.backend.event.HouseholdMembershipChangedEvent;
 import stud.ntnu.backend.model.household.EmptyHouseholdMember;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.household.HouseholdAdmin;
 import stud.ntnu.backend.model.household.Invitation;
-import stud.ntnu.backend.model.inventory.ProductBatch;
-import stud.ntnu.backend.model.inventory.ProductType;
 import stud.ntnu.backend.model.user.User;
+import stud.ntnu.backend.repository.group.GroupInventoryContributionRepository;
+import stud.ntnu.backend.repository.group.GroupInvitationRepository;
 import stud.ntnu.backend.repository.group.GroupMembershipRepository;
 import stud.ntnu.backend.repository.household.EmptyHouseholdMemberRepository;
 import stud.ntnu.backend.repository.household.HouseholdAdminRepository;
@@ -60,9 +60,9 @@ public class HouseholdService {
   private final ProductTypeRepository productTypeRepository;
   private final ProductBatchRepository productBatchRepository;
   private final GroupMembershipRepository groupMembershipRepository;
-
-  @PersistenceContext
-  private EntityManager entityManager;
+  private final GroupInvitationRepository groupInvitationRepository;
+  private final GroupInventoryContributionRepository groupInventoryContributionRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Retrieves all households in the system. This method should be used with caution as it returns
@@ -139,62 +139,38 @@ public class HouseholdService {
   }
 
   /**
-   * Hard deletes a household and all its related data. This operation: - Unlinks all users from the
-   * household - Removes all admin records - Deletes all invitations - Removes empty household
-   * members - Deletes product types and batches - Removes group memberships - Finally deletes the
-   * household itself
+   * Hard deletes a household and all its related data. Every dependent table is cleared with a
+   * single bulk statement keyed by the household ID, so the number of statements does not grow
+   * with the size of the household. This operation: - Unlinks all users from the household -
+   * Removes all admin records - Deletes all household and group invitations - Removes empty
+   * household members - Deletes group contributions, product batches and product types - Removes
+   * group memberships - Finally deletes the household itself. A {@link HouseholdDeletedEvent} is
+   * published once the rows are gone.
    *
    * @param id the ID of the household to delete
    * @throws IllegalStateException if the household is not found
    */
   @Transactional
   public void deleteHousehold(Integer id) {
-    Household household = householdRepository.findById(id)
-        .orElseThrow(() -> new IllegalStateException("Household not found"));
-
-    try {
-      List<User> householdUsers = userRepository.findByHousehold(household);
-      for (User user : householdUsers) {
-        user.setHousehold(null);
-        userRepository.save(user);
-      }
-
-      householdAdminRepository.deleteAll(householdAdminRepository.findByHousehold(household));
-
-      invitationRepository.deleteAll(invitationRepository.findByHousehold(household));
-
-      emptyHouseholdMemberRepository.deleteAll(
-          emptyHouseholdMemberRepository.findByHousehold(household));
-
-      List<ProductType> productTypes = entityManager.createQuery(
-              "SELECT pt FROM ProductType pt WHERE pt.household.id = :householdId", ProductType.class)
-          .setParameter("householdId", household.getId())
-          .getResultList();
-
-      for (ProductType productType : productTypes) {
-        productBatchRepository.deleteAll(
-            entityManager.createQuery(
-                    "SELECT pb FROM ProductBatch pb WHERE pb.productType.id = :productTypeId",
-                    ProductBatch.class)
-                .setParameter("productTypeId", productType.getId())
-                .getResultList()
-        );
-      }
+    if (!householdRepository.existsById(id)) {
+      throw new IllegalStateException("Household not found");
+    }
 
-      productTypeRepository.deleteAll(productTypes);
+    List<Integer> memberIds = userRepository.findIdsByHouseholdId(id);
+    List<Integer> groupIds = groupMembershipRepository.findGroupIdsByHouseholdId(id);
 
-      groupMembershipRepository.deleteAll(
-          entityManager.createQuery(
-                  "SELECT gm FROM GroupMembership gm WHERE gm.household.id = :householdId",
-                  GroupMembership.class)
-              .setParameter("householdId", household.getId())
-              .getResultList()
-      );
+    groupInventoryContributionRepository.deleteByHouseholdId(id);
+    productBatchRepository.deleteByHouseholdId(id);
+    productTypeRepository.deleteByHouseholdId(id);
+    groupMembershipRepository.deleteByHouseholdId(id);
+    groupInvitationRepository.deleteByInvitedHouseholdId(id);
+    householdAdminRepository.deleteByHouseholdId(id);
+    invitationRepository.deleteByHouseholdId(id);
+    emptyHouseholdMemberRepository.deleteByHouseholdId(id);
+    userRepository.clearHouseholdByHouseholdId(id);
+    householdRepository.deleteHouseholdById(id);
 
-      householdRepository.delete(household);
-    } catch (Exception e) {
-      throw e;
-    }
+    eventPublisher.publishEvent(new HouseholdDeletedEvent(id, memberIds, groupIds));
   }
 
   /**
@@ -250,8 +226,9 @@ public class HouseholdService {
       throw new IllegalStateException("A household with this name already exists");
     }
 
-    Household household = new Household(requestDto.getName(), requestDto.getAddress(),
-        requestDto.getPopulationCount());
+    // The counters start out with the creating user as the only member
+    Household household = new Household(requestDto.getName(), requestDto.getAddress(), 1);
+    household.setKcalRequirement(user.getKcalRequirement());
 
     if (requestDto.getAddress() != null && !requestDto.getAddress().trim().isEmpty()) {
       CoordinatesItemDto coordinates = LocationUtil.getCoordinatesByAddress(requestDto.getAddress());
@@ -268,6 +245,8 @@ public class HouseholdService {
     household = householdRepository.save(household);
     user.setHousehold(household);
     user = userRepository.save(user);
+    eventPublisher.publishEvent(
+        new HouseholdMembershipChangedEvent(user.getId(), null, household.getId()));
 
     if (householdAdminRepository.existsByUser(user)) {
       throw new IllegalStateException("User is already a household admin");
@@ -378,7 +357,9 @@ public class HouseholdService {
     // Remove user from household
     user.setHousehold(null);
     userRepository.save(user);
-    updatePopulationCount(household);
+    adjustHouseholdCounters(household, -1, -user.getKcalRequirement());
+    eventPublisher.publishEvent(
+        new HouseholdMembershipChangedEvent(user.getId(), household.getId(), null));
   }
 
   /**
@@ -512,8 +493,9 @@ public class HouseholdService {
     // Save the member
     member = emptyHouseholdMemberRepository.save(member);
 
+    adjustHouseholdCounters(household, populationWeight(member), member.getKcalRequirement());
+
     // Return the DTO
-    updatePopulationCount(household);
     return new EmptyHouseholdMemberDto(
         member.getId(),
         member.getName(),
@@ -559,7 +541,7 @@ public class HouseholdService {
 
     // Delete the member
     emptyHouseholdMemberRepository.delete(member);
-    updatePopulationCount(household);
+    adjustHouseholdCounters(household, -populationWeight(member), -member.getKcalRequirement());
   }
 
   /**
@@ -737,7 +719,9 @@ public class HouseholdService {
     // Remove the member from the household
     member.setHousehold(null);
     userRepository.save(member);
-    updatePopulationCount(household);
+    adjustHouseholdCounters(household, -1, -member.getKcalRequirement());
+    eventPublisher.publishEvent(
+        new HouseholdMembershipChangedEvent(member.getId(), household.getId(), null));
   }
 
   /**
@@ -773,20 +757,39 @@ public class HouseholdService {
   }
 
   /**
-   * Updates the population count for a household by calculating the total number of members.
-   * This includes both registered users and empty household members (excluding pets).
-   * The count is persisted to the database.
+   * Applies a membership change to the population and kcal requirement counters of a household.
+   * The database is updated with a single atomic statement, so concurrent joins and leaves cannot
+   * overwrite each other, and the change is mirrored on the given entity.
+   *
+   * @param household       the household whose membership changed
+   * @param populationDelta the change in population count
+   * @param kcalDelta       the change in daily kcal requirement
+   */
+  public void adjustHouseholdCounters(Household household, int populationDelta, int kcalDelta) {
+    householdRepository.adjustCounters(household.getId(), populationDelta, kcalDelta);
+    household.setPopulationCount(household.getPopulationCount() + populationDelta);
+    household.setKcalRequirement(household.getKcalRequirement() + kcalDelta);
+  }
+
+  /**
+   * Recomputes the population and kcal requirement counters of all households whose stored values
+   * have drifted from their actual members. Runs as a single bulk statement.
+   *
+   * @return the number of households that were repaired
+   */
+  @Transactional
+  public int repairHouseholdCounters() {
+    return householdRepository.repairDriftedCounters();
+  }
+
+  /**
+   * Returns how much an empty member contributes to the population count. Pets are excluded from
+   * the population but still count towards the kcal requirement.
    *
-   * @param household the household entity to update the population count for
-   * @throws IllegalArgumentException if the household parameter is null
+   * @param member the empty household member
+   * @return 0 for pets, 1 otherwise
    */
-  public void updatePopulationCount(Household household) {
-    int userCount = userRepository.findByHousehold(household).size();
-    int emptyCount = (int) emptyHouseholdMemberRepository.findByHousehold(household)
-        .stream()
-        .filter(member -> member.getType() != null && !member.getType().equalsIgnoreCase("pet"))
-        .count();
-    household.setPopulationCount(userCount + emptyCount);
-    householdRepository.save(household);
+  private int populationWeight(EmptyHouseholdMember member) {
+    return member.getType() != null && member.getType().equalsIgnoreCase("pet") ? 0 : 1;
   }
 }
@@ -10,7 +10,6 @@ import stud.ntnu.backend.dto.inventory.*;
 import stud.ntnu.backend.repository.inventory.ProductRepository;
 import stud.ntnu.backend.repository.user.UserRepository;
 import stud.ntnu.backend.repository.household.HouseholdRepository;
-import stud.ntnu.backend.repository.household.HouseholdMemberRepository;
 import stud.ntnu.backend.repository.inventory.ProductBatchRepository;
 import stud.ntnu.backend.repository.inventory.ProductTypeRepository;
 import stud.ntnu.backend.model.household.Household;
@@ -41,7 +40,6 @@ public class InventoryService {
   private final HouseholdRepository householdRepository;
   private final SearchUtil searchUtil;
   private final ApplicationEventPublisher eventPublisher;
-  private final HouseholdMemberRepository householdMemberRepository;
 
 
   /**
@@ -467,7 +465,8 @@ public class InventoryService {
   }
 
   /**
-   * Calculate required water per day for a household (3L per person).
+   * Calculate required water per day for a household (3L per person). Reads the household's
+   * maintained population counter instead of recounting its members.
    *
    * @param householdId the ID of the household
    * @return required water in litres per day
@@ -477,30 +476,23 @@ public class InventoryService {
         .orElseThrow(
             () -> new NoSuchElementException("Household not found with ID: " + householdId));
 
-    // Count users in household
-    int userCount = userRepository.countByHouseholdId(householdId);
-
-    // Count non-user household members (excluding pets)
-    int memberCount = householdMemberRepository.countByHouseholdIdAndTypeNot(householdId, "pet");
-
     // Calculate total water requirement (3L per person per day)
-    return (userCount + memberCount) * 3;
+    return household.getPopulationCount() * 3;
   }
 
   /**
-   * Calculate required calories per day for a household.
+   * Calculate required calories per day for a household. Reads the household's maintained kcal
+   * requirement counter instead of summing its members.
    *
    * @param householdId the ID of the household
    * @return required calories per day
    */
   public Integer getHouseholdCalorieRequirement(Integer householdId) {
-    // Sum kcal requirements for users
-    Integer userCalories = userRepository.sumKcalRequirementByHouseholdId(householdId);
-
-    // Sum kcal requirements for household members
-    Integer memberCalories = householdMemberRepository.sumKcalRequirementByHouseholdId(householdId);
+    Household household = householdRepository.findById(householdId)
+        .orElseThrow(
+            () -> new NoSuchElementException("Household not found with ID: " + householdId));
 
-    return userCalories + memberCalories;
+    return household.getKcalRequirement();
   }
 
   /**
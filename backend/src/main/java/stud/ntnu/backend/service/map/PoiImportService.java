@@ -3,6 +3,9 @@ package stud.ntnu.backend.service.map;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -53,6 +56,11 @@ public class PoiImportService {
    */
   private final UserRepository userRepository;
 
+  /**
+   * Registry of the import metrics.
+   */
+  private final MeterRegistry meterRegistry;
+
   /**
    * The URL endpoint for the Overpass API.
    */
@@ -271,10 +279,8 @@ public class PoiImportService {
   }
 
   /**
-   * Utility method to import POIs from Overpass API.
-   * <p>
-   * This method fetches POIs from the Overpass API using a supplied query, filters the results,
-   * extracts the name, and saves each POI to the database with the specified type and admin user.
+   * Utility method to import POIs from Overpass API, recording the duration and outcome of the
+   * import and the number of POIs saved for the type.
    *
    * @param typeName      The name of the POI type (e.g., "Gas Station").
    * @param querySupplier Supplies the Overpass query string.
@@ -286,6 +292,41 @@ public class PoiImportService {
       QuerySupplier querySupplier,
       Predicate<OverpassElement> filter,
       NameExtractor nameExtractor
+  ) {
+    Timer.Sample importSample = Timer.start(meterRegistry);
+    String outcome = "failure";
+    try {
+      int imported = fetchAndSavePois(typeName, querySupplier, filter, nameExtractor);
+      Counter.builder("poi.import.pois")
+          .description("Points of interest saved by the Overpass imports")
+          .tag("type", typeName)
+          .register(meterRegistry)
+          .increment(imported);
+      outcome = "success";
+    } finally {
+      importSample.stop(Timer.builder("poi.import")
+          .description("Time taken to import a type of points of interest from Overpass")
+          .tag("type", typeName)
+          .tag("outcome", outcome)
+          .register(meterRegistry));
+    }
+  }
+
+  /**
+   * Fetches POIs from the Overpass API using a supplied query, filters the results, extracts the
+   * name, and saves each POI to the database with the specified type and admin user.
+   *
+   * @param typeName      The name of the POI type (e.g., "Gas Station").
+   * @param querySupplier Supplies the Overpass query string.
+   * @param filter        Predicate to filter OverpassElement.
+   * @param nameExtractor Function to extract the POI name from OverpassElement and type.
+   * @return The number of POIs saved.
+   */
+  private int fetchAndSavePois(
+      String typeName,
+      QuerySupplier querySupplier,
+      Predicate<OverpassElement> filter,
+      NameExtractor nameExtractor
   ) {
     User adminUser = userRepository.findByEmail(ADMIN_EMAIL)
         .orElseThrow(() -> new IllegalStateException("Admin user not found"));
@@ -298,8 +339,9 @@ public class PoiImportService {
     String response = restTemplate.postForObject(OVERPASS_URL, "data=" + query, String.class);
     OverpassResponse overpassResponse = JsonUtil.fromJson(response, OverpassResponse.class);
     if (overpassResponse == null || overpassResponse.elements == null) {
-      return;
+      return 0;
     }
+    int saved = 0;
     for (OverpassElement el : overpassResponse.elements) {
       if (!filter.test(el)) {
         continue;
@@ -360,7 +402,9 @@ public class PoiImportService {
       }
 
       poiRepository.save(poi);
+      saved++;
     }
+    return saved;
   }
 
   /**
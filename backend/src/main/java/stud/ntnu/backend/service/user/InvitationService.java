@@ -6,11 +6,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.annotation.Lazy;
 
 import stud.ntnu.backend.dto.household.HouseholdInviteResponseDto;
+import stud.ntnu.backend.event.HouseholdMembershipChangedEvent;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.household.Invitation;
 import stud.ntnu.backend.model.user.Notification;
@@ -33,6 +35,7 @@ public class InvitationService {
   private final HouseholdRepository householdRepository;
   private final NotificationService notificationService;
   private final @Lazy HouseholdService householdService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Constructs a new InvitationService with required dependencies.
@@ -42,17 +45,20 @@ public class InvitationService {
    * @param householdRepository  repository for household operations
    * @param notificationService  service for notification operations
    * @param householdService     service for household operations
+   * @param eventPublisher       publisher of the household membership events
    */
   public InvitationService(InvitationRepository invitationRepository,
       UserRepository userRepository,
       HouseholdRepository householdRepository,
       NotificationService notificationService,
-      @Lazy HouseholdService householdService) {
+      @Lazy HouseholdService householdService,
+      ApplicationEventPublisher eventPublisher) {
     this.invitationRepository = invitationRepository;
     this.userRepository = userRepository;
     this.householdRepository = householdRepository;
     this.notificationService = notificationService;
     this.householdService = householdService;
+    this.eventPublisher = eventPublisher;
   }
 
   /**
@@ -198,7 +204,9 @@ public class InvitationService {
     user.setHousehold(household);
     userRepository.save(user);
 
-    householdService.updatePopulationCount(household);
+    householdService.adjustHouseholdCounters(household, 1, user.getKcalRequirement());
+    eventPublisher.publishEvent(
+        new HouseholdMembershipChangedEvent(user.getId(), null, household.getId()));
 
     String notificationMessage = String.format(
         "%s has accepted your invitation to join your household.",
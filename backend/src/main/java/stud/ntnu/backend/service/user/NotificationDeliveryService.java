@@ -0,0 +1,270 @@
+package stud.ntnu.backend.service.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import stud.ntnu.backend.dto.user.NotificationBatchDto;
+import stud.ntnu.backend.dto.user.NotificationDto;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
+
+/**
+ * Service buffering the notification messages pushed to users over WebSocket. Callers only enqueue
+ * messages, so a slow broker or client never holds up the business thread, and a scheduled flush
+ * sends the pending messages of every user.
+ *
+ * <p>Pending messages of a user are coalesced into as few frames as possible:
+ * <ul>
+ *   <li>A single pending notification is sent as a {@link NotificationDto} to
+ *       {@code /topic/notifications/{userId}}, as before</li>
+ *   <li>Several pending notifications are sent as one {@link NotificationBatchDto} to
+ *       {@code /topic/notifications/{userId}/batch}</li>
+ *   <li>Only the latest pending unread count is sent to
+ *       {@code /topic/notifications/{userId}/unread-count}</li>
+ * </ul>
+ *
+ * <p>When more notifications are pending for a user than the buffer holds, they are dropped and a
+ * batch with the resync flag set is sent instead, telling the client to reload its inbox. Sessions
+ * that cannot keep up with the frames that are sent are closed by the transport limits configured
+ * in {@link stud.ntnu.backend.config.WebSocketConfig}, losing the frames buffered for them. Their
+ * users are marked by {@link stud.ntnu.backend.config.SlowConsumerTracker} and sent a resync hint
+ * once they subscribe again.
+ *
+ * <p>Flushes that find messages pending are observed as {@code websocket.delivery.flush}, so the
+ * broker sends they make show up in one trace. Empty flushes are not observed.
+ */
+@Service
+public class NotificationDeliveryService {
+
+  /**
+   * Template for sending WebSocket messages.
+   */
+  private final SimpMessagingTemplate messagingTemplate;
+
+  /**
+   * Registry the flushes are observed in.
+   */
+  private final ObservationRegistry observationRegistry;
+
+  /**
+   * Maximum number of notifications buffered per user between two flushes.
+   */
+  private final int maxPendingPerUser;
+
+  /**
+   * Pending messages keyed by user ID. A buffer is only modified while it is in the map, and is
+   * removed from the map before it is sent.
+   */
+  private final Map<Integer, PendingMessages> pending = new ConcurrentHashMap<>();
+
+  /**
+   * IDs of the users whose session was closed for being too slow, who are sent a resync hint when
+   * they subscribe again.
+   */
+  private final Set<Integer> markedForResync = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Number of notifications sent as part of a batch instead of in their own frame.
+   */
+  private final Counter coalescedNotifications;
+
+  /**
+   * Number of unread counts replaced by a newer count before they were sent.
+   */
+  private final Counter coalescedUnreadCounts;
+
+  /**
+   * Number of notifications dropped because the buffer of the user was full.
+   */
+  private final Counter droppedNotifications;
+
+  /**
+   * Number of resync hints sent.
+   */
+  private final Counter resyncHints;
+
+  /**
+   * Constructs the delivery service.
+   *
+   * @param messagingTemplate   template for sending WebSocket messages
+   * @param meterRegistry       registry of the delivery metrics
+   * @param observationRegistry registry the flushes are observed in
+   * @param maxPendingPerUser   maximum number of notifications buffered per user between two
+   *                            flushes
+   */
+  public NotificationDeliveryService(SimpMessagingTemplate messagingTemplate,
+      MeterRegistry meterRegistry, ObservationRegistry observationRegistry,
+      @Value("${websocket.delivery.max-pending-per-user:50}") int maxPendingPerUser) {
+    this.messagingTemplate = messagingTemplate;
+    this.observationRegistry = observationRegistry;
+    this.maxPendingPerUser = maxPendingPerUser;
+    this.coalescedNotifications = Counter.builder("websocket.delivery.coalesced")
+        .description("Messages merged into a frame with other messages")
+        .tag("type", "notification")
+        .register(meterRegistry);
+    this.coalescedUnreadCounts = Counter.builder("websocket.delivery.coalesced")
+        .description("Messages merged into a frame with other messages")
+        .tag("type", "unread-count")
+        .register(meterRegistry);
+    this.droppedNotifications = Counter.builder("websocket.delivery.dropped")
+        .description("Notifications dropped because the user's buffer was full")
+        .register(meterRegistry);
+    this.resyncHints = Counter.builder("websocket.delivery.resync")
+        .description("Resync hints sent after notifications were dropped or lost with a session")
+        .register(meterRegistry);
+    meterRegistry.gauge("websocket.delivery.pending.users", pending, Map::size);
+  }
+
+  /**
+   * Enqueues a notification for delivery to a user. If the buffer of the user is full, all its
+   * pending notifications are dropped and the user is sent a resync hint instead. Notifications
+   * enqueued while a resync hint is pending are dropped too.
+   *
+   * @param userId       the ID of the user receiving the notification
+   * @param notification the notification to send
+   */
+  public void deliver(Integer userId, NotificationDto notification) {
+    pending.compute(userId, (id, messages) -> {
+      PendingMessages buffer = messages != null ? messages : new PendingMessages();
+      if (buffer.notifications.size() >= maxPendingPerUser) {
+        buffer.dropped += buffer.notifications.size() + 1;
+        droppedNotifications.increment(buffer.notifications.size() + 1);
+        buffer.notifications.clear();
+      } else if (buffer.dropped == 0 && !buffer.resync) {
+        buffer.notifications.add(notification);
+      } else {
+        // The client reloads its inbox anyway, so later notifications are dropped too
+        buffer.dropped++;
+        droppedNotifications.increment();
+      }
+      return buffer;
+    });
+  }
+
+  /**
+   * Enqueues the unread notification count of a user for delivery, replacing any count of the
+   * user that has not been sent yet.
+   *
+   * @param count the unread notification count to send
+   */
+  public void deliverUnreadCount(UnreadNotificationCountDto count) {
+    pending.compute(count.getUserId(), (id, messages) -> {
+      PendingMessages buffer = messages != null ? messages : new PendingMessages();
+      if (buffer.unreadCount != null) {
+        coalescedUnreadCounts.increment();
+      }
+      buffer.unreadCount = count;
+      return buffer;
+    });
+  }
+
+  /**
+   * Marks a user whose session was closed for not keeping up with the messages sent to it. The
+   * messages lost with the session are not sent again; the user is sent a resync hint instead once
+   * they subscribe again.
+   *
+   * @param userId the ID of the user
+   */
+  public void markForResync(Integer userId) {
+    markedForResync.add(userId);
+  }
+
+  /**
+   * Enqueues a resync hint for a user marked by {@link #markForResync}, and clears the mark. Does
+   * nothing for users that are not marked.
+   *
+   * @param userId the ID of the user who subscribed to their notification topics
+   */
+  public void resyncIfMarked(Integer userId) {
+    if (!markedForResync.remove(userId)) {
+      return;
+    }
+    pending.compute(userId, (id, messages) -> {
+      PendingMessages buffer = messages != null ? messages : new PendingMessages();
+      buffer.resync = true;
+      return buffer;
+    });
+  }
+
+  /**
+   * Sends the pending messages of every user, coalescing the messages of a user into as few frames
+   * as possible.
+   */
+  @Scheduled(fixedDelayString = "${websocket.delivery.flush-interval-ms:100}")
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    Observation.createNotStarted("websocket.delivery.flush", observationRegistry)
+        .contextualName("flush-notifications")
+        .observe(() -> {
+          for (Integer userId : pending.keySet()) {
+            PendingMessages messages = pending.remove(userId);
+            if (messages != null) {
+              send(userId, messages);
+            }
+          }
+        });
+  }
+
+  /**
+   * Sends the pending messages of a user.
+   *
+   * @param userId   the ID of the user
+   * @param messages the pending messages of the user
+   */
+  private void send(Integer userId, PendingMessages messages) {
+    String destination = "/topic/notifications/" + userId;
+    if (messages.dropped > 0 || messages.resync) {
+      resyncHints.increment();
+      messagingTemplate.convertAndSend(destination + "/batch",
+          new NotificationBatchDto(userId, List.of(), true, messages.dropped));
+    } else if (messages.notifications.size() == 1) {
+      messagingTemplate.convertAndSend(destination, messages.notifications.get(0));
+    } else if (!messages.notifications.isEmpty()) {
+      coalescedNotifications.increment(messages.notifications.size());
+      messagingTemplate.convertAndSend(destination + "/batch",
+          new NotificationBatchDto(userId, messages.notifications, false, 0));
+    }
+    if (messages.unreadCount != null) {
+      messagingTemplate.convertAndSend(destination + "/unread-count", messages.unreadCount);
+    }
+  }
+
+  /**
+   * Messages of a user waiting for the next flush.
+   */
+  private static class PendingMessages {
+
+    /**
+     * Pending notifications, oldest first.
+     */
+    private final List<NotificationDto> notifications = new ArrayList<>();
+
+    /**
+     * Latest pending unread count, or null if the count has not changed.
+     */
+    private UnreadNotificationCountDto unreadCount;
+
+    /**
+     * Number of notifications dropped since the previous flush.
+     */
+    private int dropped;
+
+    /**
+     * Whether the user is sent a resync hint because their messages were lost with a session.
+     */
+    private boolean resync;
+  }
+}
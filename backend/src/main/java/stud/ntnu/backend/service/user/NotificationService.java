@@ -1,18 +1,30 @@
 package stud.ntnu.backend.service.user;
 
 import java.util.Optional;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import stud.ntnu.backend.dto.map.CrisisAreaUpdateDto;
 import stud.ntnu.backend.dto.user.NotificationDto;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
+import stud.ntnu.backend.event.CrisisAreaUpdatedEvent;
+import stud.ntnu.backend.event.UnreadNotificationCountChangedEvent;
 import stud.ntnu.backend.model.map.CrisisEvent;
 import stud.ntnu.backend.model.user.Notification;
 import stud.ntnu.backend.model.user.User;
 import stud.ntnu.backend.repository.user.NotificationRepository;
 import stud.ntnu.backend.repository.user.UserRepository;
+import stud.ntnu.backend.service.crisis.CrisisAreaTopicService;
 import stud.ntnu.backend.util.LocationUtil;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.user.NotificationPreference;
@@ -23,7 +35,9 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -34,14 +48,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
+  /**
+   * Reason given in crisis updates pushed to area topics, whose recipients are not known.
+   */
+  private static final String CRISIS_AREA_REASON = "din posisjon eller din husholdnings posisjon";
+
   private final NotificationRepository notificationRepository;
   private final NotificationPreferenceRepository notificationPreferenceRepository;
   private final UserRepository userRepository;
-  private final SimpMessagingTemplate messagingTemplate;
+  private final NotificationDeliveryService notificationDeliveryService;
   private final MessageSource messageSource;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CrisisAreaTopicService crisisAreaTopicService;
+  private final MeterRegistry meterRegistry;
 
   /**
-   * Creates a new notification for a user.
+   * Creates a new notification for a user and increments the user's unread notification counter.
    *
    * @param user           The user receiving the notification.
    * @param preferenceType The type of notification preference (e.g., crisis_alert).
@@ -64,12 +86,52 @@ public class NotificationService {
         description,
         LocalDateTime.now()
     );
-    return notificationRepository.save(notification);
+    Notification saved = notificationRepository.save(notification);
+    userRepository.adjustUnreadNotificationCount(user.getId(), 1);
+    eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(List.of(user.getId())));
+    return saved;
+  }
+
+  /**
+   * Creates many notifications at once, inserting them in a single JDBC batch and incrementing the
+   * unread notification counters of their users in bulk. The notifications are marked as sent, since
+   * the caller delivers them over a shared topic instead of the users' own topics, and the changed
+   * unread counts are not pushed: clients reload their count when an applicable update arrives. The
+   * counters are incremented in chunks, so the statements do not grow with the number of users.
+   *
+   * @param notifications The notifications to create.
+   */
+  @Transactional
+  public void createNotificationsInBulk(List<Notification> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    notifications.forEach(notification -> notification.setSentAt(now));
+    notificationRepository.insertAll(notifications);
+    notifications.stream()
+        .collect(Collectors.groupingBy(
+            notification -> String.valueOf(notification.getPreferenceType()),
+            Collectors.counting()))
+        .forEach((preferenceType, count) -> sends(preferenceType, "bulk").increment(count));
+    Map<Integer, Long> countsByUserId = notifications.stream()
+        .collect(Collectors.groupingBy(notification -> notification.getUser().getId(),
+            Collectors.counting()));
+    List<Integer> usersWithOne = new ArrayList<>();
+    countsByUserId.forEach((userId, count) -> {
+      if (count == 1) {
+        usersWithOne.add(userId);
+      } else {
+        userRepository.adjustUnreadNotificationCount(userId, count.intValue());
+      }
+    });
+    incrementUnreadNotificationCounts(usersWithOne);
   }
 
   /**
    * Sends a previously created notification via WebSocket to the specific user topic. It also marks
-   * the notification as sent by setting the 'sentAt' timestamp.
+   * the notification as sent by setting the 'sentAt' timestamp. The message is only enqueued here
+   * and sent by {@link NotificationDeliveryService}, so the caller is never held up by the broker.
    *
    * @param notification The Notification object to send.
    */
@@ -77,8 +139,24 @@ public class NotificationService {
     notification.setSentAt(LocalDateTime.now());
     notificationRepository.save(notification);
     NotificationDto notificationDto = NotificationDto.fromEntity(notification);
-    String destination = "/topic/notifications/" + notification.getUser().getId();
-    messagingTemplate.convertAndSend(destination, notificationDto);
+    notificationDeliveryService.deliver(notification.getUser().getId(), notificationDto);
+    sends(String.valueOf(notification.getPreferenceType()), "single").increment();
+  }
+
+  /**
+   * Returns the counter of notifications sent with the given preference type and delivery mode.
+   *
+   * @param preferenceType The preference type of the notifications.
+   * @param mode           "single" for notifications pushed to their user, "bulk" for
+   *                       notifications stored in bulk and delivered over a shared topic.
+   * @return The counter of sent notifications.
+   */
+  private Counter sends(String preferenceType, String mode) {
+    return Counter.builder("notification.sends")
+        .description("Notifications sent to users")
+        .tag("type", preferenceType)
+        .tag("mode", mode)
+        .register(meterRegistry);
   }
 
   /**
@@ -105,7 +183,53 @@ public class NotificationService {
   }
 
   /**
-   * Marks a specific notification as read by setting the 'readAt' timestamp.
+   * Retrieves a keyset page of the notifications of a user, newest first. The next page is
+   * requested with the notification time and ID of the last notification of the current page.
+   *
+   * @param userId         The ID of the user whose notifications are to be fetched.
+   * @param beforeNotifyAt The notification time of the last notification of the previous page, or
+   *                       null for the first page.
+   * @param beforeId       The ID of the last notification of the previous page, or null for the
+   *                       first page.
+   * @param size           The maximum number of notifications to return.
+   * @return A Slice containing Notification entities for the user.
+   * @throws IllegalArgumentException if only one of the cursor values is given.
+   */
+  @Transactional(readOnly = true)
+  public Slice<Notification> getInbox(Integer userId, LocalDateTime beforeNotifyAt,
+      Integer beforeId, int size) {
+    if ((beforeNotifyAt == null) != (beforeId == null)) {
+      throw new IllegalArgumentException("Both beforeNotifyAt and beforeId must be given");
+    }
+    return notificationRepository.findInboxBefore(userId, beforeNotifyAt, beforeId,
+        PageRequest.of(0, size));
+  }
+
+  /**
+   * Moves a batch of the oldest notifications that were read before the given time to the archive
+   * table. Only read notifications are archived, so the unread notification counters are not
+   * affected. Each batch runs in its own transaction, so callers archive large backlogs by calling
+   * this method until it returns less than the batch size.
+   *
+   * @param readBefore The time before which the notifications were read.
+   * @param batchSize  The maximum number of notifications to archive.
+   * @return The number of notifications that were archived.
+   */
+  @Transactional
+  public int archiveReadNotifications(LocalDateTime readBefore, int batchSize) {
+    List<Integer> ids = notificationRepository.findIdsReadBefore(readBefore,
+        PageRequest.of(0, batchSize));
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    notificationRepository.copyToArchive(ids, LocalDateTime.now());
+    return notificationRepository.deleteByIdIn(ids);
+  }
+
+  /**
+   * Marks a specific notification as read by setting the 'readAt' timestamp. The owner's unread
+   * notification counter is only decremented if the notification was still unread, so marking the
+   * same notification twice does not change the count.
    *
    * @param notificationId The ID of the notification to mark as read.
    * @return The updated Notification entity.
@@ -113,15 +237,23 @@ public class NotificationService {
    */
   @Transactional
   public Notification markAsRead(Integer notificationId) {
+    boolean marked = notificationRepository.markAsReadIfUnread(notificationId,
+        LocalDateTime.now()) > 0;
+    // Loaded after the update, so the returned entity carries the stored read time
     Notification notification = notificationRepository.findById(notificationId)
         .orElseThrow(() -> new IllegalStateException(
             "Notification not found with ID: " + notificationId));
-    notification.setReadAt(LocalDateTime.now());
-    return notificationRepository.save(notification);
+    if (marked) {
+      Integer userId = notification.getUser().getId();
+      userRepository.adjustUnreadNotificationCount(userId, -1);
+      eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(List.of(userId)));
+    }
+    return notification;
   }
 
   /**
-   * Marks all unread notifications for a user as read.
+   * Marks all unread notifications for a user as read and decrements the user's unread
+   * notification counter accordingly.
    *
    * @param email The email of the user whose notifications should be marked as read.
    * @return The number of notifications marked as read.
@@ -129,17 +261,46 @@ public class NotificationService {
    */
   @Transactional
   public int markAllNotificationsAsRead(String email) {
+    return markAllNotificationsAsRead(email, null, null);
+  }
+
+  /**
+   * Marks the unread notifications for a user as read in a single bulk update and decrements the
+   * user's unread notification counter accordingly. The notifications can be limited to those up to
+   * a notification ID or notification time, so that notifications arriving after the client
+   * fetched its list stay unread.
+   *
+   * @param email        The email of the user whose notifications should be marked as read.
+   * @param upToId       The ID of the newest notification to mark as read, or null for no limit.
+   * @param upToNotifyAt The latest notification time to mark as read, or null for no limit.
+   * @return The number of notifications marked as read.
+   * @throws IllegalStateException    if the user with the given email is not found.
+   * @throws IllegalArgumentException if both an ID and a time limit are given.
+   */
+  @Transactional
+  public int markAllNotificationsAsRead(String email, Integer upToId,
+      LocalDateTime upToNotifyAt) {
+    if (upToId != null && upToNotifyAt != null) {
+      throw new IllegalArgumentException(
+          "Specify either a notification ID or a time limit, not both");
+    }
     User user = userRepository.findByEmail(email)
         .orElseThrow(() -> new IllegalStateException("User not found with email: " + email));
 
-    List<Notification> unreadNotifications = notificationRepository.findByUserIdAndReadAtIsNull(
-        user.getId());
-    int count = unreadNotifications.size();
+    LocalDateTime now = LocalDateTime.now();
+    int count;
+    if (upToId != null) {
+      count = notificationRepository.markAllAsReadByUserIdUpToId(user.getId(), upToId, now);
+    } else if (upToNotifyAt != null) {
+      count = notificationRepository.markAllAsReadByUserIdUpToNotifyAt(user.getId(), upToNotifyAt,
+          now);
+    } else {
+      count = notificationRepository.markAllAsReadByUserId(user.getId(), now);
+    }
 
     if (count > 0) {
-      LocalDateTime now = LocalDateTime.now();
-      unreadNotifications.forEach(notification -> notification.setReadAt(now));
-      notificationRepository.saveAll(unreadNotifications);
+      userRepository.adjustUnreadNotificationCount(user.getId(), -count);
+      eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(List.of(user.getId())));
     }
 
     return count;
@@ -154,15 +315,39 @@ public class NotificationService {
    */
   @Transactional(readOnly = true)
   public boolean hasUnreadNotifications(String email) {
-    User user = userRepository.findByEmail(email)
+    return getUnreadNotificationCount(email).getUnreadCount() > 0;
+  }
+
+  /**
+   * Retrieves the number of unread notifications of a user. The count is read from the user's
+   * unread notification counter with a single-row lookup instead of counting notifications.
+   *
+   * @param email The email of the user.
+   * @return The unread notification count of the user.
+   * @throws IllegalStateException if the user with the given email is not found.
+   */
+  @Transactional(readOnly = true)
+  public UnreadNotificationCountDto getUnreadNotificationCount(String email) {
+    return userRepository.findUnreadNotificationCountByEmail(email)
         .orElseThrow(() -> new IllegalStateException("User not found with email: " + email));
+  }
 
-    return notificationRepository.existsByUserIdAndReadAtIsNull(user.getId());
+  /**
+   * Recomputes the unread notification counters of all users whose stored values have drifted from
+   * their actual unread notifications. Runs as a single bulk statement.
+   *
+   * @return the number of users that were repaired
+   */
+  @Transactional
+  public int repairUnreadNotificationCounts() {
+    return userRepository.repairDriftedUnreadNotificationCounts();
   }
 
   /**
    * Creates a system notification for all users in the database. System notifications have a
-   * preference type of 'system' and no target type/ID.
+   * preference type of 'system' and no target type/ID. The unread notification counters of all
+   * users are incremented in bulk updates of at most {@link UserRepository#MAX_IDS_PER_QUERY} users
+   * each.
    *
    * @param description   The content of the system notification.
    * @param createdByUser The admin User creating the notification.
@@ -180,6 +365,11 @@ public class NotificationService {
           return notificationRepository.save(notification);
         })
         .collect(Collectors.toList());
+    if (!allUsers.isEmpty()) {
+      List<Integer> userIds = allUsers.stream().map(User::getId).toList();
+      incrementUnreadNotificationCounts(userIds);
+      eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(userIds));
+    }
     return notifications;
   }
 
@@ -201,6 +391,8 @@ public class NotificationService {
    *
    * @param crisisEvent the newly created crisis event.
    */
+  @Observed(name = "crisis.notifications", contextualName = "notify-crisis-created",
+      lowCardinalityKeyValues = {"update", "created"})
   @Transactional
   public void sendCrisisEventNotifications(CrisisEvent crisisEvent) {
     // Determine message template based on event type (new event)
@@ -217,6 +409,8 @@ public class NotificationService {
    * @param updatedCrisisEvent  The updated crisis event entity.
    * @param previousCrisisEvent The state of the crisis event before the update.
    */
+  @Observed(name = "crisis.notifications", contextualName = "notify-crisis-updated",
+      lowCardinalityKeyValues = {"update", "updated"})
   @Transactional
   public void sendCrisisEventUpdateNotifications(CrisisEvent updatedCrisisEvent,
       CrisisEvent previousCrisisEvent) {
@@ -239,7 +433,8 @@ public class NotificationService {
   /**
    * Internal helper method to find relevant users and send notifications with tailored messages
    * based on location proximity. It checks both the user's registered home location and their
-   * household's location against the crisis event's radius.
+   * household's location against the crisis event's radius. The notifications are stored in bulk,
+   * and the event is pushed once to every area topic covering it rather than to each user.
    *
    * @param crisisEvent     The relevant crisis event (new or updated).
    * @param messageTemplate A template for the notification message, containing the placeholder
@@ -259,11 +454,13 @@ public class NotificationService {
     BigDecimal eventLon = crisisEvent.getEpicenterLongitude();
     // Use radius directly in meters for calculations.
     double radiusMeters = crisisEvent.getRadius().doubleValue() * 1000; // MUST BE IN METERS
+    String update = isNewEvent ? "created" : "updated";
+    Timer.Sample fanout = Timer.start(meterRegistry);
 
     // Fetch ALL users.
     List<User> allUsers = userRepository.findAll();
 
-    int sentCount = 0;
+    List<Notification> notifications = new ArrayList<>();
     for (User user : allUsers) {
       String notificationReason = null;
       boolean userHomeAffected = false;
@@ -316,18 +513,88 @@ public class NotificationService {
         // Format the final message using the template and reason
         String finalMessage = messageTemplate.replace("{reason}", notificationReason);
 
-        Notification notification = createNotification(
+        notifications.add(new Notification(
             user,
             Notification.PreferenceType.crisis_alert,
             Notification.TargetType.event,
             crisisEvent.getId(),
-            finalMessage // Use the specific message
-        );
-
-        sendNotification(notification);
-        sentCount++;
+            finalMessage, // Use the specific message
+            LocalDateTime.now()
+        ));
       }
     }
+
+    createNotificationsInBulk(notifications);
+    publishCrisisAreaUpdate(crisisEvent,
+        isNewEvent ? CrisisAreaUpdateDto.UpdateType.CREATED : CrisisAreaUpdateDto.UpdateType.UPDATED,
+        messageTemplate.replace("{reason}", CRISIS_AREA_REASON));
+
+    fanout.stop(Timer.builder("notification.crisis.fanout")
+        .description("Time taken to find and notify the users affected by a crisis event")
+        .tag("update", update)
+        .register(meterRegistry));
+    DistributionSummary.builder("notification.crisis.fanout.users.scanned")
+        .description("Users checked against the radius of a crisis event")
+        .tag("update", update)
+        .register(meterRegistry)
+        .record(allUsers.size());
+    DistributionSummary.builder("notification.crisis.fanout.users.matched")
+        .description("Users within the radius of a crisis event")
+        .tag("update", update)
+        .register(meterRegistry)
+        .record(notifications.size());
+  }
+
+  /**
+   * Notifies the given users that a crisis event was deactivated. The notifications are stored in
+   * bulk, and the deactivation is pushed once to every area topic covering the event.
+   *
+   * @param crisisEvent   The deactivated crisis event.
+   * @param affectedUsers The users within the crisis event's radius.
+   * @param message       The notification message.
+   */
+  @Transactional
+  public void sendCrisisEventDeactivationNotifications(CrisisEvent crisisEvent,
+      List<User> affectedUsers, String message) {
+    createNotificationsInBulk(affectedUsers.stream()
+        .map(user -> new Notification(
+            user,
+            Notification.PreferenceType.crisis_alert,
+            Notification.TargetType.event,
+            crisisEvent.getId(),
+            message,
+            LocalDateTime.now()))
+        .collect(Collectors.toList()));
+    publishCrisisAreaUpdate(crisisEvent, CrisisAreaUpdateDto.UpdateType.DEACTIVATED, message);
+  }
+
+  /**
+   * Publishes a crisis update to the area topics covering the crisis event. The update is sent once
+   * the surrounding transaction commits.
+   *
+   * @param crisisEvent The created, updated or deactivated crisis event.
+   * @param updateType  The kind of change to the crisis event.
+   * @param message     The notification message of the change.
+   */
+  private void publishCrisisAreaUpdate(CrisisEvent crisisEvent,
+      CrisisAreaUpdateDto.UpdateType updateType, String message) {
+    if (crisisEvent.getRadius() == null || crisisEvent.getEpicenterLatitude() == null
+        || crisisEvent.getEpicenterLongitude() == null) {
+      return;
+    }
+    CrisisAreaUpdateDto update = new CrisisAreaUpdateDto(
+        crisisEvent.getId(),
+        updateType,
+        crisisEvent.getName(),
+        crisisEvent.getSeverity(),
+        crisisEvent.getEpicenterLatitude(),
+        crisisEvent.getEpicenterLongitude(),
+        crisisEvent.getRadius(),
+        message
+    );
+    eventPublisher.publishEvent(new CrisisAreaUpdatedEvent(update,
+        crisisAreaTopicService.topicsCovering(crisisEvent.getEpicenterLatitude(),
+            crisisEvent.getEpicenterLongitude(), crisisEvent.getRadius())));
   }
 
   /**
@@ -537,4 +804,17 @@ public class NotificationService {
 
     sendNotification(notification);
   }
+
+  /**
+   * Increments the unread notification counters of several users by one, in bulk updates of at
+   * most {@link UserRepository#MAX_IDS_PER_QUERY} users each.
+   *
+   * @param userIds the IDs of the users
+   */
+  private void incrementUnreadNotificationCounts(List<Integer> userIds) {
+    for (int from = 0; from < userIds.size(); from += UserRepository.MAX_IDS_PER_QUERY) {
+      userRepository.incrementUnreadNotificationCounts(userIds.subList(from,
+          Math.min(from + UserRepository.MAX_IDS_PER_QUERY, userIds.size())));
+    }
+  }
 }
\ No newline at end of file
@@ -2,14 +2,16 @@ package stud.ntnu.backend.service.user;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import stud.ntnu.backend.dto.group.GroupSummaryDto;
 import stud.ntnu.backend.dto.user.CreateReflectionDto;
 import stud.ntnu.backend.dto.user.ReflectionResponseDto;
 import stud.ntnu.backend.dto.user.UpdateReflectionDto;
+import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.map.CrisisEvent;
 import stud.ntnu.backend.model.user.Reflection;
 import stud.ntnu.backend.model.user.User;
@@ -18,9 +20,9 @@ import stud.ntnu.backend.repository.user.ReflectionRepository;
 import stud.ntnu.backend.repository.user.UserRepository;
 import stud.ntnu.backend.service.group.GroupService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Service for managing reflections. Handles creation, retrieval, updating, and deletion of
@@ -93,56 +95,79 @@ public class ReflectionService {
   }
 
   /**
-   * Retrieves all shared reflections from all groups the user's household is a member of.
+   * Retrieves a page of shared reflections from all groups the user's household is currently a
+   * member of, newest first, with the total number of reflections.
    *
    * @param email    the email of the user
-   * @param pageable pagination information
+   * @param pageable pagination information; any sort is ignored
    * @return a page of shared reflections from all groups
    */
   public Page<ReflectionResponseDto> getSharedReflectionsFromAllUserGroups(String email,
       Pageable pageable) {
-    // Get all groups the user's household is a member of
-    Page<GroupSummaryDto> userGroups = groupService.getCurrentUserGroups(email, pageable);
-
-    if (userGroups.isEmpty()) {
-      // Return empty page if user is not a member of any group
-      return Page.empty(pageable);
+    Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    Integer householdId = userRepository.findByEmail(email)
+        .map(User::getHousehold)
+        .map(Household::getId)
+        .orElse(null);
+    if (householdId == null) {
+      // Return empty page if user is not a member of any household, and hence of any group
+      return Page.empty(unsorted);
     }
+    return reflectionRepository.findSharedInHouseholdGroups(householdId, LocalDateTime.now(),
+            unsorted)
+        .map(ReflectionResponseDto::fromEntity);
+  }
 
-    // Get reflections from all groups and combine them
-    List<ReflectionResponseDto> allReflections = userGroups.getContent().stream()
-        .flatMap(
-            group -> reflectionRepository.findSharedByGroupId(group.getId(), Pageable.unpaged())
-                .map(ReflectionResponseDto::fromEntity)
-                .getContent().stream())
-        .distinct() // Remove duplicates
-        .sorted(
-            (r1, r2) -> r2.getCreatedAt().compareTo(r1.getCreatedAt())) // Sort by createdAt DESC
-        .collect(Collectors.toList());
-
-    // Convert to Page
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), allReflections.size());
-
-    // Handle case where start is beyond list size
-    if (start >= allReflections.size()) {
-      return Page.empty(pageable);
+  /**
+   * Retrieves a keyset page of shared reflections from all groups the user's household is currently
+   * a member of, newest first. The next page is requested with the creation time and ID of the last
+   * reflection of the current page.
+   *
+   * @param email           the email of the user
+   * @param beforeCreatedAt the creation time of the last reflection of the previous page, or null
+   *                        for the first page
+   * @param beforeId        the ID of the last reflection of the previous page, or null for the
+   *                        first page
+   * @param size            the maximum number of reflections to return
+   * @return a slice of shared reflections from all groups
+   * @throws IllegalArgumentException if only one of the cursor values is given
+   */
+  public Slice<ReflectionResponseDto> getSharedReflectionsFromAllUserGroups(String email,
+      LocalDateTime beforeCreatedAt, Integer beforeId, int size) {
+    if ((beforeCreatedAt == null) != (beforeId == null)) {
+      throw new IllegalArgumentException("Both beforeCreatedAt and beforeId must be given");
     }
-
-    return new PageImpl<>(allReflections.subList(start, end), pageable, allReflections.size());
+    Pageable pageable = PageRequest.of(0, size);
+    Integer householdId = userRepository.findByEmail(email)
+        .map(User::getHousehold)
+        .map(Household::getId)
+        .orElse(null);
+    if (householdId == null) {
+      // Return empty slice if user is not a member of any household, and hence of any group
+      return new SliceImpl<>(List.of(), pageable, false);
+    }
+    return reflectionRepository.findSharedInHouseholdGroupsBefore(householdId, beforeCreatedAt,
+            beforeId, LocalDateTime.now(), pageable)
+        .map(ReflectionResponseDto::fromEntity);
   }
 
   /**
    * Retrieves all shared reflections that are visible to a specific user (from their household and
-   * groups).
+   * groups). The visible households are cached per household, so the feed itself is a single
+   * indexed query.
    *
-   * @param userId   the ID of the user
+   * @param user     the user reading the feed
    * @param pageable pagination information
    * @return a page of shared reflections
    */
-  public Page<ReflectionResponseDto> getSharedReflectionsVisibleToUser(Integer userId,
+  public Page<ReflectionResponseDto> getSharedReflectionsVisibleToUser(User user,
       Pageable pageable) {
-    return reflectionRepository.findSharedVisibleToUser(userId, pageable)
+    if (user.getHousehold() == null) {
+      return Page.empty(pageable);
+    }
+    List<Integer> householdIds = groupService.getVisibleHouseholdIds(user.getHousehold().getId());
+    return reflectionRepository.findSharedByHouseholdIdsExcludingUser(householdIds, user.getId(),
+            pageable)
         .map(ReflectionResponseDto::fromEntity);
   }
 
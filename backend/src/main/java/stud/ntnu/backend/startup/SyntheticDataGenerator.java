@@ -0,0 +1,586 @@
+package stud.ntnu.backend.startup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+/**
+ * Bulk-inserts a deterministic synthetic data set of users, households with inventories, groups
+ * and notifications, for looking at the application with realistic volumes. All rows are written
+ * with JDBC batches, so millions of users can be created in minutes. On PostgreSQL, adding
+ * {@code reWriteBatchedInserts=true} to the JDBC URL turns each batch into multi-row inserts.
+ * <p>
+ * Households are spread around the larger Norwegian towns, with some in the countryside around
+ * them, and their users mostly live at the household. Product batches expire according to the
+ * category of the product: some have expired, some expire soon and the rest expire over the
+ * following months or years. All times are relative to the time of the run, everything else only
+ * depends on the {@link SyntheticDataSpec}.
+ * <p>
+ * Used by the {@link SyntheticDataLoader} of the {@code datagen} profile, and by tests and
+ * benchmarks.
+ */
+public class SyntheticDataGenerator {
+
+  /**
+   * BCrypt hash of "Password1!", the password of every generated user.
+   */
+  public static final String PASSWORD_HASH =
+      "$2a$12$ZTJK5u.o51M.md5DGLT1cOHaTOuYAExMBhozXOrrdR3xnmMDJN3RW";
+
+  private static final int KCAL_REQUIREMENT = 2000;
+
+  /**
+   * Share of households in the countryside rather than in a town.
+   */
+  private static final double RURAL_SHARE = 0.15;
+
+  /**
+   * Share of users whose home position differs from the position of their household.
+   */
+  private static final double AWAY_FROM_HOUSEHOLD_SHARE = 0.2;
+
+  /**
+   * Share of group memberships that have ended.
+   */
+  private static final double LEFT_GROUP_SHARE = 0.1;
+
+  private static final Region[] REGIONS = {
+      new Region("Oslo", 59.9139, 10.7522, 30),
+      new Region("Bergen", 60.3913, 5.3221, 12),
+      new Region("Trondheim", 63.4305, 10.3951, 10),
+      new Region("Stavanger", 58.9700, 5.7331, 9),
+      new Region("Kristiansand", 58.1462, 7.9956, 5),
+      new Region("Drammen", 59.7439, 10.2045, 5),
+      new Region("Fredrikstad", 59.2181, 10.9298, 5),
+      new Region("Tromsø", 69.6492, 18.9553, 4),
+      new Region("Ålesund", 62.4722, 6.1495, 3),
+      new Region("Bodø", 67.2804, 14.4049, 2),
+      new Region("Lillehammer", 61.1153, 10.4662, 2),
+      new Region("Alta", 69.9689, 23.2716, 1)
+  };
+
+  private static final Product[] PRODUCTS = {
+      new Product("Knekkebrød", "stk", 40, Category.FOOD),
+      new Product("Hermetiske bønner", "stk", 350, Category.FOOD),
+      new Product("Ris", "kg", 3600, Category.FOOD),
+      new Product("Pasta", "kg", 3500, Category.FOOD),
+      new Product("Havregryn", "kg", 3700, Category.FOOD),
+      new Product("Tunfisk på boks", "stk", 200, Category.FOOD),
+      new Product("Sjokolade", "stk", 550, Category.FOOD),
+      new Product("Nøtter", "kg", 6000, Category.FOOD),
+      new Product("Suppeposer", "stk", 150, Category.FOOD),
+      new Product("Tørrfisk", "kg", 3000, Category.FOOD),
+      new Product("Flaskevann", "l", null, Category.WATER),
+      new Product("Vanndunk", "l", null, Category.WATER),
+      new Product("Paracetamol", "stk", null, Category.MEDICINE),
+      new Product("Ibuprofen", "stk", null, Category.MEDICINE),
+      new Product("Jodtabletter", "stk", null, Category.MEDICINE),
+      new Product("Allergimedisin", "dose", null, Category.MEDICINE)
+  };
+
+  private static final String[] FIRST_NAMES = {"Ola", "Kari", "Nora", "Jakob", "Emma", "Lucas",
+      "Sofie", "Filip", "Ingrid", "Henrik", "Sara", "Magnus", "Maja", "Oskar", "Ella", "Aksel"};
+
+  private static final String[] LAST_NAMES = {"Hansen", "Johansen", "Olsen", "Larsen",
+      "Andersen", "Pedersen", "Nilsen", "Kristiansen", "Jensen", "Karlsen", "Johnsen", "Berg"};
+
+  private static final int HOUSEHOLD_SEED = 1;
+  private static final int USER_SEED = 2;
+  private static final int INVENTORY_SEED = 3;
+  private static final int GROUP_SEED = 4;
+  private static final int NOTIFICATION_SEED = 5;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Creates a generator writing to the database of the given template.
+   *
+   * @param jdbcTemplate the template of the application's data source
+   */
+  public SyntheticDataGenerator(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Returns the email of a generated user.
+   *
+   * @param prefix the prefix of the generated data
+   * @param index  the index of the user, from 0
+   * @return the email of the user
+   */
+  public static String userEmail(String prefix, int index) {
+    return prefix + "-user-" + index + "@example.com";
+  }
+
+  /**
+   * Returns the name of a generated household.
+   *
+   * @param prefix the prefix of the generated data
+   * @param index  the index of the household, from 0
+   * @return the name of the household
+   */
+  public static String householdName(String prefix, int index) {
+    return prefix + "-household-" + index;
+  }
+
+  /**
+   * Inserts a synthetic data set. The household counters and the unread notification counters of
+   * the users match the inserted rows, and the first user of every household is its admin.
+   *
+   * @param spec the shape of the data set
+   * @return the number of rows created
+   * @throws IllegalArgumentException        if the spec has no users or households
+   * @throws DataIntegrityViolationException if the prefix of the spec has been used before
+   */
+  public SyntheticDataSummary generate(SyntheticDataSpec spec) {
+    if (spec.getUsers() < 1 || spec.getUsersPerHousehold() < 1) {
+      throw new IllegalArgumentException("A synthetic data set needs users and households");
+    }
+    long start = System.nanoTime();
+    LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    Households households = insertHouseholds(spec);
+    int[] notificationCounts = new int[spec.getUsers()];
+    int[] unreadCounts = new int[spec.getUsers()];
+    Random notificationRandom = new Random(spec.getSeed() + NOTIFICATION_SEED);
+    for (int user = 0; user < spec.getUsers(); user++) {
+      notificationCounts[user] = spread(notificationRandom, spec.getNotificationsPerUser());
+      unreadCounts[user] = notificationRandom.nextInt(notificationCounts[user] + 1);
+    }
+    int[] userIds = insertUsers(spec, households, unreadCounts);
+    int[] inventory = insertInventories(spec, households, now);
+    int[] groups = insertGroups(spec, households, userIds, now);
+    int notifications = insertNotifications(spec, userIds, notificationCounts, unreadCounts,
+        notificationRandom, now);
+
+    return new SyntheticDataSummary(households.ids.length, userIds.length, inventory[0],
+        inventory[1], groups[0], groups[1], notifications,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private Households insertHouseholds(SyntheticDataSpec spec) {
+    Random random = new Random(spec.getSeed() + HOUSEHOLD_SEED);
+    int[] sizes = new int[spec.getUsers()];
+    int count = 0;
+    for (int assigned = 0; assigned < spec.getUsers(); count++) {
+      sizes[count] = Math.min(1 + random.nextInt(2 * spec.getUsersPerHousehold() - 1),
+          spec.getUsers() - assigned);
+      assigned += sizes[count];
+    }
+
+    Households households = new Households(Arrays.copyOf(sizes, count));
+    Batch<Object[]> batch = new Batch<>("INSERT INTO households (name, address, population_count, "
+        + "kcal_requirement, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?)", spec.getBatchSize(),
+        (ps, row) -> {
+          ps.setString(1, (String) row[0]);
+          ps.setString(2, (String) row[1]);
+          ps.setInt(3, (Integer) row[2]);
+          ps.setInt(4, (Integer) row[2] * KCAL_REQUIREMENT);
+          ps.setBigDecimal(5, (BigDecimal) row[3]);
+          ps.setBigDecimal(6, (BigDecimal) row[4]);
+        });
+    for (int household = 0; household < count; household++) {
+      Region region = pickRegion(random);
+      double spreadDegrees = random.nextDouble() < RURAL_SHARE ? 0.4 : 0.05;
+      households.latitudes[household] = clamp(
+          region.latitude + random.nextGaussian() * spreadDegrees, 57.9, 71.2);
+      households.longitudes[household] = clamp(
+          region.longitude + random.nextGaussian() * spreadDegrees * 2, 4.5, 31.2);
+      batch.add(new Object[]{householdName(spec.getPrefix(), household),
+          "Syntetisk vei " + (household + 1) + ", " + region.name, households.sizes[household],
+          coordinate(households.latitudes[household]),
+          coordinate(households.longitudes[household])});
+    }
+    batch.flush();
+
+    households.ids = queryIds("SELECT id FROM households WHERE name LIKE ? ORDER BY id", count,
+        spec.getPrefix() + "-household-%");
+    return households;
+  }
+
+  private int[] insertUsers(SyntheticDataSpec spec, Households households, int[] unreadCounts) {
+    Random random = new Random(spec.getSeed() + USER_SEED);
+    Integer roleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'USER'",
+        Integer.class);
+    Batch<Object[]> batch = new Batch<>("INSERT INTO users (email, password_hash, phone_number, "
+        + "role_id, household_id, first_name, last_name, home_latitude, home_longitude, "
+        + "privacy_accepted, email_verified, location_sharing_enabled, kcal_requirement, "
+        + "unread_notification_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, TRUE, ?, ?, ?)",
+        spec.getBatchSize(), (ps, row) -> {
+          ps.setString(1, (String) row[0]);
+          ps.setString(2, PASSWORD_HASH);
+          ps.setString(3, (String) row[1]);
+          ps.setInt(4, roleId);
+          ps.setInt(5, (Integer) row[2]);
+          ps.setString(6, (String) row[3]);
+          ps.setString(7, (String) row[4]);
+          ps.setBigDecimal(8, (BigDecimal) row[5]);
+          ps.setBigDecimal(9, (BigDecimal) row[6]);
+          ps.setBoolean(10, (Boolean) row[7]);
+          ps.setInt(11, KCAL_REQUIREMENT);
+          ps.setInt(12, (Integer) row[8]);
+        });
+    int user = 0;
+    for (int household = 0; household < households.ids.length; household++) {
+      households.firstUsers[household] = user;
+      for (int member = 0; member < households.sizes[household]; member++, user++) {
+        double latitude = households.latitudes[household];
+        double longitude = households.longitudes[household];
+        if (random.nextDouble() < AWAY_FROM_HOUSEHOLD_SHARE) {
+          latitude += random.nextGaussian() * 0.02;
+          longitude += random.nextGaussian() * 0.04;
+        }
+        batch.add(new Object[]{userEmail(spec.getPrefix(), user),
+            "+47" + (40_000_000 + user % 50_000_000), households.ids[household],
+            FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+            LAST_NAMES[random.nextInt(LAST_NAMES.length)], coordinate(latitude),
+            coordinate(longitude), random.nextDouble() < 0.3, unreadCounts[user]});
+      }
+    }
+    batch.flush();
+
+    int[] userIds = queryIds("SELECT id FROM users WHERE email LIKE ? ORDER BY id",
+        spec.getUsers(), spec.getPrefix() + "-user-%");
+    Batch<Integer> admins = new Batch<>("INSERT INTO household_admins (user_id, household_id) "
+        + "VALUES (?, ?)", spec.getBatchSize(), (ps, household) -> {
+          ps.setInt(1, userIds[households.firstUsers[household]]);
+          ps.setInt(2, households.ids[household]);
+        });
+    for (int household = 0; household < households.ids.length; household++) {
+      admins.add(household);
+    }
+    admins.flush();
+    return userIds;
+  }
+
+  /**
+   * Inserts the product types and batches of every household.
+   *
+   * @return the number of product types and the number of batches
+   */
+  private int[] insertInventories(SyntheticDataSpec spec, Households households,
+      LocalDateTime now) {
+    Random random = new Random(spec.getSeed() + INVENTORY_SEED);
+    int maxTypes = Math.min(2 * spec.getProductTypesPerHousehold(), PRODUCTS.length);
+    int[] productOfType = new int[households.ids.length * maxTypes];
+    int typeCount = 0;
+    int[] catalog = new int[PRODUCTS.length];
+    Batch<Object[]> types = new Batch<>("INSERT INTO product_types (household_id, name, unit, "
+        + "calories_per_unit, category) VALUES (?, ?, ?, ?, ?)", spec.getBatchSize(),
+        (ps, row) -> {
+          Product product = PRODUCTS[(Integer) row[1]];
+          ps.setInt(1, (Integer) row[0]);
+          ps.setString(2, product.name);
+          ps.setString(3, product.unit);
+          ps.setObject(4, product.caloriesPerUnit);
+          ps.setString(5, product.category.value);
+        });
+    for (int household = 0; household < households.ids.length; household++) {
+      for (int i = 0; i < catalog.length; i++) {
+        catalog[i] = i;
+      }
+      int count = Math.min(spread(random, spec.getProductTypesPerHousehold()), maxTypes);
+      for (int i = 0; i < count; i++) {
+        // Partial shuffle, as a household has each product at most once
+        int pick = i + random.nextInt(catalog.length - i);
+        int product = catalog[pick];
+        catalog[pick] = catalog[i];
+        catalog[i] = product;
+        productOfType[typeCount++] = product;
+        types.add(new Object[]{households.ids[household], product});
+      }
+    }
+    types.flush();
+
+    int[] typeIds = queryIds("SELECT pt.id FROM product_types pt JOIN households h "
+        + "ON h.id = pt.household_id WHERE h.name LIKE ? ORDER BY pt.id", typeCount,
+        spec.getPrefix() + "-household-%");
+    Batch<Object[]> batches = new Batch<>("INSERT INTO product_batch (product_type_id, "
+        + "date_added, expiration_time, number) VALUES (?, ?, ?, ?)", spec.getBatchSize(),
+        (ps, row) -> {
+          ps.setInt(1, (Integer) row[0]);
+          ps.setTimestamp(2, Timestamp.valueOf((LocalDateTime) row[1]));
+          ps.setTimestamp(3, Timestamp.valueOf((LocalDateTime) row[2]));
+          ps.setInt(4, (Integer) row[3]);
+        });
+    for (int type = 0; type < typeCount; type++) {
+      Category category = PRODUCTS[productOfType[type]].category;
+      int count = spread(random, spec.getBatchesPerProductType());
+      for (int i = 0; i < count; i++) {
+        batches.add(new Object[]{typeIds[type], now.minusDays(random.nextInt(180)),
+            category.expirationTime(random, now), 1 + random.nextInt(10)});
+      }
+    }
+    batches.flush();
+    return new int[]{typeCount, batches.total};
+  }
+
+  /**
+   * Inserts the groups and their memberships. The household of the group's creator never leaves.
+   *
+   * @return the number of groups and the number of memberships
+   */
+  private int[] insertGroups(SyntheticDataSpec spec, Households households, int[] userIds,
+      LocalDateTime now) {
+    if (spec.getGroups() < 1) {
+      return new int[]{0, 0};
+    }
+    Random random = new Random(spec.getSeed() + GROUP_SEED);
+    int membersPerGroup = Math.min(spec.getHouseholdsPerGroup(), households.ids.length);
+    int[][] members = new int[spec.getGroups()][];
+    Batch<Object[]> groups = new Batch<>("INSERT INTO groups (name, created_by_user_id) "
+        + "VALUES (?, ?)", spec.getBatchSize(), (ps, row) -> {
+          ps.setString(1, (String) row[0]);
+          ps.setInt(2, (Integer) row[1]);
+        });
+    for (int group = 0; group < members.length; group++) {
+      Set<Integer> chosen = new LinkedHashSet<>();
+      while (chosen.size() < membersPerGroup) {
+        chosen.add(random.nextInt(households.ids.length));
+      }
+      members[group] = chosen.stream().mapToInt(Integer::intValue).toArray();
+      groups.add(new Object[]{spec.getPrefix() + "-group-" + group,
+          userIds[households.firstUsers[members[group][0]]]});
+    }
+    groups.flush();
+
+    int[] groupIds = queryIds("SELECT id FROM groups WHERE name LIKE ? ORDER BY id",
+        members.length, spec.getPrefix() + "-group-%");
+    Batch<Object[]> memberships = new Batch<>("INSERT INTO group_memberships (group_id, "
+        + "household_id, invited_by_user_id, joined_at, left_at) VALUES (?, ?, ?, ?, ?)",
+        spec.getBatchSize(), (ps, row) -> {
+          ps.setInt(1, (Integer) row[0]);
+          ps.setInt(2, (Integer) row[1]);
+          ps.setObject(3, row[2]);
+          ps.setTimestamp(4, Timestamp.valueOf((LocalDateTime) row[3]));
+          ps.setTimestamp(5, row[4] == null ? null : Timestamp.valueOf((LocalDateTime) row[4]));
+        });
+    for (int group = 0; group < members.length; group++) {
+      Integer creatorId = userIds[households.firstUsers[members[group][0]]];
+      for (int i = 0; i < members[group].length; i++) {
+        LocalDateTime joinedAt = now.minusDays(1 + random.nextInt(365));
+        boolean left = i > 0 && random.nextDouble() < LEFT_GROUP_SHARE;
+        memberships.add(new Object[]{groupIds[group], households.ids[members[group][i]],
+            i == 0 ? null : creatorId, joinedAt,
+            left ? joinedAt.plusDays(random.nextInt(30) + 1L) : null});
+      }
+    }
+    memberships.flush();
+    return new int[]{groupIds.length, memberships.total};
+  }
+
+  private int insertNotifications(SyntheticDataSpec spec, int[] userIds,
+      int[] notificationCounts, int[] unreadCounts, Random random, LocalDateTime now) {
+    Batch<Object[]> batch = new Batch<>("INSERT INTO notifications (user_id, preference_type, "
+        + "target_type, description, notify_at, sent_at, read_at, created_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", spec.getBatchSize(), (ps, row) -> {
+          Timestamp notifyAt = Timestamp.valueOf((LocalDateTime) row[4]);
+          ps.setInt(1, (Integer) row[0]);
+          ps.setString(2, (String) row[1]);
+          ps.setString(3, (String) row[2]);
+          ps.setString(4, (String) row[3]);
+          ps.setTimestamp(5, notifyAt);
+          ps.setTimestamp(6, notifyAt);
+          ps.setTimestamp(7, row[5] == null ? null : Timestamp.valueOf((LocalDateTime) row[5]));
+          ps.setTimestamp(8, notifyAt);
+        });
+    for (int user = 0; user < userIds.length; user++) {
+      for (int i = 0; i < notificationCounts[user]; i++) {
+        LocalDateTime notifyAt = now.minusMinutes(1 + random.nextInt(30 * 24 * 60));
+        LocalDateTime readAt = i < unreadCounts[user] ? null
+            : notifyAt.plusMinutes(1 + random.nextInt(600));
+        double type = random.nextDouble();
+        if (type < 0.6) {
+          batch.add(new Object[]{userIds[user], "expiration_reminder", "inventory",
+              "Noen varer i beholdningen din går snart ut på dato.", notifyAt, readAt});
+        } else if (type < 0.85) {
+          batch.add(new Object[]{userIds[user], "crisis_alert", "event",
+              "Kriselarsel i nærheten av din posisjon.", notifyAt, readAt});
+        } else {
+          batch.add(new Object[]{userIds[user], "system", null,
+              "Husk å sjekke beredskapslageret ditt.", notifyAt, readAt});
+        }
+      }
+    }
+    batch.flush();
+    return batch.total;
+  }
+
+  private int[] queryIds(String sql, int expected, Object... args) {
+    int[] ids = new int[expected];
+    int[] count = {0};
+    jdbcTemplate.query(sql, rs -> {
+      if (count[0] < expected) {
+        ids[count[0]] = rs.getInt(1);
+      }
+      count[0]++;
+    }, args);
+    if (count[0] != expected) {
+      throw new IllegalStateException("Expected " + expected + " rows but found " + count[0]
+          + " for " + Arrays.toString(args) + ", other rows use the same prefix");
+    }
+    return ids;
+  }
+
+  private static Region pickRegion(Random random) {
+    int totalWeight = 0;
+    for (Region region : REGIONS) {
+      totalWeight += region.weight;
+    }
+    int pick = random.nextInt(totalWeight);
+    for (Region region : REGIONS) {
+      pick -= region.weight;
+      if (pick < 0) {
+        return region;
+      }
+    }
+    return REGIONS[0];
+  }
+
+  /**
+   * Returns a count between 0 and twice the average, with the given average.
+   */
+  private static int spread(Random random, int average) {
+    return average <= 0 ? 0 : random.nextInt(2 * average + 1);
+  }
+
+  private static double clamp(double value, double min, double max) {
+    return Math.max(min, Math.min(max, value));
+  }
+
+  private static BigDecimal coordinate(double value) {
+    return BigDecimal.valueOf(value).setScale(7, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Collects rows and writes them as one JDBC batch whenever the batch is full.
+   */
+  private final class Batch<T> {
+
+    private final String sql;
+    private final int batchSize;
+    private final ParameterizedPreparedStatementSetter<T> setter;
+    private final List<T> rows;
+    private int total;
+
+    private Batch(String sql, int batchSize, ParameterizedPreparedStatementSetter<T> setter) {
+      this.sql = sql;
+      this.batchSize = batchSize;
+      this.setter = setter;
+      this.rows = new ArrayList<>(batchSize);
+    }
+
+    private void add(T row) {
+      rows.add(row);
+      if (rows.size() == batchSize) {
+        flush();
+      }
+    }
+
+    private void flush() {
+      if (!rows.isEmpty()) {
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, setter);
+        total += rows.size();
+        rows.clear();
+      }
+    }
+  }
+
+  /**
+   * The generated households, in insertion order.
+   */
+  private static final class Households {
+
+    private final int[] sizes;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] firstUsers;
+    private int[] ids;
+
+    private Households(int[] sizes) {
+      this.sizes = sizes;
+      this.latitudes = new double[sizes.length];
+      this.longitudes = new double[sizes.length];
+      this.firstUsers = new int[sizes.length];
+    }
+  }
+
+  private static final class Region {
+
+    private final String name;
+    private final double latitude;
+    private final double longitude;
+    private final int weight;
+
+    private Region(String name, double latitude, double longitude, int weight) {
+      this.name = name;
+      this.latitude = latitude;
+      this.longitude = longitude;
+      this.weight = weight;
+    }
+  }
+
+  private static final class Product {
+
+    private final String name;
+    private final String unit;
+    private final Integer caloriesPerUnit;
+    private final Category category;
+
+    private Product(String name, String unit, Integer caloriesPerUnit, Category category) {
+      this.name = name;
+      this.unit = unit;
+      this.caloriesPerUnit = caloriesPerUnit;
+      this.category = category;
+    }
+  }
+
+  /**
+   * Product categories with the distribution of the expiration times of their batches: a share
+   * has expired within the last month, a share expires within the next few days, and the rest
+   * expires later, more often sooner than at the end of the shelf life.
+   */
+  private enum Category {
+    FOOD("food", 0.05, 0.10, 7, 365),
+    WATER("water", 0.02, 0.03, 30, 730),
+    MEDICINE("medicine", 0.03, 0.05, 30, 1095);
+
+    private final String value;
+    private final double expiredShare;
+    private final double expiringSoonShare;
+    private final int soonDays;
+    private final int shelfLifeDays;
+
+    Category(String value, double expiredShare, double expiringSoonShare, int soonDays,
+        int shelfLifeDays) {
+      this.value = value;
+      this.expiredShare = expiredShare;
+      this.expiringSoonShare = expiringSoonShare;
+      this.soonDays = soonDays;
+      this.shelfLifeDays = shelfLifeDays;
+    }
+
+    private LocalDateTime expirationTime(Random random, LocalDateTime now) {
+      double share = random.nextDouble();
+      if (share < expiredShare) {
+        return now.minusHours(1 + random.nextInt(30 * 24));
+      }
+      if (share < expiredShare + expiringSoonShare) {
+        return now.plusHours(1 + random.nextInt(soonDays * 24));
+      }
+      double later = random.nextDouble();
+      return now.plusDays(soonDays + 1 + (long) (later * later * (shelfLifeDays - soonDays)));
+    }
+  }
+}
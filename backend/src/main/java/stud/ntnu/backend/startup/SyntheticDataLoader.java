@@ -0,0 +1,103 @@
+package stud.ntnu.backend.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fills the database with a synthetic data set when the application is ready. Only active in the
+ * {@code datagen} profile, which administrators enable to try the application with realistic
+ * volumes. The data set is only generated once per prefix, so restarts keep the existing data.
+ * <p>
+ * The data set is generated in a single transaction, so a run that fails halfway, for example
+ * because the application is stopped, leaves no rows behind. The next start then finds no
+ * generated users and generates the whole data set again, instead of skipping the missing rows.
+ */
+@Component
+@Profile("datagen")
+public class SyntheticDataLoader {
+
+  private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+  /**
+   * Template of the application's data source.
+   */
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * The shape of the data set to generate.
+   */
+  private final SyntheticDataSpec spec;
+
+  /**
+   * Constructs the loader with the shape of the data set, see {@link SyntheticDataSpec}.
+   *
+   * @param jdbcTemplate             template of the application's data source
+   * @param seed                     seed of all random choices
+   * @param prefix                   prefix of the generated household names and user emails
+   * @param users                    number of users to create
+   * @param usersPerHousehold        average number of users living in a household
+   * @param productTypesPerHousehold average number of product types of a household
+   * @param batchesPerProductType    average number of batches of a product type
+   * @param groups                   number of groups to create
+   * @param householdsPerGroup       number of households in a group
+   * @param notificationsPerUser     average number of notifications of a user
+   * @param batchSize                number of rows sent to the database in one JDBC batch
+   */
+  public SyntheticDataLoader(JdbcTemplate jdbcTemplate,
+      @Value("${datagen.seed:42}") long seed,
+      @Value("${datagen.prefix:synthetic}") String prefix,
+      @Value("${datagen.users:100000}") int users,
+      @Value("${datagen.users-per-household:2}") int usersPerHousehold,
+      @Value("${datagen.product-types-per-household:5}") int productTypesPerHousehold,
+      @Value("${datagen.batches-per-product-type:2}") int batchesPerProductType,
+      @Value("${datagen.groups:500}") int groups,
+      @Value("${datagen.households-per-group:5}") int householdsPerGroup,
+      @Value("${datagen.notifications-per-user:3}") int notificationsPerUser,
+      @Value("${datagen.batch-size:1000}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.spec = SyntheticDataSpec.builder()
+        .seed(seed)
+        .prefix(prefix)
+        .users(users)
+        .usersPerHousehold(usersPerHousehold)
+        .productTypesPerHousehold(productTypesPerHousehold)
+        .batchesPerProductType(batchesPerProductType)
+        .groups(groups)
+        .householdsPerGroup(householdsPerGroup)
+        .notificationsPerUser(notificationsPerUser)
+        .batchSize(batchSize)
+        .build();
+  }
+
+  /**
+   * Generates the data set after startup, unless users with the configured prefix exist. Since the
+   * data set is committed as a whole, the first generated user only exists once all rows do.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void onApplicationReady() {
+    Integer existing = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class,
+        SyntheticDataGenerator.userEmail(spec.getPrefix(), 0));
+    if (existing != null && existing > 0) {
+      log.info("Synthetic data with prefix '{}' already exists, skipping generation",
+          spec.getPrefix());
+      return;
+    }
+    log.info("Generating synthetic data with prefix '{}' for {} users", spec.getPrefix(),
+        spec.getUsers());
+    SyntheticDataSummary summary = new SyntheticDataGenerator(jdbcTemplate).generate(spec);
+    log.info("Generated {} households, {} users, {} product types, {} product batches, {} groups "
+            + "with {} memberships and {} notifications in {} ms", summary.getHouseholds(),
+        summary.getUsers(), summary.getProductTypes(), summary.getProductBatches(),
+        summary.getGroups(), summary.getGroupMemberships(), summary.getNotifications(),
+        summary.getElapsedMillis());
+  }
+}
@@ -0,0 +1,75 @@
+package stud.ntnu.backend.startup;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The shape of a synthetic data set created by {@link SyntheticDataGenerator}. Every count is an
+ * average, the actual counts vary per household, product type and user but only depend on the
+ * seed.
+ */
+@Getter
+@Builder
+public class SyntheticDataSpec {
+
+  /**
+   * The seed of all random choices. The same spec always produces the same data.
+   */
+  @Builder.Default
+  private final long seed = 42L;
+
+  /**
+   * The prefix of the generated household names and user emails. It must not have been used for
+   * earlier generated data, since household names and emails are unique.
+   */
+  @Builder.Default
+  private final String prefix = "synthetic";
+
+  /**
+   * The number of users to create.
+   */
+  @Builder.Default
+  private final int users = 10_000;
+
+  /**
+   * The average number of users living in a household.
+   */
+  @Builder.Default
+  private final int usersPerHousehold = 2;
+
+  /**
+   * The average number of product types in the inventory of a household.
+   */
+  @Builder.Default
+  private final int productTypesPerHousehold = 5;
+
+  /**
+   * The average number of batches of a product type.
+   */
+  @Builder.Default
+  private final int batchesPerProductType = 2;
+
+  /**
+   * The number of groups to create.
+   */
+  @Builder.Default
+  private final int groups = 50;
+
+  /**
+   * The number of households in a group, including those that have left it.
+   */
+  @Builder.Default
+  private final int householdsPerGroup = 5;
+
+  /**
+   * The average number of notifications of a user.
+   */
+  @Builder.Default
+  private final int notificationsPerUser = 3;
+
+  /**
+   * The number of rows sent to the database in one JDBC batch.
+   */
+  @Builder.Default
+  private final int batchSize = 1_000;
+}
@@ -0,0 +1,31 @@
+package stud.ntnu.backend.startup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The number of rows created by one run of {@link SyntheticDataGenerator}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SyntheticDataSummary {
+
+  private final int households;
+
+  private final int users;
+
+  private final int productTypes;
+
+  private final int productBatches;
+
+  private final int groups;
+
+  private final int groupMemberships;
+
+  private final int notifications;
+
+  /**
+   * The duration of the run in milliseconds.
+   */
+  private final long elapsedMillis;
+}
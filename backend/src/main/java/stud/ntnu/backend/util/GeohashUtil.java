@@ -0,0 +1,144 @@
+package stud.ntnu.backend.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Utility for geohashes, which divide the world into a grid of cells named by base-32 strings. Each
+ * additional character splits a cell into 32 smaller cells, so the geohash of a point at a lower
+ * precision is a prefix of its geohash at a higher precision.
+ */
+public class GeohashUtil {
+
+  private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+  /**
+   * Metres per degree of latitude, and of longitude at the equator.
+   */
+  private static final double METERS_PER_DEGREE = 111_320;
+
+  private GeohashUtil() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Encodes a point as a geohash.
+   *
+   * @param latitude  latitude of the point
+   * @param longitude longitude of the point
+   * @param precision number of characters of the geohash
+   * @return the geohash of the cell containing the point
+   */
+  public static String encode(double latitude, double longitude, int precision) {
+    double minLat = -90;
+    double maxLat = 90;
+    double minLon = -180;
+    double maxLon = 180;
+    StringBuilder geohash = new StringBuilder(precision);
+    boolean evenBit = true;
+    int bit = 0;
+    int index = 0;
+    while (geohash.length() < precision) {
+      if (evenBit) {
+        double mid = (minLon + maxLon) / 2;
+        if (longitude >= mid) {
+          index = index * 2 + 1;
+          minLon = mid;
+        } else {
+          index = index * 2;
+          maxLon = mid;
+        }
+      } else {
+        double mid = (minLat + maxLat) / 2;
+        if (latitude >= mid) {
+          index = index * 2 + 1;
+          minLat = mid;
+        } else {
+          index = index * 2;
+          maxLat = mid;
+        }
+      }
+      evenBit = !evenBit;
+      if (++bit == 5) {
+        geohash.append(BASE32.charAt(index));
+        bit = 0;
+        index = 0;
+      }
+    }
+    return geohash.toString();
+  }
+
+  /**
+   * Counts the cells that {@link #coveringCells} returns for a circle, without enumerating them.
+   *
+   * @param latitude     latitude of the centre of the circle
+   * @param longitude    longitude of the centre of the circle
+   * @param radiusMeters radius of the circle in metres
+   * @param precision    number of characters of the geohashes
+   * @return an upper bound of the number of covering cells
+   */
+  public static long countCoveringCells(double latitude, double longitude, double radiusMeters,
+      int precision) {
+    double[] box = boundingBox(latitude, longitude, radiusMeters);
+    long rows = (long) Math.floor((box[1] - box[0]) / cellHeight(precision)) + 2;
+    long columns = (long) Math.floor((box[3] - box[2]) / cellWidth(precision)) + 2;
+    return rows * columns;
+  }
+
+  /**
+   * Returns the geohashes of all cells intersecting the bounding box of a circle. The cells cover
+   * the circle, and may include some cells at the corners of the box that the circle does not reach.
+   *
+   * @param latitude     latitude of the centre of the circle
+   * @param longitude    longitude of the centre of the circle
+   * @param radiusMeters radius of the circle in metres
+   * @param precision    number of characters of the geohashes
+   * @return the geohashes of the covering cells
+   */
+  public static Set<String> coveringCells(double latitude, double longitude, double radiusMeters,
+      int precision) {
+    double[] box = boundingBox(latitude, longitude, radiusMeters);
+    double cellHeight = cellHeight(precision);
+    double cellWidth = cellWidth(precision);
+    Set<String> cells = new LinkedHashSet<>();
+    // Points one cell apart hit every row and column of cells, the last point closes the box
+    for (double lat = box[0]; ; lat = Math.min(lat + cellHeight, box[1])) {
+      for (double lon = box[2]; ; lon = Math.min(lon + cellWidth, box[3])) {
+        cells.add(encode(lat, normalizeLongitude(lon), precision));
+        if (lon >= box[3]) {
+          break;
+        }
+      }
+      if (lat >= box[1]) {
+        break;
+      }
+    }
+    return cells;
+  }
+
+  /**
+   * Returns the bounding box of a circle as minimum and maximum latitude, followed by minimum and
+   * maximum longitude. Longitudes are not wrapped, so the box may extend beyond ±180.
+   */
+  private static double[] boundingBox(double latitude, double longitude, double radiusMeters) {
+    double latDelta = radiusMeters / METERS_PER_DEGREE;
+    double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+    double lonDelta = Math.min(radiusMeters / (METERS_PER_DEGREE * cosLat), 180);
+    return new double[]{
+        Math.max(latitude - latDelta, -90), Math.min(latitude + latDelta, 90),
+        longitude - lonDelta, longitude + lonDelta};
+  }
+
+  private static double cellHeight(int precision) {
+    return 180 / Math.pow(2, (5 * precision) / 2);
+  }
+
+  private static double cellWidth(int precision) {
+    return 360 / Math.pow(2, (5 * precision + 1) / 2);
+  }
+
+  private static double normalizeLongitude(double longitude) {
+    double normalized = (longitude + 180) % 360;
+    return (normalized < 0 ? normalized + 360 : normalized) - 180;
+  }
+}
@@ -729,9 +729,30 @@ INSERT INTO quiz_answers (quiz_id, question_id, answer_body, is_correct) VALUES
 INSERT INTO quiz_answers (quiz_id, question_id, answer_body, is_correct) VALUES (1, 2, 'Perishable meat', TRUE);
 
 -- USER QUIZ ATTEMPTS
-INSERT INTO user_quiz_attempts (user_id, quiz_id, completed_at) VALUES (2, 1, CURRENT_TIMESTAMP);
+INSERT INTO user_quiz_attempts (user_id, quiz_id, completed_at, score) VALUES (2, 1, CURRENT_TIMESTAMP, 2);
 
 -- USER QUIZ ANSWERS (Alice's attempt)
 -- She selects '4 liters' for Q1 and 'Perishable meat' for Q2
 INSERT INTO user_quiz_answers (user_quiz_attempt_id, quiz_id, question_id, answer_id) VALUES (1, 1, 1, 3);
 INSERT INTO user_quiz_answers (user_quiz_attempt_id, quiz_id, question_id, answer_id) VALUES (1, 1, 2, 6);
+
+-- QUIZ QUESTION COUNTS (derived from the seeded questions)
+UPDATE quizzes q SET question_count = (SELECT COUNT(*) FROM quiz_questions qq WHERE qq.quiz_id = q.id);
+
+-- QUIZ STATISTICS (attempt counters, answer selections and best scores derived from the seeded attempts)
+UPDATE quizzes q SET
+    attempt_count = (SELECT COUNT(*) FROM user_quiz_attempts a WHERE a.quiz_id = q.id),
+    total_score = (SELECT COALESCE(SUM(a.score), 0) FROM user_quiz_attempts a WHERE a.quiz_id = q.id);
+UPDATE quiz_answers q SET selection_count = (SELECT COUNT(*) FROM user_quiz_answers ua WHERE ua.answer_id = q.id);
+INSERT INTO quiz_user_scores (quiz_id, user_id, best_score, attempt_count, achieved_at)
+SELECT quiz_id, user_id, MAX(score), COUNT(*), MIN(completed_at) FROM user_quiz_attempts GROUP BY quiz_id, user_id;
+
+-- HOUSEHOLD COUNTERS (population and kcal requirement derived from the seeded members)
+UPDATE households h SET
+    population_count = (SELECT COUNT(*) FROM users u WHERE u.household_id = h.id)
+        + (SELECT COUNT(*) FROM household_member m WHERE m.household_id = h.id AND m.type <> 'pet'),
+    kcal_requirement = (SELECT COALESCE(SUM(u.kcal_requirement), 0) FROM users u WHERE u.household_id = h.id)
+        + (SELECT COALESCE(SUM(m.kcal_requirement), 0) FROM household_member m WHERE m.household_id = h.id);
+
+-- UNREAD NOTIFICATION COUNTERS (derived from the seeded notifications)
+UPDATE users u SET unread_notification_count = (SELECT COUNT(*) FROM notifications n WHERE n.user_id = u.id AND n.read_at IS NULL);
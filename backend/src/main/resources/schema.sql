@@ -10,6 +10,7 @@ CREATE TABLE households (
     name VARCHAR(255) NOT NULL UNIQUE,
     address TEXT NOT NULL,
     population_count INT DEFAULT 1,
+    kcal_requirement INT NOT NULL DEFAULT 0,
     latitude DECIMAL(10,7),
     longitude DECIMAL(10,7),
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
@@ -34,9 +35,11 @@ CREATE TABLE users (
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     is_using_2fa BOOLEAN NOT NULL DEFAULT FALSE,
     kcal_requirement INT NOT NULL DEFAULT 2000,
+    unread_notification_count INT NOT NULL DEFAULT 0,
     FOREIGN KEY (role_id) REFERENCES roles(id),
     FOREIGN KEY (household_id) REFERENCES households(id) ON DELETE SET NULL
 );
+CREATE INDEX idx_users_household ON users (household_id);
 
 -- HOUSEHOLD MEMBERS
 CREATE TABLE household_member (
@@ -101,6 +104,7 @@ CREATE TABLE group_memberships (
     FOREIGN KEY (household_id) REFERENCES households(id) ON DELETE CASCADE,
     FOREIGN KEY (invited_by_user_id) REFERENCES users(id)
 );
+CREATE INDEX idx_group_memberships_household ON group_memberships (household_id, group_id);
 
 -- PRODUCT CATALOG
 CREATE TABLE product_types (
@@ -122,6 +126,7 @@ CREATE TABLE product_batch (
     number INT NOT NULL,
     FOREIGN KEY (product_type_id) REFERENCES product_types(id) ON DELETE CASCADE
 );
+CREATE INDEX idx_product_batch_type ON product_batch (product_type_id);
 
 -- GROUP SUPPLY CONTRIBUTIONS
 CREATE TABLE group_inventory_contributions (
@@ -134,8 +139,11 @@ CREATE TABLE group_inventory_contributions (
     contributed_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (group_id) REFERENCES groups(id) ON DELETE CASCADE,
     FOREIGN KEY (household_id) REFERENCES households(id) ON DELETE CASCADE,
-    FOREIGN KEY (product_id) REFERENCES product_batch(id) ON DELETE CASCADE
+    FOREIGN KEY (product_id) REFERENCES product_batch(id) ON DELETE CASCADE,
+    UNIQUE (product_id) -- a batch can only be contributed to one group
 );
+CREATE INDEX idx_gic_group_product ON group_inventory_contributions (group_id, product_id);
+CREATE INDEX idx_gic_household ON group_inventory_contributions (household_id);
 
 -- MEETING PLACES (user/household–defined POIs)
 CREATE TABLE meeting_places (
@@ -242,6 +250,8 @@ CREATE TABLE reflections (
     FOREIGN KEY (user_id) REFERENCES users(id),
     FOREIGN KEY (crisis_event_id) REFERENCES crisis_events(id)
 );
+-- covers the shared reflection feed: per author, newest first
+CREATE INDEX idx_reflections_user_feed ON reflections (user_id, shared, deleted, created_at, id);
 
 -- NEWS ARTICLES
 CREATE TABLE news_articles (
@@ -315,6 +325,25 @@ CREATE TABLE notifications (
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id)
 );
+CREATE INDEX idx_notifications_user_read ON notifications (user_id, read_at);
+CREATE INDEX idx_notifications_user_inbox ON notifications (user_id, notify_at, id);
+CREATE INDEX idx_notifications_read_at ON notifications (read_at);
+
+-- Read notifications past the retention period, moved here in batches by a nightly job
+CREATE TABLE notifications_archive (
+    id INT PRIMARY KEY,
+    user_id INT NOT NULL,
+    preference_type VARCHAR(25) NOT NULL,
+    target_type VARCHAR(20),
+    target_id INT,
+    description TEXT DEFAULT NULL,
+    notify_at DATETIME NOT NULL,
+    sent_at DATETIME,
+    read_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL,
+    archived_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_notifications_archive_user ON notifications_archive (user_id, notify_at);
 
 CREATE TABLE crisis_event_changes ( -- TODO: when a crisis event is updated, a new entry is added to this column
     id INT AUTO_INCREMENT PRIMARY KEY,
@@ -343,6 +372,9 @@ CREATE TABLE quizzes (
     description TEXT,
     created_by_user_id INT NOT NULL,
     status VARCHAR(10) NOT NULL DEFAULT 'active' CHECK (status IN ('active','archived')),
+    question_count INT NOT NULL DEFAULT 0,
+    attempt_count INT NOT NULL DEFAULT 0,
+    total_score BIGINT NOT NULL DEFAULT 0,
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (created_by_user_id) REFERENCES users(id)
 );
@@ -364,6 +396,7 @@ CREATE TABLE quiz_answers (
     question_id INT NOT NULL,
     answer_body TEXT NOT NULL,
     is_correct BOOLEAN NOT NULL DEFAULT FALSE,
+    selection_count INT NOT NULL DEFAULT 0,
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (quiz_id) REFERENCES quizzes(id) ON DELETE CASCADE,
     FOREIGN KEY (question_id) REFERENCES quiz_questions(id) ON DELETE CASCADE
@@ -375,10 +408,13 @@ CREATE TABLE user_quiz_attempts (
     user_id INT NOT NULL,
     quiz_id INT NOT NULL,
     completed_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    score INT NOT NULL DEFAULT 0,
     FOREIGN KEY (user_id) REFERENCES users(id),
     FOREIGN KEY (quiz_id) REFERENCES quizzes(id)
 );
 
+CREATE INDEX idx_user_quiz_attempts_user_quiz ON user_quiz_attempts (user_id, quiz_id);
+
 -- USER QUIZ ANSWERS
 CREATE TABLE user_quiz_answers (
     id INT AUTO_INCREMENT PRIMARY KEY,
@@ -386,10 +422,26 @@ CREATE TABLE user_quiz_answers (
     quiz_id INT NOT NULL,
     question_id INT NOT NULL,
     answer_id INT NOT NULL,
+    UNIQUE (user_quiz_attempt_id, question_id), -- a question is answered once per attempt
     FOREIGN KEY (user_quiz_attempt_id) REFERENCES user_quiz_attempts(id),
     FOREIGN KEY (quiz_id) REFERENCES quizzes(id) ON DELETE CASCADE,
     FOREIGN KEY (question_id) REFERENCES quiz_questions(id) ON DELETE CASCADE,
     FOREIGN KEY (answer_id) REFERENCES quiz_answers(id) ON DELETE CASCADE
 );
 
+-- QUIZ USER SCORES (best score of each user per quiz, backing the leaderboards)
+CREATE TABLE quiz_user_scores (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    quiz_id INT NOT NULL,
+    user_id INT NOT NULL,
+    best_score INT NOT NULL DEFAULT 0,
+    attempt_count INT NOT NULL DEFAULT 0,
+    achieved_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (quiz_id, user_id),
+    FOREIGN KEY (quiz_id) REFERENCES quizzes(id),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE INDEX idx_quiz_user_scores_leaderboard ON quiz_user_scores (quiz_id, best_score DESC, achieved_at);
+
 
@@ -0,0 +1,215 @@
+package stud.ntnu.backend.benchmark;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import jakarta.persistence.EntityManager;
+import stud.ntnu.backend.model.user.Reflection;
+import stud.ntnu.backend.repository.group.GroupMembershipRepository;
+import stud.ntnu.backend.repository.user.ReflectionRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the two strategies for loading the shared reflection feed on synthetic data with 100k
+ * reflections: the nested-subquery query that resolves the visible households on every call, and
+ * the indexed query over household IDs resolved up front (as served from the visible households
+ * cache). Both strategies must return the same page for every sampled user.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Tag("benchmark")
+class ReflectionFeedBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int HOUSEHOLDS = 2_000;
+    private static final int USERS_PER_HOUSEHOLD = 3;
+    private static final int GROUPS = 500;
+    private static final int HOUSEHOLDS_PER_GROUP = 5;
+    private static final int REFLECTIONS = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SAMPLED_USERS = 100;
+    private static final int WARMUP_ROUNDS = 1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReflectionRepository reflectionRepository;
+
+    @Autowired
+    private GroupMembershipRepository groupMembershipRepository;
+
+    private final Random random = new Random(SEED);
+    private final Pageable firstPage = PageRequest.of(0, 20);
+    private List<Integer> sampledUserIds;
+    private Map<Integer, Integer> householdOfUser;
+
+    @BeforeEach
+    void generateData() {
+        Integer roleId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM roles", Integer.class);
+
+        List<Object[]> households = new ArrayList<>();
+        for (int i = 0; i < HOUSEHOLDS; i++) {
+            households.add(new Object[]{"bench-household-" + i, "Benchmark Street " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO households (name, address) VALUES (?, ?)", households,
+            BATCH_SIZE, (ps, row) -> {
+                ps.setString(1, (String) row[0]);
+                ps.setString(2, (String) row[1]);
+            });
+        List<Integer> householdIds = jdbcTemplate.queryForList(
+            "SELECT id FROM households WHERE name LIKE 'bench-household-%' ORDER BY id", Integer.class);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < HOUSEHOLDS * USERS_PER_HOUSEHOLD; i++) {
+            users.add(new Object[]{"bench-user-" + i + "@example.com",
+                householdIds.get(i / USERS_PER_HOUSEHOLD)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password_hash, phone_number, role_id, "
+                + "household_id) VALUES (?, 'x', '00000000', ?, ?)", users, BATCH_SIZE,
+            (ps, row) -> {
+                ps.setString(1, (String) row[0]);
+                ps.setInt(2, roleId);
+                ps.setInt(3, (Integer) row[1]);
+            });
+        householdOfUser = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT id, household_id FROM users WHERE email LIKE 'bench-user-%' ORDER BY id",
+            rs -> {
+                householdOfUser.put(rs.getInt(1), rs.getInt(2));
+            });
+        List<Integer> userIds = new ArrayList<>(householdOfUser.keySet());
+        userIds.sort(Integer::compareTo);
+
+        for (int i = 0; i < GROUPS; i++) {
+            jdbcTemplate.update("INSERT INTO groups (name, created_by_user_id) VALUES (?, ?)",
+                "bench-group-" + i, userIds.get(0));
+        }
+        List<Integer> groupIds = jdbcTemplate.queryForList(
+            "SELECT id FROM groups WHERE name LIKE 'bench-group-%' ORDER BY id", Integer.class);
+        List<Object[]> memberships = new ArrayList<>();
+        for (Integer groupId : groupIds) {
+            Set<Integer> members = new LinkedHashSet<>();
+            while (members.size() < HOUSEHOLDS_PER_GROUP) {
+                members.add(householdIds.get(random.nextInt(householdIds.size())));
+            }
+            // Every tenth membership has ended, so the left_at filtering is exercised
+            members.forEach(householdId -> memberships.add(new Object[]{groupId, householdId,
+                random.nextInt(10) == 0 ? Timestamp.valueOf(LocalDateTime.now().minusDays(1)) : null}));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO group_memberships (group_id, household_id, left_at) "
+            + "VALUES (?, ?, ?)", memberships, BATCH_SIZE, (ps, row) -> {
+                ps.setInt(1, (Integer) row[0]);
+                ps.setInt(2, (Integer) row[1]);
+                ps.setTimestamp(3, (Timestamp) row[2]);
+            });
+
+        // Distinct creation times keep the ordering of both strategies deterministic
+        LocalDateTime newest = LocalDateTime.now().withNano(0);
+        List<Object[]> reflections = new ArrayList<>();
+        for (int i = 0; i < REFLECTIONS; i++) {
+            reflections.add(new Object[]{userIds.get(random.nextInt(userIds.size())),
+                random.nextInt(10) < 7, random.nextInt(50) == 0,
+                Timestamp.valueOf(newest.minusSeconds(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reflections (user_id, content, shared, deleted, "
+            + "created_at) VALUES (?, 'Benchmark reflection', ?, ?, ?)", reflections, BATCH_SIZE,
+            (ps, row) -> {
+                ps.setInt(1, (Integer) row[0]);
+                ps.setBoolean(2, (Boolean) row[1]);
+                ps.setBoolean(3, (Boolean) row[2]);
+                ps.setTimestamp(4, (Timestamp) row[3]);
+            });
+
+        sampledUserIds = new ArrayList<>();
+        for (int i = 0; i < SAMPLED_USERS; i++) {
+            sampledUserIds.add(userIds.get(random.nextInt(userIds.size())));
+        }
+    }
+
+    @Test
+    void compareFeedStrategies() {
+        // Resolved once per household, as the visible households cache does
+        Map<Integer, List<Integer>> visibleHouseholds = new HashMap<>();
+        for (Integer userId : sampledUserIds) {
+            visibleHouseholds.computeIfAbsent(householdOfUser.get(userId), this::visibleHouseholdIds);
+        }
+
+        for (Integer userId : sampledUserIds) {
+            assertEquals(
+                ids(reflectionRepository.findSharedVisibleToUser(userId, firstPage).getContent()),
+                ids(reflectionRepository.findSharedByHouseholdIdsExcludingUser(
+                    visibleHouseholds.get(householdOfUser.get(userId)), userId, firstPage)
+                    .getContent()),
+                "Both strategies must return the same page for user " + userId);
+        }
+
+        report("nested subqueries", userId ->
+            reflectionRepository.findSharedVisibleToUser(userId, firstPage).getContent());
+        report("cached visible households", userId ->
+            reflectionRepository.findSharedByHouseholdIdsExcludingUser(
+                visibleHouseholds.get(householdOfUser.get(userId)), userId, firstPage).getContent());
+        report("visible households, cache miss", userId ->
+            reflectionRepository.findSharedByHouseholdIdsExcludingUser(
+                visibleHouseholdIds(householdOfUser.get(userId)), userId, firstPage).getContent());
+    }
+
+    private List<Integer> visibleHouseholdIds(Integer householdId) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        ids.add(householdId);
+        ids.addAll(groupMembershipRepository.findHouseholdIdsSharingGroupWith(householdId,
+            LocalDateTime.now()));
+        return List.copyOf(ids);
+    }
+
+    private void report(String strategy, IntFunction<List<Reflection>> feed) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sampledUserIds.forEach(userId -> {
+                feed.apply(userId);
+                entityManager.clear();
+            });
+        }
+        long[] nanos = new long[sampledUserIds.size()];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            feed.apply(sampledUserIds.get(i));
+            nanos[i] = System.nanoTime() - start;
+            entityManager.clear();
+        }
+        Arrays.sort(nanos);
+        System.out.printf("BENCHMARK reflection feed [%s]: %d reflections, %d users, "
+                + "p50=%.2f ms, p95=%.2f ms, p99=%.2f ms%n", strategy, REFLECTIONS, nanos.length,
+            percentile(nanos, 50), percentile(nanos, 95), percentile(nanos, 99));
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static List<Integer> ids(List<Reflection> reflections) {
+        return reflections.stream().map(Reflection::getId).toList();
+    }
+}
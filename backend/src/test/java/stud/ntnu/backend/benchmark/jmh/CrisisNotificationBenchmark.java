@@ -0,0 +1,90 @@
+package stud.ntnu.backend.benchmark.jmh;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import stud.ntnu.backend.model.map.CrisisEvent;
+import stud.ntnu.backend.model.user.User;
+import stud.ntnu.backend.repository.user.NotificationPreferenceRepository;
+import stud.ntnu.backend.repository.user.NotificationRepository;
+import stud.ntnu.backend.repository.user.UserRepository;
+import stud.ntnu.backend.service.crisis.CrisisAreaTopicService;
+import stud.ntnu.backend.service.user.NotificationDeliveryService;
+import stud.ntnu.backend.service.user.NotificationService;
+
+/**
+ * Benchmark of the user filtering in
+ * {@link NotificationService#sendCrisisEventNotificationsInternal}, which checks the home and
+ * household position of every user against the crisis radius. The repositories are stubs, so only
+ * the in-memory filtering and notification building is measured, with about 1% of the users
+ * affected.
+ * <p>
+ * Run with {@code mvn verify -Pjmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CrisisNotificationBenchmark {
+
+    private static final String MESSAGE_TEMPLATE = "Benchmark crisis near {reason}";
+
+    @Param({"10000", "100000", "1000000"})
+    private int users;
+
+    private NotificationService notificationService;
+    private CrisisEvent crisisEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        List<User> allUsers = SyntheticData.users(users);
+        when(userRepository.findAll()).thenReturn(allUsers);
+
+        notificationService = new NotificationService(
+            mock(NotificationRepository.class, withSettings().stubOnly()),
+            mock(NotificationPreferenceRepository.class, withSettings().stubOnly()),
+            userRepository,
+            mock(NotificationDeliveryService.class, withSettings().stubOnly()),
+            mock(MessageSource.class, withSettings().stubOnly()),
+            event -> { },
+            new CrisisAreaTopicService(5, 2, 64),
+            new SimpleMeterRegistry());
+
+        crisisEvent = new CrisisEvent();
+        crisisEvent.setId(1);
+        crisisEvent.setName("Benchmark crisis");
+        crisisEvent.setEpicenterLatitude(BigDecimal.valueOf(SyntheticData.CENTER_LATITUDE));
+        crisisEvent.setEpicenterLongitude(BigDecimal.valueOf(SyntheticData.CENTER_LONGITUDE));
+        // About 1% of the synthetic area of roughly 11 000 km2
+        crisisEvent.setRadius(BigDecimal.valueOf(6));
+    }
+
+    @Benchmark
+    public CrisisEvent sendCrisisEventNotifications() {
+        notificationService.sendCrisisEventNotificationsInternal(crisisEvent, MESSAGE_TEMPLATE, true);
+        return crisisEvent;
+    }
+}
@@ -0,0 +1,83 @@
+package stud.ntnu.backend.benchmark.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import stud.ntnu.backend.model.map.PointOfInterest;
+import stud.ntnu.backend.service.map.PoiService;
+import stud.ntnu.backend.util.LocationUtil;
+
+/**
+ * Benchmarks of the distance calculations on the map hot paths: a single
+ * {@link LocationUtil#calculateDistance} call, a radius scan over all positions as done when
+ * looking for users affected by a crisis, and {@link PoiService#findNearestPoi} over all POIs.
+ * <p>
+ * Run with {@code mvn verify -Pjmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class GeoDistanceBenchmark {
+
+    private static final double RADIUS_METERS = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private List<PointOfInterest> pois;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void generateData() {
+        latitudes = new double[size];
+        longitudes = new double[size];
+        SyntheticData.positions(size, latitudes, longitudes);
+        pois = SyntheticData.pois(size);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double calculateDistance() {
+        int i = next;
+        next = (i + 1) % size;
+        return LocationUtil.calculateDistance(SyntheticData.CENTER_LATITUDE,
+            SyntheticData.CENTER_LONGITUDE, latitudes[i], longitudes[i]);
+    }
+
+    @Benchmark
+    public void radiusScan(Blackhole blackhole) {
+        int within = 0;
+        for (int i = 0; i < size; i++) {
+            if (LocationUtil.calculateDistance(SyntheticData.CENTER_LATITUDE,
+                SyntheticData.CENTER_LONGITUDE, latitudes[i], longitudes[i]) <= RADIUS_METERS) {
+                within++;
+            }
+        }
+        blackhole.consume(within);
+    }
+
+    @Benchmark
+    public PointOfInterest findNearestPoi() {
+        return PoiService.findNearestPoi(SyntheticData.CENTER_LATITUDE,
+            SyntheticData.CENTER_LONGITUDE, pois);
+    }
+}
@@ -0,0 +1,104 @@
+package stud.ntnu.backend.benchmark.jmh;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import stud.ntnu.backend.BackendApplication;
+import stud.ntnu.backend.model.map.PointOfInterest;
+import stud.ntnu.backend.util.SearchUtil;
+
+/**
+ * Benchmark of the paginated {@link SearchUtil#searchByDescription} search, which builds the count
+ * and page JPQL queries on every call. The application context runs on the in-memory database with
+ * the seed data and synthetic points of interest, and each invocation searches the names for a
+ * different term.
+ * <p>
+ * Run with {@code mvn verify -Pjmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class SearchUtilBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SEARCH_TERMS = 100;
+
+    @Param({"10000", "100000", "1000000"})
+    private int pois;
+
+    private ConfigurableApplicationContext context;
+    private SearchUtil searchUtil;
+    private final Pageable firstPage = PageRequest.of(0, 20);
+    private final String[] searchTerms = new String[SEARCH_TERMS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // The test profile skips the POI import at startup, while the schema and seed data of the
+        // application are still loaded
+        context = new SpringApplicationBuilder(BackendApplication.class)
+            .profiles("test")
+            .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+                "--spring.sql.init.mode=always", "--spring.jpa.hibernate.ddl-auto=none");
+        searchUtil = context.getBean(SearchUtil.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Integer poiTypeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM poi_types",
+            Integer.class);
+        Integer userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Integer.class);
+        List<PointOfInterest> generated = SyntheticData.pois(pois);
+        jdbcTemplate.batchUpdate("INSERT INTO points_of_interest (poi_type_id, name, description, "
+                + "latitude, longitude, created_by_user_id) VALUES (?, ?, 'Benchmark POI', ?, ?, ?)",
+            generated, BATCH_SIZE, (ps, poi) -> {
+                ps.setInt(1, poiTypeId);
+                ps.setString(2, poi.getName());
+                ps.setBigDecimal(3, poi.getLatitude());
+                ps.setBigDecimal(4, poi.getLongitude());
+                ps.setInt(5, userId);
+            });
+
+        Random random = new Random(SEED);
+        for (int i = 0; i < SEARCH_TERMS; i++) {
+            // A term such as "poi 12" also matches the names ending in 120-129, 1200-1299 and so on
+            searchTerms[i] = "poi " + random.nextInt(pois / 10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PointOfInterest> searchFirstPage() {
+        String searchTerm = searchTerms[next];
+        next = (next + 1) % SEARCH_TERMS;
+        return searchUtil.searchByDescription(PointOfInterest.class, "name", searchTerm,
+            firstPage);
+    }
+}
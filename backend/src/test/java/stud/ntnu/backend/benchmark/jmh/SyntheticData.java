@@ -0,0 +1,83 @@
+package stud.ntnu.backend.benchmark.jmh;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import stud.ntnu.backend.model.household.Household;
+import stud.ntnu.backend.model.map.PointOfInterest;
+import stud.ntnu.backend.model.user.User;
+
+/**
+ * Deterministic synthetic data for the JMH benchmarks. Positions are spread over a square of about
+ * 200 km around Trondheim, so that a crisis or nearest POI query near the centre touches a small,
+ * stable share of the data.
+ */
+final class SyntheticData {
+
+    static final double CENTER_LATITUDE = 63.4305;
+    static final double CENTER_LONGITUDE = 10.3951;
+
+    private static final long SEED = 42L;
+    private static final double SPREAD_DEGREES = 1.0;
+
+    private SyntheticData() {
+    }
+
+    static void positions(int size, double[] latitudes, double[] longitudes) {
+        Random random = new Random(SEED);
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = CENTER_LATITUDE + (random.nextDouble() - 0.5) * SPREAD_DEGREES;
+            longitudes[i] = CENTER_LONGITUDE + (random.nextDouble() - 0.5) * SPREAD_DEGREES * 2;
+        }
+    }
+
+    static List<PointOfInterest> pois(int size) {
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        positions(size, latitudes, longitudes);
+        List<PointOfInterest> pois = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PointOfInterest poi = new PointOfInterest();
+            poi.setId(i + 1);
+            poi.setName("Benchmark POI " + i);
+            poi.setLatitude(coordinate(latitudes[i]));
+            poi.setLongitude(coordinate(longitudes[i]));
+            pois.add(poi);
+        }
+        return pois;
+    }
+
+    /**
+     * Creates users with a home position, of which every second one also has a household at a
+     * different position.
+     */
+    static List<User> users(int size) {
+        Random random = new Random(SEED + 1);
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        positions(size, latitudes, longitudes);
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = new User();
+            user.setId(i + 1);
+            user.setHomeLatitude(coordinate(latitudes[i]));
+            user.setHomeLongitude(coordinate(longitudes[i]));
+            if (i % 2 == 0) {
+                Household household = new Household();
+                household.setId(i / 2 + 1);
+                household.setLatitude(coordinate(latitudes[i] + (random.nextDouble() - 0.5) * 0.1));
+                household.setLongitude(coordinate(longitudes[i] + (random.nextDouble() - 0.5) * 0.1));
+                user.setHousehold(household);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static BigDecimal coordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(7, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,246 @@
+package stud.ntnu.backend.benchmark.load;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import stud.ntnu.backend.benchmark.load.LatencyRecorder.ScenarioReport;
+import stud.ntnu.backend.event.ExpirationNotificationScheduler;
+import stud.ntnu.backend.startup.SyntheticDataGenerator;
+import stud.ntnu.backend.startup.SyntheticDataSpec;
+import stud.ntnu.backend.util.JwtUtil;
+
+/**
+ * Load test of the REST API under concurrent crisis scenarios. The application runs on a random
+ * port with its schema and seed data, plus a data set from the {@link SyntheticDataGenerator}, and
+ * each scenario replays a user journey for every user on a fixed pool of client threads:
+ * <ul>
+ *   <li>red alert: an administrator creates a red crisis event in Oslo, then every user opens the
+ *   dashboard</li>
+ *   <li>nightly expiration: the expiration check runs while every user looks at the expiring
+ *   inventory and their notifications</li>
+ *   <li>quiz rush: every user loads a quiz, starts an attempt, answers it and opens the
+ *   leaderboard</li>
+ * </ul>
+ * The p50, p95 and p99 latency and the throughput of each endpoint are printed and written to
+ * {@code target/load-test/<scenario>.json}. A scenario fails when an endpoint exceeds the limits
+ * in {@code load-test-thresholds.properties}.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}. The size of the run can be changed with
+ * {@code -Dload.users}, {@code -Dload.concurrency} and {@code -Dload.warmup-users}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.sql.init.mode=always",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.jpa.show-sql=false",
+    "logging.level.root=WARN"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApiLoadBenchmark {
+
+    private static final int USERS = Integer.getInteger("load.users", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int WARMUP_USERS = Integer.getInteger("load.warmup-users", 100);
+    private static final String PREFIX = "load";
+    private static final double OSLO_LATITUDE = 59.9139;
+    private static final double OSLO_LONGITUDE = 10.7522;
+    private static final String ADMIN_EMAIL = "admin@example.com";
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ExpirationNotificationScheduler expirationNotificationScheduler;
+
+    private final LoadTestThresholds thresholds = LoadTestThresholds.load();
+    private LoadTestClient client;
+    private ExecutorService executor;
+    private List<String> tokens;
+
+    @BeforeAll
+    void generateData() {
+        client = new LoadTestClient(port, objectMapper);
+        executor = Executors.newFixedThreadPool(CONCURRENCY);
+        new SyntheticDataGenerator(jdbcTemplate).generate(SyntheticDataSpec.builder()
+            .prefix(PREFIX)
+            .users(USERS)
+            .productTypesPerHousehold(3)
+            .groups(Math.max(USERS / 20, 1))
+            .build());
+        tokens = IntStream.range(0, USERS)
+            .mapToObj(user -> jwtUtil.generateToken(SyntheticDataGenerator.userEmail(PREFIX, user)))
+            .toList();
+    }
+
+    @AfterAll
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void redAlert() throws Exception {
+        String adminToken = jwtUtil.generateToken(ADMIN_EMAIL);
+        Map<String, Object> crisisEvent = new LinkedHashMap<>();
+        crisisEvent.put("name", "Load test red alert");
+        crisisEvent.put("description", "Flooding in the city centre");
+        crisisEvent.put("severity", "red");
+        crisisEvent.put("latitude", OSLO_LATITUDE);
+        crisisEvent.put("longitude", OSLO_LONGITUDE);
+        crisisEvent.put("radius", 15);
+        crisisEvent.put("startTime", LocalDateTime.now());
+
+        runScenario("red-alert",
+            () -> {
+                client.post("crisis-events.create", "/api/admin/crisis-events", adminToken,
+                    crisisEvent);
+                return CompletableFuture.completedFuture(null);
+            },
+            user -> {
+                String token = tokens.get(user);
+                client.get("crisis-events.current-user",
+                    "/api/user/crisis-events/all/current-user?size=10", token);
+                client.get("notifications.unread-count", "/api/user/notifications/unread-count",
+                    token);
+                client.get("notifications.inbox", "/api/user/notifications/inbox?size=20", token);
+                client.get("crisis-events.previews", "/api/public/crisis-events/all/previews?size=10",
+                    token);
+            });
+    }
+
+    @Test
+    void nightlyExpiration() throws Exception {
+        runScenario("nightly-expiration",
+            () -> CompletableFuture.runAsync(() -> {
+                long start = System.nanoTime();
+                expirationNotificationScheduler.checkExpiringProducts();
+                client.recordJob("scheduler.expiration-check", System.nanoTime() - start);
+            }),
+            user -> {
+                String token = tokens.get(user);
+                client.get("inventory.expiring",
+                    "/api/user/inventory/product-types/expiring?category=food&expirationTimeInDays=7",
+                    token);
+                client.get("notifications.unread-count", "/api/user/notifications/unread-count",
+                    token);
+                client.get("notifications.inbox", "/api/user/notifications/inbox?size=20", token);
+            });
+    }
+
+    @Test
+    void quizRush() throws Exception {
+        Long quizId = jdbcTemplate.queryForObject("SELECT quiz_id FROM quiz_questions "
+            + "GROUP BY quiz_id ORDER BY COUNT(*) DESC, quiz_id LIMIT 1", Long.class);
+
+        runScenario("quiz-rush",
+            () -> CompletableFuture.completedFuture(null),
+            user -> {
+                String token = tokens.get(user);
+                JsonNode content = client.get("quizzes.content",
+                    "/api/quizzes/user/" + quizId + "/content", token);
+                client.post("quizzes.attempt-create", "/api/user/quizzes/attempts/" + quizId,
+                    token, null);
+                JsonNode attempts = client.get("quizzes.attempts",
+                    "/api/user/quizzes/attempts/" + quizId + "?size=1", token);
+                if (content == null || attempts == null) {
+                    return;
+                }
+                long attemptId = attempts.path("content").path(0).path("id").asLong();
+                for (JsonNode question : content.path("questions")) {
+                    JsonNode answers = question.path("answers");
+                    Map<String, Object> answer = new LinkedHashMap<>();
+                    answer.put("userQuizAttemptId", attemptId);
+                    answer.put("quizId", quizId);
+                    answer.put("questionId", question.path("id").asLong());
+                    answer.put("answerId", answers.path(user % answers.size()).path("id").asLong());
+                    client.post("quizzes.answer", "/api/user/quizzes/attempts/answer", token,
+                        answer);
+                }
+                client.get("quizzes.leaderboard", "/api/quizzes/user/" + quizId + "/leaderboard",
+                    token);
+            });
+    }
+
+    /**
+     * Warms up with the journeys of the first users, then starts the trigger of the scenario and
+     * runs the journey of every user while recording the latencies.
+     *
+     * @param scenario the name of the scenario, used in the report and the thresholds
+     * @param trigger  starts the event the users react to, returning when it has completed
+     * @param journey  the requests of the user with the given index
+     */
+    private void runScenario(String scenario, Supplier<CompletableFuture<?>> trigger,
+        IntConsumer journey) throws Exception {
+        client.recordTo(null);
+        runJourneys(Math.min(WARMUP_USERS, USERS), journey);
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        client.recordTo(recorder);
+        long start = System.nanoTime();
+        CompletableFuture<?> triggered = trigger.get();
+        runJourneys(USERS, journey);
+        triggered.get();
+        ScenarioReport report = recorder.report(scenario,
+            Duration.ofNanos(System.nanoTime() - start));
+        client.recordTo(null);
+
+        System.out.print(report.format());
+        Files.createDirectories(REPORT_DIRECTORY);
+        objectMapper.writerWithDefaultPrettyPrinter()
+            .writeValue(REPORT_DIRECTORY.resolve(scenario + ".json").toFile(), report);
+        List<String> violations = thresholds.violations(report);
+        assertTrue(violations.isEmpty(), "Load test thresholds exceeded:\n"
+            + String.join("\n", violations));
+    }
+
+    private void runJourneys(int users, IntConsumer journey) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            int index = user;
+            futures.add(executor.submit(() -> journey.accept(index)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package stud.ntnu.backend.benchmark.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the latency of every request of a load test scenario per endpoint, and summarises them
+ * as percentiles and throughput once the scenario has finished. Safe for concurrent use.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentSkipListMap<>();
+
+    /**
+     * Records one request.
+     *
+     * @param endpoint the short name of the endpoint, e.g. {@code notifications.unread-count}
+     * @param nanos    the latency of the request
+     * @param failed   whether the request failed or got an error response
+     */
+    void record(String endpoint, long nanos, boolean failed) {
+        Samples samples = samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples());
+        samples.nanos.add(nanos);
+        if (failed) {
+            samples.errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Summarises the recorded requests.
+     *
+     * @param scenario the name of the scenario
+     * @param elapsed  the wall-clock duration of the scenario, used for the throughput
+     * @return the report with one entry per endpoint
+     */
+    ScenarioReport report(String scenario, Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+        List<EndpointStats> endpoints = new ArrayList<>();
+        samplesByEndpoint.forEach((endpoint, samples) -> {
+            long[] sorted = samples.nanos.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            endpoints.add(new EndpointStats(endpoint, sorted.length, samples.errors.get(),
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                sorted.length / seconds));
+        });
+        return new ScenarioReport(scenario, elapsed.toMillis(), endpoints);
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static final class Samples {
+
+        private final Queue<Long> nanos = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger errors = new AtomicInteger();
+    }
+
+    /**
+     * Latency percentiles in milliseconds and throughput in requests per second of one endpoint.
+     */
+    record EndpointStats(String endpoint, int requests, int errors, double p50Ms, double p95Ms,
+                         double p99Ms, double throughputPerSecond) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    /**
+     * The results of one scenario run.
+     */
+    record ScenarioReport(String scenario, long elapsedMs, List<EndpointStats> endpoints) {
+
+        /**
+         * Formats the report as a table with one line per endpoint.
+         *
+         * @return the formatted report
+         */
+        String format() {
+            StringBuilder table = new StringBuilder(String.format(
+                "BENCHMARK load test [%s]: %d ms%n", scenario, elapsedMs));
+            table.append(String.format("  %-36s %8s %7s %10s %10s %10s %10s%n", "endpoint",
+                "requests", "errors", "p50 ms", "p95 ms", "p99 ms", "req/s"));
+            for (EndpointStats stats : endpoints) {
+                table.append(String.format("  %-36s %8d %7d %10.2f %10.2f %10.2f %10.1f%n",
+                    stats.endpoint(), stats.requests(), stats.errors(), stats.p50Ms(),
+                    stats.p95Ms(), stats.p99Ms(), stats.throughputPerSecond()));
+            }
+            return table.toString();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package stud.ntnu.backend.benchmark.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * HTTP client of the load tests. Every request is authenticated with a bearer token and its
+ * latency is recorded under a short endpoint name. Failed requests are recorded as errors and
+ * return {@code null}, so that a scenario keeps going and the error rate ends up in the report.
+ */
+final class LoadTestClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(TIMEOUT)
+        .build();
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private volatile LatencyRecorder recorder;
+
+    LoadTestClient(int port, ObjectMapper objectMapper) {
+        this.baseUrl = "http://localhost:" + port;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Sets the recorder of the following requests, or {@code null} to not record them, as during
+     * warm-up.
+     *
+     * @param recorder the recorder
+     */
+    void recordTo(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Records the duration of work done outside of a request, such as a scheduled job.
+     *
+     * @param name  the name of the job in the report
+     * @param nanos the duration of the job
+     */
+    void recordJob(String name, long nanos) {
+        LatencyRecorder current = recorder;
+        if (current != null) {
+            current.record(name, nanos, false);
+        }
+    }
+
+    JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body) {
+        try {
+            return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(body == null ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(TIMEOUT)
+            .header("Authorization", "Bearer " + token);
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // Recorded as an error below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean failed = response == null || response.statusCode() >= 400;
+        LatencyRecorder current = recorder;
+        if (current != null) {
+            current.record(endpoint, System.nanoTime() - start, failed);
+        }
+        if (failed || response.body().isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package stud.ntnu.backend.benchmark.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import stud.ntnu.backend.benchmark.load.LatencyRecorder.EndpointStats;
+import stud.ntnu.backend.benchmark.load.LatencyRecorder.ScenarioReport;
+
+/**
+ * Limits a load test run must stay within, read from {@code load-test-thresholds.properties}. A
+ * limit is looked up as {@code <scenario>.<endpoint>.<metric>}, then {@code <endpoint>.<metric>}
+ * and finally {@code default.<metric>}. Any key can be overridden with a system property prefixed
+ * with {@code load.threshold.}, e.g. {@code -Dload.threshold.default.p95-ms=200}.
+ */
+final class LoadTestThresholds {
+
+    private static final String RESOURCE = "/load-test-thresholds.properties";
+    private static final String OVERRIDE_PREFIX = "load.threshold.";
+
+    private final Properties properties;
+
+    private LoadTestThresholds(Properties properties) {
+        this.properties = properties;
+    }
+
+    static LoadTestThresholds load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestThresholds.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> name.startsWith(OVERRIDE_PREFIX))
+            .forEach(name -> properties.setProperty(name.substring(OVERRIDE_PREFIX.length()),
+                System.getProperty(name)));
+        return new LoadTestThresholds(properties);
+    }
+
+    /**
+     * Checks every endpoint of a scenario against its limits.
+     *
+     * @param report the scenario results
+     * @return a description of every exceeded limit, empty if the run is within all limits
+     */
+    List<String> violations(ScenarioReport report) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointStats stats : report.endpoints()) {
+            check(violations, report.scenario(), stats, "p95-ms", stats.p95Ms(), true);
+            check(violations, report.scenario(), stats, "p99-ms", stats.p99Ms(), true);
+            check(violations, report.scenario(), stats, "max-error-rate", stats.errorRate(), true);
+            check(violations, report.scenario(), stats, "min-throughput",
+                stats.throughputPerSecond(), false);
+        }
+        return violations;
+    }
+
+    private void check(List<String> violations, String scenario, EndpointStats stats,
+        String metric, double value, boolean upperLimit) {
+        String limit = limit(scenario, stats.endpoint(), metric);
+        if (limit == null) {
+            return;
+        }
+        double bound = Double.parseDouble(limit);
+        if (upperLimit ? value > bound : value < bound) {
+            violations.add(String.format("%s %s: %s was %.3f, limit %s", scenario,
+                stats.endpoint(), metric, value, limit));
+        }
+    }
+
+    private String limit(String scenario, String endpoint, String metric) {
+        String limit = properties.getProperty(scenario + "." + endpoint + "." + metric);
+        if (limit == null) {
+            limit = properties.getProperty(endpoint + "." + metric);
+        }
+        if (limit == null) {
+            limit = properties.getProperty("default." + metric);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,62 @@
+package stud.ntnu.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class AccessLogFilterTest {
+
+    private final AccessLogFilter sampleNothing = new AccessLogFilter(true, 0.0, 500);
+
+    @Test
+    void reason_alwaysSelectsFailedRequests() {
+        // Act & Assert
+        assertEquals("error", sampleNothing.reason(HttpServletResponse.SC_OK, 0,
+            new IllegalStateException()));
+        assertEquals("error", sampleNothing.reason(HttpServletResponse.SC_BAD_GATEWAY, 0, null));
+    }
+
+    @Test
+    void reason_alwaysSelectsSlowRequests() {
+        // Act & Assert
+        assertEquals("slow", sampleNothing.reason(HttpServletResponse.SC_OK,
+            TimeUnit.MILLISECONDS.toNanos(500), null));
+    }
+
+    @Test
+    void reason_samplesRemainingRequests() {
+        // Arrange
+        AccessLogFilter sampleAll = new AccessLogFilter(true, 1.0, 500);
+
+        // Act & Assert
+        assertNull(sampleNothing.reason(HttpServletResponse.SC_NOT_FOUND, 0, null));
+        assertEquals("sampled", sampleAll.reason(HttpServletResponse.SC_NOT_FOUND, 0, null));
+    }
+
+    @Test
+    void doFilter_rethrowsExceptionsOfTheChain() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+            () -> sampleNothing.doFilter(request, new MockHttpServletResponse(), chain));
+    }
+}
@@ -0,0 +1,93 @@
+package stud.ntnu.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import stud.ntnu.backend.dto.auth.ChangePasswordDto;
+
+class LogPayloadRendererTest {
+
+    private LogPayloadRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new LogPayloadRenderer(new JacksonConfig().objectMapper(), 40,
+            List.of("oldPassword", " NewPassword ", "resetToken", "code", ""));
+    }
+
+    @Test
+    void render_redactsSensitiveFieldsOfObjects() {
+        // Arrange
+        ChangePasswordDto dto = new ChangePasswordDto();
+        dto.setOldPassword("old-secret");
+        dto.setNewPassword("new-secret");
+
+        // Act
+        String rendered = renderer.render("dto", dto);
+
+        // Assert
+        assertFalse(rendered.contains("secret"));
+        assertTrue(rendered.contains("\"oldPassword\":\"***\""));
+        assertTrue(rendered.contains("\"newPassword\":\"***\""));
+    }
+
+    @Test
+    void renderArguments_redactsSensitiveScalarArguments() {
+        // Act
+        String rendered = renderer.renderArguments(new String[]{"resetToken", "page"},
+            new Object[]{"abc123", PageRequest.of(0, 10)});
+
+        // Assert
+        assertTrue(rendered.startsWith("[resetToken=***, page=Page request"));
+    }
+
+    @Test
+    void renderArguments_keepsArgumentsOnlyContainingARedactedName() {
+        // Act
+        String rendered = renderer.renderArguments(
+            new String[]{"postalCode", "countryCode", "code"}, new Object[]{"7030", "NO", 123456});
+
+        // Assert
+        assertEquals("[postalCode=7030, countryCode=NO, code=***]", rendered);
+    }
+
+    @Test
+    void render_reducesPrincipalToItsName() {
+        // Arrange
+        UsernamePasswordAuthenticationToken principal =
+            new UsernamePasswordAuthenticationToken("user@example.com", "credentials");
+
+        // Act & Assert
+        assertEquals("Principal[user@example.com]", renderer.render("principal", principal));
+    }
+
+    @Test
+    void render_truncatesLongPayloads() {
+        // Arrange
+        String text = "x".repeat(100);
+
+        // Act
+        String rendered = renderer.render("text", text);
+
+        // Assert
+        assertEquals("x".repeat(40) + "...(100 chars)", rendered);
+    }
+
+    @Test
+    void render_rendersResponseEntityStatusAndBody() {
+        // Act
+        String rendered = renderer.render("result", ResponseEntity.ok(List.of(1, 2)));
+
+        // Assert
+        assertEquals("ResponseEntity[200, [1,2]]", rendered);
+    }
+}
@@ -0,0 +1,116 @@
+package stud.ntnu.backend.config;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import stud.ntnu.backend.service.user.NotificationDeliveryService;
+
+class SlowConsumerTrackerTest {
+
+    private NotificationDeliveryService notificationDeliveryService;
+
+    private ExecutorChannelInterceptor channelInterceptor;
+
+    private WebSocketHandler handler;
+
+    private WebSocketHandler delegate;
+
+    private WebSocketSession session;
+
+    private final MessageHandler broker = mock(AbstractBrokerMessageHandler.class);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        notificationDeliveryService = mock(NotificationDeliveryService.class);
+        ObjectProvider<NotificationDeliveryService> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(notificationDeliveryService);
+        SlowConsumerTracker tracker = new SlowConsumerTracker(provider);
+        channelInterceptor = (ExecutorChannelInterceptor) tracker.channelInterceptor();
+        delegate = mock(WebSocketHandler.class);
+        handler = tracker.handlerDecoratorFactory().decorate(delegate);
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+    }
+
+    private void subscribe(String destination, MessageHandler messageHandler) {
+        SimpMessageHeaderAccessor accessor =
+            SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        Message<byte[]> message =
+            MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        channelInterceptor.afterMessageHandled(message, mock(MessageChannel.class),
+            messageHandler, null);
+    }
+
+    @Test
+    void subscribingToBatchTopic_resyncsUserIfMarked() {
+        // Act
+        subscribe("/topic/notifications/7", broker);
+        subscribe("/topic/notifications/7/batch", broker);
+
+        // Assert
+        verify(notificationDeliveryService).resyncIfMarked(7);
+    }
+
+    @Test
+    void subscribing_isIgnoredUntilBrokerHandledIt() {
+        // Act
+        subscribe("/topic/notifications/7/batch", mock(MessageHandler.class));
+
+        // Assert
+        verifyNoInteractions(notificationDeliveryService);
+    }
+
+    @Test
+    void closingSubscribedSessionAsNotReliable_marksUserForResync() throws Exception {
+        // Arrange
+        subscribe("/topic/notifications/7", broker);
+
+        // Act
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        // Assert
+        verify(notificationDeliveryService).markForResync(7);
+        verify(delegate).afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    void closingSessionNormally_doesNotMarkUser() throws Exception {
+        // Arrange
+        subscribe("/topic/notifications/7", broker);
+
+        // Act
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        // Assert
+        verify(notificationDeliveryService, never()).markForResync(any());
+    }
+
+    @Test
+    void closingSessionWithoutNotificationSubscription_doesNotMarkUser() throws Exception {
+        // Arrange
+        subscribe("/topic/crisis/area/u5r2v", broker);
+
+        // Act
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        // Assert
+        verifyNoInteractions(notificationDeliveryService);
+    }
+}
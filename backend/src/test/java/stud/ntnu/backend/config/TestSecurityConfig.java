@@ -44,6 +44,7 @@ public class TestSecurityConfig {
                         "/swagger-ui.html",
                         "/v3/api-docs/**",
                         "/actuator/health",
+                        "/actuator/prometheus",
                         "/auth/**",
                         "/api/auth/**",
                         "/api/public/**",
@@ -28,6 +28,7 @@ import stud.ntnu.backend.dto.map.UpdateCrisisEventDto;
 import stud.ntnu.backend.model.map.CrisisEvent;
 import stud.ntnu.backend.model.user.Role;
 import stud.ntnu.backend.model.user.User;
+import stud.ntnu.backend.service.crisis.CrisisAreaTopicService;
 import stud.ntnu.backend.service.crisis.CrisisEventService;
 import stud.ntnu.backend.service.user.UserService;
 
@@ -37,6 +38,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -56,6 +58,9 @@ public class CrisisEventControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private CrisisAreaTopicService crisisAreaTopicService;
+
     @InjectMocks
     private CrisisEventController crisisEventController;
 
@@ -634,6 +639,40 @@ public class CrisisEventControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Crisis Area Topics Tests")
+    class GetCrisisAreaTopicsTests {
+
+        @Test
+        @DisplayName("Get area topics of current user")
+        void getAreaTopicsOfCurrentUser() throws Exception {
+            // Arrange
+            mockUserAsAdmin(regularUserPrincipal, false);
+            when(crisisAreaTopicService.topicsForUser(regularUser))
+                    .thenReturn(Set.of("/topic/crisis/area/u4"));
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/user/crisis-events/area-topics")
+                            .principal(regularUserPrincipal))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0]").value("/topic/crisis/area/u4"));
+        }
+
+        @Test
+        @DisplayName("User not found results in bad request")
+        void userNotFoundResultsInBadRequest() throws Exception {
+            // Arrange
+            mockUserAsNonExistent(nonExistentUserPrincipal);
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/user/crisis-events/area-topics")
+                            .principal(nonExistentUserPrincipal))
+                    .andExpect(status().isBadRequest());
+
+            verify(crisisAreaTopicService, never()).topicsForUser(any(User.class));
+        }
+    }
+
     @Nested
     @DisplayName("Search Crisis Events Tests")
     class SearchCrisisEventsTests {
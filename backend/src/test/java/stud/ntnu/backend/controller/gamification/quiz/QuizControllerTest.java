@@ -0,0 +1,91 @@
+package stud.ntnu.backend.controller.gamification.quiz;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import stud.ntnu.backend.config.JwtAuthenticationFilter;
+import stud.ntnu.backend.dto.quiz.QuizContentAnswerDto;
+import stud.ntnu.backend.dto.quiz.QuizContentDto;
+import stud.ntnu.backend.dto.quiz.QuizContentQuestionDto;
+import stud.ntnu.backend.service.gamification.quiz.QuizService;
+import stud.ntnu.backend.service.gamification.quiz.QuizStatisticsService;
+import stud.ntnu.backend.service.user.UserService;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@WebMvcTest(controllers = QuizController.class,
+    excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("unit-test")
+public class QuizControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private QuizService quizService;
+
+    @MockitoBean
+    private QuizStatisticsService quizStatisticsService;
+
+    @MockitoBean
+    private UserService userService;
+
+    private static final String BASE_URL = "/api";
+
+    @Nested
+    class GetQuizContentTests {
+        private final QuizContentDto content = new QuizContentDto(1L, "Test Quiz", "Test Description",
+            "abc123", List.of(new QuizContentQuestionDto(1L, "Test Question", 1,
+                List.of(new QuizContentAnswerDto(1L, "Test Answer")))));
+
+        @Test
+        void shouldReturnContentWithETag() throws Exception {
+            // Arrange
+            when(quizService.getQuizContent(1L)).thenReturn(content);
+
+            // Act & Assert
+            mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/quizzes/user/1/content"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version").value("abc123"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.questions[0].answers[0].answerBody")
+                    .value("Test Answer"));
+        }
+
+        @Test
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            // Arrange
+            when(quizService.getQuizContent(1L)).thenReturn(content);
+
+            // Act & Assert
+            mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/quizzes/user/1/content")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenQuizNotFound() throws Exception {
+            // Arrange
+            when(quizService.getQuizContent(1L)).thenThrow(new IllegalArgumentException("Quiz not found"));
+
+            // Act & Assert
+            mockMvc.perform(MockMvcRequestBuilders.get(BASE_URL + "/quizzes/user/1/content"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.content().string("Quiz not found"));
+        }
+    }
+}
@@ -10,12 +10,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import stud.ntnu.backend.dto.user.NotificationDto;
 import stud.ntnu.backend.dto.user.SystemNotificationCreateDto;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
 import stud.ntnu.backend.model.user.Notification;
 import stud.ntnu.backend.model.user.NotificationPreference;
 import stud.ntnu.backend.model.user.Role;
@@ -243,6 +246,78 @@ public class NotificationControllerTest {
         verify(notificationService).hasUnreadNotifications("user@example.com");
     }
 
+    @Test
+    @DisplayName("Should return keyset page of notifications for user")
+    void shouldReturnInboxForUser() {
+        // Arrange
+        LocalDateTime beforeNotifyAt = LocalDateTime.now();
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userService.getUserByEmail("user@example.com")).thenReturn(Optional.of(testUser));
+        when(notificationService.getInbox(1, beforeNotifyAt, 5, 10))
+            .thenReturn(new SliceImpl<>(notificationList, pageable, false));
+
+        // Act
+        ResponseEntity<?> response = notificationController.getInbox(principal, beforeNotifyAt, 5,
+            pageable);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Slice<?> body = (Slice<?>) response.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.getContent().size());
+        assertInstanceOf(NotificationDto.class, body.getContent().get(0));
+    }
+
+    @Test
+    @DisplayName("Should return bad request for incomplete inbox cursor")
+    void shouldReturnBadRequestForIncompleteInboxCursor() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userService.getUserByEmail("user@example.com")).thenReturn(Optional.of(testUser));
+        when(notificationService.getInbox(1, null, 5, 10))
+            .thenThrow(new IllegalArgumentException("Both beforeNotifyAt and beforeId must be given"));
+
+        // Act
+        ResponseEntity<?> response = notificationController.getInbox(principal, null, 5, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Both beforeNotifyAt and beforeId must be given", response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return unread notification count of user")
+    void shouldReturnUnreadNotificationCount() {
+        // Arrange
+        UnreadNotificationCountDto count = new UnreadNotificationCountDto(1, 4);
+        when(notificationService.getUnreadNotificationCount("user@example.com")).thenReturn(count);
+
+        // Act
+        ResponseEntity<?> response = notificationController.unreadCount(principal);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(count, response.getBody());
+
+        verify(notificationService).getUnreadNotificationCount("user@example.com");
+        verify(userService, never()).getUserByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return bad request when unread count user not found")
+    void shouldReturnBadRequestWhenUnreadCountUserNotFound() {
+        // Arrange
+        when(notificationService.getUnreadNotificationCount("user@example.com"))
+            .thenThrow(new IllegalStateException("User not found with email: user@example.com"));
+
+        // Act
+        ResponseEntity<?> response = notificationController.unreadCount(principal);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("User not found with email: user@example.com", response.getBody());
+    }
+
     @Test
     @DisplayName("Should return user notification preferences")
     void shouldReturnUserNotificationPreferences() {
@@ -0,0 +1,64 @@
+package stud.ntnu.backend.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repositoryCallsAreRecordedPerRequest() throws Exception {
+        // Act
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/public/poi/public"))
+            .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Assert
+        DistributionSummary calls = meterRegistry.find("http.server.requests.repository.calls")
+            .tag("method", "GET")
+            .tag("uri", "/api/public/poi/public")
+            .summary();
+        assertNotNull(calls);
+        assertTrue(calls.count() >= 1);
+        assertTrue(calls.totalAmount() >= calls.count());
+    }
+
+    @Test
+    void prometheusEndpointExposesPoolAndHibernateMetrics() throws Exception {
+        // Arrange
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/public/poi/public"))
+            .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.content().string(containsString("hikaricp_connections")))
+            .andExpect(MockMvcResultMatchers.content().string(containsString("hibernate_statements")))
+            .andExpect(MockMvcResultMatchers.content().string(
+                containsString("http_server_requests_repository_calls_count")))
+            .andExpect(MockMvcResultMatchers.content().string(
+                containsString("application=\"backend\"")));
+    }
+}
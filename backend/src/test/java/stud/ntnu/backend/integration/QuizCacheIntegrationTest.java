@@ -0,0 +1,99 @@
+package stud.ntnu.backend.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import stud.ntnu.backend.config.CacheConfig;
+import stud.ntnu.backend.dto.quiz.CreateQuizDto;
+import stud.ntnu.backend.dto.quiz.CreateQuizQuestionDto;
+import stud.ntnu.backend.service.gamification.quiz.QuizService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class QuizCacheIntegrationTest {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Cache contentCache;
+
+    private Long quizId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        contentCache = cacheManager.getCache(CacheConfig.QUIZ_CONTENT_CACHE);
+        CreateQuizDto quiz = new CreateQuizDto();
+        quiz.setName("Cached Quiz");
+        quiz.setDescription("Evicted after commit");
+        quizId = quizService.createQuiz(quiz, 1L);
+        quizService.getQuizContent(quizId);
+    }
+
+    private CreateQuizQuestionDto question() {
+        CreateQuizQuestionDto question = new CreateQuizQuestionDto();
+        question.setQuizId(quizId);
+        question.setQuestionBody("Where is the emergency kit?");
+        question.setPosition(1);
+        return question;
+    }
+
+    @Test
+    void contentIsEvictedOnlyAfterTheChangeCommits() {
+        // Act
+        Cache.ValueWrapper cachedBeforeCommit = transactionTemplate.execute(status -> {
+            quizService.saveQuizQuestion(question());
+            return contentCache.get(quizId);
+        });
+
+        // Assert
+        assertNotNull(cachedBeforeCommit);
+        assertNull(contentCache.get(quizId));
+        assertEquals(1, quizService.getQuizContent(quizId).getQuestions().size());
+    }
+
+    @Test
+    void contentStaysCachedWhenTheChangeRollsBack() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            quizService.saveQuizQuestion(question());
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertNotNull(contentCache.get(quizId));
+        assertEquals(0, quizService.getQuizContent(quizId).getQuestions().size());
+    }
+
+    @Test
+    void contentOfDeletedQuizIsEvictedAfterCommit() {
+        // Act
+        Cache.ValueWrapper cachedBeforeCommit = transactionTemplate.execute(status -> {
+            quizService.deleteQuiz(quizId);
+            return contentCache.get(quizId);
+        });
+
+        // Assert
+        assertNotNull(cachedBeforeCommit);
+        assertNull(contentCache.get(quizId));
+    }
+}
@@ -13,14 +13,21 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import stud.ntnu.backend.dto.user.CreateReflectionDto;
 import stud.ntnu.backend.dto.user.UpdateReflectionDto;
 import stud.ntnu.backend.dto.user.ReflectionResponseDto;
+import stud.ntnu.backend.model.group.Group;
+import stud.ntnu.backend.model.group.GroupMembership;
+import stud.ntnu.backend.model.user.Reflection;
 import stud.ntnu.backend.model.user.User;
 import stud.ntnu.backend.model.user.Role;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.map.CrisisEvent;
+import stud.ntnu.backend.repository.group.GroupMembershipRepository;
+import stud.ntnu.backend.repository.group.GroupRepository;
+import stud.ntnu.backend.repository.user.ReflectionRepository;
 import stud.ntnu.backend.repository.user.UserRepository;
 import stud.ntnu.backend.repository.user.RoleRepository;
 import stud.ntnu.backend.repository.household.HouseholdRepository;
@@ -57,6 +64,15 @@ public class ReflectionIntegrationTest {
     @Autowired
     private CrisisEventRepository crisisEventRepository;
 
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupMembershipRepository groupMembershipRepository;
+
+    @Autowired
+    private ReflectionRepository reflectionRepository;
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -285,6 +301,106 @@ public class ReflectionIntegrationTest {
             .andExpect(jsonPath("$.content[0].userFirstName").value("Other"))
             .andExpect(jsonPath("$.content[0].userLastName").value("User"));
     }
+    @Test
+    void getGroupReflectionFeed_ShouldPageWithCursor() throws Exception {
+        // Create a second household in a group with the test household
+        Household otherHousehold = new Household();
+        otherHousehold.setName("Other Household");
+        otherHousehold.setAddress("Other Address");
+        otherHousehold.setPopulationCount(1);
+        householdRepository.save(otherHousehold);
+
+        User otherUser = new User();
+        otherUser.setEmail("other@example.com");
+        otherUser.setPasswordHash(passwordEncoder.encode("password123"));
+        otherUser.setRole(userRole);
+        otherUser.setPhoneNumber("87654321");
+        otherUser.setFirstName("Other");
+        otherUser.setLastName("User");
+        otherUser.setHousehold(otherHousehold);
+        userRepository.save(otherUser);
+
+        Group group = groupRepository.save(new Group("Test Group", testUser));
+        groupMembershipRepository.save(new GroupMembership(group, testHousehold, testUser));
+        groupMembershipRepository.save(new GroupMembership(group, otherHousehold, testUser));
+
+        for (int i = 1; i <= 3; i++) {
+            Reflection reflection = new Reflection(otherUser, "Group reflection " + i);
+            reflection.setShared(true);
+            reflectionRepository.save(reflection);
+        }
+        reflectionRepository.save(new Reflection(otherUser, "Private reflection"));
+
+        // First page
+        String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/user/reflections/groups/feed")
+            .header("Authorization", userToken)
+            .param("size", "2"))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.last").value(false))
+            .andReturn().getResponse().getContentAsString();
+
+        JsonNode last = objectMapper.readTree(firstPage).get("content").get(1);
+
+        // Second page continues after the last reflection of the first page
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/reflections/groups/feed")
+            .header("Authorization", userToken)
+            .param("size", "2")
+            .param("beforeCreatedAt", last.get("createdAt").asText())
+            .param("beforeId", last.get("id").asText()))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].content").value("Group reflection 1"))
+            .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    void getGroupReflections_ShouldReturnPageWithTotals() throws Exception {
+        // Create a second household in a group with the test household
+        Household otherHousehold = new Household();
+        otherHousehold.setName("Other Household");
+        otherHousehold.setAddress("Other Address");
+        otherHousehold.setPopulationCount(1);
+        householdRepository.save(otherHousehold);
+
+        User otherUser = new User();
+        otherUser.setEmail("other@example.com");
+        otherUser.setPasswordHash(passwordEncoder.encode("password123"));
+        otherUser.setRole(userRole);
+        otherUser.setPhoneNumber("87654321");
+        otherUser.setFirstName("Other");
+        otherUser.setLastName("User");
+        otherUser.setHousehold(otherHousehold);
+        userRepository.save(otherUser);
+
+        Group group = groupRepository.save(new Group("Test Group", testUser));
+        groupMembershipRepository.save(new GroupMembership(group, testHousehold, testUser));
+        groupMembershipRepository.save(new GroupMembership(group, otherHousehold, testUser));
+
+        for (int i = 1; i <= 3; i++) {
+            Reflection reflection = new Reflection(otherUser, "Group reflection " + i);
+            reflection.setShared(true);
+            reflectionRepository.save(reflection);
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/reflections/groups")
+            .header("Authorization", userToken)
+            .param("page", "1")
+            .param("size", "2"))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].content").value("Group reflection 1"))
+            .andExpect(jsonPath("$.totalElements").value(3))
+            .andExpect(jsonPath("$.totalPages").value(2));
+    }
+
+    @Test
+    void getGroupReflectionFeed_WithIncompleteCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user/reflections/groups/feed")
+            .header("Authorization", userToken)
+            .param("beforeId", "1"))
+            .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
 /**
     @Test
     void getHouseholdReflections_ShouldReturnHouseholdReflections() throws Exception {
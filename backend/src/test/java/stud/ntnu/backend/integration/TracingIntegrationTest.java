@@ -0,0 +1,114 @@
+package stud.ntnu.backend.integration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Import(TracingIntegrationTest.InMemoryExporterConfig.class)
+public class TracingIntegrationTest {
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter.reset();
+    }
+
+    private List<SpanData> exportedSpans() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        return spanExporter.getFinishedSpanItems();
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream()
+            .filter(span -> span.getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No span " + name + " in " + spans));
+    }
+
+    @Test
+    void repositoryCallsAreTracedWithinTheRequestTrace() throws Exception {
+        // Act
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/public/poi/public"))
+            .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Assert
+        List<SpanData> spans = exportedSpans();
+        SpanData request = span(spans, "http get /api/public/poi/public");
+        SpanData repositoryCall = span(spans, "PointOfInterestRepository.findAll");
+        assertEquals(request.getTraceId(), repositoryCall.getTraceId());
+        assertTrue(repositoryCall.getStartEpochNanos() >= request.getStartEpochNanos());
+    }
+
+    @Test
+    void brokerSendsAreTracedAsChildrenOfTheCurrentSpan() {
+        // Arrange
+        Span parent = tracer.nextSpan().name("crisis alert").start();
+
+        // Act
+        try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+            messagingTemplate.convertAndSend("/topic/crisis/test", "alert");
+        } finally {
+            parent.end();
+        }
+
+        // Assert
+        SpanData send = span(exportedSpans(), "stomp send");
+        assertEquals(parent.context().spanId(), send.getParentSpanId());
+        assertEquals("/topic/crisis/test",
+            send.getAttributes().asMap().entrySet().stream()
+                .filter(attribute -> attribute.getKey().getKey().equals("messaging.destination"))
+                .findFirst()
+                .orElseThrow()
+                .getValue());
+    }
+}
@@ -0,0 +1,148 @@
+package stud.ntnu.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
+
+/**
+ * Runs the WebSocket configuration in relay mode against an embedded ActiveMQ Artemis broker with
+ * a STOMP acceptor, standing in for the broker shared by several backend nodes. Messages sent by
+ * the application must reach a subscribed client through the external broker.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "websocket.broker.mode=relay")
+@ActiveProfiles("test")
+class WebSocketBrokerRelayIntegrationTest {
+
+    private static final String TOPIC = "/topic/notifications/42/unread-count";
+
+    private static EmbeddedActiveMQ broker;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private StompBrokerRelayMessageHandler relayMessageHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void startBroker(DynamicPropertyRegistry registry) throws Exception {
+        int stompPort = freePort();
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        configuration.setJMXManagementEnabled(false);
+        configuration.addAcceptorConfiguration("stomp",
+            "tcp://localhost:" + stompPort + "?protocols=STOMP;multicastPrefix=/topic/");
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        broker.start();
+        registry.add("websocket.broker.relay.port", () -> stompPort);
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        broker.stop();
+    }
+
+    @Test
+    void messagesReachSubscribersThroughTheRelayBroker() throws Exception {
+        // Arrange
+        awaitBrokerAvailable();
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        ThreadPoolTaskScheduler receiptScheduler = new ThreadPoolTaskScheduler();
+        receiptScheduler.initialize();
+        stompClient.setTaskScheduler(receiptScheduler);
+        StompSession session = stompClient
+            .connectAsync("ws://localhost:" + port + "/ws/websocket", new StompSessionHandlerAdapter() {
+            })
+            .get(10, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+
+        BlockingQueue<UnreadNotificationCountDto> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        session.subscribe(TOPIC, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return UnreadNotificationCountDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((UnreadNotificationCountDto) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertTrue(subscribed.await(10, TimeUnit.SECONDS), "Subscription was not confirmed");
+
+        // Act
+        messagingTemplate.convertAndSend(TOPIC, new UnreadNotificationCountDto(42, 3));
+
+        // Assert
+        UnreadNotificationCountDto message = received.poll(10, TimeUnit.SECONDS);
+        assertNotNull(message, "No message received through the relay");
+        assertEquals(42, message.getUserId());
+        assertEquals(3, message.getUnreadCount());
+        assertEquals(1, meterRegistry.get("websocket.sessions.active")
+            .tag("transport", "websocket").gauge().value());
+        assertTrue(meterRegistry.get("websocket.relay.connections").gauge().value() >= 2,
+            "Expected the system connection and the client connection to the broker");
+        assertTrue(meterRegistry.get("websocket.channel.handle")
+            .tag("channel", "outbound").timer().count() > 0);
+
+        session.disconnect();
+        stompClient.stop();
+        receiptScheduler.shutdown();
+    }
+
+    private void awaitBrokerAvailable() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!relayMessageHandler.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(relayMessageHandler.isBrokerAvailable(), "Relay did not connect to the broker");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package stud.ntnu.backend.repository.gamification.quiz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import stud.ntnu.backend.dto.quiz.QuizLeaderboardEntryDto;
+import stud.ntnu.backend.model.gamification.quiz.Quiz;
+import stud.ntnu.backend.model.gamification.quiz.QuizAnswer;
+import stud.ntnu.backend.model.gamification.quiz.QuizQuestion;
+import stud.ntnu.backend.model.gamification.quiz.UserQuizAnswer;
+import stud.ntnu.backend.model.gamification.quiz.UserQuizAttempt;
+
+import jakarta.persistence.PersistenceException;
+
+@DataJpaTest
+public class QuizUserScoreRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private QuizUserScoreRepository quizUserScoreRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuizAnswerRepository quizAnswerRepository;
+
+    private Quiz quiz;
+    private final LocalDateTime start = LocalDateTime.now().withNano(0);
+
+    @BeforeEach
+    void setUp() {
+        quiz = new Quiz();
+        quiz.setName("Statistics Quiz");
+        quiz.setCreatedByUserId(1L);
+        quiz.setStatus("active");
+        quiz = entityManager.persistAndFlush(quiz);
+    }
+
+    private UserQuizAttempt attempt(Integer userId, int score, LocalDateTime completedAt) {
+        UserQuizAttempt attempt = new UserQuizAttempt();
+        attempt.setQuizId(quiz.getId());
+        attempt.setUserId(userId);
+        attempt.setScore(score);
+        attempt.setCompletedAt(completedAt);
+        return entityManager.persistAndFlush(attempt);
+    }
+
+    private List<QuizLeaderboardEntryDto> leaderboard() {
+        return quizUserScoreRepository.findLeaderboard(quiz.getId(), PageRequest.of(0, 10));
+    }
+
+    @Test
+    public void whenAttemptsAreMerged_thenBestScoreAndAttemptCountAreKept() {
+        quizUserScoreRepository.mergeAttemptScore(attempt(1, 2, start).getId(), 1);
+        quizUserScoreRepository.mergeAttemptScore(attempt(1, 1, start.plusMinutes(1)).getId(), 1);
+
+        List<QuizLeaderboardEntryDto> entries = leaderboard();
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getBestScore()).isEqualTo(2);
+        assertThat(entries.get(0).getAttemptCount()).isEqualTo(2);
+        assertThat(entries.get(0).getAchievedAt()).isEqualTo(start);
+
+        quizUserScoreRepository.mergeAttemptScore(attempt(1, 3, start.plusMinutes(2)).getId(), 1);
+
+        entries = leaderboard();
+        assertThat(entries.get(0).getBestScore()).isEqualTo(3);
+        assertThat(entries.get(0).getAttemptCount()).isEqualTo(3);
+        assertThat(entries.get(0).getAchievedAt()).isEqualTo(start.plusMinutes(2));
+    }
+
+    @Test
+    public void whenScoreOfExistingAttemptIncreases_thenMergeDoesNotCountAnotherAttempt() {
+        UserQuizAttempt attempt = attempt(1, 0, start);
+        quizUserScoreRepository.mergeAttemptScore(attempt.getId(), 1);
+
+        attempt.setScore(1);
+        entityManager.persistAndFlush(attempt);
+        quizUserScoreRepository.mergeAttemptScore(attempt.getId(), 0);
+
+        assertThat(leaderboard().get(0).getBestScore()).isEqualTo(1);
+        assertThat(leaderboard().get(0).getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenScoresAreTied_thenFirstToReachScoreRanksHigher() {
+        quizUserScoreRepository.mergeAttemptScore(attempt(1, 2, start.plusMinutes(5)).getId(), 1);
+        quizUserScoreRepository.mergeAttemptScore(attempt(2, 2, start).getId(), 1);
+        quizUserScoreRepository.mergeAttemptScore(attempt(3, 4, start.plusMinutes(9)).getId(), 1);
+
+        assertThat(leaderboard()).extracting(QuizLeaderboardEntryDto::getUserId)
+            .containsExactly(3, 2, 1);
+    }
+
+    @Test
+    public void whenQuestionIsAnsweredAgainInAnAttempt_thenTheAnswerIsRejected() {
+        QuizQuestion question = new QuizQuestion();
+        question.setQuizId(quiz.getId());
+        question.setQuestionBody("Question");
+        question = entityManager.persist(question);
+        QuizAnswer answer = new QuizAnswer();
+        answer.setQuizId(quiz.getId());
+        answer.setQuestionId(question.getId());
+        answer.setAnswerBody("Answer");
+        answer.setIsCorrect(true);
+        answer = entityManager.persist(answer);
+        Long attemptId = attempt(1, 1, start).getId();
+        entityManager.persistAndFlush(userAnswer(attemptId, question, answer));
+
+        UserQuizAnswer repeated = userAnswer(attemptId, question, answer);
+        assertThatThrownBy(() -> entityManager.persistAndFlush(repeated))
+            .isInstanceOf(PersistenceException.class);
+    }
+
+    private UserQuizAnswer userAnswer(Long attemptId, QuizQuestion question, QuizAnswer answer) {
+        UserQuizAnswer userAnswer = new UserQuizAnswer();
+        userAnswer.setUserQuizAttemptId(attemptId);
+        userAnswer.setQuizId(quiz.getId());
+        userAnswer.setQuestionId(question.getId());
+        userAnswer.setAnswerId(answer.getId());
+        return userAnswer;
+    }
+
+    @Test
+    public void whenStatisticsAreBackfilled_thenTheyMatchTheRecordedAttempts() {
+        QuizQuestion question = new QuizQuestion();
+        question.setQuizId(quiz.getId());
+        question.setQuestionBody("Question");
+        question = entityManager.persist(question);
+        QuizAnswer answer = new QuizAnswer();
+        answer.setQuizId(quiz.getId());
+        answer.setQuestionId(question.getId());
+        answer.setAnswerBody("Answer");
+        answer.setIsCorrect(true);
+        answer = entityManager.persist(answer);
+        for (Integer userId : List.of(1, 1, 2)) {
+            UserQuizAnswer userAnswer = new UserQuizAnswer();
+            userAnswer.setUserQuizAttemptId(attempt(userId, userId, start).getId());
+            userAnswer.setQuizId(quiz.getId());
+            userAnswer.setQuestionId(question.getId());
+            userAnswer.setAnswerId(answer.getId());
+            entityManager.persist(userAnswer);
+        }
+        entityManager.flush();
+
+        assertThat(quizRepository.repairDriftedAttemptStatistics()).isGreaterThanOrEqualTo(1);
+        assertThat(quizAnswerRepository.repairDriftedSelectionCounts()).isGreaterThanOrEqualTo(1);
+        quizUserScoreRepository.deleteAllScores();
+        quizUserScoreRepository.insertScoresFromAttempts();
+        entityManager.clear();
+
+        Quiz reloaded = quizRepository.findById(quiz.getId()).orElseThrow();
+        assertThat(reloaded.getAttemptCount()).isEqualTo(3);
+        assertThat(reloaded.getTotalScore()).isEqualTo(4L);
+        assertThat(quizAnswerRepository.findById(answer.getId()).orElseThrow().getSelectionCount())
+            .isEqualTo(3);
+        assertThat(leaderboard()).extracting(QuizLeaderboardEntryDto::getUserId,
+                QuizLeaderboardEntryDto::getBestScore, QuizLeaderboardEntryDto::getAttemptCount)
+            .containsExactly(tuple(2, 2, 1),
+                tuple(1, 1, 2));
+        assertThat(quizRepository.repairDriftedAttemptStatistics()).isZero();
+        assertThat(quizAnswerRepository.repairDriftedSelectionCounts()).isZero();
+    }
+
+    @Test
+    public void whenCountersAreIncremented_thenEntitySavesDoNotOverwriteThem() {
+        quizRepository.addAttemptStatistics(quiz.getId(), 2, 5);
+
+        quiz.setName("Renamed Quiz");
+        quizRepository.saveAndFlush(quiz);
+        entityManager.clear();
+
+        Quiz reloaded = quizRepository.findById(quiz.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("Renamed Quiz");
+        assertThat(reloaded.getAttemptCount()).isEqualTo(2);
+        assertThat(reloaded.getTotalScore()).isEqualTo(5L);
+    }
+}
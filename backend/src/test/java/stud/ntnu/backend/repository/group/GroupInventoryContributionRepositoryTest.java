@@ -0,0 +1,125 @@
+package stud.ntnu.backend.repository.group;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import stud.ntnu.backend.dto.group.GroupReadinessDto;
+import stud.ntnu.backend.model.group.Group;
+import stud.ntnu.backend.model.group.GroupInventoryContribution;
+import stud.ntnu.backend.model.group.GroupMembership;
+import stud.ntnu.backend.model.household.Household;
+import stud.ntnu.backend.model.inventory.ProductBatch;
+import stud.ntnu.backend.model.inventory.ProductType;
+import stud.ntnu.backend.model.user.Role;
+import stud.ntnu.backend.model.user.User;
+
+@DataJpaTest
+public class GroupInventoryContributionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GroupInventoryContributionRepository groupInventoryContributionRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    private User creator;
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = entityManager.getEntityManager().createQuery(
+                "SELECT r FROM Role r WHERE r.name = :name", Role.class)
+            .setParameter("name", "USER")
+            .getSingleResult();
+        creator = new User("readiness@example.com", "password", "1234567890", userRole);
+        creator.setPrivacyAccepted(true);
+        creator = entityManager.persistAndFlush(creator);
+        group = entityManager.persistAndFlush(new Group("Readiness Group", creator));
+    }
+
+    private Household household(String name, int populationCount, int kcalRequirement) {
+        Household household = new Household(name, name + " Street 1", populationCount);
+        household.setKcalRequirement(kcalRequirement);
+        return entityManager.persistAndFlush(household);
+    }
+
+    private GroupMembership join(Group joinedGroup, Household household) {
+        return entityManager.persistAndFlush(new GroupMembership(joinedGroup, household, creator));
+    }
+
+    private void contribute(Group contributedTo, Household household, String category,
+        String unit, Double caloriesPerUnit, int number, LocalDateTime expirationTime) {
+        ProductType productType = entityManager.persist(
+            new ProductType(household, category + " " + number + " " + unit, unit, caloriesPerUnit,
+                category));
+        ProductBatch batch = entityManager.persist(
+            new ProductBatch(productType, now.minusDays(1), expirationTime, number));
+        entityManager.persistAndFlush(
+            new GroupInventoryContribution(contributedTo, household, batch));
+    }
+
+    @Test
+    public void whenHouseholdsContribute_thenTotalsCoverCurrentMembersAndAllContributedBatches() {
+        Household first = household("First", 2, 4000);
+        Household second = household("Second", 3, 6000);
+        Household former = household("Former", 5, 9000);
+        join(group, first);
+        join(group, second);
+        GroupMembership formerMembership = join(group, former);
+        formerMembership.setLeftAt(now.minusDays(1));
+        entityManager.persistAndFlush(formerMembership);
+
+        // Water: 10 + 6 litres, the water measured in decilitres is not counted as litres
+        contribute(group, first, "water", "l", null, 10, now.plusMonths(6));
+        contribute(group, second, "water", "l", null, 6, now.plusDays(3));
+        contribute(group, second, "water", "dl", null, 5, now.plusMonths(6));
+        // Food: 4 x 500 + 2 x 300 kcal, including the expired batch
+        contribute(group, first, "food", "stk", 500.0, 4, now.plusDays(2));
+        contribute(group, second, "food", "stk", 300.0, 2, now.minusDays(1));
+        // Contributions of the former member are still in the group's inventory
+        contribute(group, former, "food", "stk", 100.0, 1, null);
+        // Custom contributions have no batch and are not counted
+        GroupInventoryContribution blankets =
+            new GroupInventoryContribution(group, first, "Blankets");
+        blankets.setContributedAt(now);
+        entityManager.persistAndFlush(blankets);
+
+        // Another group's contributions are not counted
+        Group otherGroup = entityManager.persistAndFlush(new Group("Other Group", creator));
+        join(otherGroup, first);
+        contribute(otherGroup, first, "water", "l", null, 100, now.plusDays(1));
+
+        GroupReadinessDto totals = groupInventoryContributionRepository.calculateReadinessTotals(
+            group.getId(), now, now.plusDays(7));
+
+        assertThat(totals.getPopulationCount()).isEqualTo(5L);
+        assertThat(totals.getDailyCalorieRequirement()).isEqualTo(10000L);
+        assertThat(totals.getTotalWaterLitres()).isEqualTo(16L);
+        assertThat(totals.getTotalCalories()).isEqualTo(2700.0);
+        // Units expiring within the week: 6 litres of water and 4 food units, not the expired ones
+        assertThat(totals.getExpiringUnits()).isEqualTo(10L);
+    }
+
+    @Test
+    public void whenGroupHasNoContributions_thenTotalsAreZero() {
+        join(group, household("Lonely", 1, 2000));
+
+        GroupReadinessDto totals = groupInventoryContributionRepository.calculateReadinessTotals(
+            group.getId(), now, now.plusDays(7));
+
+        assertThat(totals.getPopulationCount()).isEqualTo(1L);
+        assertThat(totals.getDailyCalorieRequirement()).isEqualTo(2000L);
+        assertThat(totals.getTotalWaterLitres()).isZero();
+        assertThat(totals.getTotalCalories()).isZero();
+        assertThat(totals.getExpiringUnits()).isZero();
+    }
+}
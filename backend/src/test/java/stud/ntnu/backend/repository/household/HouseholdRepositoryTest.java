@@ -0,0 +1,74 @@
+package stud.ntnu.backend.repository.household;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import stud.ntnu.backend.model.household.EmptyHouseholdMember;
+import stud.ntnu.backend.model.household.Household;
+
+@DataJpaTest
+public class HouseholdRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private HouseholdRepository householdRepository;
+
+    private Household household;
+
+    @BeforeEach
+    void setUp() {
+        household = new Household("Counter Household", "Counter Street 1", 0);
+        household = entityManager.persistAndFlush(household);
+    }
+
+    @Test
+    public void whenAdjustCounters_thenCountersAreUpdatedAtomically() {
+        householdRepository.adjustCounters(household.getId(), 2, 3500);
+        householdRepository.adjustCounters(household.getId(), -1, -2000);
+        entityManager.clear();
+
+        Household reloaded = householdRepository.findById(household.getId()).orElseThrow();
+        assertThat(reloaded.getPopulationCount()).isEqualTo(1);
+        assertThat(reloaded.getKcalRequirement()).isEqualTo(1500);
+    }
+
+    @Test
+    public void whenEntityIsSaved_thenCountersAreNotOverwritten() {
+        householdRepository.adjustCounters(household.getId(), 2, 4000);
+
+        household.setName("Renamed Household");
+        householdRepository.saveAndFlush(household);
+        entityManager.clear();
+
+        Household reloaded = householdRepository.findById(household.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("Renamed Household");
+        assertThat(reloaded.getPopulationCount()).isEqualTo(2);
+        assertThat(reloaded.getKcalRequirement()).isEqualTo(4000);
+    }
+
+    @Test
+    public void whenCountersHaveDrifted_thenRepairRecomputesThem() {
+        EmptyHouseholdMember child = new EmptyHouseholdMember("Child", "child", null, 1500);
+        child.setHousehold(household);
+        EmptyHouseholdMember pet = new EmptyHouseholdMember("Pet", "pet", null, 500);
+        pet.setHousehold(household);
+        entityManager.persist(child);
+        entityManager.persistAndFlush(pet);
+
+        int repaired = householdRepository.repairDriftedCounters();
+        entityManager.clear();
+
+        Household reloaded = householdRepository.findById(household.getId()).orElseThrow();
+        assertThat(repaired).isGreaterThanOrEqualTo(1);
+        assertThat(reloaded.getPopulationCount()).isEqualTo(1);
+        assertThat(reloaded.getKcalRequirement()).isEqualTo(2000);
+        assertThat(householdRepository.repairDriftedCounters()).isZero();
+    }
+}
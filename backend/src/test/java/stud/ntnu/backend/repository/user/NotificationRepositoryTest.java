@@ -0,0 +1,175 @@
+package stud.ntnu.backend.repository.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import stud.ntnu.backend.model.user.Notification;
+import stud.ntnu.backend.model.user.Role;
+import stud.ntnu.backend.model.user.User;
+
+@DataJpaTest
+class NotificationRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private LocalDateTime now;
+    private Notification older;
+    private Notification newer;
+    private Notification alreadyRead;
+
+    @BeforeEach
+    void setUp() {
+        Role role = entityManager.getEntityManager()
+            .createQuery("SELECT r FROM Role r WHERE r.name = 'USER'", Role.class)
+            .getSingleResult();
+        user = new User("bulk-read@example.com", "password", "12345678", role);
+        user.setPrivacyAccepted(true);
+        entityManager.persist(user);
+
+        now = LocalDateTime.now().withNano(0);
+        older = entityManager.persist(
+            new Notification(user, Notification.PreferenceType.system, now.minusDays(2)));
+        newer = entityManager.persist(
+            new Notification(user, Notification.PreferenceType.system, now.minusHours(1)));
+        alreadyRead = new Notification(user, Notification.PreferenceType.system,
+            now.minusDays(3));
+        alreadyRead.setReadAt(now.minusDays(1));
+        entityManager.persist(alreadyRead);
+        entityManager.flush();
+    }
+
+    @Test
+    void markAllAsReadByUserId_marksOnlyUnreadNotifications() {
+        // Act
+        int marked = notificationRepository.markAllAsReadByUserId(user.getId(), now);
+        entityManager.clear();
+
+        // Assert
+        assertThat(marked).isEqualTo(2);
+        assertThat(notificationRepository.findByUserIdAndReadAtIsNull(user.getId())).isEmpty();
+    }
+
+    @Test
+    void markAllAsReadByUserIdUpToId_keepsNewerNotificationsUnread() {
+        // Act
+        int marked = notificationRepository.markAllAsReadByUserIdUpToId(user.getId(),
+            older.getId(), now);
+        entityManager.clear();
+
+        // Assert
+        assertThat(marked).isEqualTo(1);
+        assertThat(notificationRepository.findByUserIdAndReadAtIsNull(user.getId()))
+            .extracting(Notification::getId)
+            .containsExactly(newer.getId());
+    }
+
+    @Test
+    void markAllAsReadByUserIdUpToNotifyAt_keepsLaterNotificationsUnread() {
+        // Act
+        int marked = notificationRepository.markAllAsReadByUserIdUpToNotifyAt(user.getId(),
+            now.minusDays(1), now);
+        entityManager.clear();
+
+        // Assert
+        assertThat(marked).isEqualTo(1);
+        List<Notification> unread = notificationRepository.findByUserIdAndReadAtIsNull(
+            user.getId());
+        assertThat(unread).extracting(Notification::getId).containsExactly(newer.getId());
+    }
+
+    @Test
+    void markAsReadIfUnread_marksNotificationOnlyOnce() {
+        // Act
+        int first = notificationRepository.markAsReadIfUnread(older.getId(), now);
+        int second = notificationRepository.markAsReadIfUnread(older.getId(), now.plusMinutes(1));
+        entityManager.clear();
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(notificationRepository.findById(older.getId()).orElseThrow().getReadAt())
+            .isEqualTo(now);
+    }
+
+    @Test
+    void findInboxBefore_pagesNewestFirstFromCursor() {
+        // Act
+        Slice<Notification> first = notificationRepository.findInboxBefore(user.getId(), null,
+            null, PageRequest.of(0, 2));
+        Notification last = first.getContent().get(1);
+        Slice<Notification> second = notificationRepository.findInboxBefore(user.getId(),
+            last.getNotifyAt(), last.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(first.getContent()).extracting(Notification::getId)
+            .containsExactly(newer.getId(), older.getId());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Notification::getId)
+            .containsExactly(alreadyRead.getId());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void copyToArchiveAndDelete_moveReadNotificationsToArchive() {
+        // Arrange
+        List<Integer> ids = notificationRepository.findIdsReadBefore(now, PageRequest.of(0, 10));
+
+        // Act
+        int copied = notificationRepository.copyToArchive(ids, now);
+        int deleted = notificationRepository.deleteByIdIn(ids);
+        entityManager.clear();
+
+        // Assert
+        assertThat(ids).containsExactly(alreadyRead.getId());
+        assertThat(copied).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(notificationRepository.findById(alreadyRead.getId())).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT user_id FROM notifications_archive WHERE id = ?", Integer.class,
+            alreadyRead.getId())).isEqualTo(user.getId());
+    }
+
+    @Test
+    void insertAll_insertsNotificationsInOneBatch() {
+        // Arrange
+        Notification alert = new Notification(user, Notification.PreferenceType.crisis_alert,
+            Notification.TargetType.event, 7, "Crisis nearby", now);
+        alert.setSentAt(now);
+        Notification system = new Notification(user, Notification.PreferenceType.system, now);
+
+        // Act
+        notificationRepository.insertAll(List.of(alert, system));
+        entityManager.clear();
+
+        // Assert
+        assertThat(notificationRepository.findByUserId(user.getId()))
+            .filteredOn(notification -> notification.getNotifyAt().equals(now))
+            .extracting(Notification::getPreferenceType, Notification::getTargetId,
+                Notification::getDescription)
+            .containsExactlyInAnyOrder(
+                tuple(
+                    Notification.PreferenceType.crisis_alert, 7, "Crisis nearby"),
+                tuple(
+                    Notification.PreferenceType.system, null, null));
+    }
+}
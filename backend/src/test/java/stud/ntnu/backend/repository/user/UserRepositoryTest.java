@@ -6,10 +6,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
+import stud.ntnu.backend.model.user.Notification;
 import stud.ntnu.backend.model.user.User;
 import stud.ntnu.backend.model.user.Role;
 
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -70,4 +74,55 @@ public class UserRepositoryTest {
         Optional<User> found = userRepository.findByEmail("nonexistent@example.com");
         assertThat(found).isNotPresent();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenAdjustUnreadNotificationCount_thenCounterIsReturnedByLookups() {
+        User user = persistUser("counter@example.com");
+
+        userRepository.adjustUnreadNotificationCount(user.getId(), 3);
+        userRepository.adjustUnreadNotificationCount(user.getId(), -1);
+        userRepository.incrementUnreadNotificationCounts(List.of(user.getId()));
+        entityManager.clear();
+
+        Optional<UnreadNotificationCountDto> byEmail =
+            userRepository.findUnreadNotificationCountByEmail("counter@example.com");
+        assertThat(byEmail).isPresent();
+        assertThat(byEmail.get().getUserId()).isEqualTo(user.getId());
+        assertThat(byEmail.get().getUnreadCount()).isEqualTo(3);
+        assertThat(userRepository.findUnreadNotificationCountsByIdIn(List.of(user.getId())))
+            .extracting(UnreadNotificationCountDto::getUnreadCount)
+            .containsExactly(3);
+    }
+
+    @Test
+    public void whenRepairDriftedUnreadNotificationCounts_thenCounterMatchesUnreadNotifications() {
+        User user = persistUser("drift@example.com");
+        entityManager.persist(new Notification(user, Notification.PreferenceType.system,
+            LocalDateTime.now()));
+        Notification read = new Notification(user, Notification.PreferenceType.system,
+            LocalDateTime.now());
+        read.setReadAt(LocalDateTime.now());
+        entityManager.persist(read);
+        userRepository.adjustUnreadNotificationCount(user.getId(), 5);
+
+        int repaired = userRepository.repairDriftedUnreadNotificationCounts();
+        entityManager.clear();
+
+        assertThat(repaired).isEqualTo(1);
+        assertThat(userRepository.findUnreadNotificationCountByEmail("drift@example.com"))
+            .get()
+            .extracting(UnreadNotificationCountDto::getUnreadCount)
+            .isEqualTo(1);
+        assertThat(userRepository.repairDriftedUnreadNotificationCounts()).isZero();
+    }
+
+    private User persistUser(String email) {
+        Role userRole = entityManager.getEntityManager().createQuery(
+                "SELECT r FROM Role r WHERE r.name = :name", Role.class)
+            .setParameter("name", "USER")
+            .getSingleResult();
+        User user = new User(email, "password", "1234567890", userRole);
+        user.setPrivacyAccepted(true);
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,124 @@
+package stud.ntnu.backend.service.crisis;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import stud.ntnu.backend.model.household.Household;
+import stud.ntnu.backend.model.user.User;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CrisisAreaTopicServiceTest {
+
+    private static final String PREFIX = CrisisAreaTopicService.TOPIC_PREFIX;
+
+    private CrisisAreaTopicService crisisAreaTopicService;
+
+    @BeforeEach
+    void setUp() {
+        crisisAreaTopicService = new CrisisAreaTopicService(5, 2, 64);
+    }
+
+    private static User userAt(String latitude, String longitude) {
+        User user = new User();
+        user.setHomeLatitude(new BigDecimal(latitude));
+        user.setHomeLongitude(new BigDecimal(longitude));
+        return user;
+    }
+
+    @Nested
+    class TopicsForUserTests {
+
+        @Test
+        void shouldReturnHomeCellAtEveryPrecision() {
+            // Arrange
+            User user = userAt("57.64911", "10.40744"); // geohash u4pruydqqvj
+
+            // Act
+            Set<String> topics = crisisAreaTopicService.topicsForUser(user);
+
+            // Assert
+            assertEquals(Set.of(PREFIX + "u4", PREFIX + "u4p", PREFIX + "u4pr", PREFIX + "u4pru"),
+                topics);
+        }
+
+        @Test
+        void shouldIncludeHouseholdCells() {
+            // Arrange
+            User user = userAt("57.64911", "10.40744");
+            Household household = new Household();
+            household.setLatitude(new BigDecimal("63.4305"));
+            household.setLongitude(new BigDecimal("10.3951"));
+            user.setHousehold(household);
+
+            // Act
+            Set<String> topics = crisisAreaTopicService.topicsForUser(user);
+
+            // Assert
+            assertEquals(8, topics.size());
+            assertTrue(topics.contains(PREFIX + "u4pru"));
+        }
+
+        @Test
+        void shouldReturnNoTopicsWithoutKnownPosition() {
+            // Act
+            Set<String> topics = crisisAreaTopicService.topicsForUser(new User());
+
+            // Assert
+            assertTrue(topics.isEmpty());
+        }
+    }
+
+    @Nested
+    class TopicsCoveringTests {
+
+        @Test
+        void shouldCoverUsersWithinSmallRadiusAtHighestPrecision() {
+            // Act
+            Set<String> topics = crisisAreaTopicService.topicsCovering(new BigDecimal("63.4305"),
+                new BigDecimal("10.3951"), new BigDecimal("5"));
+
+            // Assert
+            assertTrue(topics.size() <= 64);
+            assertTrue(topics.stream().allMatch(topic -> topic.length() == PREFIX.length() + 5));
+            for (String[] position : new String[][]{
+                {"63.4305", "10.3951"}, {"63.4750", "10.3951"}, {"63.4305", "10.4900"},
+                {"63.3900", "10.3000"}}) {
+                Set<String> userTopics = crisisAreaTopicService.topicsForUser(
+                    userAt(position[0], position[1]));
+                assertTrue(userTopics.stream().anyMatch(topics::contains),
+                    "No covering topic for user at " + position[0] + ", " + position[1]);
+            }
+        }
+
+        @Test
+        void shouldUseCoarserCellsForLargeRadius() {
+            // Act
+            Set<String> topics = crisisAreaTopicService.topicsCovering(new BigDecimal("63.4305"),
+                new BigDecimal("10.3951"), new BigDecimal("300"));
+
+            // Assert
+            assertTrue(topics.size() <= 64);
+            assertTrue(topics.stream().allMatch(topic -> topic.length() < PREFIX.length() + 5));
+            Set<String> userTopics = crisisAreaTopicService.topicsForUser(
+                userAt("61.0000", "12.0000"));
+            assertTrue(userTopics.stream().anyMatch(topics::contains));
+        }
+
+        @Test
+        void shouldCoverAreaAcrossTheAntimeridian() {
+            // Act
+            Set<String> topics = crisisAreaTopicService.topicsCovering(new BigDecimal("0"),
+                new BigDecimal("179.99"), new BigDecimal("5"));
+
+            // Assert
+            Set<String> userTopics = crisisAreaTopicService.topicsForUser(
+                userAt("0.0000", "-179.99"));
+            assertTrue(userTopics.stream().anyMatch(topics::contains));
+        }
+    }
+}
@@ -4,13 +4,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import stud.ntnu.backend.config.CacheConfig;
 import stud.ntnu.backend.dto.quiz.*;
+import stud.ntnu.backend.event.QuizCacheListener;
+import stud.ntnu.backend.event.QuizContentChangedEvent;
+import stud.ntnu.backend.event.QuizPurgeRequestedEvent;
 import stud.ntnu.backend.model.gamification.quiz.*;
 import stud.ntnu.backend.repository.gamification.quiz.*;
 
@@ -18,6 +25,11 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,7 +53,15 @@ public class QuizServiceTest {
     @Mock
     private QuizAnswerRepository quizAnswerRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private QuizStatisticsService quizStatisticsService;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
     private QuizService quizService;
 
     private Quiz testQuiz;
@@ -54,6 +74,14 @@ public class QuizServiceTest {
 
     @BeforeEach
     void setUp() {
+        // The answer keys are held by the user quiz service, so a real one shares the cache
+        UserQuizService userQuizService = new UserQuizService(quizRepository,
+            userQuizAttemptRepository, userQuizAnswerRepository, quizAnswerRepository,
+            quizStatisticsService, cacheManager);
+        quizService = new QuizService(quizRepository, userQuizAttemptRepository,
+            userQuizAnswerRepository, quizQuestionRepository, quizAnswerRepository, cacheManager,
+            eventPublisher, quizStatisticsService, userQuizService);
+
         // Set up test quiz
         testQuiz = new Quiz();
         testQuiz.setId(1L);
@@ -105,6 +133,15 @@ public class QuizServiceTest {
         createAnswerDto.setIsCorrect(true);
     }
 
+    // Delivers the published content changes to the cache listener, as Spring does after commit
+    private void forwardContentChangesToCacheListener() {
+        QuizCacheListener listener = new QuizCacheListener(quizService);
+        doAnswer(invocation -> {
+            listener.handleQuizContentChangedEvent(invocation.getArgument(0));
+            return null;
+        }).when(eventPublisher).publishEvent(any(QuizContentChangedEvent.class));
+    }
+
     @Nested
     class CreateQuizTests {
         @Test
@@ -147,6 +184,49 @@ public class QuizServiceTest {
 
             // Assert
             verify(quizQuestionRepository).save(any(QuizQuestion.class));
+            verify(quizRepository).adjustQuestionCount(1L, 1);
+        }
+
+        @Test
+        void shouldDecrementQuestionCountWhenQuestionIsDeleted() {
+            // Arrange
+            when(quizQuestionRepository.findById(1L)).thenReturn(Optional.of(testQuestion));
+
+            // Act
+            quizService.deleteQuizQuestion(1L);
+
+            // Assert
+            verify(quizQuestionRepository).deleteById(1L);
+            verify(quizRepository).adjustQuestionCount(1L, -1);
+        }
+
+        @Test
+        void shouldMoveQuestionCountWhenQuestionChangesQuiz() {
+            // Arrange
+            when(quizQuestionRepository.findById(1L)).thenReturn(Optional.of(testQuestion));
+            CreateQuizQuestionDto dto = new CreateQuizQuestionDto();
+            dto.setQuizId(2L);
+
+            // Act
+            quizService.updateQuizQuestion(1L, dto);
+
+            // Assert
+            verify(quizRepository).adjustQuestionCount(1L, -1);
+            verify(quizRepository).adjustQuestionCount(2L, 1);
+        }
+
+        @Test
+        void shouldKeepQuestionCountWhenQuestionStaysInQuiz() {
+            // Arrange
+            when(quizQuestionRepository.findById(1L)).thenReturn(Optional.of(testQuestion));
+            CreateQuizQuestionDto dto = new CreateQuizQuestionDto();
+            dto.setQuestionBody("Updated Question");
+
+            // Act
+            quizService.updateQuizQuestion(1L, dto);
+
+            // Assert
+            verify(quizRepository, never()).adjustQuestionCount(any(), anyInt());
         }
     }
 
@@ -203,7 +283,7 @@ public class QuizServiceTest {
             List<Quiz> quizzes = Arrays.asList(testQuiz);
             Page<Quiz> quizPage = new PageImpl<>(quizzes);
             when(quizRepository.findAllByStatus(eq("active"), any(Pageable.class))).thenReturn(quizPage);
-            when(quizQuestionRepository.countByQuizId(1L)).thenReturn(1L);
+            testQuiz.setQuestionCount(3);
 
             // Act
             Page<QuizPreviewDto> result = quizService.getAllActiveQuizzes(Pageable.unpaged());
@@ -212,6 +292,8 @@ public class QuizServiceTest {
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
             assertEquals(testQuiz.getName(), result.getContent().get(0).getName());
+            assertEquals(3L, result.getContent().get(0).getQuestionCount());
+            verify(quizQuestionRepository, never()).countByQuizId(any());
         }
     }
 
@@ -220,25 +302,385 @@ public class QuizServiceTest {
         @Test
         void shouldArchiveQuizSuccessfully() {
             // Arrange
-            when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+            when(quizRepository.updateStatus(1L, "archived")).thenReturn(1);
 
             // Act
             quizService.updateQuizStatus(1L, "archived");
 
             // Assert
-            verify(quizRepository).save(argThat(quiz -> 
-                quiz.getId().equals(1L) && 
-                quiz.getStatus().equals("archived")
-            ));
+            verify(quizRepository).updateStatus(1L, "archived");
+            verify(quizRepository, never()).save(any());
         }
 
         @Test
         void shouldThrowExceptionWhenQuizNotFound() {
             // Arrange
-            when(quizRepository.findById(1L)).thenReturn(Optional.empty());
+            when(quizRepository.updateStatus(1L, "archived")).thenReturn(0);
 
             // Act & Assert
             assertThrows(IllegalArgumentException.class, () -> quizService.updateQuizStatus(1L, "archived"));
         }
+
+        @Test
+        void shouldDeleteQuizWithBulkStatements() {
+            // Arrange
+            when(quizRepository.existsById(1L)).thenReturn(true);
+
+            // Act
+            quizService.deleteQuiz(1L);
+
+            // Assert
+            var inOrder = inOrder(userQuizAnswerRepository, userQuizAttemptRepository,
+                quizAnswerRepository, quizQuestionRepository, quizRepository);
+            inOrder.verify(userQuizAnswerRepository).deleteByQuizId(1L);
+            inOrder.verify(userQuizAttemptRepository).deleteByQuizId(1L);
+            inOrder.verify(quizAnswerRepository).deleteByQuizId(1L);
+            inOrder.verify(quizQuestionRepository).deleteByQuizId(1L);
+            verify(quizStatisticsService).deleteQuizStatistics(1L);
+            inOrder.verify(quizRepository).deleteQuizById(1L);
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof QuizContentChangedEvent changed && changed.getQuizId().equals(1L)));
+            verify(userQuizAttemptRepository, never()).findAllByQuizId(any());
+            verify(userQuizAnswerRepository, never()).deleteAll(any());
+            verify(quizQuestionRepository, never()).findAllByQuizId(any());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenDeletingMissingQuiz() {
+            // Arrange
+            when(quizRepository.existsById(1L)).thenReturn(false);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizService.deleteQuiz(1L));
+            verify(quizRepository, never()).deleteQuizById(any());
+        }
+
+        @Test
+        void shouldArchiveAndPublishEventWhenPurgeRequested() {
+            // Arrange
+            when(quizRepository.updateStatus(1L, "archived")).thenReturn(1);
+
+            // Act
+            quizService.requestQuizPurge(1L);
+
+            // Assert
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof QuizPurgeRequestedEvent purge && purge.getQuizId().equals(1L)));
+            verify(quizRepository, never()).deleteQuizById(any());
+        }
+
+        @Test
+        void shouldNotPublishEventWhenPurgingMissingQuiz() {
+            // Arrange
+            when(quizRepository.updateStatus(1L, "archived")).thenReturn(0);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizService.requestQuizPurge(1L));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
+
+    @Nested
+    class GetQuizAttemptResultTests {
+        @Test
+        void shouldReturnPersistedScoreAndPerQuestionCorrectness() {
+            // Arrange
+            testAttempt.setScore(1);
+            List<QuizQuestionResultDto> results = List.of(
+                new QuizQuestionResultDto(1L, 1L, true),
+                new QuizQuestionResultDto(2L, 4L, false));
+            when(userQuizAttemptRepository.findByIdAndUserId(1L, 1)).thenReturn(Optional.of(testAttempt));
+            when(userQuizAnswerRepository.findResultsByUserQuizAttemptId(1L)).thenReturn(results);
+
+            // Act
+            QuizAttemptResultDto result = quizService.getQuizAttemptResult(1L, 1);
+
+            // Assert
+            assertEquals(1L, result.getAttemptId());
+            assertEquals(1L, result.getQuizId());
+            assertEquals(1, result.getScore());
+            assertEquals(results, result.getQuestions());
+            verify(quizAnswerRepository, never()).findById(any());
+        }
+
+        @Test
+        void shouldThrowWhenAttemptBelongsToAnotherUser() {
+            // Arrange
+            when(userQuizAttemptRepository.findByIdAndUserId(1L, 2)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizService.getQuizAttemptResult(1L, 2));
+            verify(userQuizAnswerRepository, never()).findResultsByUserQuizAttemptId(any());
+        }
+    }
+
+
+    @Nested
+    class SubmitQuizAttemptTests {
+
+        private QuizAnswer answer(Long id, Long questionId, boolean correct) {
+            QuizAnswer answer = new QuizAnswer();
+            answer.setId(id);
+            answer.setQuizId(1L);
+            answer.setQuestionId(questionId);
+            answer.setIsCorrect(correct);
+            return answer;
+        }
+
+        @BeforeEach
+        void setUpAnswerKey() {
+            lenient().when(quizAnswerRepository.findAllByQuizId(1L)).thenReturn(List.of(
+                answer(1L, 1L, true), answer(2L, 1L, false),
+                answer(3L, 2L, false), answer(4L, 2L, true)));
+            lenient().when(userQuizAttemptRepository.save(any(UserQuizAttempt.class)))
+                .thenAnswer(invocation -> {
+                    UserQuizAttempt attempt = invocation.getArgument(0);
+                    attempt.setId(7L);
+                    return attempt;
+                });
+        }
+
+        @Test
+        void shouldSaveScoredAttemptAndInsertAnswersInOneBatch() {
+            // Arrange
+            SubmitQuizAttemptDto dto = new SubmitQuizAttemptDto(List.of(
+                new QuizAnswerSelectionDto(1L, 1L), new QuizAnswerSelectionDto(2L, 3L)));
+
+            // Act
+            QuizAttemptResultDto result = quizService.submitQuizAttempt(1L, 1, dto);
+
+            // Assert
+            assertEquals(7L, result.getAttemptId());
+            assertEquals(1, result.getScore());
+            assertEquals(List.of(new QuizQuestionResultDto(1L, 1L, true),
+                new QuizQuestionResultDto(2L, 3L, false)), result.getQuestions());
+            verify(userQuizAttemptRepository).save(argThat(attempt -> attempt.getScore() == 1));
+            verify(userQuizAnswerRepository).insertAll(argThat(answers -> answers.size() == 2
+                && answers.stream().allMatch(a -> a.getUserQuizAttemptId() == 7L)));
+            verify(userQuizAnswerRepository, never()).save(any());
+            verify(quizStatisticsService).recordAttempt(argThat(attempt -> attempt.getId() == 7L),
+                eq(List.of(1L, 3L)));
+        }
+
+        @Test
+        void shouldLoadAnswerKeyOnceUntilQuizIsModified() {
+            // Arrange
+            SubmitQuizAttemptDto dto = new SubmitQuizAttemptDto(List.of(
+                new QuizAnswerSelectionDto(1L, 1L)));
+            forwardContentChangesToCacheListener();
+
+            // Act
+            quizService.submitQuizAttempt(1L, 1, dto);
+            quizService.submitQuizAttempt(1L, 2, dto);
+            quizService.saveQuizAnswer(createAnswerDto);
+            quizService.submitQuizAttempt(1L, 3, dto);
+
+            // Assert
+            verify(quizAnswerRepository, times(2)).findAllByQuizId(1L);
+        }
+
+        @Test
+        void shouldRejectSelectionsWithoutQuestionOrAnswerId() {
+            // Arrange
+            SubmitQuizAttemptDto missingQuestion = new SubmitQuizAttemptDto(List.of(
+                new QuizAnswerSelectionDto(null, 1L)));
+            SubmitQuizAttemptDto missingAnswer = new SubmitQuizAttemptDto(List.of(
+                new QuizAnswerSelectionDto(1L, 1L), new QuizAnswerSelectionDto(2L, null)));
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> quizService.submitQuizAttempt(1L, 1, missingQuestion));
+            assertThrows(IllegalArgumentException.class,
+                () -> quizService.submitQuizAttempt(1L, 1, missingAnswer));
+            verify(userQuizAttemptRepository, never()).save(any());
+            verify(userQuizAnswerRepository, never()).insertAll(any());
+        }
+
+        @Test
+        void shouldRejectQuestionFromAnotherQuiz() {
+            // Arrange
+            SubmitQuizAttemptDto dto = new SubmitQuizAttemptDto(List.of(
+                new QuizAnswerSelectionDto(99L, 1L)));
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizService.submitQuizAttempt(1L, 1, dto));
+            verify(userQuizAttemptRepository, never()).save(any());
+            verify(userQuizAnswerRepository, never()).insertAll(any());
+        }
+
+        @Test
+        void shouldRejectAnswerFromAnotherQuestion() {
+            // Arrange
+            SubmitQuizAttemptDto dto = new SubmitQuizAttemptDto(List.of(
+                new QuizAnswerSelectionDto(1L, 3L)));
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizService.submitQuizAttempt(1L, 1, dto));
+            verify(userQuizAttemptRepository, never()).save(any());
+        }
+
+        @Test
+        void shouldRejectQuestionAnsweredTwice() {
+            // Arrange
+            SubmitQuizAttemptDto dto = new SubmitQuizAttemptDto(List.of(
+                new QuizAnswerSelectionDto(1L, 1L), new QuizAnswerSelectionDto(1L, 2L)));
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizService.submitQuizAttempt(1L, 1, dto));
+            verify(userQuizAttemptRepository, never()).save(any());
+        }
+
+        @Test
+        void shouldRejectEmptySubmission() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> quizService.submitQuizAttempt(1L, 1, new SubmitQuizAttemptDto(List.of())));
+            verify(quizAnswerRepository, never()).findAllByQuizId(any());
+        }
+    }
+
+
+    @Nested
+    class GetQuizContentTests {
+        private QuizQuestion secondQuestion;
+        private QuizAnswer secondAnswer;
+
+        @BeforeEach
+        void setUp() {
+            secondQuestion = new QuizQuestion();
+            secondQuestion.setId(2L);
+            secondQuestion.setQuizId(1L);
+            secondQuestion.setQuestionBody("First Question");
+            secondQuestion.setPosition(0);
+
+            secondAnswer = new QuizAnswer();
+            secondAnswer.setId(2L);
+            secondAnswer.setQuizId(1L);
+            secondAnswer.setQuestionId(2L);
+            secondAnswer.setAnswerBody("Other Answer");
+            secondAnswer.setIsCorrect(false);
+        }
+
+        @Test
+        void shouldReturnQuestionsInPositionOrderWithAnswers() {
+            // Arrange
+            when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+            when(quizQuestionRepository.findAllByQuizIdOrderByPositionAscIdAsc(1L))
+                .thenReturn(List.of(secondQuestion, testQuestion));
+            when(quizAnswerRepository.findAllByQuizId(1L)).thenReturn(List.of(testAnswer, secondAnswer));
+
+            // Act
+            QuizContentDto content = quizService.getQuizContent(1L);
+
+            // Assert
+            assertEquals(1L, content.getQuizId());
+            assertEquals("Test Quiz", content.getName());
+            assertNotNull(content.getVersion());
+            assertEquals(List.of(2L, 1L),
+                content.getQuestions().stream().map(QuizContentQuestionDto::getId).toList());
+            assertEquals("Other Answer", content.getQuestions().get(0).getAnswers().get(0).getAnswerBody());
+            assertEquals("Test Answer", content.getQuestions().get(1).getAnswers().get(0).getAnswerBody());
+            assertThrows(UnsupportedOperationException.class, () -> content.getQuestions().clear());
+        }
+
+        @Test
+        void shouldServeRepeatedRequestsFromCache() {
+            // Arrange
+            when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+            when(quizQuestionRepository.findAllByQuizIdOrderByPositionAscIdAsc(1L))
+                .thenReturn(List.of(testQuestion));
+            when(quizAnswerRepository.findAllByQuizId(1L)).thenReturn(List.of(testAnswer));
+
+            // Act
+            QuizContentDto first = quizService.getQuizContent(1L);
+            QuizContentDto second = quizService.getQuizContent(1L);
+
+            // Assert
+            assertSame(first, second);
+            verify(quizRepository, times(1)).findById(1L);
+            verify(quizQuestionRepository, times(1)).findAllByQuizIdOrderByPositionAscIdAsc(1L);
+        }
+
+        @Test
+        void shouldBuildSnapshotOnceForConcurrentRequests() throws Exception {
+            // Arrange
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(quizRepository.findById(1L)).thenAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(testQuiz);
+            });
+            when(quizQuestionRepository.findAllByQuizIdOrderByPositionAscIdAsc(1L))
+                .thenReturn(List.of(testQuestion));
+            when(quizAnswerRepository.findAllByQuizId(1L)).thenReturn(List.of(testAnswer));
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // Act
+                Future<QuizContentDto> first = executor.submit(() -> quizService.getQuizContent(1L));
+                assertTrue(loading.await(5, TimeUnit.SECONDS));
+                Future<QuizContentDto> second = executor.submit(() -> quizService.getQuizContent(1L));
+                Thread.sleep(100);
+                release.countDown();
+
+                // Assert
+                assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+                verify(quizRepository, times(1)).findById(1L);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void shouldRebuildSnapshotWithNewVersionAfterAdminChange() {
+            // Arrange
+            when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+            when(quizQuestionRepository.findAllByQuizIdOrderByPositionAscIdAsc(1L))
+                .thenReturn(List.of(testQuestion));
+            when(quizAnswerRepository.findAllByQuizId(1L))
+                .thenReturn(List.of(testAnswer))
+                .thenReturn(List.of(testAnswer, secondAnswer));
+            when(quizAnswerRepository.save(any(QuizAnswer.class))).thenReturn(secondAnswer);
+            secondAnswer.setQuestionId(1L);
+            forwardContentChangesToCacheListener();
+
+            // Act
+            QuizContentDto before = quizService.getQuizContent(1L);
+            quizService.saveQuizAnswer(createAnswerDto);
+            QuizContentDto after = quizService.getQuizContent(1L);
+
+            // Assert
+            assertEquals(1, before.getQuestions().get(0).getAnswers().size());
+            assertEquals(2, after.getQuestions().get(0).getAnswers().size());
+            assertNotEquals(before.getVersion(), after.getVersion());
+        }
+
+        @Test
+        void shouldKeepVersionForUnchangedContent() {
+            // Arrange
+            when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+            when(quizQuestionRepository.findAllByQuizIdOrderByPositionAscIdAsc(1L))
+                .thenReturn(List.of(testQuestion));
+            when(quizAnswerRepository.findAllByQuizId(1L)).thenReturn(List.of(testAnswer));
+
+            // Act
+            String first = quizService.getQuizContent(1L).getVersion();
+            cacheManager.getCache(CacheConfig.QUIZ_CONTENT_CACHE).clear();
+            String second = quizService.getQuizContent(1L).getVersion();
+
+            // Assert
+            assertEquals(first, second);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenQuizNotFound() {
+            // Arrange
+            when(quizRepository.findById(1L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizService.getQuizContent(1L));
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,234 @@
+package stud.ntnu.backend.service.gamification.quiz;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import stud.ntnu.backend.dto.quiz.QuizLeaderboardEntryDto;
+import stud.ntnu.backend.dto.quiz.QuizQuestionStatisticsDto;
+import stud.ntnu.backend.dto.quiz.QuizStatisticsDto;
+import stud.ntnu.backend.model.gamification.quiz.Quiz;
+import stud.ntnu.backend.model.gamification.quiz.QuizAnswer;
+import stud.ntnu.backend.model.gamification.quiz.QuizQuestion;
+import stud.ntnu.backend.model.gamification.quiz.UserQuizAttempt;
+import stud.ntnu.backend.repository.gamification.quiz.QuizAnswerRepository;
+import stud.ntnu.backend.repository.gamification.quiz.QuizQuestionRepository;
+import stud.ntnu.backend.repository.gamification.quiz.QuizRepository;
+import stud.ntnu.backend.repository.gamification.quiz.QuizUserScoreRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizStatisticsServiceTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private QuizQuestionRepository quizQuestionRepository;
+
+    @Mock
+    private QuizAnswerRepository quizAnswerRepository;
+
+    @Mock
+    private QuizUserScoreRepository quizUserScoreRepository;
+
+    @InjectMocks
+    private QuizStatisticsService quizStatisticsService;
+
+    @Nested
+    class RecordTests {
+        @Test
+        void shouldRecordSubmittedAttemptWithItsAnswers() {
+            // Arrange
+            UserQuizAttempt attempt = new UserQuizAttempt();
+            attempt.setId(7L);
+            attempt.setQuizId(1L);
+            attempt.setScore(3);
+
+            // Act
+            quizStatisticsService.recordAttempt(attempt, List.of(1L, 4L));
+
+            // Assert
+            verify(quizRepository).addAttemptStatistics(1L, 1, 3);
+            verify(quizAnswerRepository).incrementSelectionCounts(List.of(1L, 4L));
+            verify(quizUserScoreRepository).mergeAttemptScore(7L, 1);
+        }
+
+        @Test
+        void shouldNotTouchAnswersWhenAttemptHasNoneYet() {
+            // Arrange
+            UserQuizAttempt attempt = new UserQuizAttempt();
+            attempt.setId(7L);
+            attempt.setQuizId(1L);
+
+            // Act
+            quizStatisticsService.recordAttempt(attempt, List.of());
+
+            // Assert
+            verify(quizRepository).addAttemptStatistics(1L, 1, 0);
+            verify(quizAnswerRepository, never()).incrementSelectionCounts(any());
+        }
+
+        @Test
+        void shouldRecordCorrectAnswerInScores() {
+            // Act
+            quizStatisticsService.recordAnswer(1L, 7L, 3L, true);
+
+            // Assert
+            verify(quizAnswerRepository).incrementSelectionCounts(List.of(3L));
+            verify(quizRepository).addAttemptStatistics(1L, 0, 1);
+            verify(quizUserScoreRepository).mergeAttemptScore(7L, 0);
+        }
+
+        @Test
+        void shouldOnlyCountSelectionOfIncorrectAnswer() {
+            // Act
+            quizStatisticsService.recordAnswer(1L, 7L, 2L, false);
+
+            // Assert
+            verify(quizAnswerRepository).incrementSelectionCounts(List.of(2L));
+            verifyNoInteractions(quizRepository, quizUserScoreRepository);
+        }
+    }
+
+    @Nested
+    class GetLeaderboardTests {
+        @Test
+        void shouldRankEntriesFromPageOffsetAndIgnoreRequestedSort() {
+            // Arrange
+            when(quizRepository.existsById(1L)).thenReturn(true);
+            when(quizUserScoreRepository.findLeaderboard(1L, PageRequest.of(1, 2)))
+                .thenReturn(new ArrayList<>(List.of(
+                    new QuizLeaderboardEntryDto(5, "Kari", 4, 2, LocalDateTime.now()),
+                    new QuizLeaderboardEntryDto(6, "Ola", 3, 1, LocalDateTime.now()))));
+
+            // Act
+            List<QuizLeaderboardEntryDto> entries = quizStatisticsService.getLeaderboard(1L,
+                PageRequest.of(1, 2, Sort.by("userId")));
+
+            // Assert
+            assertEquals(List.of(3, 4), entries.stream().map(QuizLeaderboardEntryDto::getRank).toList());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenQuizNotFound() {
+            // Arrange
+            when(quizRepository.existsById(1L)).thenReturn(false);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> quizStatisticsService.getLeaderboard(1L, PageRequest.of(0, 10)));
+            verifyNoInteractions(quizUserScoreRepository);
+        }
+    }
+
+    @Nested
+    class GetQuizStatisticsTests {
+        private QuizAnswer answer(Long id, Long questionId, boolean correct, int selections) {
+            QuizAnswer answer = new QuizAnswer();
+            answer.setId(id);
+            answer.setQuizId(1L);
+            answer.setQuestionId(questionId);
+            answer.setAnswerBody("Answer " + id);
+            answer.setIsCorrect(correct);
+            answer.setSelectionCount(selections);
+            return answer;
+        }
+
+        private QuizQuestion question(Long id) {
+            QuizQuestion question = new QuizQuestion();
+            question.setId(id);
+            question.setQuizId(1L);
+            question.setQuestionBody("Question " + id);
+            return question;
+        }
+
+        @Test
+        void shouldServeStatisticsFromAggregates() {
+            // Arrange
+            Quiz quiz = new Quiz();
+            quiz.setId(1L);
+            quiz.setName("Test Quiz");
+            quiz.setQuestionCount(2);
+            quiz.setAttemptCount(4);
+            quiz.setTotalScore(6L);
+            when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+            when(quizQuestionRepository.findAllByQuizIdOrderByPositionAscIdAsc(1L))
+                .thenReturn(List.of(question(2L), question(1L)));
+            when(quizAnswerRepository.findAllByQuizId(1L)).thenReturn(List.of(
+                answer(2L, 1L, false, 1), answer(1L, 1L, true, 3), answer(3L, 2L, true, 0)));
+
+            // Act
+            QuizStatisticsDto statistics = quizStatisticsService.getQuizStatistics(1L);
+
+            // Assert
+            assertEquals(4, statistics.getAttemptCount());
+            assertEquals(1.5, statistics.getAverageScore());
+            assertEquals(List.of(2L, 1L), statistics.getQuestions().stream()
+                .map(QuizQuestionStatisticsDto::getQuestionId).toList());
+            QuizQuestionStatisticsDto unanswered = statistics.getQuestions().get(0);
+            assertEquals(0, unanswered.getAnswerCount());
+            assertEquals(0.0, unanswered.getCorrectRate());
+            QuizQuestionStatisticsDto answered = statistics.getQuestions().get(1);
+            assertEquals(4, answered.getAnswerCount());
+            assertEquals(0.75, answered.getCorrectRate());
+            assertEquals(1L, answered.getAnswers().get(0).getAnswerId());
+            verifyNoInteractions(quizUserScoreRepository);
+        }
+
+        @Test
+        void shouldReportZeroAverageForUnattemptedQuiz() {
+            // Arrange
+            Quiz quiz = new Quiz();
+            quiz.setId(1L);
+            when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+
+            // Act
+            QuizStatisticsDto statistics = quizStatisticsService.getQuizStatistics(1L);
+
+            // Assert
+            assertEquals(0, statistics.getAttemptCount());
+            assertEquals(0.0, statistics.getAverageScore());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenQuizNotFound() {
+            // Arrange
+            when(quizRepository.findById(1L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> quizStatisticsService.getQuizStatistics(1L));
+        }
+    }
+
+    @Nested
+    class BackfillStatisticsTests {
+        @Test
+        void shouldRepairCountersAndRebuildScores() {
+            // Arrange
+            when(quizRepository.repairDriftedAttemptStatistics()).thenReturn(2);
+            when(quizAnswerRepository.repairDriftedSelectionCounts()).thenReturn(5);
+
+            // Act
+            int repaired = quizStatisticsService.backfillStatistics();
+
+            // Assert
+            assertEquals(7, repaired);
+            var inOrder = inOrder(quizUserScoreRepository);
+            inOrder.verify(quizUserScoreRepository).deleteAllScores();
+            inOrder.verify(quizUserScoreRepository).insertScoresFromAttempts();
+        }
+    }
+}
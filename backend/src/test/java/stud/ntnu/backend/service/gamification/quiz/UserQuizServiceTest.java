@@ -6,6 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -17,12 +21,12 @@ import stud.ntnu.backend.model.gamification.quiz.*;
 import stud.ntnu.backend.repository.gamification.quiz.*;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.*;
 
 class UserQuizServiceTest {
@@ -42,6 +46,12 @@ class UserQuizServiceTest {
     @Mock
     private QuizAnswerRepository quizAnswerRepository;
 
+    @Mock
+    private QuizStatisticsService quizStatisticsService;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
     @InjectMocks
     private UserQuizService userQuizService;
 
@@ -63,21 +73,164 @@ class UserQuizServiceTest {
 
             // Assert
             verify(userQuizAttemptRepository).save(any(UserQuizAttempt.class));
+            verify(quizStatisticsService).recordAttempt(any(UserQuizAttempt.class), eq(List.of()));
         }
     }
 
     @Nested
     class CreateUserQuizAnswerTests {
+        @BeforeEach
+        void setUp() {
+            UserQuizAttempt attempt = new UserQuizAttempt();
+            attempt.setId(1L);
+            attempt.setUserId(1);
+            attempt.setQuizId(1L);
+            when(userQuizAttemptRepository.findByIdAndUserId(1L, 1))
+                .thenReturn(Optional.of(attempt));
+            when(quizAnswerRepository.findAllByQuizId(1L)).thenReturn(List.of(
+                answer(1L, 1L, false), answer(2L, 1L, true), answer(3L, 2L, true)));
+        }
+
+        private QuizAnswer answer(Long id, Long questionId, boolean correct) {
+            QuizAnswer answer = new QuizAnswer();
+            answer.setId(id);
+            answer.setQuizId(1L);
+            answer.setQuestionId(questionId);
+            answer.setIsCorrect(correct);
+            return answer;
+        }
+
         @Test
         void shouldCreateUserQuizAnswerSuccessfully() {
             // Arrange
             CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 1L, 1L, 1L);
 
             // Act
-            userQuizService.createUserQuizAnswer(dto);
+            userQuizService.createUserQuizAnswer(dto, 1);
 
             // Assert
             verify(userQuizAnswerRepository).save(any(UserQuizAnswer.class));
+            verify(userQuizAttemptRepository, never()).incrementScore(any());
+            verify(quizStatisticsService).recordAnswer(1L, 1L, 1L, false);
+        }
+
+        @Test
+        void shouldIncrementScoreWhenAnswerIsCorrect() {
+            // Arrange
+            CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 1L, 1L, 2L);
+
+            // Act
+            userQuizService.createUserQuizAnswer(dto, 1);
+
+            // Assert
+            verify(userQuizAnswerRepository).save(any(UserQuizAnswer.class));
+            verify(userQuizAttemptRepository).incrementScore(1L);
+            verify(quizStatisticsService).recordAnswer(1L, 1L, 2L, true);
+        }
+
+        @Test
+        void shouldKeepScoreWhenAnswerIsResubmitted() {
+            // Arrange
+            CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 1L, 1L, 2L);
+            when(userQuizAnswerRepository.existsByUserQuizAttemptIdAndQuestionId(1L, 1L))
+                .thenReturn(false, true);
+            userQuizService.createUserQuizAnswer(dto, 1);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(dto, 1));
+            verify(userQuizAnswerRepository, times(1)).save(any(UserQuizAnswer.class));
+            verify(userQuizAttemptRepository, times(1)).incrementScore(1L);
+            verify(quizStatisticsService, times(1)).recordAnswer(1L, 1L, 2L, true);
+        }
+
+        @Test
+        void shouldNotRecordStatisticsWhenConcurrentAnswerWasSavedFirst() {
+            // Arrange
+            CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 1L, 1L, 2L);
+            when(userQuizAnswerRepository.save(any(UserQuizAnswer.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate answer"));
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(dto, 1));
+            verify(userQuizAttemptRepository, never()).incrementScore(any());
+            verify(quizStatisticsService, never()).recordAnswer(any(), any(), any(), anyBoolean());
+        }
+
+        @Test
+        void shouldRejectAnswerToAttemptOfAnotherUser() {
+            // Arrange
+            CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 1L, 1L, 2L);
+            when(userQuizAttemptRepository.findByIdAndUserId(1L, 2)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(dto, 2));
+            verify(userQuizAnswerRepository, never()).save(any());
+            verify(userQuizAttemptRepository, never()).incrementScore(any());
+            verify(quizStatisticsService, never()).recordAnswer(any(), any(), any(), anyBoolean());
+        }
+
+        @Test
+        void shouldRejectAnswerForAnotherQuiz() {
+            // Arrange
+            CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 2L, 1L, 2L);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(dto, 1));
+            verify(userQuizAnswerRepository, never()).save(any());
+        }
+
+        @Test
+        void shouldRejectCorrectAnswerOfAnotherQuestion() {
+            // Arrange
+            CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 1L, 1L, 3L);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(dto, 1));
+            verify(userQuizAnswerRepository, never()).save(any());
+            verify(userQuizAttemptRepository, never()).incrementScore(any());
+            verify(quizStatisticsService, never()).recordAnswer(any(), any(), any(), anyBoolean());
+        }
+
+        @Test
+        void shouldRejectQuestionOfAnotherQuiz() {
+            // Arrange
+            CreateUserQuizAnswerDto dto = new CreateUserQuizAnswerDto(1L, 1L, 99L, 2L);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(dto, 1));
+            verify(userQuizAnswerRepository, never()).save(any());
+            verify(userQuizAttemptRepository, never()).incrementScore(any());
+        }
+
+        @Test
+        void shouldRejectAnswerWithoutQuestionOrAnswerId() {
+            // Arrange
+            CreateUserQuizAnswerDto missingQuestion = new CreateUserQuizAnswerDto(1L, 1L, null, 2L);
+            CreateUserQuizAnswerDto missingAnswer = new CreateUserQuizAnswerDto(1L, 1L, 1L, null);
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(missingQuestion, 1));
+            assertThrows(IllegalArgumentException.class,
+                () -> userQuizService.createUserQuizAnswer(missingAnswer, 1));
+            verify(userQuizAnswerRepository, never()).save(any());
+        }
+
+        @Test
+        void shouldLoadAnswerKeyOncePerQuiz() {
+            // Act
+            userQuizService.createUserQuizAnswer(new CreateUserQuizAnswerDto(1L, 1L, 1L, 2L), 1);
+            userQuizService.createUserQuizAnswer(new CreateUserQuizAnswerDto(1L, 1L, 2L, 3L), 1);
+
+            // Assert
+            verify(quizAnswerRepository, times(1)).findAllByQuizId(1L);
+            verify(userQuizAttemptRepository, times(2)).incrementScore(1L);
         }
     }
 
@@ -137,22 +290,18 @@ class UserQuizServiceTest {
             Integer userId = 1;
             Pageable pageable = PageRequest.of(0, 10);
             
-            UserQuizAttempt attempt = new UserQuizAttempt();
-            attempt.setQuizId(1L);
-            
             Quiz quiz = new Quiz();
             quiz.setId(1L);
             quiz.setName("Test Quiz");
             quiz.setDescription("Test Description");
             quiz.setStatus("active");
+            quiz.setQuestionCount(5);
             quiz.setCreatedAt(LocalDateTime.now());
             
-            when(userQuizAttemptRepository.findByUserId(userId))
-                .thenReturn(List.of(attempt));
-            when(quizRepository.findAllById(any()))
+            when(userQuizAttemptRepository.findDistinctQuizIdsByUserId(userId, pageable))
+                .thenReturn(new PageImpl<>(List.of(1L), pageable, 1));
+            when(quizRepository.findAllById(List.of(1L)))
                 .thenReturn(List.of(quiz));
-            when(quizQuestionRepository.countByQuizId(quiz.getId()))
-                .thenReturn(5L);
 
             // Act
             Page<QuizPreviewDto> result = userQuizService.getBasicInfoForAttemptedQuizzes(userId, pageable);
@@ -167,6 +316,8 @@ class UserQuizServiceTest {
             assertEquals(quiz.getStatus(), dto.getStatus());
             assertEquals(5L, dto.getQuestionCount());
             assertEquals(quiz.getCreatedAt(), dto.getCreatedAt());
+            verify(userQuizAttemptRepository, never()).findByUserId(any());
+            verify(quizQuestionRepository, never()).countByQuizId(any());
         }
 
         @Test
@@ -175,8 +326,8 @@ class UserQuizServiceTest {
             Integer userId = 1;
             Pageable pageable = PageRequest.of(0, 10);
             
-            when(userQuizAttemptRepository.findByUserId(userId))
-                .thenReturn(List.of());
+            when(userQuizAttemptRepository.findDistinctQuizIdsByUserId(userId, pageable))
+                .thenReturn(Page.empty(pageable));
 
             // Act
             Page<QuizPreviewDto> result = userQuizService.getBasicInfoForAttemptedQuizzes(userId, pageable);
@@ -190,45 +341,25 @@ class UserQuizServiceTest {
     @Nested
     class GetTotalCorrectAnswersTests {
         @Test
-        void shouldReturnCorrectAnswerCount() {
+        void shouldReturnCorrectAnswerCountFromSingleQuery() {
             // Arrange
             Long attemptId = 1L;
-            
-            UserQuizAnswer userAnswer1 = new UserQuizAnswer();
-            userAnswer1.setAnswerId(1L);
-            
-            UserQuizAnswer userAnswer2 = new UserQuizAnswer();
-            userAnswer2.setAnswerId(2L);
-            
-            QuizAnswer correctAnswer = new QuizAnswer();
-            correctAnswer.setId(1L);
-            correctAnswer.setIsCorrect(true);
-            
-            QuizAnswer incorrectAnswer = new QuizAnswer();
-            incorrectAnswer.setId(2L);
-            incorrectAnswer.setIsCorrect(false);
-            
-            when(userQuizAnswerRepository.findAllByUserQuizAttemptId(attemptId))
-                .thenReturn(Arrays.asList(userAnswer1, userAnswer2));
-            when(quizAnswerRepository.findById(1L))
-                .thenReturn(Optional.of(correctAnswer));
-            when(quizAnswerRepository.findById(2L))
-                .thenReturn(Optional.of(incorrectAnswer));
+            when(userQuizAnswerRepository.countCorrectByUserQuizAttemptId(attemptId)).thenReturn(1L);
 
             // Act
             int result = userQuizService.getTotalCorrectAnswers(attemptId);
 
             // Assert
             assertEquals(1, result);
+            verify(userQuizAnswerRepository, never()).findAllByUserQuizAttemptId(any());
+            verify(quizAnswerRepository, never()).findById(any());
         }
 
         @Test
         void shouldReturnZeroWhenNoAnswers() {
             // Arrange
             Long attemptId = 1L;
-            
-            when(userQuizAnswerRepository.findAllByUserQuizAttemptId(attemptId))
-                .thenReturn(List.of());
+            when(userQuizAnswerRepository.countCorrectByUserQuizAttemptId(attemptId)).thenReturn(0L);
 
             // Act
             int result = userQuizService.getTotalCorrectAnswers(attemptId);
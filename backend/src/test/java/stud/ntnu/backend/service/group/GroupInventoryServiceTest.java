@@ -5,12 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import stud.ntnu.backend.dto.group.GroupReadinessDto;
+import stud.ntnu.backend.dto.inventory.GroupProductTypeTotalDto;
 import stud.ntnu.backend.dto.inventory.ProductBatchDto;
 import stud.ntnu.backend.dto.inventory.ProductTypeDto;
 import stud.ntnu.backend.model.group.Group;
@@ -56,6 +62,8 @@ class GroupInventoryServiceTest {
     private SearchUtil searchUtil;
     @Mock
     private InventoryService inventoryService;
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
 
     @InjectMocks
     private GroupInventoryService groupInventoryService;
@@ -158,8 +166,8 @@ class GroupInventoryServiceTest {
         when(productBatchRepository.findById(anyInt())).thenReturn(Optional.of(testProductBatch));
         when(groupRepository.findById(anyInt())).thenReturn(Optional.of(testGroup));
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-        when(groupInventoryContributionRepository.findAll()).thenReturn(Arrays.asList());
-        when(groupInventoryContributionRepository.save(any(GroupInventoryContribution.class)))
+        when(groupInventoryContributionRepository.existsByProductBatchId(1)).thenReturn(false);
+        when(groupInventoryContributionRepository.saveAndFlush(any(GroupInventoryContribution.class)))
             .thenReturn(testContribution);
 
         // Act
@@ -167,7 +175,72 @@ class GroupInventoryServiceTest {
 
         // Assert
         assertTrue(result);
-        verify(groupInventoryContributionRepository).save(any(GroupInventoryContribution.class));
+        verify(groupInventoryContributionRepository).saveAndFlush(any(GroupInventoryContribution.class));
+        verify(groupInventoryContributionRepository, never()).findAll();
+    }
+
+    @Test
+    void addBatchToGroup_WithConcurrentDuplicateContribution_ShouldReturnFalse() {
+        // Arrange
+        when(productBatchRepository.findById(anyInt())).thenReturn(Optional.of(testProductBatch));
+        when(groupRepository.findById(anyInt())).thenReturn(Optional.of(testGroup));
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupInventoryContributionRepository.existsByProductBatchId(1)).thenReturn(false);
+        when(groupInventoryContributionRepository.saveAndFlush(any(GroupInventoryContribution.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate product_id"));
+
+        // Act
+        boolean result = groupInventoryService.addBatchToGroup(1, 1, "test@example.com");
+
+        // Assert
+        assertFalse(result);
+    }
+
+    @Test
+    void countGroupContributionsForBatch_ShouldUseCountQuery() {
+        // Arrange
+        when(groupInventoryContributionRepository.countByProductBatchId(1)).thenReturn(1L);
+
+        // Act
+        int result = groupInventoryService.countGroupContributionsForBatch(1);
+
+        // Assert
+        assertEquals(1, result);
+        verify(groupInventoryContributionRepository, never()).findAll();
+    }
+
+    @Test
+    void getProductTypeTotals_WithMemberUser_ShouldReturnAggregatedTotals() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        GroupProductTypeTotalDto total = new GroupProductTypeTotalDto(1, 1, "Test Product", "l",
+            null, "water", 12L, 3L, null);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupRepository.existsByIdAndMemberHouseholds_Id(1, 1)).thenReturn(true);
+        when(groupInventoryContributionRepository.findProductTypeTotalsByGroupId(1, pageable))
+            .thenReturn(new PageImpl<>(List.of(total)));
+
+        // Act
+        Page<GroupProductTypeTotalDto> result = groupInventoryService.getProductTypeTotals(1,
+            "test@example.com", pageable);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(12L, result.getContent().get(0).getTotalUnits());
+        assertEquals(3L, result.getContent().get(0).getBatchCount());
+    }
+
+    @Test
+    void getProductTypeTotals_WithNonMemberUser_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupRepository.existsByIdAndMemberHouseholds_Id(1, 1)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            groupInventoryService.getProductTypeTotals(1, "test@example.com", PageRequest.of(0, 10)));
+        verify(groupInventoryContributionRepository, never())
+            .findProductTypeTotalsByGroupId(anyInt(), any(Pageable.class));
     }
 
     @Test
@@ -175,14 +248,14 @@ class GroupInventoryServiceTest {
         // Arrange
         when(productBatchRepository.findById(anyInt())).thenReturn(Optional.of(testProductBatch));
         when(groupRepository.findById(anyInt())).thenReturn(Optional.of(testGroup));
-        when(groupInventoryContributionRepository.findAll()).thenReturn(Arrays.asList(testContribution));
+        when(groupInventoryContributionRepository.existsByProductBatchId(1)).thenReturn(true);
 
         // Act
         boolean result = groupInventoryService.addBatchToGroup(1, 1, "test@example.com");
 
         // Assert
         assertFalse(result);
-        verify(groupInventoryContributionRepository, never()).save(any(GroupInventoryContribution.class));
+        verify(groupInventoryContributionRepository, never()).saveAndFlush(any(GroupInventoryContribution.class));
     }
 
     @Test
@@ -263,4 +336,93 @@ class GroupInventoryServiceTest {
         assertEquals(testProductType.getId(), result.getContent().get(0).getId());
         assertEquals(testProductType.getName(), result.getContent().get(0).getName());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getGroupReadiness_WithMemberUser_ShouldCalculateDaysOfSupply() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupRepository.existsByIdAndMemberHouseholds_Id(1, 1)).thenReturn(true);
+        when(groupInventoryContributionRepository.calculateReadinessTotals(eq(1),
+            any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(new GroupReadinessDto(4L, 8000L, 24L, 40000.0, 3L));
+
+        // Act
+        GroupReadinessDto result = groupInventoryService.getGroupReadiness(1, "test@example.com");
+
+        // Assert
+        assertEquals(1, result.getGroupId());
+        assertEquals(12L, result.getDailyWaterRequirement());
+        assertEquals(2.0, result.getWaterDays());
+        assertEquals(5.0, result.getFoodDays());
+        assertEquals(2.0, result.getDaysOfSupply());
+        assertEquals(3L, result.getExpiringUnits());
+        assertEquals(7, result.getExpiringWithinDays());
+    }
+
+    @Test
+    void getGroupReadiness_WithEmptyGroup_ShouldReturnZeroDays() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupRepository.existsByIdAndMemberHouseholds_Id(1, 1)).thenReturn(true);
+        when(groupInventoryContributionRepository.calculateReadinessTotals(eq(1),
+            any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(new GroupReadinessDto(0L, 0L, 0L, 0.0, 0L));
+
+        // Act
+        GroupReadinessDto result = groupInventoryService.getGroupReadiness(1, "test@example.com");
+
+        // Assert
+        assertEquals(0.0, result.getDaysOfSupply());
+    }
+
+    @Test
+    void getGroupReadiness_CalledTwice_ShouldQueryOnce() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupRepository.existsByIdAndMemberHouseholds_Id(1, 1)).thenReturn(true);
+        when(groupInventoryContributionRepository.calculateReadinessTotals(eq(1),
+            any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(new GroupReadinessDto(1L, 2000L, 3L, 2000.0, 0L));
+
+        // Act
+        groupInventoryService.getGroupReadiness(1, "test@example.com");
+        groupInventoryService.getGroupReadiness(1, "test@example.com");
+
+        // Assert
+        verify(groupInventoryContributionRepository, times(1)).calculateReadinessTotals(eq(1),
+            any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void addBatchToGroup_ShouldEvictCachedReadiness() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupRepository.existsByIdAndMemberHouseholds_Id(1, 1)).thenReturn(true);
+        when(groupInventoryContributionRepository.calculateReadinessTotals(eq(1),
+            any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(new GroupReadinessDto(1L, 2000L, 3L, 2000.0, 0L));
+        when(productBatchRepository.findById(1)).thenReturn(Optional.of(testProductBatch));
+        when(groupRepository.findById(1)).thenReturn(Optional.of(testGroup));
+        when(groupInventoryContributionRepository.existsByProductBatchId(1)).thenReturn(false);
+        groupInventoryService.getGroupReadiness(1, "test@example.com");
+
+        // Act
+        groupInventoryService.addBatchToGroup(1, 1, "test@example.com");
+        groupInventoryService.getGroupReadiness(1, "test@example.com");
+
+        // Assert
+        verify(groupInventoryContributionRepository, times(2)).calculateReadinessTotals(eq(1),
+            any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void getGroupReadiness_WithNonMemberUser_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(groupRepository.existsByIdAndMemberHouseholds_Id(1, 1)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            groupInventoryService.getGroupReadiness(1, "test@example.com"));
+    }
+}
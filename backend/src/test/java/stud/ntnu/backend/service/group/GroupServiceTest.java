@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -13,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 
 import stud.ntnu.backend.dto.group.GroupSummaryDto;
 import stud.ntnu.backend.dto.household.HouseholdDto;
+import stud.ntnu.backend.event.GroupMembershipChangedEvent;
 import stud.ntnu.backend.model.group.Group;
 import stud.ntnu.backend.model.group.GroupInvitation;
 import stud.ntnu.backend.model.group.GroupMembership;
@@ -55,6 +57,8 @@ class GroupServiceTest {
     private GroupInvitationRepository groupInvitationRepository;
     @Mock
     private GroupInventoryContributionRepository groupInventoryContributionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private GroupService groupService;
@@ -255,6 +259,7 @@ class GroupServiceTest {
         assertTrue(result);
         verify(groupMembershipRepository).save(any(GroupMembership.class));
         verify(groupInventoryContributionRepository).deleteByGroupIdAndHouseholdId(anyInt(), anyInt());
+        verify(eventPublisher).publishEvent(any(GroupMembershipChangedEvent.class));
     }
 
     @Test
@@ -270,4 +275,46 @@ class GroupServiceTest {
         assertFalse(result);
         verify(groupMembershipRepository, never()).save(any(GroupMembership.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void isUserMemberOfGroup_WithCurrentMembership_ShouldReturnTrue() {
+        // Arrange
+        when(groupMembershipRepository.existsCurrentByGroupIdAndUserEmail(eq(1),
+            eq("test@example.com"), any(LocalDateTime.class))).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(groupService.isUserMemberOfGroup(1, "test@example.com"));
+        verify(groupMembershipRepository, never()).findAllCurrentByGroupId(anyInt(), any());
+    }
+
+    @Test
+    void isUserMemberOfGroup_WithoutCurrentMembership_ShouldReturnFalse() {
+        // Arrange
+        when(groupMembershipRepository.existsCurrentByGroupIdAndUserEmail(eq(1),
+            eq("test@example.com"), any(LocalDateTime.class))).thenReturn(false);
+
+        // Act & Assert
+        assertFalse(groupService.isUserMemberOfGroup(1, "test@example.com"));
+    }
+
+
+    @Test
+    void getVisibleHouseholdIds_ShouldIncludeOwnHouseholdFirstWithoutDuplicates() {
+        // Arrange
+        when(groupMembershipRepository.findHouseholdIdsSharingGroupWith(eq(1),
+            any(LocalDateTime.class))).thenReturn(List.of(1, 2, 3));
+
+        // Act & Assert
+        assertEquals(List.of(1, 2, 3), groupService.getVisibleHouseholdIds(1));
+    }
+
+    @Test
+    void getVisibleHouseholdIds_WithoutGroups_ShouldReturnOwnHousehold() {
+        // Arrange
+        when(groupMembershipRepository.findHouseholdIdsSharingGroupWith(eq(1),
+            any(LocalDateTime.class))).thenReturn(List.of());
+
+        // Act & Assert
+        assertEquals(List.of(1), groupService.getVisibleHouseholdIds(1));
+    }
+}
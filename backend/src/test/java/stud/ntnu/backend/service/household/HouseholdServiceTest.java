@@ -22,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -35,6 +36,8 @@ import stud.ntnu.backend.dto.household.HouseholdDto;
 import stud.ntnu.backend.dto.household.HouseholdInviteResponseDto;
 import stud.ntnu.backend.dto.household.HouseholdMemberDto;
 import stud.ntnu.backend.dto.map.CoordinatesItemDto;
+import stud.ntnu.backend.event.HouseholdDeletedEvent;
+import stud.ntnu.backend.event.HouseholdMembershipChangedEvent;
 import stud.ntnu.backend.model.household.EmptyHouseholdMember;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.household.HouseholdAdmin;
@@ -49,6 +52,8 @@ import stud.ntnu.backend.repository.household.HouseholdRepository;
 import stud.ntnu.backend.repository.household.InvitationRepository;
 import stud.ntnu.backend.repository.inventory.ProductBatchRepository;
 import stud.ntnu.backend.repository.inventory.ProductTypeRepository;
+import stud.ntnu.backend.repository.group.GroupInventoryContributionRepository;
+import stud.ntnu.backend.repository.group.GroupInvitationRepository;
 import stud.ntnu.backend.repository.group.GroupMembershipRepository;
 import stud.ntnu.backend.repository.user.UserRepository;
 import stud.ntnu.backend.service.user.InvitationService;
@@ -85,6 +90,15 @@ public class HouseholdServiceTest {
     @Mock
     private GroupMembershipRepository groupMembershipRepository;
 
+    @Mock
+    private GroupInvitationRepository groupInvitationRepository;
+
+    @Mock
+    private GroupInventoryContributionRepository groupInventoryContributionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private EntityManager entityManager;
 
@@ -291,6 +305,26 @@ public class HouseholdServiceTest {
             assertEquals(1500, result.getKcal_requirement());
         }
 
+        @Test
+        void shouldAdjustCountersWhenAddingPetWithoutChangingPopulation() {
+            adminUser.setHousehold(testHousehold);
+            EmptyHouseholdMember pet = new EmptyHouseholdMember("Rex", "pet", "Dog", 800);
+            pet.setId(2);
+            pet.setHousehold(testHousehold);
+
+            when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(adminUser));
+            when(householdAdminRepository.existsByUser(adminUser)).thenReturn(true);
+            when(emptyHouseholdMemberRepository.save(any(EmptyHouseholdMember.class))).thenReturn(pet);
+
+            householdService.addEmptyHouseholdMember("admin@example.com",
+                new EmptyHouseholdMemberCreateDto("Rex", "pet", "Dog", 800));
+
+            verify(householdRepository).adjustCounters(1, 0, 800);
+            verify(emptyHouseholdMemberRepository, never()).findByHousehold(any());
+            assertEquals(3, testHousehold.getPopulationCount());
+            assertEquals(800, testHousehold.getKcalRequirement());
+        }
+
         @Test
         void shouldRemoveEmptyHouseholdMemberSuccessfully() {
             adminUser.setHousehold(testHousehold);
@@ -301,6 +335,59 @@ public class HouseholdServiceTest {
             householdService.removeEmptyHouseholdMember("admin@example.com", 1);
 
             verify(emptyHouseholdMemberRepository).delete(testEmptyMember);
+            verify(householdRepository).adjustCounters(1, -1, -1500);
+        }
+    }
+
+    @Nested
+    class DeleteHouseholdTests {
+        @Test
+        void shouldDeleteHouseholdWithBulkStatements() {
+            when(householdRepository.existsById(1)).thenReturn(true);
+            when(userRepository.findIdsByHouseholdId(1)).thenReturn(List.of(1, 2));
+            when(groupMembershipRepository.findGroupIdsByHouseholdId(1)).thenReturn(List.of(7));
+
+            householdService.deleteHousehold(1);
+
+            verify(groupInventoryContributionRepository).deleteByHouseholdId(1);
+            verify(productBatchRepository).deleteByHouseholdId(1);
+            verify(productTypeRepository).deleteByHouseholdId(1);
+            verify(groupMembershipRepository).deleteByHouseholdId(1);
+            verify(groupInvitationRepository).deleteByInvitedHouseholdId(1);
+            verify(householdAdminRepository).deleteByHouseholdId(1);
+            verify(invitationRepository).deleteByHouseholdId(1);
+            verify(emptyHouseholdMemberRepository).deleteByHouseholdId(1);
+            verify(userRepository).clearHouseholdByHouseholdId(1);
+            verify(householdRepository).deleteHouseholdById(1);
+            verify(userRepository, never()).save(any());
+            verify(productBatchRepository, never()).deleteAll(any());
+
+            ArgumentCaptor<HouseholdDeletedEvent> eventCaptor =
+                ArgumentCaptor.forClass(HouseholdDeletedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertEquals(1, eventCaptor.getValue().getHouseholdId());
+            assertEquals(List.of(1, 2), eventCaptor.getValue().getFormerMemberIds());
+            assertEquals(List.of(7), eventCaptor.getValue().getFormerGroupIds());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenHouseholdNotFound() {
+            when(householdRepository.existsById(99)).thenReturn(false);
+
+            assertThrows(IllegalStateException.class, () -> householdService.deleteHousehold(99));
+            verify(householdRepository, never()).deleteHouseholdById(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    @Nested
+    class HouseholdCounterTests {
+        @Test
+        void shouldRepairDriftedCountersInBulk() {
+            when(householdRepository.repairDriftedCounters()).thenReturn(4);
+
+            assertEquals(4, householdService.repairHouseholdCounters());
+            verify(householdRepository).repairDriftedCounters();
         }
     }
 
@@ -368,6 +455,11 @@ public class HouseholdServiceTest {
 
             verify(userRepository).save(regularUser);
             assertNull(regularUser.getHousehold());
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof HouseholdMembershipChangedEvent changed
+                    && changed.getUserId().equals(regularUser.getId())
+                    && changed.getFormerHouseholdId().equals(testHousehold.getId())
+                    && changed.getHouseholdId() == null));
         }
     }
 
@@ -476,6 +568,9 @@ public class HouseholdServiceTest {
             // Assert
             assertNull(regularUser.getHousehold());
             verify(userRepository).save(regularUser);
+            verify(householdRepository).adjustCounters(1, -1, -regularUser.getKcalRequirement());
+            verify(userRepository, never()).findByHousehold(any());
+            verify(eventPublisher).publishEvent(any(HouseholdMembershipChangedEvent.class));
         }
 
         @Test
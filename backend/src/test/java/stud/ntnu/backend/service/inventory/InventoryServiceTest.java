@@ -22,7 +22,6 @@ import stud.ntnu.backend.model.inventory.Product;
 import stud.ntnu.backend.model.inventory.ProductBatch;
 import stud.ntnu.backend.model.inventory.ProductType;
 import stud.ntnu.backend.model.user.User;
-import stud.ntnu.backend.repository.household.HouseholdMemberRepository;
 import stud.ntnu.backend.repository.household.HouseholdRepository;
 import stud.ntnu.backend.repository.inventory.ProductBatchRepository;
 import stud.ntnu.backend.repository.inventory.ProductRepository;
@@ -64,8 +63,6 @@ public class InventoryServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
-    @Mock
-    private HouseholdMemberRepository householdMemberRepository;
 
     @InjectMocks
     private InventoryService inventoryService;
@@ -593,18 +590,16 @@ public class InventoryServiceTest {
         @Test
         void getHouseholdWaterRequirement_WithValidHousehold_ShouldReturnRequirement() {
             // Arrange
+            testHousehold.setPopulationCount(3);
             when(householdRepository.findById(1)).thenReturn(Optional.of(testHousehold));
-            when(userRepository.countByHouseholdId(1)).thenReturn(2);
-            when(householdMemberRepository.countByHouseholdIdAndTypeNot(1, "pet")).thenReturn(1);
 
             // Act
             Integer result = inventoryService.getHouseholdWaterRequirement(1);
 
             // Assert
-            assertEquals(9, result); // (2 users + 1 member) * 3L = 9L
+            assertEquals(9, result); // 3 people * 3L = 9L
             verify(householdRepository).findById(1);
-            verify(userRepository).countByHouseholdId(1);
-            verify(householdMemberRepository).countByHouseholdIdAndTypeNot(1, "pet");
+            verify(userRepository, never()).countByHouseholdId(anyInt());
         }
 
         @Test
@@ -617,32 +612,30 @@ public class InventoryServiceTest {
                 inventoryService.getHouseholdWaterRequirement(999);
             });
             verify(householdRepository).findById(999);
-            verify(userRepository, never()).countByHouseholdId(anyInt());
         }
 
         @Test
         void getHouseholdCalorieRequirement_ShouldReturnRequirement() {
             // Arrange
-            when(userRepository.sumKcalRequirementByHouseholdId(1)).thenReturn(4000);
-            when(householdMemberRepository.sumKcalRequirementByHouseholdId(1)).thenReturn(1500);
+            testHousehold.setKcalRequirement(5500);
+            when(householdRepository.findById(1)).thenReturn(Optional.of(testHousehold));
 
             // Act
             Integer result = inventoryService.getHouseholdCalorieRequirement(1);
 
             // Assert
-            assertEquals(5500, result); // 4000 + 1500 = 5500
-            verify(userRepository).sumKcalRequirementByHouseholdId(1);
-            verify(householdMemberRepository).sumKcalRequirementByHouseholdId(1);
+            assertEquals(5500, result);
+            verify(householdRepository).findById(1);
+            verify(userRepository, never()).sumKcalRequirementByHouseholdId(anyInt());
         }
 
         @Test
         void getWaterDaysRemaining_WithNonZeroRequirement_ShouldReturnDays() {
             // Arrange
             when(productBatchRepository.sumTotalLitresOfWaterByHousehold(1)).thenReturn(30);
-            // Mock the getHouseholdWaterRequirement method to return 6L per day
+            // A population of 2 requires 6L per day
+            testHousehold.setPopulationCount(2);
             when(householdRepository.findById(1)).thenReturn(Optional.of(testHousehold));
-            when(userRepository.countByHouseholdId(1)).thenReturn(1);
-            when(householdMemberRepository.countByHouseholdIdAndTypeNot(1, "pet")).thenReturn(1);
 
             // Act
             Double result = inventoryService.getWaterDaysRemaining(1);
@@ -651,18 +644,15 @@ public class InventoryServiceTest {
             assertEquals(5.0, result); // 30L / 6L per day = 5 days
             verify(productBatchRepository).sumTotalLitresOfWaterByHousehold(1);
             verify(householdRepository).findById(1);
-            verify(userRepository).countByHouseholdId(1);
-            verify(householdMemberRepository).countByHouseholdIdAndTypeNot(1, "pet");
         }
 
         @Test
         void getWaterDaysRemaining_WithZeroRequirement_ShouldReturnZero() {
             // Arrange
             when(productBatchRepository.sumTotalLitresOfWaterByHousehold(1)).thenReturn(30);
-            // Mock the getHouseholdWaterRequirement method to return 0L per day
+            // A population of 0 requires 0L per day
+            testHousehold.setPopulationCount(0);
             when(householdRepository.findById(1)).thenReturn(Optional.of(testHousehold));
-            when(userRepository.countByHouseholdId(1)).thenReturn(0);
-            when(householdMemberRepository.countByHouseholdIdAndTypeNot(1, "pet")).thenReturn(0);
 
             // Act
             Double result = inventoryService.getWaterDaysRemaining(1);
@@ -671,16 +661,14 @@ public class InventoryServiceTest {
             assertEquals(0.0, result);
             verify(productBatchRepository).sumTotalLitresOfWaterByHousehold(1);
             verify(householdRepository).findById(1);
-            verify(userRepository).countByHouseholdId(1);
-            verify(householdMemberRepository).countByHouseholdIdAndTypeNot(1, "pet");
         }
 
         @Test
         void getFoodDaysRemaining_WithNonZeroRequirement_ShouldReturnDays() {
             // Arrange
             when(productBatchRepository.sumTotalCaloriesByHousehold(1)).thenReturn(10000);
-            when(userRepository.sumKcalRequirementByHouseholdId(1)).thenReturn(2000);
-            when(householdMemberRepository.sumKcalRequirementByHouseholdId(1)).thenReturn(0);
+            testHousehold.setKcalRequirement(2000);
+            when(householdRepository.findById(1)).thenReturn(Optional.of(testHousehold));
 
             // Act
             Double result = inventoryService.getFoodDaysRemaining(1);
@@ -688,16 +676,15 @@ public class InventoryServiceTest {
             // Assert
             assertEquals(5.0, result); // 10000 kcal / 2000 kcal per day = 5 days
             verify(productBatchRepository).sumTotalCaloriesByHousehold(1);
-            verify(userRepository).sumKcalRequirementByHouseholdId(1);
-            verify(householdMemberRepository).sumKcalRequirementByHouseholdId(1);
+            verify(householdRepository).findById(1);
         }
 
         @Test
         void getFoodDaysRemaining_WithZeroRequirement_ShouldReturnZero() {
             // Arrange
             when(productBatchRepository.sumTotalCaloriesByHousehold(1)).thenReturn(10000);
-            when(userRepository.sumKcalRequirementByHouseholdId(1)).thenReturn(0);
-            when(householdMemberRepository.sumKcalRequirementByHouseholdId(1)).thenReturn(0);
+            testHousehold.setKcalRequirement(0);
+            when(householdRepository.findById(1)).thenReturn(Optional.of(testHousehold));
 
             // Act
             Double result = inventoryService.getFoodDaysRemaining(1);
@@ -705,8 +692,7 @@ public class InventoryServiceTest {
             // Assert
             assertEquals(0.0, result);
             verify(productBatchRepository).sumTotalCaloriesByHousehold(1);
-            verify(userRepository).sumKcalRequirementByHouseholdId(1);
-            verify(householdMemberRepository).sumKcalRequirementByHouseholdId(1);
+            verify(householdRepository).findById(1);
         }
     }
 
@@ -11,7 +11,9 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import stud.ntnu.backend.dto.household.HouseholdInviteResponseDto;
+import stud.ntnu.backend.event.HouseholdMembershipChangedEvent;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.household.Invitation;
 import stud.ntnu.backend.model.user.Notification;
@@ -51,6 +53,9 @@ class InvitationServiceTest {
     @Mock
     private HouseholdService householdService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private InvitationService invitationService;
 
@@ -266,7 +271,7 @@ class InvitationServiceTest {
                         eq(invitation.getId()),
                         anyString()
                 )).thenReturn(new Notification());
-                doNothing().when(householdService).updatePopulationCount(any(Household.class));
+                doNothing().when(householdService).adjustHouseholdCounters(any(Household.class), eq(1), anyInt());
 
                 // Act
                 Household result = invitationService.acceptInvitation(invitee.getEmail(), token);
@@ -281,6 +286,7 @@ class InvitationServiceTest {
                 verify(invitationRepository).findByToken(token);
                 verify(invitationRepository).save(invitation);
                 verify(userRepository).save(invitee);
+                verify(eventPublisher).publishEvent(any(HouseholdMembershipChangedEvent.class));
                 verify(notificationService).createNotification(
                         eq(inviter),
                         eq(Notification.PreferenceType.system),
@@ -289,7 +295,7 @@ class InvitationServiceTest {
                         anyString()
                 );
                 verify(notificationService).sendNotification(any(Notification.class));
-                verify(householdService).updatePopulationCount(any(Household.class));
+                verify(householdService).adjustHouseholdCounters(any(Household.class), eq(1), anyInt());
             }
         }
 
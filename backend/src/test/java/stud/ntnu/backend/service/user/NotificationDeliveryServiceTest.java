@@ -0,0 +1,227 @@
+package stud.ntnu.backend.service.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import stud.ntnu.backend.dto.user.NotificationBatchDto;
+import stud.ntnu.backend.dto.user.NotificationDto;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
+
+public class NotificationDeliveryServiceTest {
+
+    private static final int MAX_PENDING_PER_USER = 3;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationDeliveryService notificationDeliveryService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig()
+            .observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        notificationDeliveryService = new NotificationDeliveryService(messagingTemplate,
+            meterRegistry, observationRegistry, MAX_PENDING_PER_USER);
+    }
+
+    private static NotificationDto notification(int id) {
+        NotificationDto notification = new NotificationDto();
+        notification.setId(id);
+        notification.setUserId(1);
+        return notification;
+    }
+
+    private double counter(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).counter().count();
+    }
+
+    @Nested
+    class Positive {
+
+        @Test
+        void shouldSendSingleNotificationToUserTopic() {
+            // Arrange
+            NotificationDto notification = notification(1);
+            notificationDeliveryService.deliver(1, notification);
+
+            // Act
+            notificationDeliveryService.flush();
+
+            // Assert
+            verify(messagingTemplate).convertAndSend("/topic/notifications/1", notification);
+            verifyNoMoreInteractions(messagingTemplate);
+        }
+
+        @Test
+        void shouldObserveFlushesWithPendingMessages() {
+            // Arrange
+            notificationDeliveryService.deliver(1, notification(1));
+
+            // Act
+            notificationDeliveryService.flush();
+            notificationDeliveryService.flush();
+
+            // Assert
+            assertEquals(1, meterRegistry.get("websocket.delivery.flush").timer().count());
+        }
+
+        @Test
+        void shouldCoalescePendingNotificationsIntoOneBatch() {
+            // Arrange
+            notificationDeliveryService.deliver(1, notification(1));
+            notificationDeliveryService.deliver(1, notification(2));
+            notificationDeliveryService.deliver(1, notification(3));
+
+            // Act
+            notificationDeliveryService.flush();
+
+            // Assert
+            ArgumentCaptor<NotificationBatchDto> batch =
+                ArgumentCaptor.forClass(NotificationBatchDto.class);
+            verify(messagingTemplate).convertAndSend(eq("/topic/notifications/1/batch"),
+                batch.capture());
+            verifyNoMoreInteractions(messagingTemplate);
+            assertEquals(List.of(1, 2, 3),
+                batch.getValue().getNotifications().stream().map(NotificationDto::getId).toList());
+            assertFalse(batch.getValue().isResync());
+            assertEquals(3.0, counter("websocket.delivery.coalesced", "type", "notification"));
+        }
+
+        @Test
+        void shouldSendOnlyLatestUnreadCount() {
+            // Arrange
+            notificationDeliveryService.deliverUnreadCount(new UnreadNotificationCountDto(1, 4));
+            UnreadNotificationCountDto latest = new UnreadNotificationCountDto(1, 5);
+            notificationDeliveryService.deliverUnreadCount(latest);
+
+            // Act
+            notificationDeliveryService.flush();
+
+            // Assert
+            verify(messagingTemplate).convertAndSend("/topic/notifications/1/unread-count", latest);
+            verifyNoMoreInteractions(messagingTemplate);
+            assertEquals(1.0, counter("websocket.delivery.coalesced", "type", "unread-count"));
+        }
+
+        @Test
+        void shouldSendEachUserOwnMessagesOnlyOnce() {
+            // Arrange
+            NotificationDto first = notification(1);
+            NotificationDto second = notification(2);
+            notificationDeliveryService.deliver(1, first);
+            notificationDeliveryService.deliver(2, second);
+
+            // Act
+            notificationDeliveryService.flush();
+            notificationDeliveryService.flush();
+
+            // Assert
+            verify(messagingTemplate).convertAndSend("/topic/notifications/1", first);
+            verify(messagingTemplate).convertAndSend("/topic/notifications/2", second);
+            verifyNoMoreInteractions(messagingTemplate);
+        }
+    }
+
+    @Nested
+    class Negative {
+
+        @Test
+        void shouldSendNothingWhenNothingIsPending() {
+            // Act
+            notificationDeliveryService.flush();
+
+            // Assert
+            verifyNoInteractions(messagingTemplate);
+            assertNull(meterRegistry.find("websocket.delivery.flush").timer());
+        }
+
+        @Test
+        void shouldDropNotificationsAndSendResyncHintWhenBufferIsFull() {
+            // Arrange
+            for (int id = 1; id <= MAX_PENDING_PER_USER + 2; id++) {
+                notificationDeliveryService.deliver(1, notification(id));
+            }
+
+            // Act
+            notificationDeliveryService.flush();
+
+            // Assert
+            ArgumentCaptor<NotificationBatchDto> batch =
+                ArgumentCaptor.forClass(NotificationBatchDto.class);
+            verify(messagingTemplate).convertAndSend(eq("/topic/notifications/1/batch"),
+                batch.capture());
+            verifyNoMoreInteractions(messagingTemplate);
+            assertTrue(batch.getValue().isResync());
+            assertTrue(batch.getValue().getNotifications().isEmpty());
+            assertEquals(MAX_PENDING_PER_USER + 2, batch.getValue().getDroppedCount());
+            assertEquals(MAX_PENDING_PER_USER + 2.0, counter("websocket.delivery.dropped"));
+            assertEquals(1.0, counter("websocket.delivery.resync"));
+        }
+
+        @Test
+        void shouldDeliverNormallyAgainAfterResyncHint() {
+            // Arrange
+            for (int id = 1; id <= MAX_PENDING_PER_USER + 1; id++) {
+                notificationDeliveryService.deliver(1, notification(id));
+            }
+            notificationDeliveryService.flush();
+            NotificationDto next = notification(10);
+            notificationDeliveryService.deliver(1, next);
+
+            // Act
+            notificationDeliveryService.flush();
+
+            // Assert
+            verify(messagingTemplate).convertAndSend("/topic/notifications/1", next);
+        }
+
+        @Test
+        void shouldSendResyncHintOnceWhenSlowConsumerSubscribesAgain() {
+            // Arrange
+            notificationDeliveryService.markForResync(1);
+            notificationDeliveryService.deliver(1, notification(1));
+
+            // Act
+            notificationDeliveryService.resyncIfMarked(1);
+            notificationDeliveryService.resyncIfMarked(1);
+            notificationDeliveryService.flush();
+
+            // Assert
+            ArgumentCaptor<NotificationBatchDto> batch =
+                ArgumentCaptor.forClass(NotificationBatchDto.class);
+            verify(messagingTemplate).convertAndSend(eq("/topic/notifications/1/batch"),
+                batch.capture());
+            verifyNoMoreInteractions(messagingTemplate);
+            assertTrue(batch.getValue().isResync());
+            assertEquals(1.0, counter("websocket.delivery.resync"));
+        }
+
+        @Test
+        void shouldNotSendResyncHintToUserThatWasNotMarked() {
+            // Act
+            notificationDeliveryService.resyncIfMarked(1);
+            notificationDeliveryService.flush();
+
+            // Assert
+            verifyNoInteractions(messagingTemplate);
+        }
+    }
+}
@@ -7,27 +7,39 @@ import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.MockedStatic;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import org.springframework.test.annotation.DirtiesContext;
+import stud.ntnu.backend.dto.map.CrisisAreaUpdateDto;
 import stud.ntnu.backend.dto.user.NotificationDto;
+import stud.ntnu.backend.dto.user.UnreadNotificationCountDto;
+import stud.ntnu.backend.event.CrisisAreaUpdatedEvent;
+import stud.ntnu.backend.event.UnreadNotificationCountChangedEvent;
 import stud.ntnu.backend.model.household.Household;
 import stud.ntnu.backend.model.map.CrisisEvent;
 import stud.ntnu.backend.model.user.Notification;
@@ -38,6 +50,7 @@ import stud.ntnu.backend.model.user.User;
 import stud.ntnu.backend.repository.user.NotificationPreferenceRepository;
 import stud.ntnu.backend.repository.user.NotificationRepository;
 import stud.ntnu.backend.repository.user.UserRepository;
+import stud.ntnu.backend.service.crisis.CrisisAreaTopicService;
 import stud.ntnu.backend.util.LocationUtil;
 
 @DirtiesContext(classMode = AFTER_CLASS)
@@ -53,11 +66,20 @@ public class NotificationServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationDeliveryService notificationDeliveryService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CrisisAreaTopicService crisisAreaTopicService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Spy
     @InjectMocks
     private NotificationService notificationService;
@@ -110,6 +132,124 @@ public class NotificationServiceTest {
                 assertEquals(description, result.getDescription());
                 assertNotNull(result.getNotifyAt());
                 verify(notificationRepository).save(any(Notification.class));
+                verify(userRepository).adjustUnreadNotificationCount(1, 1);
+                verify(eventPublisher).publishEvent(any(UnreadNotificationCountChangedEvent.class));
+            }
+        }
+    }
+
+    @Nested
+    class CreateNotificationsInBulkTests {
+        @Nested
+        class Positive {
+            @Test
+            void shouldInsertNotificationsAndIncrementCountersInBulk() {
+                // Arrange
+                User user1 = new User();
+                user1.setId(1);
+                User user2 = new User();
+                user2.setId(2);
+                List<Notification> notifications = List.of(
+                    new Notification(user1, PreferenceType.crisis_alert, LocalDateTime.now()),
+                    new Notification(user2, PreferenceType.crisis_alert, LocalDateTime.now()),
+                    new Notification(user2, PreferenceType.system, LocalDateTime.now()));
+
+                // Act
+                notificationService.createNotificationsInBulk(notifications);
+
+                // Assert
+                assertTrue(notifications.stream().allMatch(n -> n.getSentAt() != null));
+                verify(notificationRepository).insertAll(notifications);
+                verify(userRepository).incrementUnreadNotificationCounts(List.of(1));
+                verify(userRepository).adjustUnreadNotificationCount(2, 2);
+                verify(notificationRepository, never()).save(any(Notification.class));
+            }
+
+            @Test
+            void shouldNotPushUnreadCountsOfBulkNotifications() {
+                // Arrange
+                User user = new User();
+                user.setId(1);
+                List<Notification> notifications = List.of(
+                    new Notification(user, PreferenceType.crisis_alert, LocalDateTime.now()));
+
+                // Act
+                notificationService.createNotificationsInBulk(notifications);
+
+                // Assert
+                verify(eventPublisher, never())
+                    .publishEvent(any(UnreadNotificationCountChangedEvent.class));
+            }
+
+            @Test
+            @SuppressWarnings("unchecked")
+            void shouldIncrementCountersInChunks() {
+                // Arrange
+                List<Notification> notifications = IntStream.range(0, 2500)
+                    .mapToObj(id -> {
+                        User user = new User();
+                        user.setId(id);
+                        return new Notification(user, PreferenceType.crisis_alert,
+                            LocalDateTime.now());
+                    })
+                    .toList();
+
+                // Act
+                notificationService.createNotificationsInBulk(notifications);
+
+                // Assert
+                ArgumentCaptor<Collection<Integer>> chunks =
+                    ArgumentCaptor.forClass(Collection.class);
+                verify(userRepository, times(3)).incrementUnreadNotificationCounts(chunks.capture());
+                assertEquals(List.of(1000, 1000, 500),
+                    chunks.getAllValues().stream().map(Collection::size).toList());
+                assertEquals(2500, chunks.getAllValues().stream()
+                    .flatMap(Collection::stream).distinct().count());
+            }
+
+            @Test
+            void shouldStoreDeactivationNotificationsAndPublishAreaUpdateOnce() {
+                // Arrange
+                User user1 = new User();
+                user1.setId(1);
+                User user2 = new User();
+                user2.setId(2);
+                CrisisEvent crisisEvent = new CrisisEvent();
+                crisisEvent.setId(123);
+                crisisEvent.setEpicenterLatitude(new BigDecimal("63.4305"));
+                crisisEvent.setEpicenterLongitude(new BigDecimal("10.3951"));
+                crisisEvent.setRadius(new BigDecimal("1"));
+                when(crisisAreaTopicService.topicsCovering(any(), any(), any()))
+                    .thenReturn(Set.of("/topic/crisis/area/u5r2v"));
+
+                // Act
+                notificationService.sendCrisisEventDeactivationNotifications(crisisEvent,
+                    List.of(user1, user2), "Deactivated");
+
+                // Assert
+                verify(notificationRepository).insertAll(argThat(list -> list.size() == 2));
+                verify(userRepository).incrementUnreadNotificationCounts(List.of(1, 2));
+                ArgumentCaptor<CrisisAreaUpdatedEvent> areaEvent =
+                    ArgumentCaptor.forClass(CrisisAreaUpdatedEvent.class);
+                verify(eventPublisher).publishEvent(areaEvent.capture());
+                assertEquals(Set.of("/topic/crisis/area/u5r2v"), areaEvent.getValue().getTopics());
+                assertEquals(123, areaEvent.getValue().getUpdate().getCrisisEventId());
+                assertEquals(CrisisAreaUpdateDto.UpdateType.DEACTIVATED,
+                    areaEvent.getValue().getUpdate().getUpdateType());
+                verify(notificationDeliveryService, never()).deliver(any(), any());
+            }
+        }
+
+        @Nested
+        class Negative {
+            @Test
+            void shouldDoNothingForEmptyList() {
+                // Act
+                notificationService.createNotificationsInBulk(List.of());
+
+                // Assert
+                verify(notificationRepository, never()).insertAll(anyList());
+                verifyNoInteractions(userRepository);
             }
         }
     }
@@ -136,8 +276,8 @@ public class NotificationServiceTest {
                 // Assert
                 assertNotNull(notification.getSentAt());
                 verify(notificationRepository).save(notification);
-                verify(messagingTemplate).convertAndSend(
-                    eq("/topic/notifications/1"),
+                verify(notificationDeliveryService).deliver(
+                    eq(1),
                     any(NotificationDto.class)
                 );
             }
@@ -233,6 +373,81 @@ public class NotificationServiceTest {
         }
     }
 
+    @Nested
+    class GetInboxTests {
+        @Nested
+        class Positive {
+            @Test
+            void shouldReturnKeysetPageFromCursor() {
+                // Arrange
+                LocalDateTime beforeNotifyAt = LocalDateTime.now();
+                Slice<Notification> slice = new SliceImpl<>(List.of(new Notification()));
+                when(notificationRepository.findInboxBefore(1, beforeNotifyAt, 10,
+                    PageRequest.of(0, 20))).thenReturn(slice);
+
+                // Act
+                Slice<Notification> result = notificationService.getInbox(1, beforeNotifyAt, 10, 20);
+
+                // Assert
+                assertSame(slice, result);
+            }
+        }
+
+        @Nested
+        class Negative {
+            @Test
+            void shouldRejectIncompleteCursor() {
+                // Act & Assert
+                assertThrows(
+                    IllegalArgumentException.class,
+                    () -> notificationService.getInbox(1, LocalDateTime.now(), null, 20)
+                );
+
+                verify(notificationRepository, never()).findInboxBefore(any(), any(), any(), any());
+            }
+        }
+    }
+
+    @Nested
+    class ArchiveReadNotificationsTests {
+        @Test
+        void shouldCopyAndDeleteOneBatch() {
+            // Arrange
+            LocalDateTime readBefore = LocalDateTime.now().minusDays(90);
+            List<Integer> ids = List.of(1, 2, 3);
+            when(notificationRepository.findIdsReadBefore(readBefore, PageRequest.of(0, 3)))
+                .thenReturn(ids);
+            when(notificationRepository.copyToArchive(eq(ids), any(LocalDateTime.class)))
+                .thenReturn(3);
+            when(notificationRepository.deleteByIdIn(ids)).thenReturn(3);
+
+            // Act
+            int result = notificationService.archiveReadNotifications(readBefore, 3);
+
+            // Assert
+            assertEquals(3, result);
+            verify(notificationRepository).copyToArchive(eq(ids), any(LocalDateTime.class));
+            verify(notificationRepository).deleteByIdIn(ids);
+            verify(userRepository, never()).adjustUnreadNotificationCount(anyInt(), anyInt());
+        }
+
+        @Test
+        void shouldDoNothingWhenNoNotificationsAreDue() {
+            // Arrange
+            LocalDateTime readBefore = LocalDateTime.now().minusDays(90);
+            when(notificationRepository.findIdsReadBefore(readBefore, PageRequest.of(0, 100)))
+                .thenReturn(List.of());
+
+            // Act
+            int result = notificationService.archiveReadNotifications(readBefore, 100);
+
+            // Assert
+            assertEquals(0, result);
+            verify(notificationRepository, never()).copyToArchive(any(), any());
+            verify(notificationRepository, never()).deleteByIdIn(any());
+        }
+    }
+
     @Nested
     class MarkAsReadTests {
         @Nested
@@ -248,11 +463,12 @@ public class NotificationServiceTest {
                     user, PreferenceType.system, TargetType.event, 123, "Test notification", LocalDateTime.now()
                 );
                 notification.setId(notificationId);
+                notification.setReadAt(LocalDateTime.now());
 
+                when(notificationRepository.markAsReadIfUnread(eq(notificationId),
+                    any(LocalDateTime.class))).thenReturn(1);
                 when(notificationRepository.findById(notificationId))
                     .thenReturn(Optional.of(notification));
-                when(notificationRepository.save(any(Notification.class)))
-                    .thenReturn(notification);
 
                 // Act
                 Notification result = notificationService.markAsRead(notificationId);
@@ -260,8 +476,39 @@ public class NotificationServiceTest {
                 // Assert
                 assertNotNull(result);
                 assertNotNull(result.getReadAt());
+                verify(notificationRepository).markAsReadIfUnread(eq(notificationId),
+                    any(LocalDateTime.class));
                 verify(notificationRepository).findById(notificationId);
-                verify(notificationRepository).save(notification);
+                verify(notificationRepository, never()).save(any(Notification.class));
+                verify(userRepository).adjustUnreadNotificationCount(1, -1);
+                verify(eventPublisher).publishEvent(any(UnreadNotificationCountChangedEvent.class));
+            }
+
+            @Test
+            void shouldNotDecrementCountWhenNotificationAlreadyRead() {
+                // Arrange
+                Integer notificationId = 1;
+                User user = new User();
+                user.setId(1);
+
+                Notification notification = new Notification(
+                    user, PreferenceType.system, TargetType.event, 123, "Test notification", LocalDateTime.now()
+                );
+                notification.setId(notificationId);
+                notification.setReadAt(LocalDateTime.now().minusDays(1));
+
+                when(notificationRepository.markAsReadIfUnread(eq(notificationId),
+                    any(LocalDateTime.class))).thenReturn(0);
+                when(notificationRepository.findById(notificationId))
+                    .thenReturn(Optional.of(notification));
+
+                // Act
+                Notification result = notificationService.markAsRead(notificationId);
+
+                // Assert
+                assertEquals(notification.getReadAt(), result.getReadAt());
+                verify(userRepository, never()).adjustUnreadNotificationCount(anyInt(), anyInt());
+                verify(eventPublisher, never()).publishEvent(any());
             }
         }
 
@@ -284,6 +531,7 @@ public class NotificationServiceTest {
                 assertEquals("Notification not found with ID: " + notificationId, exception.getMessage());
                 verify(notificationRepository).findById(notificationId);
                 verify(notificationRepository, never()).save(any(Notification.class));
+                verify(userRepository, never()).adjustUnreadNotificationCount(anyInt(), anyInt());
             }
         }
     }
@@ -293,41 +541,71 @@ public class NotificationServiceTest {
         @Nested
         class Positive {
             @Test
-            void shouldMarkAllNotificationsAsReadSuccessfully() {
+            void shouldMarkAllNotificationsAsReadWithSingleUpdate() {
                 // Arrange
                 String email = "test@example.com";
                 User user = new User();
                 user.setId(1);
                 user.setEmail(email);
 
-                Notification notification1 = new Notification(
-                    user, PreferenceType.system, TargetType.event, 123, "Test notification 1", LocalDateTime.now()
-                );
-                notification1.setId(1);
-
-                Notification notification2 = new Notification(
-                    user, PreferenceType.crisis_alert, TargetType.event, 456, "Test notification 2", LocalDateTime.now()
-                );
-                notification2.setId(2);
-
-                List<Notification> unreadNotifications = Arrays.asList(notification1, notification2);
-
                 when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-                when(notificationRepository.findByUserIdAndReadAtIsNull(user.getId()))
-                    .thenReturn(unreadNotifications);
-                when(notificationRepository.saveAll(unreadNotifications))
-                    .thenReturn(unreadNotifications);
+                when(notificationRepository.markAllAsReadByUserId(eq(1), any(LocalDateTime.class)))
+                    .thenReturn(2);
 
                 // Act
                 int result = notificationService.markAllNotificationsAsRead(email);
 
                 // Assert
                 assertEquals(2, result);
-                assertNotNull(notification1.getReadAt());
-                assertNotNull(notification2.getReadAt());
                 verify(userRepository).findByEmail(email);
-                verify(notificationRepository).findByUserIdAndReadAtIsNull(user.getId());
-                verify(notificationRepository).saveAll(unreadNotifications);
+                verify(notificationRepository).markAllAsReadByUserId(eq(1), any(LocalDateTime.class));
+                verify(notificationRepository, never()).findByUserIdAndReadAtIsNull(anyInt());
+                verify(notificationRepository, never()).saveAll(anyList());
+                verify(userRepository).adjustUnreadNotificationCount(1, -2);
+                verify(eventPublisher).publishEvent(any(UnreadNotificationCountChangedEvent.class));
+            }
+
+            @Test
+            void shouldMarkNotificationsUpToIdAsRead() {
+                // Arrange
+                String email = "test@example.com";
+                User user = new User();
+                user.setId(1);
+                user.setEmail(email);
+
+                when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+                when(notificationRepository.markAllAsReadByUserIdUpToId(eq(1), eq(42),
+                    any(LocalDateTime.class))).thenReturn(3);
+
+                // Act
+                int result = notificationService.markAllNotificationsAsRead(email, 42, null);
+
+                // Assert
+                assertEquals(3, result);
+                verify(notificationRepository, never()).markAllAsReadByUserId(anyInt(), any());
+                verify(userRepository).adjustUnreadNotificationCount(1, -3);
+            }
+
+            @Test
+            void shouldMarkNotificationsUpToNotifyAtAsRead() {
+                // Arrange
+                String email = "test@example.com";
+                User user = new User();
+                user.setId(1);
+                user.setEmail(email);
+                LocalDateTime upTo = LocalDateTime.now().minusHours(1);
+
+                when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+                when(notificationRepository.markAllAsReadByUserIdUpToNotifyAt(eq(1), eq(upTo),
+                    any(LocalDateTime.class))).thenReturn(1);
+
+                // Act
+                int result = notificationService.markAllNotificationsAsRead(email, null, upTo);
+
+                // Assert
+                assertEquals(1, result);
+                verify(notificationRepository, never()).markAllAsReadByUserId(anyInt(), any());
+                verify(userRepository).adjustUnreadNotificationCount(1, -1);
             }
 
             @Test
@@ -339,8 +617,8 @@ public class NotificationServiceTest {
                 user.setEmail(email);
 
                 when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-                when(notificationRepository.findByUserIdAndReadAtIsNull(user.getId()))
-                    .thenReturn(Collections.emptyList());
+                when(notificationRepository.markAllAsReadByUserId(eq(1), any(LocalDateTime.class)))
+                    .thenReturn(0);
 
                 // Act
                 int result = notificationService.markAllNotificationsAsRead(email);
@@ -348,8 +626,9 @@ public class NotificationServiceTest {
                 // Assert
                 assertEquals(0, result);
                 verify(userRepository).findByEmail(email);
-                verify(notificationRepository).findByUserIdAndReadAtIsNull(user.getId());
-                verify(notificationRepository, never()).saveAll(anyList());
+                verify(notificationRepository).markAllAsReadByUserId(eq(1), any(LocalDateTime.class));
+                verify(userRepository, never()).adjustUnreadNotificationCount(anyInt(), anyInt());
+                verify(eventPublisher, never()).publishEvent(any());
             }
         }
 
@@ -370,8 +649,19 @@ public class NotificationServiceTest {
 
                 assertEquals("User not found with email: " + email, exception.getMessage());
                 verify(userRepository).findByEmail(email);
-                verify(notificationRepository, never()).findByUserIdAndReadAtIsNull(anyInt());
-                verify(notificationRepository, never()).saveAll(anyList());
+                verify(notificationRepository, never()).markAllAsReadByUserId(anyInt(), any());
+            }
+
+            @Test
+            void shouldRejectBothIdAndTimeLimit() {
+                // Act & Assert
+                assertThrows(
+                    IllegalArgumentException.class,
+                    () -> notificationService.markAllNotificationsAsRead("test@example.com", 1,
+                        LocalDateTime.now())
+                );
+
+                verify(userRepository, never()).findByEmail(anyString());
             }
         }
     }
@@ -427,6 +717,8 @@ public class NotificationServiceTest {
 
                 verify(userRepository).findAll();
                 verify(notificationRepository, times(3)).save(any(Notification.class));
+                verify(userRepository).incrementUnreadNotificationCounts(List.of(1, 2, 3));
+                verify(eventPublisher).publishEvent(any(UnreadNotificationCountChangedEvent.class));
             }
         }
 
@@ -448,6 +740,63 @@ public class NotificationServiceTest {
                 assertTrue(result.isEmpty());
                 verify(userRepository).findAll();
                 verify(notificationRepository, never()).save(any(Notification.class));
+                verify(userRepository, never()).incrementUnreadNotificationCounts(anyCollection());
+            }
+        }
+    }
+
+    @Nested
+    class GetUnreadNotificationCountTests {
+        @Nested
+        class Positive {
+            @Test
+            void shouldReturnCountFromCounter() {
+                // Arrange
+                String email = "test@example.com";
+                when(userRepository.findUnreadNotificationCountByEmail(email))
+                    .thenReturn(Optional.of(new UnreadNotificationCountDto(1, 3)));
+
+                // Act
+                UnreadNotificationCountDto result = notificationService.getUnreadNotificationCount(email);
+
+                // Assert
+                assertEquals(1, result.getUserId());
+                assertEquals(3, result.getUnreadCount());
+                assertTrue(notificationService.hasUnreadNotifications(email));
+                verify(userRepository, never()).findByEmail(anyString());
+                verify(notificationRepository, never()).existsByUserIdAndReadAtIsNull(anyInt());
+            }
+
+            @Test
+            void shouldReportNoUnreadNotificationsWhenCountIsZero() {
+                // Arrange
+                String email = "test@example.com";
+                when(userRepository.findUnreadNotificationCountByEmail(email))
+                    .thenReturn(Optional.of(new UnreadNotificationCountDto(1, 0)));
+
+                // Act
+                boolean result = notificationService.hasUnreadNotifications(email);
+
+                // Assert
+                assertFalse(result);
+            }
+        }
+
+        @Nested
+        class Negative {
+            @Test
+            void shouldThrowExceptionWhenUserNotFound() {
+                // Arrange
+                String email = "nonexistent@example.com";
+                when(userRepository.findUnreadNotificationCountByEmail(email))
+                    .thenReturn(Optional.empty());
+
+                // Act & Assert
+                IllegalStateException exception = assertThrows(
+                    IllegalStateException.class,
+                    () -> notificationService.getUnreadNotificationCount(email)
+                );
+                assertEquals("User not found with email: " + email, exception.getMessage());
             }
         }
     }
@@ -556,12 +905,12 @@ public class NotificationServiceTest {
                 assertNotNull(notification1.getSentAt());
                 assertNotNull(notification2.getSentAt());
                 verify(notificationRepository, times(2)).save(any(Notification.class));
-                verify(messagingTemplate).convertAndSend(
-                    eq("/topic/notifications/1"),
+                verify(notificationDeliveryService).deliver(
+                    eq(1),
                     any(NotificationDto.class)
                 );
-                verify(messagingTemplate).convertAndSend(
-                    eq("/topic/notifications/2"),
+                verify(notificationDeliveryService).deliver(
+                    eq(2),
                     any(NotificationDto.class)
                 );
             }
@@ -598,20 +947,6 @@ public class NotificationServiceTest {
 
                 when(userRepository.findAll()).thenReturn(Arrays.asList(user1, user2));
 
-                // Mock createNotification to return a valid notification
-                Notification mockNotification = new Notification(
-                    user1, Notification.PreferenceType.crisis_alert, Notification.TargetType.event, 
-                    crisisEvent.getId(), "Test notification", LocalDateTime.now()
-                );
-                mockNotification.setId(1);
-                doReturn(mockNotification).when(notificationService).createNotification(
-                    eq(user1),
-                    eq(Notification.PreferenceType.crisis_alert),
-                    eq(Notification.TargetType.event),
-                    eq(crisisEvent.getId()),
-                    anyString()
-                );
-
                 try (MockedStatic<LocationUtil> mockedLocationUtil = mockStatic(LocationUtil.class)) {
                     // User 1 is within radius
                     mockedLocationUtil.when(() -> LocationUtil.calculateDistance(
@@ -627,24 +962,49 @@ public class NotificationServiceTest {
 
                     // Assert
                     verify(userRepository).findAll();
-                    verify(notificationService).createNotification(
-                            eq(user1),
-                            eq(Notification.PreferenceType.crisis_alert),
-                            eq(Notification.TargetType.event),
-                            eq(crisisEvent.getId()),
-                            anyString()
-                    );
-                    verify(notificationService).sendNotification(any(Notification.class));
-                    verify(notificationService, never()).createNotification(
-                            eq(user2),
-                            any(),
-                            any(),
-                            any(),
-                            any()
-                    );
+                    verify(notificationRepository).insertAll(argThat(notifications ->
+                            notifications.size() == 1 && notifications.get(0).getUser() == user1));
+                    verify(userRepository).incrementUnreadNotificationCounts(List.of(user1.getId()));
+                    verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
                 }
             }
 
+            @Test
+            void shouldRecordFanoutMetrics() {
+                // Arrange
+                User user1 = new User();
+                user1.setId(1);
+                user1.setHomeLatitude(new BigDecimal("63.4306"));
+                user1.setHomeLongitude(new BigDecimal("10.3952"));
+
+                User user2 = new User();
+                user2.setId(2);
+                user2.setHomeLatitude(new BigDecimal("64.0000"));
+                user2.setHomeLongitude(new BigDecimal("11.0000"));
+
+                CrisisEvent crisisEvent = new CrisisEvent();
+                crisisEvent.setId(123);
+                crisisEvent.setEpicenterLatitude(new BigDecimal("63.4305"));
+                crisisEvent.setEpicenterLongitude(new BigDecimal("10.3951"));
+                crisisEvent.setRadius(new BigDecimal("1")); // 1 km radius
+
+                when(userRepository.findAll()).thenReturn(Arrays.asList(user1, user2));
+
+                // Act
+                notificationService.sendCrisisEventNotificationsInternal(crisisEvent,
+                    "Crisis near {reason}", false);
+
+                // Assert
+                assertEquals(1, meterRegistry.get("notification.crisis.fanout")
+                    .tag("update", "updated").timer().count());
+                assertEquals(2.0, meterRegistry.get("notification.crisis.fanout.users.scanned")
+                    .tag("update", "updated").summary().totalAmount());
+                assertEquals(1.0, meterRegistry.get("notification.crisis.fanout.users.matched")
+                    .tag("update", "updated").summary().totalAmount());
+                assertEquals(1.0, meterRegistry.get("notification.sends")
+                    .tag("type", "crisis_alert").tag("mode", "bulk").counter().count());
+            }
+
             @Test
             void shouldSendNotificationsToUsersWithHouseholdWithinRadius() {
                 // Arrange
@@ -672,20 +1032,6 @@ public class NotificationServiceTest {
 
                 when(userRepository.findAll()).thenReturn(Collections.singletonList(user));
 
-                // Mock createNotification to return a valid notification
-                Notification mockNotification = new Notification(
-                    user, Notification.PreferenceType.crisis_alert, Notification.TargetType.event, 
-                    crisisEvent.getId(), "Test notification", LocalDateTime.now()
-                );
-                mockNotification.setId(1);
-                doReturn(mockNotification).when(notificationService).createNotification(
-                    eq(user),
-                    eq(Notification.PreferenceType.crisis_alert),
-                    eq(Notification.TargetType.event),
-                    eq(crisisEvent.getId()),
-                    anyString()
-                );
-
                 try (MockedStatic<LocationUtil> mockedLocationUtil = mockStatic(LocationUtil.class)) {
                     // User's home is outside radius
                     mockedLocationUtil.when(() -> LocationUtil.calculateDistance(
@@ -701,14 +1047,10 @@ public class NotificationServiceTest {
 
                     // Assert
                     verify(userRepository).findAll();
-                    verify(notificationService).createNotification(
-                            eq(user),
-                            eq(Notification.PreferenceType.crisis_alert),
-                            eq(Notification.TargetType.event),
-                            eq(crisisEvent.getId()),
-                            anyString()
-                    );
-                    verify(notificationService).sendNotification(any(Notification.class));
+                    verify(notificationRepository).insertAll(argThat(notifications ->
+                            notifications.size() == 1 && notifications.get(0).getUser() == user));
+                    verify(userRepository).incrementUnreadNotificationCounts(List.of(user.getId()));
+                    verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
                 }
             }
 
@@ -739,20 +1081,6 @@ public class NotificationServiceTest {
 
                 when(userRepository.findAll()).thenReturn(Collections.singletonList(user));
 
-                // Mock createNotification to return a valid notification
-                Notification mockNotification = new Notification(
-                    user, Notification.PreferenceType.crisis_alert, Notification.TargetType.event, 
-                    crisisEvent.getId(), "Test notification", LocalDateTime.now()
-                );
-                mockNotification.setId(1);
-                doReturn(mockNotification).when(notificationService).createNotification(
-                    eq(user),
-                    eq(Notification.PreferenceType.crisis_alert),
-                    eq(Notification.TargetType.event),
-                    eq(crisisEvent.getId()),
-                    anyString()
-                );
-
                 try (MockedStatic<LocationUtil> mockedLocationUtil = mockStatic(LocationUtil.class)) {
                     // Both user's home and household are within radius
                     mockedLocationUtil.when(() -> LocationUtil.calculateDistance(
@@ -764,14 +1092,10 @@ public class NotificationServiceTest {
 
                     // Assert
                     verify(userRepository).findAll();
-                    verify(notificationService).createNotification(
-                            eq(user),
-                            eq(Notification.PreferenceType.crisis_alert),
-                            eq(Notification.TargetType.event),
-                            eq(crisisEvent.getId()),
-                            anyString()
-                    );
-                    verify(notificationService).sendNotification(any(Notification.class));
+                    verify(notificationRepository).insertAll(argThat(notifications ->
+                            notifications.size() == 1 && notifications.get(0).getUser() == user));
+                    verify(userRepository).incrementUnreadNotificationCounts(List.of(user.getId()));
+                    verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
                 }
             }
         }
@@ -792,13 +1116,7 @@ public class NotificationServiceTest {
 
                 // Assert
                 verify(userRepository, never()).findAll();
-                verify(notificationService, never()).createNotification(
-                        any(User.class),
-                        any(),
-                        any(),
-                        any(),
-                        any()
-                );
+                verify(notificationRepository, never()).insertAll(anyList());
             }
 
             @Test
@@ -819,13 +1137,7 @@ public class NotificationServiceTest {
 
                 // Assert
                 verify(userRepository).findAll();
-                verify(notificationService, never()).createNotification(
-                        any(User.class),
-                        any(),
-                        any(),
-                        any(),
-                        any()
-                );
+                verify(notificationRepository, never()).insertAll(anyList());
             }
 
             @Test
@@ -850,13 +1162,7 @@ public class NotificationServiceTest {
 
                 // Assert
                 verify(userRepository).findAll();
-                verify(notificationService, never()).createNotification(
-                        any(User.class),
-                        any(),
-                        any(),
-                        any(),
-                        any()
-                );
+                verify(notificationRepository, never()).insertAll(anyList());
             }
         }
     }
@@ -909,31 +1215,6 @@ public class NotificationServiceTest {
 
             // Mock user repository to return affected user
             when(userRepository.findAll()).thenReturn(Collections.singletonList(affectedUser));
-
-            // Mock createNotification to return a valid notification
-            Notification mockNotification = new Notification(
-                affectedUser,
-                Notification.PreferenceType.crisis_alert,
-                Notification.TargetType.event,
-                updatedEvent.getId(),
-                "Test notification",
-                LocalDateTime.now()
-            );
-            mockNotification.setId(2);
-            doReturn(mockNotification).when(notificationService).createNotification(
-                eq(affectedUser),
-                eq(Notification.PreferenceType.crisis_alert),
-                eq(Notification.TargetType.event),
-                eq(updatedEvent.getId()),
-                anyString()
-            );
-
-            // Mock the repository save to return the same notification
-            when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> {
-                Notification savedNotification = invocation.getArgument(0);
-                savedNotification.setId(2);
-                return savedNotification;
-            });
         }
 
         @Test
@@ -942,8 +1223,8 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository, never()).save(any());
-            verify(messagingTemplate, never()).convertAndSend(eq("/topic/notifications/2"), any(NotificationDto.class));
+            verify(notificationRepository, never()).insertAll(anyList());
+            verify(eventPublisher, never()).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -955,11 +1236,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -971,11 +1250,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -987,11 +1264,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -1004,11 +1279,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -1020,11 +1293,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -1036,11 +1307,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -1054,11 +1323,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
 
         @Test
@@ -1071,11 +1338,9 @@ public class NotificationServiceTest {
             notificationService.sendCrisisEventUpdateNotifications(updatedEvent, previousEvent);
 
             // Assert
-            verify(notificationRepository).save(any(Notification.class));
-            verify(messagingTemplate).convertAndSend(
-                eq("/topic/notifications/2"),
-                any(NotificationDto.class)
-            );
+            verify(notificationRepository).insertAll(argThat(notifications ->
+                notifications.size() == 1 && notifications.get(0).getUser() == affectedUser));
+            verify(eventPublisher).publishEvent(any(CrisisAreaUpdatedEvent.class));
         }
     }
 }
@@ -0,0 +1,137 @@
+package stud.ntnu.backend.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SyntheticDataGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SyntheticDataGenerator(jdbcTemplate);
+    }
+
+    private SyntheticDataSpec spec(String prefix) {
+        return SyntheticDataSpec.builder()
+            .prefix(prefix)
+            .users(300)
+            .groups(10)
+            .batchSize(64)
+            .build();
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+
+    @Test
+    void generate_insertsTheRowsOfTheSummary() {
+        // Act
+        SyntheticDataSummary summary = generator.generate(spec("gen"));
+
+        // Assert
+        assertThat(summary.getUsers()).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE email LIKE 'gen-user-%'"))
+            .isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM households WHERE name LIKE 'gen-household-%'"))
+            .isEqualTo(summary.getHouseholds());
+        assertThat(count("SELECT COUNT(*) FROM product_types pt JOIN households h "
+            + "ON h.id = pt.household_id WHERE h.name LIKE 'gen-household-%'"))
+            .isEqualTo(summary.getProductTypes()).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM product_batch b JOIN product_types pt "
+            + "ON pt.id = b.product_type_id JOIN households h ON h.id = pt.household_id "
+            + "WHERE h.name LIKE 'gen-household-%'"))
+            .isEqualTo(summary.getProductBatches()).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM groups WHERE name LIKE 'gen-group-%'"))
+            .isEqualTo(10);
+        assertThat(count("SELECT COUNT(*) FROM group_memberships m JOIN groups g "
+            + "ON g.id = m.group_id WHERE g.name LIKE 'gen-group-%'"))
+            .isEqualTo(summary.getGroupMemberships()).isEqualTo(50);
+        assertThat(count("SELECT COUNT(*) FROM notifications n JOIN users u ON u.id = n.user_id "
+            + "WHERE u.email LIKE 'gen-user-%'"))
+            .isEqualTo(summary.getNotifications()).isPositive();
+    }
+
+    @Test
+    void generate_keepsCountersConsistentWithTheRows() {
+        // Act
+        generator.generate(spec("gen"));
+
+        // Assert
+        assertThat(count("SELECT COUNT(*) FROM users u WHERE u.email LIKE 'gen-user-%' "
+            + "AND u.unread_notification_count <> (SELECT COUNT(*) FROM notifications n "
+            + "WHERE n.user_id = u.id AND n.read_at IS NULL)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM households h WHERE h.name LIKE 'gen-household-%' "
+            + "AND (h.population_count <> (SELECT COUNT(*) FROM users u WHERE u.household_id = h.id) "
+            + "OR h.kcal_requirement <> (SELECT SUM(u.kcal_requirement) FROM users u "
+            + "WHERE u.household_id = h.id))")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM households h WHERE h.name LIKE 'gen-household-%' "
+            + "AND NOT EXISTS (SELECT 1 FROM household_admins a WHERE a.household_id = h.id)"))
+            .isZero();
+    }
+
+    @Test
+    void generate_spreadsExpirationTimesAroundNow() {
+        // Act
+        generator.generate(spec("gen"));
+
+        // Assert
+        String batches = "SELECT COUNT(*) FROM product_batch b JOIN product_types pt "
+            + "ON pt.id = b.product_type_id JOIN households h ON h.id = pt.household_id "
+            + "WHERE h.name LIKE 'gen-household-%' AND ";
+        assertThat(count(batches + "b.expiration_time < CURRENT_TIMESTAMP")).isPositive();
+        assertThat(count(batches + "b.expiration_time BETWEEN CURRENT_TIMESTAMP "
+            + "AND DATEADD('DAY', 7, CURRENT_TIMESTAMP)")).isPositive();
+        assertThat(count(batches + "b.expiration_time > DATEADD('DAY', 90, CURRENT_TIMESTAMP)"))
+            .isPositive();
+    }
+
+    @Test
+    void generate_withTheSameSeed_createsTheSameData() {
+        // Arrange
+        String households = "SELECT population_count, latitude, longitude FROM households "
+            + "WHERE name LIKE ? ORDER BY id";
+
+        // Act
+        generator.generate(spec("first"));
+        generator.generate(spec("second"));
+
+        // Assert
+        List<Map<String, Object>> first = jdbcTemplate.queryForList(households, "first-household-%");
+        List<Map<String, Object>> second = jdbcTemplate.queryForList(households,
+            "second-household-%");
+        assertThat(first).isNotEmpty().isEqualTo(second);
+    }
+
+    @Test
+    void generate_withUsedPrefix_throwsException() {
+        // Arrange
+        generator.generate(spec("gen"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> generator.generate(spec("gen")))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void generate_withoutUsers_throwsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> generator.generate(SyntheticDataSpec.builder().users(0).build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}